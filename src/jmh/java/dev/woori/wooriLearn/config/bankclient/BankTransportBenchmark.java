@@ -0,0 +1,102 @@
+package dev.woori.wooriLearn.config.bankclient;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.woori.wooriLearn.domain.account.dto.external.request.BankTransferReqDto;
+import dev.woori.wooriLearn.domain.account.dto.external.response.BankTransferResDto;
+import dev.woori.wooriLearn.domain.account.service.AccountClient;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 은행 이체 호출 1건의 응답 시간 분포를 전송 계층별로 비교하는 벤치마크
+ *
+ * 로컬 stub 은행 서버(JDK HttpServer, POST /api/transfer)에 8개 스레드가 동시에 이체 요청을 보낸다.
+ * serverDelayMillis 로 은행 처리 시간을 흉내 낸다. (0 이면 순수 전송 계층 비용)
+ *
+ * - SIMPLE : 변경 전 (HttpURLConnection)
+ * - JDK    : JDK HttpClient (keep-alive)
+ * - APACHE : Apache HttpClient 5 연결 풀 (현재 기본값)
+ *
+ * 루프백 + 평문 HTTP 이므로 TLS 핸드셰이크 비용은 포함되지 않는다. (실제 은행 서버에서는 차이가 더 커짐)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=BankTransportBenchmark
+ * 결과: build/results/jmh/results.json (primaryMetric.scorePercentiles 의 50.0 / 99.0, us/op)
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+public class BankTransportBenchmark {
+
+    private static final byte[] OK_BODY =
+            "{\"code\":200,\"success\":true,\"message\":\"ok\",\"data\":null}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"SIMPLE", "JDK", "APACHE"})
+    public BankHttpTransport.Type transportType;
+
+    @Param({"0", "5"})
+    public long serverDelayMillis;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private BankHttpTransport transport;
+    private AccountClient client;
+    private final BankTransferReqDto request = new BankTransferReqDto("ADMIN-ACC", "USER-ACC", 1_000L);
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 128);
+        server.createContext("/api/transfer", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (serverDelayMillis > 0) {
+                try {
+                    Thread.sleep(serverDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, OK_BODY.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(OK_BODY);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(32);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        transport = BankHttpTransport.create(transportType, new BankHttpTransport.Settings(
+                Duration.ofSeconds(5), Duration.ofSeconds(5), 64, 32, Duration.ofSeconds(1),
+                Duration.ofSeconds(30), Duration.ofSeconds(60), false), null);
+        client = HttpServiceProxyFactory
+                .builderFor(RestClientAdapter.create(RestClient.builder()
+                        .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                        .requestFactory(transport.requestFactory())
+                        .build()))
+                .build()
+                .createClient(AccountClient.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        transport.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public BankTransferResDto transfer() {
+        return client.transfer(request);
+    }
+}
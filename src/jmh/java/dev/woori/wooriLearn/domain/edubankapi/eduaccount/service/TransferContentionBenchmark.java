@@ -0,0 +1,241 @@
+package dev.woori.wooriLearn.domain.edubankapi.eduaccount.service;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiTransferJdbcRepository;
+import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
+import dev.woori.wooriLearn.domain.edubankapi.entity.TransactionHistory;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 받는 계좌 한 곳으로 이체가 몰릴 때의 계좌이체 처리량 벤치마크
+ *
+ * 스레드마다 서로 다른 보내는 계좌에서 같은 받는 계좌(HOT)로 1원씩 이체한다. (H2 인메모리, MySQL 모드)
+ *
+ * - pessimisticLock: 2단계 분리 이전의 비관적 락 모드
+ *   트랜잭션 시작 -> 두 계좌 SELECT ... FOR UPDATE (계좌번호 순) -> BCrypt 확인 -> 잔액 UPDATE 2건 -> 거래내역 INSERT 2건
+ *   BCrypt 확인 동안 HOT 계좌 락을 잡고 있으므로 모든 이체가 직렬화된다.
+ * - verifiedThenLocked: 현재 비관적 락 모드 (락 없이 조회 + BCrypt 확인 -> 락 구간에서는 비밀번호 해시 비교와 SQL 만)
+ * - atomicUpdate: 조건부 UPDATE 모드와 같은 순서 (EdubankapiTransferJdbcRepository 사용)
+ *   락 없이 조회 + BCrypt 확인 -> 짧은 트랜잭션에서 조건부 차감 / 증가 / 거래내역 batch INSERT / 잔액 조회
+ *
+ * bcryptStrength 4 는 DB 락 구간 자체의 차이를, 10 (BCryptPasswordEncoder 기본값) 은 실제 운영 조건을 본다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=TransferContentionBenchmark
+ * 결과: build/results/jmh/results.json (ops/s, 전체 스레드 합계)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+public class TransferContentionBenchmark {
+
+    private static final String HOT_ACCOUNT_NUMBER = "9000000000000";
+    private static final String PASSWORD = "1234";
+    private static final int SENDERS = 64;
+
+    private static final String LOCK_SQL = """
+            SELECT id, balance, account_password, account_name
+              FROM educational_account
+             WHERE account_number = ?
+               FOR UPDATE
+            """;
+
+    private static final String READ_SQL = """
+            SELECT id, balance, account_password, account_name
+              FROM educational_account
+             WHERE account_number = ?
+            """;
+
+    private static final String SET_BALANCE_SQL = """
+            UPDATE educational_account SET balance = ? WHERE id = ?
+            """;
+
+    @Param({"4", "10"})
+    public int bcryptStrength;
+
+    private JdbcConnectionPool dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private EdubankapiTransferJdbcRepository transferJdbcRepository;
+    private BCryptPasswordEncoder passwordEncoder;
+    private final AtomicInteger senderSequence = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Sender {
+        String accountNumber;
+
+        @Setup(Level.Trial)
+        public void setUp(TransferContentionBenchmark benchmark) {
+            accountNumber = senderNumber(benchmark.senderSequence.getAndIncrement() % SENDERS);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = JdbcConnectionPool.create(
+                "jdbc:h2:mem:transfer-contention;MODE=MySQL;LOCK_TIMEOUT=600000;DB_CLOSE_DELAY=-1", "sa", "");
+        dataSource.setMaxConnections(64);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transferJdbcRepository = new EdubankapiTransferJdbcRepository(jdbcTemplate);
+        passwordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS transaction_history");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS educational_account");
+        jdbcTemplate.execute("""
+                CREATE TABLE educational_account (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    account_number VARCHAR(20) NOT NULL UNIQUE,
+                    balance INT NOT NULL,
+                    account_password VARCHAR(60) NOT NULL,
+                    account_name VARCHAR(30) NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE transaction_history (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    account_id BIGINT NOT NULL,
+                    transaction_date DATETIME(6) NOT NULL,
+                    counterparty_name VARCHAR(30) NOT NULL,
+                    display_name VARCHAR(30),
+                    amount INT NOT NULL,
+                    description VARCHAR(50)
+                )
+                """);
+
+        String encoded = passwordEncoder.encode(PASSWORD);
+        String insertAccount = """
+                INSERT INTO educational_account (account_number, balance, account_password, account_name)
+                VALUES (?, ?, ?, ?)
+                """;
+        jdbcTemplate.update(insertAccount, HOT_ACCOUNT_NUMBER, 0, encoded, "받는계좌");
+        for (int i = 0; i < SENDERS; i++) {
+            jdbcTemplate.update(insertAccount, senderNumber(i), Integer.MAX_VALUE, encoded, "보내는계좌" + i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+        dataSource.dispose();
+    }
+
+    @Benchmark
+    public Integer pessimisticLock(Sender sender) {
+        return transactionTemplate.execute(status -> {
+            Map<String, Object> from;
+            Map<String, Object> to;
+            if (sender.accountNumber.compareTo(HOT_ACCOUNT_NUMBER) < 0) {
+                from = jdbcTemplate.queryForMap(LOCK_SQL, sender.accountNumber);
+                to = jdbcTemplate.queryForMap(LOCK_SQL, HOT_ACCOUNT_NUMBER);
+            } else {
+                to = jdbcTemplate.queryForMap(LOCK_SQL, HOT_ACCOUNT_NUMBER);
+                from = jdbcTemplate.queryForMap(LOCK_SQL, sender.accountNumber);
+            }
+            checkPassword(from);
+            int fromBalance = ((Number) from.get("BALANCE")).intValue() - 1;
+            int toBalance = ((Number) to.get("BALANCE")).intValue() + 1;
+            jdbcTemplate.update(SET_BALANCE_SQL, fromBalance, from.get("ID"));
+            jdbcTemplate.update(SET_BALANCE_SQL, toBalance, to.get("ID"));
+            LocalDateTime now = LocalDateTime.now();
+            insertHistory(from, -1, (String) to.get("ACCOUNT_NAME"), now);
+            insertHistory(to, 1, (String) from.get("ACCOUNT_NAME"), now);
+            return fromBalance;
+        });
+    }
+
+    @Benchmark
+    public Integer verifiedThenLocked(Sender sender) {
+        Map<String, Object> verified = jdbcTemplate.queryForMap(READ_SQL, sender.accountNumber);
+        checkPassword(verified);
+        return transactionTemplate.execute(status -> {
+            Map<String, Object> from;
+            Map<String, Object> to;
+            if (sender.accountNumber.compareTo(HOT_ACCOUNT_NUMBER) < 0) {
+                from = jdbcTemplate.queryForMap(LOCK_SQL, sender.accountNumber);
+                to = jdbcTemplate.queryForMap(LOCK_SQL, HOT_ACCOUNT_NUMBER);
+            } else {
+                to = jdbcTemplate.queryForMap(LOCK_SQL, HOT_ACCOUNT_NUMBER);
+                from = jdbcTemplate.queryForMap(LOCK_SQL, sender.accountNumber);
+            }
+            if (!from.get("ACCOUNT_PASSWORD").equals(verified.get("ACCOUNT_PASSWORD"))) {
+                throw new IllegalStateException("password changed");
+            }
+            int fromBalance = ((Number) from.get("BALANCE")).intValue() - 1;
+            int toBalance = ((Number) to.get("BALANCE")).intValue() + 1;
+            jdbcTemplate.update(SET_BALANCE_SQL, fromBalance, from.get("ID"));
+            jdbcTemplate.update(SET_BALANCE_SQL, toBalance, to.get("ID"));
+            LocalDateTime now = LocalDateTime.now();
+            insertHistory(from, -1, (String) to.get("ACCOUNT_NAME"), now);
+            insertHistory(to, 1, (String) from.get("ACCOUNT_NAME"), now);
+            return fromBalance;
+        });
+    }
+
+    @Benchmark
+    public Integer atomicUpdate(Sender sender) {
+        Map<String, Object> from = jdbcTemplate.queryForMap(READ_SQL, sender.accountNumber);
+        Map<String, Object> to = jdbcTemplate.queryForMap(READ_SQL, HOT_ACCOUNT_NUMBER);
+        checkPassword(from);
+        LocalDateTime now = LocalDateTime.now();
+        return transactionTemplate.execute(status -> {
+            String passwordHash = (String) from.get("ACCOUNT_PASSWORD");
+            if (sender.accountNumber.compareTo(HOT_ACCOUNT_NUMBER) < 0) {
+                debit(sender.accountNumber, passwordHash);
+                transferJdbcRepository.credit(HOT_ACCOUNT_NUMBER, 1);
+            } else {
+                transferJdbcRepository.credit(HOT_ACCOUNT_NUMBER, 1);
+                debit(sender.accountNumber, passwordHash);
+            }
+            transferJdbcRepository.insertHistories(List.of(
+                    history(from, -1, (String) to.get("ACCOUNT_NAME"), now),
+                    history(to, 1, (String) from.get("ACCOUNT_NAME"), now)));
+            return transferJdbcRepository.findBalance(sender.accountNumber).orElse(null);
+        });
+    }
+
+    private void checkPassword(Map<String, Object> account) {
+        if (!passwordEncoder.matches(PASSWORD, (String) account.get("ACCOUNT_PASSWORD"))) {
+            throw new IllegalStateException("password mismatch");
+        }
+    }
+
+    private void debit(String accountNumber, String passwordHash) {
+        if (!transferJdbcRepository.debit(accountNumber, 1, passwordHash)) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST, "잔액이 부족합니다.");
+        }
+    }
+
+    private void insertHistory(Map<String, Object> account, int amount, String counterparty, LocalDateTime now) {
+        jdbcTemplate.update(EdubankapiTransferJdbcRepository.INSERT_HISTORY_SQL,
+                account.get("ID"), Timestamp.valueOf(now), counterparty, "벤치마크", amount, "계좌이체");
+    }
+
+    private TransactionHistory history(Map<String, Object> account, int amount, String counterparty, LocalDateTime now) {
+        return TransactionHistory.builder()
+                .account(EducationalAccount.builder().id(((Number) account.get("ID")).longValue()).build())
+                .transactionDate(now)
+                .counterpartyName(counterparty)
+                .displayName("벤치마크")
+                .amount(amount)
+                .description("계좌이체")
+                .build();
+    }
+
+    private static String senderNumber(int index) {
+        return String.format("1002%09d", index);
+    }
+}
@@ -0,0 +1,45 @@
+package dev.woori.wooriLearn.domain.scenario;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 인메모리 리포지토리
+ *
+ * Spring Data 리포지토리 인터페이스를 JDK 동적 프록시로 구현한다.
+ * 벤치마크 경로에서 실제로 호출되는 메서드만 이름으로 등록하고,
+ * 등록되지 않은 메서드가 호출되면 측정 대상이 바뀐 것이므로 즉시 실패시킨다.
+ */
+public final class InMemoryRepositories {
+
+    private InMemoryRepositories() {}
+
+    /**
+     * @param type      리포지토리 인터페이스
+     * @param handlers  메서드 이름 -> 인자 배열을 받아 반환값을 만드는 함수
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> handlers) {
+        return (T) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "toString":
+                            return "InMemory" + type.getSimpleName();
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            Function<Object[], Object> handler = handlers.get(method.getName());
+                            if (handler == null) {
+                                throw new UnsupportedOperationException(
+                                        type.getSimpleName() + "." + method.getName() + " 는 벤치마크에서 지원하지 않습니다.");
+                            }
+                            return handler.apply(args == null ? new Object[0] : args);
+                    }
+                });
+    }
+}
@@ -0,0 +1,83 @@
+package dev.woori.wooriLearn.domain.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.woori.wooriLearn.domain.scenario.dto.ProgressResumeResDto;
+import dev.woori.wooriLearn.domain.scenario.dto.RawJsonContent;
+import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
+import dev.woori.wooriLearn.domain.scenario.model.StepType;
+import dev.woori.wooriLearn.domain.scenario.service.ScenarioStepContentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스텝 응답 직렬화 비교
+ * - readTree: 기존 방식 (요청마다 content 파싱 -> JsonNode 트리 -> 재직렬화)
+ * - preSerialized: 그래프 캐시에 보관한 UTF-8 바이트를 그대로 출력
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=StepPayloadBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class StepPayloadBenchmark {
+
+    /** 기존 응답 DTO 형태 (content 를 JsonNode 로 보관) */
+    public record LegacyResumeResDto(Long scenarioId, Long nowStepId, StepType type, Long quizId, JsonNode content) {}
+
+    @Param({"SMALL", "LARGE"})
+    public String contentSize;
+
+    private ObjectMapper objectMapper;
+    private ScenarioStepContentService contentService;
+    private ScenarioStep step;
+    private RawJsonContent payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        contentService = new ScenarioStepContentService(objectMapper);
+        Scenario scenario = Scenario.builder().id(1L).title("bench").totalNormalSteps(1).build();
+        step = ScenarioStep.builder()
+                .id(1L)
+                .scenario(scenario)
+                .type(StepType.DIALOG)
+                .content("SMALL".equals(contentSize) ? smallContent() : largeContent())
+                .build();
+        payload = contentService.serializeContent(step);
+    }
+
+    @Benchmark
+    public byte[] readTree() throws Exception {
+        JsonNode node = objectMapper.readTree(step.getContent());
+        return objectMapper.writeValueAsBytes(
+                new LegacyResumeResDto(1L, step.getId(), step.getType(), null, node));
+    }
+
+    @Benchmark
+    public byte[] preSerialized() throws Exception {
+        ProgressResumeResDto dto = contentService.mapStep(step, payload);
+        return objectMapper.writeValueAsBytes(dto);
+    }
+
+    private static String smallContent() {
+        return """
+                {"meta":{"branch":"main"},"speaker":"은행원","text":"안녕하세요, 무엇을 도와드릴까요?","image":"bank_01.png"}
+                """;
+    }
+
+    private static String largeContent() {
+        StringBuilder sb = new StringBuilder("{\"meta\":{\"branch\":\"main\"},\"dialogs\":[");
+        for (int i = 0; i < 50; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"speaker\":\"은행원\",\"text\":\"대사 ").append(i)
+                    .append(" - 계좌 개설을 위해 신분증을 확인하겠습니다.\",\"image\":\"bank_")
+                    .append(i).append(".png\"}");
+        }
+        return sb.append("]}").toString();
+    }
+}
@@ -0,0 +1,115 @@
+package dev.woori.wooriLearn.domain.scenario;
+
+import dev.woori.wooriLearn.domain.scenario.entity.Quiz;
+import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
+import dev.woori.wooriLearn.domain.scenario.model.StepType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 벤치마크용 합성 시나리오
+ *
+ * 정상 루트 1..n 을 nextStep 으로 연결하고, 10 스텝 블록마다 다음을 배치한다.
+ * - 블록 5번째: CHOICE (good -> 다음 정상 스텝, bad -> 배드 브랜치)
+ *   배드 브랜치는 bad(branch=bad) -> badEnding(복귀 지점 = CHOICE 스텝) 2 스텝
+ * - 블록 8번째: 정답 인덱스 1 인 퀴즈가 붙은 DIALOG
+ *
+ * 대표 스텝 id(normal/choice/quiz/bad/badEnding)는 그래프 중간 블록에서 고른다.
+ *
+ * @param scenario      시나리오 (id=1, totalNormalSteps=n)
+ * @param steps         모든 스텝 (정상 루트 + 배드 브랜치)
+ */
+public record SyntheticScenario(
+        Scenario scenario,
+        List<ScenarioStep> steps,
+        long normalStepId,
+        long choiceStepId,
+        long quizStepId,
+        long badStepId,
+        long badEndingStepId
+) {
+    public static final long SCENARIO_ID = 1L;
+    public static final int QUIZ_ANSWER = 1;
+
+    /** @param normalSteps 정상 루트 스텝 수 (10 이상) */
+    public static SyntheticScenario build(int normalSteps) {
+        if (normalSteps < 10) {
+            throw new IllegalArgumentException("normalSteps 는 10 이상이어야 합니다.");
+        }
+        Scenario scenario = Scenario.builder()
+                .id(SCENARIO_ID)
+                .title("bench-" + normalSteps)
+                .totalNormalSteps(normalSteps)
+                .build();
+
+        List<ScenarioStep> steps = new ArrayList<>();
+        long badSeq = normalSteps;
+        ScenarioStep next = null;
+        // nextStep 참조를 빌더로 넣기 위해 마지막 스텝부터 생성
+        for (int i = normalSteps; i >= 1; i--) {
+            ScenarioStep.ScenarioStepBuilder builder = ScenarioStep.builder()
+                    .id((long) i)
+                    .scenario(scenario)
+                    .normalIndex(i)
+                    .nextStep(next);
+
+            ScenarioStep step;
+            if (i % 10 == 5 && next != null) {
+                long badId = ++badSeq;
+                long badEndingId = ++badSeq;
+                step = builder.type(StepType.CHOICE)
+                        .content("{\"choices\":["
+                                + "{\"good\":true,\"next\":" + next.getId() + ",\"text\":\"신분증을 제출한다\"},"
+                                + "{\"good\":false,\"next\":" + badId + ",\"text\":\"그냥 나간다\"}]}")
+                        .build();
+                ScenarioStep badEnding = ScenarioStep.builder()
+                        .id(badEndingId)
+                        .scenario(scenario)
+                        .type(StepType.DIALOG)
+                        .content("{\"meta\":{\"branch\":\"bad\",\"badEnding\":true},\"text\":\"처음부터 다시\"}")
+                        .nextStep(step)
+                        .build();
+                ScenarioStep bad = ScenarioStep.builder()
+                        .id(badId)
+                        .scenario(scenario)
+                        .type(StepType.DIALOG)
+                        .content("{\"meta\":{\"branch\":\"bad\"},\"text\":\"잘못된 선택\"}")
+                        .nextStep(badEnding)
+                        .build();
+                steps.add(badEnding);
+                steps.add(bad);
+            } else if (i % 10 == 8 && next != null) {
+                step = builder.type(StepType.DIALOG)
+                        .content(dialog(i))
+                        .quiz(Quiz.builder()
+                                .id((long) i)
+                                .question("예금자 보호 한도는?")
+                                .options("[\"1천만원\",\"5천만원\",\"1억원\"]")
+                                .answer(QUIZ_ANSWER)
+                                .build())
+                        .build();
+            } else {
+                step = builder.type(StepType.DIALOG).content(dialog(i)).build();
+            }
+            steps.add(step);
+            next = step;
+        }
+        Collections.reverse(steps);
+
+        long base = (normalSteps / 2 / 10) * 10L;
+        long choiceStepId = base + 5;
+        // 배드 브랜치 id 는 CHOICE 를 뒤에서부터 만나며 발급되므로 역산
+        int choicesAfter = (int) ((normalSteps - 1 - choiceStepId) / 10);
+        long badStepId = normalSteps + 2L * choicesAfter + 1;
+        return new SyntheticScenario(scenario, List.copyOf(steps),
+                base + 1, choiceStepId, base + 8, badStepId, badStepId + 1);
+    }
+
+    private static String dialog(int i) {
+        return "{\"meta\":{\"branch\":\"main\"},\"speaker\":\"은행원\",\"text\":\"대사 " + i
+                + " - 계좌 개설을 위해 신분증을 확인하겠습니다.\",\"image\":\"bank_" + i + ".png\"}";
+    }
+}
@@ -0,0 +1,191 @@
+package dev.woori.wooriLearn.domain.scenario.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.woori.wooriLearn.domain.scenario.InMemoryRepositories;
+import dev.woori.wooriLearn.domain.scenario.SyntheticScenario;
+import dev.woori.wooriLearn.domain.scenario.cache.CompiledScenario;
+import dev.woori.wooriLearn.domain.scenario.cache.CompiledStep;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioGraphCache;
+import dev.woori.wooriLearn.domain.scenario.dto.AdvanceResDto;
+import dev.woori.wooriLearn.domain.scenario.dto.ProgressResumeResDto;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioProgress;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
+import dev.woori.wooriLearn.domain.scenario.model.ChoiceInfo;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioCompletedRepository;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioProgressRepository;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioRepository;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioStepRepository;
+import dev.woori.wooriLearn.domain.scenario.service.processor.*;
+import dev.woori.wooriLearn.domain.user.entity.Users;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시나리오 스텝 엔진 벤치마크
+ *
+ * 합성 시나리오(정상 루트 10 ~ 10,000 스텝)와 인메모리 리포지토리 위에서
+ * 요청 한 번에 해당하는 엔진 구성 요소를 각각 측정한다. DB/트랜잭션 비용은 포함하지 않는다.
+ *
+ * - resolve: 정상/CHOICE/퀴즈/배드 브랜치 컨텍스트 4개에 대한 StepProcessorResolver.resolve
+ * - *Processor: 각 StepProcessor.process (진행 저장은 인메모리, 응답 매핑 포함)
+ * - parseContentInfo / parseChoice / mapStep: 캐시를 거치지 않는 ScenarioStepContentService 직접 호출
+ * - preloadStepsAsMap: 그래프 캐시 적중(warm) / 무효화 후 로딩 + 컴파일 + 정적 분석(cold)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=ScenarioStepEngineBenchmark
+ * 결과: build/results/jmh/results.json (ns/op, gc 프로파일러의 gc.alloc.rate.norm = bytes/op)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ScenarioStepEngineBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int stepCount;
+
+    private ScenarioStepContentService contentService;
+    private ScenarioGraphCache graphCache;
+    private ScenarioProgressService service;
+
+    private StepProcessorResolver resolver;
+    private NormalStepProcessor normalStepProcessor;
+    private ChoiceStepProcessor choiceStepProcessor;
+    private QuizGateStepProcessor quizGateStepProcessor;
+    private BadBranchStepProcessor badBranchStepProcessor;
+
+    private StepContext normalCtx;
+    private StepContext choiceCtx;
+    private StepContext quizCtx;
+    private StepContext badCtx;
+    private StepContext[] mixedCtx;
+
+    private ScenarioStep normalStep;
+    private ScenarioStep choiceStep;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticScenario synthetic = SyntheticScenario.build(stepCount);
+
+        ScenarioStepRepository stepRepository = InMemoryRepositories.of(ScenarioStepRepository.class, Map.of(
+                "findByScenarioIdWithNextStep", args -> synthetic.steps()
+        ));
+        ScenarioRepository scenarioRepository = InMemoryRepositories.of(ScenarioRepository.class, Map.of(
+                "findById", args -> Optional.of(synthetic.scenario())
+        ));
+        ScenarioProgressRepository progressRepository = InMemoryRepositories.of(ScenarioProgressRepository.class, Map.of(
+                "findByUserAndScenario", args -> Optional.empty(),
+                "save", args -> args[0]
+        ));
+        ScenarioCompletedRepository completedRepository = InMemoryRepositories.of(ScenarioCompletedRepository.class, Map.of());
+
+        contentService = new ScenarioStepContentService(new ObjectMapper());
+        graphCache = new ScenarioGraphCache(stepRepository, contentService);
+
+        normalStepProcessor = new NormalStepProcessor();
+        choiceStepProcessor = new ChoiceStepProcessor();
+        badBranchStepProcessor = new BadBranchStepProcessor();
+        quizGateStepProcessor = new QuizGateStepProcessor(normalStepProcessor);
+        resolver = new StepProcessorResolver(
+                choiceStepProcessor,
+                badBranchStepProcessor,
+                quizGateStepProcessor,
+                normalStepProcessor
+        );
+
+        // 완료 처리 경로는 측정하지 않으므로 보상 서비스는 사용하지 않음, write-behind 는 비활성(기본값)
+        service = new ScenarioProgressService(
+                scenarioRepository,
+                progressRepository,
+                completedRepository,
+                null,
+                resolver,
+                contentService,
+                graphCache,
+                new ScenarioProgressWriteBuffer(null)
+        );
+
+        CompiledScenario graph = graphCache.get(SyntheticScenario.SCENARIO_ID);
+        Users user = Users.builder().id(1L).userId("bench").build();
+        ScenarioProgress progress = ScenarioProgress.builder()
+                .user(user)
+                .scenario(synthetic.scenario())
+                .step(graph.byId().get(graph.startStepId()))
+                .progressRate(0.0)
+                .build();
+
+        normalCtx = context(graph, user, progress, synthetic.normalStepId(), null);
+        choiceCtx = context(graph, user, progress, synthetic.choiceStepId(), 0);
+        quizCtx = context(graph, user, progress, synthetic.quizStepId(), SyntheticScenario.QUIZ_ANSWER);
+        badCtx = context(graph, user, progress, synthetic.badStepId(), null);
+        mixedCtx = new StepContext[]{normalCtx, choiceCtx, quizCtx, badCtx};
+
+        normalStep = normalCtx.current();
+        choiceStep = choiceCtx.current();
+    }
+
+    private static StepContext context(CompiledScenario graph, Users user, ScenarioProgress progress,
+                                       long stepId, Integer answer) {
+        CompiledStep compiled = graph.step(stepId);
+        if (compiled == null) {
+            throw new IllegalStateException("합성 시나리오에 없는 스텝입니다. stepId=" + stepId);
+        }
+        return new StepContext(user, compiled.step().getScenario(), compiled.step(), answer, graph.byId(), progress,
+                compiled.badBranch(), compiled.badEnding(), graph.startStepId(), compiled.hasChoices());
+    }
+
+    @Benchmark
+    public void resolve(Blackhole bh) {
+        for (StepContext ctx : mixedCtx) {
+            bh.consume(resolver.resolve(ctx));
+        }
+    }
+
+    @Benchmark
+    public AdvanceResDto normalProcessor() {
+        return normalStepProcessor.process(normalCtx, service);
+    }
+
+    @Benchmark
+    public AdvanceResDto choiceProcessor() {
+        return choiceStepProcessor.process(choiceCtx, service);
+    }
+
+    @Benchmark
+    public AdvanceResDto quizGateProcessor() {
+        return quizGateStepProcessor.process(quizCtx, service);
+    }
+
+    @Benchmark
+    public AdvanceResDto badBranchProcessor() {
+        return badBranchStepProcessor.process(badCtx, service);
+    }
+
+    @Benchmark
+    public ContentInfo parseContentInfo() {
+        return contentService.parseContentInfo(choiceStep);
+    }
+
+    @Benchmark
+    public ChoiceInfo parseChoice() {
+        return contentService.parseChoice(choiceStep, 0);
+    }
+
+    @Benchmark
+    public ProgressResumeResDto mapStep() {
+        return contentService.mapStep(normalStep);
+    }
+
+    @Benchmark
+    public Map<Long, ScenarioStep> preloadStepsAsMapWarm() {
+        return service.preloadStepsAsMap(SyntheticScenario.SCENARIO_ID);
+    }
+
+    @Benchmark
+    public Map<Long, ScenarioStep> preloadStepsAsMapCold() {
+        graphCache.invalidate(SyntheticScenario.SCENARIO_ID);
+        return service.preloadStepsAsMap(SyntheticScenario.SCENARIO_ID);
+    }
+}
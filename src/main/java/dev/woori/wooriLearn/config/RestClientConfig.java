@@ -1,11 +1,13 @@
 package dev.woori.wooriLearn.config;
 
+import dev.woori.wooriLearn.config.bankclient.BankClientResilience;
+import dev.woori.wooriLearn.config.bankclient.BankHttpTransport;
+import dev.woori.wooriLearn.config.bankclient.ResilientAccountClient;
 import dev.woori.wooriLearn.domain.account.service.AccountClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
@@ -30,25 +32,43 @@ public class RestClientConfig {
     @Value("${api.client.read-timeout}")
     private Duration readTimeout;
 
+    // 전송 계층 (연결 풀 / keep-alive)
+    @Value("${app.bank-client.transport.type:APACHE}")
+    private BankHttpTransport.Type transportType;
+    @Value("${app.bank-client.transport.max-total:64}")
+    private int maxTotal;
+    @Value("${app.bank-client.transport.max-per-route:32}")
+    private int maxPerRoute;
+    @Value("${app.bank-client.transport.acquire-timeout:1s}")
+    private Duration acquireTimeout;
+    @Value("${app.bank-client.transport.keep-alive:30s}")
+    private Duration keepAlive;
+    @Value("${app.bank-client.transport.idle-timeout:60s}")
+    private Duration idleTimeout;
+    @Value("${app.bank-client.transport.http2:false}")
+    private boolean http2;
+
+    // 서킷 브레이커 / 벌크헤드 / 응답 시간 지표를 거쳐 은행 서버 호출
     @Bean
-    public AccountClient accountClient() {
-        return HttpServiceProxyFactory
+    public AccountClient accountClient(BankHttpTransport bankHttpTransport, BankClientResilience bankClientResilience) {
+        AccountClient client = HttpServiceProxyFactory
                 .builderFor(RestClientAdapter.create(
                         RestClient.builder()
                             .baseUrl(bankUrl)
                             .defaultHeader(APP_KEY_HEADER, appKey)
                             .defaultHeader(SECRET_KEY_HEADER, secretKey)
-                            .requestFactory(customRequestFactory())
+                            .requestFactory(bankHttpTransport.requestFactory())
                             .build()))
                 .build()
                 .createClient(AccountClient.class);
+        return new ResilientAccountClient(client, bankClientResilience);
     }
 
-    // 타임아웃 설정
-    private ClientHttpRequestFactory customRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(connectTimeout);
-        factory.setReadTimeout(readTimeout);
-        return factory;
+    // 타임아웃 + 연결 풀 설정 (애플리케이션 종료 시 풀 정리)
+    @Bean(destroyMethod = "close")
+    public BankHttpTransport bankHttpTransport(MeterRegistry meterRegistry) {
+        return BankHttpTransport.create(transportType, new BankHttpTransport.Settings(
+                connectTimeout, readTimeout, maxTotal, maxPerRoute, acquireTimeout, keepAlive, idleTimeout, http2
+        ), meterRegistry);
     }
 }
@@ -0,0 +1,13 @@
+package dev.woori.wooriLearn.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 배치 활성화 (자동이체 실행 등)
+ * 각 배치는 자체 enabled 옵션으로 실행 여부를 결정한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
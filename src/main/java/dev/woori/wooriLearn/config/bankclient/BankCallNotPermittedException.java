@@ -0,0 +1,33 @@
+package dev.woori.wooriLearn.config.bankclient;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 서킷 브레이커가 열려 있거나 벌크헤드가 가득 차 은행 호출을 보내지 않은 경우
+ *
+ * RestClientException 이므로 기존 은행 통신 오류 처리(processFailure, EXTERNAL_API_FAIL)로 그대로 이어진다.
+ * 요청이 은행에 도달하지 않았으므로 정산 워커는 재시도 대상으로 본다.
+ */
+public class BankCallNotPermittedException extends RestClientException {
+
+    public enum Reason {
+        CIRCUIT_OPEN, BULKHEAD_FULL
+    }
+
+    private final String endpoint;
+    private final Reason reason;
+
+    public BankCallNotPermittedException(String endpoint, Reason reason) {
+        super("은행 호출 차단 - endpoint=" + endpoint + ", reason=" + reason);
+        this.endpoint = endpoint;
+        this.reason = reason;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
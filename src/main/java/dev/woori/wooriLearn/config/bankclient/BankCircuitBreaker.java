@@ -0,0 +1,128 @@
+package dev.woori.wooriLearn.config.bankclient;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 실패율 기반 서킷 브레이커 (최근 window-size 건 기준)
+ *
+ * - CLOSED    : 모든 호출 허용. 최근 호출이 min-calls 건 이상이고 실패율이 failure-rate-threshold 이상이면 OPEN
+ * - OPEN      : 호출 차단. open-duration 이 지나면 HALF_OPEN
+ * - HALF_OPEN : half-open-calls 건만 시험 호출 허용. 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+public class BankCircuitBreaker {
+
+    // ordinal 을 지표 값으로 사용 (0 CLOSED, 1 HALF_OPEN, 2 OPEN)
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int windowSize;
+    private final int minCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoTime;
+
+    // 최근 호출 결과 (true = 실패), 원형 버퍼
+    private final boolean[] window;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    public BankCircuitBreaker(int windowSize, int minCalls, int failureRateThreshold, Duration openDuration,
+                              int halfOpenCalls, LongSupplier nanoTime) {
+        this.windowSize = windowSize;
+        this.minCalls = Math.min(minCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoTime = nanoTime;
+        this.window = new boolean[windowSize];
+    }
+
+    /**
+     * @return 호출 허용 여부 (허용된 호출은 반드시 onSuccess / onFailure 중 하나를 호출)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoTime.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermitted = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitted >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermitted++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        switch (state) {
+            case CLOSED -> record(false);
+            case HALF_OPEN -> {
+                if (++halfOpenSucceeded >= halfOpenCalls) {
+                    close();
+                }
+            }
+            case OPEN -> {
+                // 열리기 전에 허용된 호출의 늦은 결과는 무시
+            }
+        }
+    }
+
+    public synchronized void onFailure() {
+        switch (state) {
+            case CLOSED -> {
+                record(true);
+                if (recorded >= minCalls && failures * 100 >= failureRateThreshold * recorded) {
+                    open();
+                }
+            }
+            case HALF_OPEN -> open();
+            case OPEN -> {
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == windowSize) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoTime.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
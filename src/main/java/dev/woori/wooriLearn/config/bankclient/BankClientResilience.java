@@ -0,0 +1,162 @@
+package dev.woori.wooriLearn.config.bankclient;
+
+import dev.woori.wooriLearn.config.bankclient.BankCallNotPermittedException.Reason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 은행 서버 호출 보호 (AccountClient 엔드포인트별)
+ *
+ * 1. 서킷 브레이커: 최근 호출의 실패율이 높으면 open-duration 동안 호출하지 않고 바로 실패 (BankCallNotPermittedException)
+ * 2. 벌크헤드: 엔드포인트별 동시 호출 수를 max-concurrent 로 제한, max-wait 안에 자리가 나지 않으면 바로 실패
+ *    -> 은행이 느려져도 한 엔드포인트가 서블릿 스레드를 모두 붙잡지 않음
+ * 3. 지표 (/actuator/metrics)
+ *    - bank.client.requests : 엔드포인트별 응답 시간 히스토그램 (outcome = success / client_error / failure)
+ *    - bank.client.rejected : 호출 차단 수 (reason = circuit_open / bulkhead_full)
+ *    - bank.client.circuit.state : 0 CLOSED, 1 HALF_OPEN, 2 OPEN
+ *
+ * 4xx 응답은 은행이 정상 응답한 것이므로 실패율에 넣지 않는다.
+ */
+@Slf4j
+@Component
+public class BankClientResilience {
+
+    private final MeterRegistry registry;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    @Value("${app.bank-client.circuit-breaker.window-size:50}")
+    private int windowSize = 50;
+
+    @Value("${app.bank-client.circuit-breaker.min-calls:10}")
+    private int minCalls = 10;
+
+    @Value("${app.bank-client.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold = 50;
+
+    @Value("${app.bank-client.circuit-breaker.open-duration:30s}")
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    @Value("${app.bank-client.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls = 3;
+
+    @Value("${app.bank-client.bulkhead.max-concurrent:32}")
+    private int maxConcurrent = 32;
+
+    @Value("${app.bank-client.bulkhead.max-wait:200ms}")
+    private Duration maxWait = Duration.ofMillis(200);
+
+    public BankClientResilience(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * @param endpoint 엔드포인트 이름 (지표 태그 / 브레이커, 벌크헤드 단위)
+     * @param call     실제 은행 호출
+     */
+    public <T> T call(String endpoint, Supplier<T> call) {
+        Endpoint e = endpoints.computeIfAbsent(endpoint, this::newEndpoint);
+
+        if (!e.acquireBulkhead(maxWait)) {
+            throw e.reject(Reason.BULKHEAD_FULL);
+        }
+        if (!e.breaker.tryAcquire()) {
+            e.bulkhead.release();
+            throw e.reject(Reason.CIRCUIT_OPEN);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            T result = call.get();
+            e.breaker.onSuccess();
+            e.record("success", startedAt);
+            return result;
+        } catch (HttpClientErrorException ex) {
+            e.breaker.onSuccess();
+            e.record("client_error", startedAt);
+            throw ex;
+        } catch (RuntimeException ex) {
+            e.breaker.onFailure();
+            e.record("failure", startedAt);
+            if (e.breaker.getState() == BankCircuitBreaker.State.OPEN) {
+                log.warn("[은행 호출] 서킷 브레이커 OPEN - endpoint={}", endpoint);
+            }
+            throw ex;
+        } finally {
+            e.bulkhead.release();
+        }
+    }
+
+    public BankCircuitBreaker.State state(String endpoint) {
+        Endpoint e = endpoints.get(endpoint);
+        return e == null ? BankCircuitBreaker.State.CLOSED : e.breaker.getState();
+    }
+
+    private Endpoint newEndpoint(String endpoint) {
+        BankCircuitBreaker breaker = new BankCircuitBreaker(windowSize, minCalls, failureRateThreshold,
+                openDuration, halfOpenCalls, System::nanoTime);
+        Gauge.builder("bank.client.circuit.state", breaker, b -> b.getState().ordinal())
+                .description("은행 호출 서킷 브레이커 상태 (0 CLOSED, 1 HALF_OPEN, 2 OPEN)")
+                .tag("endpoint", endpoint)
+                .register(registry);
+        return new Endpoint(endpoint, breaker, new Semaphore(maxConcurrent), registry);
+    }
+
+    private static final class Endpoint {
+
+        final String name;
+        final BankCircuitBreaker breaker;
+        final Semaphore bulkhead;
+        final MeterRegistry registry;
+        final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+        Endpoint(String name, BankCircuitBreaker breaker, Semaphore bulkhead, MeterRegistry registry) {
+            this.name = name;
+            this.breaker = breaker;
+            this.bulkhead = bulkhead;
+            this.registry = registry;
+        }
+
+        boolean acquireBulkhead(Duration maxWait) {
+            try {
+                return bulkhead.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        void record(String outcome, long startedAt) {
+            timers.computeIfAbsent(outcome, o -> Timer.builder("bank.client.requests")
+                            .description("은행 호출 응답 시간")
+                            .tag("endpoint", name)
+                            .tag("outcome", o)
+                            .publishPercentiles(0.5, 0.95, 0.99)
+                            .publishPercentileHistogram()
+                            .register(registry))
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        BankCallNotPermittedException reject(Reason reason) {
+            Counter.builder("bank.client.rejected")
+                    .description("은행 호출 차단 수")
+                    .tag("endpoint", name)
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(registry)
+                    .increment();
+            return new BankCallNotPermittedException(name, reason);
+        }
+    }
+}
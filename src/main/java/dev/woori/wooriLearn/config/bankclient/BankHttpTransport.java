@@ -0,0 +1,164 @@
+package dev.woori.wooriLearn.config.bankclient;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 은행 서버 호출용 HTTP 전송 계층 (app.bank-client.transport)
+ *
+ * - APACHE : Apache HttpClient 5 연결 풀 (기본값)
+ *            max-total / max-per-route 만큼 keep-alive 연결을 유지하고, 풀 상태를 지표로 노출
+ *            bank.client.pool.leased / pending / available / max
+ * - JDK    : JDK HttpClient (keep-alive 연결 재사용, http2 옵션). 풀 크기 설정과 풀 지표는 없음
+ * - SIMPLE : HttpURLConnection (기존 방식, 비교용)
+ *
+ * 연결을 재사용하므로 매 호출마다 TCP 연결(및 TLS 핸드셰이크)을 새로 맺지 않는다.
+ */
+@Slf4j
+public class BankHttpTransport implements AutoCloseable {
+
+    public enum Type {
+        APACHE, JDK, SIMPLE
+    }
+
+    /**
+     * @param connectTimeout 연결 시간 초과
+     * @param readTimeout    응답 대기 시간 초과
+     * @param maxTotal       풀 전체 연결 수 (APACHE)
+     * @param maxPerRoute    호스트별 연결 수 (APACHE)
+     * @param acquireTimeout 풀에서 연결을 빌리기까지 기다리는 최대 시간 (APACHE)
+     * @param keepAlive      응답에 Keep-Alive 헤더가 없을 때 연결을 유지하는 시간 (APACHE)
+     * @param idleTimeout    이 시간 이상 쓰이지 않은 연결은 정리 (APACHE)
+     * @param http2          HTTP/2 사용 (JDK, 서버가 지원하지 않으면 HTTP/1.1)
+     */
+    public record Settings(
+            Duration connectTimeout,
+            Duration readTimeout,
+            int maxTotal,
+            int maxPerRoute,
+            Duration acquireTimeout,
+            Duration keepAlive,
+            Duration idleTimeout,
+            boolean http2
+    ) {
+    }
+
+    private final Type type;
+    private final ClientHttpRequestFactory requestFactory;
+    private final CloseableHttpClient apacheClient;
+
+    private BankHttpTransport(Type type, ClientHttpRequestFactory requestFactory, CloseableHttpClient apacheClient) {
+        this.type = type;
+        this.requestFactory = requestFactory;
+        this.apacheClient = apacheClient;
+    }
+
+    /**
+     * @param registry 풀 지표를 등록할 레지스트리 (null 이면 등록하지 않음)
+     */
+    public static BankHttpTransport create(Type type, Settings settings, MeterRegistry registry) {
+        BankHttpTransport transport = switch (type) {
+            case APACHE -> apache(settings, registry);
+            case JDK -> jdk(settings);
+            case SIMPLE -> simple(settings);
+        };
+        log.info("[은행 HTTP 전송 계층] type={}, settings={}", type, settings);
+        return transport;
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    public ClientHttpRequestFactory requestFactory() {
+        return requestFactory;
+    }
+
+    @Override
+    public void close() {
+        if (apacheClient == null) {
+            return;
+        }
+        try {
+            apacheClient.close();
+        } catch (IOException e) {
+            log.warn("[은행 HTTP 전송 계층] 연결 풀 종료 실패", e);
+        }
+    }
+
+    private static BankHttpTransport apache(Settings settings, MeterRegistry registry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.maxTotal())
+                .setMaxConnPerRoute(settings.maxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(settings.connectTimeout().toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(settings.readTimeout().toMillis()))
+                        // 서버가 먼저 끊은 연결을 빌려주지 않도록 오래 쉰 연결은 사용 전에 확인
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(settings.acquireTimeout().toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(settings.readTimeout().toMillis()))
+                        .setDefaultKeepAlive(settings.keepAlive().toMillis(), TimeUnit.MILLISECONDS)
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(settings.idleTimeout().toMillis()))
+                .build();
+
+        if (registry != null) {
+            registerPoolGauge(registry, connectionManager, "leased", "사용 중인 연결 수", PoolStats::getLeased);
+            registerPoolGauge(registry, connectionManager, "pending", "연결을 기다리는 요청 수", PoolStats::getPending);
+            registerPoolGauge(registry, connectionManager, "available", "재사용 대기 중인 연결 수", PoolStats::getAvailable);
+            registerPoolGauge(registry, connectionManager, "max", "풀 최대 연결 수", PoolStats::getMax);
+        }
+        return new BankHttpTransport(Type.APACHE, new HttpComponentsClientHttpRequestFactory(httpClient), httpClient);
+    }
+
+    private static void registerPoolGauge(MeterRegistry registry, PoolingHttpClientConnectionManager connectionManager,
+                                          String name, String description, ToDoubleFunction<PoolStats> value) {
+        Gauge.builder("bank.client.pool." + name, connectionManager, cm -> value.applyAsDouble(cm.getTotalStats()))
+                .description(description)
+                .register(registry);
+    }
+
+    private static BankHttpTransport jdk(Settings settings) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(settings.connectTimeout())
+                .version(settings.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(settings.readTimeout());
+        return new BankHttpTransport(Type.JDK, factory, null);
+    }
+
+    private static BankHttpTransport simple(Settings settings) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(settings.connectTimeout());
+        factory.setReadTimeout(settings.readTimeout());
+        return new BankHttpTransport(Type.SIMPLE, factory, null);
+    }
+}
@@ -0,0 +1,41 @@
+package dev.woori.wooriLearn.config.bankclient;
+
+import dev.woori.wooriLearn.domain.account.dto.external.request.BankTransferReqDto;
+import dev.woori.wooriLearn.domain.account.dto.external.request.ExternalAccountCheckReqDto;
+import dev.woori.wooriLearn.domain.account.dto.external.response.BankTransferResDto;
+import dev.woori.wooriLearn.domain.account.dto.external.response.ExternalAccountUrlResDto;
+import dev.woori.wooriLearn.domain.account.dto.response.AccountCreateResDto;
+import dev.woori.wooriLearn.domain.account.service.AccountClient;
+
+/**
+ * AccountClient 의 모든 호출을 BankClientResilience 로 감싼 구현 (RestClientConfig 에서 등록)
+ */
+public class ResilientAccountClient implements AccountClient {
+
+    static final String ACCOUNT_URL = "account-url";
+    static final String ACCOUNT_LOOKUP = "account-lookup";
+    static final String TRANSFER = "transfer";
+
+    private final AccountClient delegate;
+    private final BankClientResilience resilience;
+
+    public ResilientAccountClient(AccountClient delegate, BankClientResilience resilience) {
+        this.delegate = delegate;
+        this.resilience = resilience;
+    }
+
+    @Override
+    public ExternalAccountUrlResDto getAccountUrl() {
+        return resilience.call(ACCOUNT_URL, delegate::getAccountUrl);
+    }
+
+    @Override
+    public AccountCreateResDto getAccountNum(ExternalAccountCheckReqDto accountCheckReqDto) {
+        return resilience.call(ACCOUNT_LOOKUP, () -> delegate.getAccountNum(accountCheckReqDto));
+    }
+
+    @Override
+    public BankTransferResDto transfer(BankTransferReqDto req) {
+        return resilience.call(TRANSFER, () -> delegate.transfer(req));
+    }
+}
@@ -0,0 +1,290 @@
+package dev.woori.wooriLearn.config.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Idempotency-Key 기반 중복 요청 방지 (Redis)
+ *
+ * - 키: idempotency:{scope}:{사용자}:{Idempotency-Key}
+ * - 값: 상태(PROCESSING / COMPLETED) + 요청 지문(HMAC-SHA256, 전용 비밀키) + 완료 시 응답 JSON
+ *   (요청 본문에 계좌 비밀번호처럼 경우의 수가 작은 값이 있어도 Redis 값만으로 역산할 수 없도록 키를 섞음)
+ *   지문 키(app.idempotency.fingerprint-secret)는 필수이며 JWT 서명 키와 공유하지 않는다.
+ *
+ * 1. SET NX 로 키를 선점한 요청만 실제로 실행하고, 완료되면 응답을 response-ttl 동안 보관
+ * 2. 같은 키의 재시도는 보관된 응답을 그대로 반환 (계좌 락이나 DB 를 다시 거치지 않음)
+ * 3. 처리 중인 키로 들어온 동시 요청은 다시 실행하지 않고 선행 요청이 끝나기를 기다림
+ *    (같은 서버면 선행 요청 완료 신호를, 다른 서버면 poll-interval 간격으로 Redis 를 확인)
+ * 4. 같은 키로 내용이 다른 요청을 보내면 CONFLICT
+ *
+ * 실행 중에는 processing-ttl 의 1/3 간격으로 PROCESSING 표시의 만료를 연장한다.
+ * (락 대기 등으로 실행이 processing-ttl 보다 길어져도 재시도가 키를 다시 선점해 두 번 실행되지 않도록)
+ * 완료 응답 보관에 실패하면 PROCESSING 표시를 response-ttl 동안 유지해 같은 키로는 다시 실행되지 않게 한다.
+ *
+ * 실행이 예외로 끝나면 키를 지워 같은 키로 다시 시도할 수 있게 한다. (실패 응답은 보관하지 않음)
+ * 헤더가 없으면 기존처럼 그대로 실행한다.
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_\\-:.]{1,64}");
+    private static final String FINGERPRINT_ALGORITHM = "HmacSHA256";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec fingerprintKey;
+
+    // 실행 중인 키의 PROCESSING 만료 연장
+    private final ScheduledExecutorService leaseRenewer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "idempotency-lease-renewer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 이 서버에서 실행 중인 키 -> 완료 신호
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${app.idempotency.processing-ttl:30s}")
+    private Duration processingTtl = Duration.ofSeconds(30);
+
+    @Value("${app.idempotency.response-ttl:24h}")
+    private Duration responseTtl = Duration.ofHours(24);
+
+    @Value("${app.idempotency.wait-timeout:10s}")
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    @Value("${app.idempotency.poll-interval:50ms}")
+    private Duration pollInterval = Duration.ofMillis(50);
+
+    public IdempotencyService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                              @Value("${app.idempotency.fingerprint-secret}") String fingerprintSecret) {
+        if (fingerprintSecret == null || fingerprintSecret.isBlank()) {
+            throw new IllegalStateException("app.idempotency.fingerprint-secret 가 설정되지 않았습니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.fingerprintKey = new SecretKeySpec(fingerprintSecret.getBytes(StandardCharsets.UTF_8), FINGERPRINT_ALGORITHM);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+    /**
+     * @param scope          API 구분 (같은 키라도 API 가 다르면 별개)
+     * @param username       요청 사용자 (다른 사용자의 키와 섞이지 않도록)
+     * @param idempotencyKey Idempotency-Key 헤더 값 (null 이면 그대로 실행)
+     * @param request        요청 본문 (지문 계산용)
+     * @param responseType   보관된 응답을 되돌릴 타입
+     * @param action         실제 처리
+     */
+    public <T> T execute(String scope, String username, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (!KEY_PATTERN.matcher(idempotencyKey).matches()) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST,
+                    "Idempotency-Key 는 영문, 숫자, '-', '_', ':', '.' 로 된 64자 이하 문자열이어야 합니다.");
+        }
+
+        String key = KEY_PREFIX + scope + ":" + username + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            if (tryAcquire(key, fingerprint)) {
+                return runAndStore(key, fingerprint, action);
+            }
+
+            IdempotencyRecord record = read(key);
+            if (record == null) {
+                // 선행 요청이 실패해 키가 풀렸거나 만료됨 -> 다시 선점 시도
+                continue;
+            }
+            if (!record.fingerprint().equals(fingerprint)) {
+                throw new CommonException(ErrorCode.CONFLICT, "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+            }
+            if (record.completed()) {
+                log.info("[Idempotency] 보관된 응답 반환 - scope={}, key={}", scope, idempotencyKey);
+                return readJson(record.response(), responseType);
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new CommonException(ErrorCode.CONFLICT, "같은 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+            }
+            awaitInFlight(key, remaining);
+        }
+    }
+
+    private boolean tryAcquire(String key, String fingerprint) {
+        String processing = writeJson(IdempotencyRecord.processing(fingerprint));
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, processing, processingTtl));
+    }
+
+    private <T> T runAndStore(String key, String fingerprint, Supplier<T> action) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        inFlight.put(key, done);
+        try {
+            T response;
+            Lease lease = renewLease(key);
+            try {
+                response = action.get();
+            } catch (RuntimeException e) {
+                lease.release();
+                redisTemplate.delete(key);
+                throw e;
+            }
+            lease.release();
+            try {
+                redisTemplate.opsForValue().set(key,
+                        writeJson(IdempotencyRecord.completed(fingerprint, writeJson(response))), responseTtl);
+            } catch (RuntimeException e) {
+                // 처리는 이미 커밋됨 -> 응답은 돌려주고, 같은 키로 다시 실행되지 않도록 PROCESSING 을 response-ttl 동안 유지
+                log.error("[Idempotency] 응답 보관 실패, 처리 중 표시 유지 - key={}", key, e);
+                keepProcessing(key);
+            }
+            return response;
+        } finally {
+            inFlight.remove(key, done);
+            done.complete(null);
+        }
+    }
+
+    /** 실행이 끝날 때까지 processing-ttl 의 1/3 간격으로 PROCESSING 만료 연장 */
+    private Lease renewLease(String key) {
+        Lease lease = new Lease();
+        long interval = Math.max(1L, processingTtl.toMillis() / 3);
+        lease.renewal = leaseRenewer.scheduleWithFixedDelay(() -> {
+            synchronized (lease) {
+                if (lease.released) {
+                    return;
+                }
+                try {
+                    redisTemplate.expire(key, processingTtl);
+                } catch (RuntimeException e) {
+                    log.warn("[Idempotency] 처리 중 표시 연장 실패 - key={}", key, e);
+                }
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+        return lease;
+    }
+
+    private void keepProcessing(String key) {
+        try {
+            redisTemplate.expire(key, responseTtl);
+        } catch (RuntimeException e) {
+            log.error("[Idempotency] 처리 중 표시 유지 실패 - key={}", key, e);
+        }
+    }
+
+    /** PROCESSING 만료 연장 작업 (release 이후에는 연장하지 않아 완료 응답의 TTL 을 줄이지 않음) */
+    private static final class Lease {
+
+        private ScheduledFuture<?> renewal;
+        private boolean released;
+
+        synchronized void release() {
+            released = true;
+            renewal.cancel(false);
+        }
+    }
+
+    private void awaitInFlight(String key, long remainingNanos) {
+        CompletableFuture<Void> local = inFlight.get(key);
+        try {
+            if (local != null) {
+                local.get(remainingNanos, TimeUnit.NANOSECONDS);
+            } else {
+                TimeUnit.NANOSECONDS.sleep(Math.min(pollInterval.toNanos(), remainingNanos));
+            }
+        } catch (TimeoutException | ExecutionException ignored) {
+            // 다음 반복에서 Redis 상태로 판단
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommonException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private IdempotencyRecord read(String key) {
+        String value = redisTemplate.opsForValue().get(key);
+        return value == null ? null : readJson(value, IdempotencyRecord.class);
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            Mac mac = Mac.getInstance(FINGERPRINT_ALGORITHM);
+            mac.init(fingerprintKey);
+            byte[] hash = mac.doFinal(writeJson(request).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private String writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new CommonException(ErrorCode.INTERNAL_SERVER_ERROR, "요청을 직렬화할 수 없습니다.");
+        }
+    }
+
+    private <T> T readJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new CommonException(ErrorCode.INTERNAL_SERVER_ERROR, "보관된 응답을 읽을 수 없습니다.");
+        }
+    }
+
+    /** Redis 에 보관하는 값 (response 는 COMPLETED 일 때만) */
+    record IdempotencyRecord(String state, String fingerprint, String response) {
+
+        static final String PROCESSING = "PROCESSING";
+        static final String COMPLETED = "COMPLETED";
+
+        static IdempotencyRecord processing(String fingerprint) {
+            return new IdempotencyRecord(PROCESSING, fingerprint, null);
+        }
+
+        static IdempotencyRecord completed(String fingerprint, String response) {
+            return new IdempotencyRecord(COMPLETED, fingerprint, response);
+        }
+
+        boolean completed() {
+            return COMPLETED.equals(state);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package dev.woori.wooriLearn.config.response;
 import dev.woori.wooriLearn.config.exception.ErrorCode;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 
@@ -41,6 +42,34 @@ public class ApiResponse {
                 .body(BaseResponse.of(successCode, data));
     }
 
+    // 미리 렌더링된 BaseResponse JSON 바이트 + ETag (contentEncoding 은 압축본일 때만 지정, 아니면 null)
+    public static ResponseEntity<byte[]> successWithCache(
+            final SuccessCode successCode,
+            final byte[] renderedBody,
+            final String eTag,
+            final String contentEncoding,
+            final Duration duration
+    ) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(successCode.getStatus())
+                .cacheControl(CacheControl.maxAge(duration).cachePublic())
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentLength(renderedBody.length);
+        if (contentEncoding != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        }
+        return builder.body(renderedBody);
+    }
+
+    // If-None-Match 일치 시 본문 없이 304
+    public static <T> ResponseEntity<T> notModified(final String eTag, final Duration duration) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CacheControl.maxAge(duration).cachePublic())
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+
     public static ResponseEntity<BaseResponse<?>> failure(final ErrorCode errorCode) {
         return ResponseEntity.status(errorCode.getStatus())
                 .body(BaseResponse.of(errorCode));
@@ -7,6 +7,7 @@ import dev.woori.wooriLearn.domain.account.dto.request.PointsDepositRequestDto;
 import dev.woori.wooriLearn.domain.account.dto.response.PointsHistoryResponseDto;
 import dev.woori.wooriLearn.domain.account.dto.request.PointsUnifiedHistoryRequestDto;
 import dev.woori.wooriLearn.domain.account.service.PointsDepositService;
+import dev.woori.wooriLearn.domain.account.service.PointsExchangeBulkApprovalService;
 import dev.woori.wooriLearn.domain.account.service.PointsExchangeFacade;
 import dev.woori.wooriLearn.domain.account.service.PointsExchangeService;
 import dev.woori.wooriLearn.domain.account.service.PointsHistoryService;
@@ -24,6 +25,7 @@ public class AdminPointController {
     private final PointsDepositService pointsDepositService;
     private final PointsExchangeService pointsExchangeService;
     private final PointsExchangeFacade pointsExchangeFacade;
+    private final PointsExchangeBulkApprovalService pointsExchangeBulkApprovalService;
     private final PointsHistoryService pointsHistoryService;
 
 
@@ -44,6 +46,13 @@ public class AdminPointController {
         return ApiResponse.success(SuccessCode.OK, pointsExchangeFacade.executeTransfer(requestId));
     }
 
+    // 관리자 환전 일괄 승인 (APPLY 요청을 오래된 순으로 최대 limit 건)
+    @PostMapping("/admin/points/exchange/approve/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BaseResponse<?>> approveBulk(@RequestParam(required = false) Integer limit) {
+        return ApiResponse.success(SuccessCode.OK, pointsExchangeBulkApprovalService.approvePending(limit));
+    }
+
     // 관리자 환전 대기 목록 (기존 경로 유지)
     @GetMapping("/admin/points/exchange/apply")
     @PreAuthorize("hasRole('ADMIN')")
@@ -0,0 +1,47 @@
+package dev.woori.wooriLearn.domain.account.dto.response;
+
+import dev.woori.wooriLearn.domain.account.entity.PointsStatus;
+
+import java.util.List;
+
+/**
+ * 환전 일괄 승인 결과
+ *
+ * @param claimed   이번 호출에서 잡은 APPLY 요청 수
+ * @param queued    정산 outbox 에 등록된 수 (비동기 정산일 때)
+ * @param succeeded 은행 이체 성공 수 (동기 정산일 때)
+ * @param failed    은행 이체 실패(환불) 수 (동기 정산일 때)
+ * @param skipped   검증 실패로 승인하지 않은 수 (APPLY 유지)
+ */
+public record PointsBulkApproveResponseDto(
+        int claimed,
+        int queued,
+        int succeeded,
+        int failed,
+        int skipped,
+        List<ItemResult> results
+) {
+
+    public record ItemResult(
+            Long requestId,
+            PointsStatus status,
+            String message
+    ) {
+    }
+
+    public static PointsBulkApproveResponseDto of(int claimed, List<ItemResult> results) {
+        int queued = 0;
+        int succeeded = 0;
+        int failed = 0;
+        int skipped = 0;
+        for (ItemResult result : results) {
+            switch (result.status()) {
+                case PROCESSING -> queued++;
+                case SUCCESS -> succeeded++;
+                case FAILED -> failed++;
+                case APPLY -> skipped++;
+            }
+        }
+        return new PointsBulkApproveResponseDto(claimed, queued, succeeded, failed, skipped, results);
+    }
+}
@@ -0,0 +1,103 @@
+package dev.woori.wooriLearn.domain.account.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 환전 정산 outbox
+ *
+ * 환전 승인 시 출금 이력을 PROCESSING 으로 바꾸는 트랜잭션에서 함께 저장하고,
+ * 정산 워커(PointsExchangeSettlementWorker)가 꺼내 은행 이체 후 결과를 반영한다.
+ *
+ * - PENDING -> IN_FLIGHT : 워커가 조건부 UPDATE 로 선점 (attempts + 1, lease_until 설정)
+ * - IN_FLIGHT -> PENDING : 재시도 가능한 오류 (next_attempt_at 에 backoff 반영)
+ * - IN_FLIGHT -> DONE    : 이체 결과(성공/실패)를 출금 이력에 반영한 트랜잭션에서 함께 전환
+ * - IN_FLIGHT -> REVIEW_REQUIRED : lease 만료 (서버 중단 / 결과 반영 실패)
+ *   은행이 이미 이체했을 수 있으므로 다시 보내지 않고, 출금 이력은 PROCESSING 으로 둔 채 은행 거래내역과 대조 후 수동 처리
+ */
+@Entity
+@Table(name = "points_exchange_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_points_exchange_outbox_history",
+                columnNames = "points_history_id"),
+        indexes = @Index(name = "idx_points_exchange_outbox_status_next", columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PointsExchangeOutbox {
+
+    private static final int LAST_ERROR_MAX_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "points_history_id", nullable = false)
+    private Long pointsHistoryId;
+
+    // 입금 받을 사용자 계좌
+    @Column(name = "account_num", nullable = false)
+    private String accountNumber;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PointsExchangeOutboxStatus status;
+
+    // 선점 횟수 (은행 호출 시도 횟수)
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "lease_until", columnDefinition = "DATETIME(6)")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_error", length = LAST_ERROR_MAX_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime completedAt;
+
+    public static PointsExchangeOutbox pending(Long pointsHistoryId, String accountNumber, long amount,
+                                               LocalDateTime now) {
+        return PointsExchangeOutbox.builder()
+                .pointsHistoryId(pointsHistoryId)
+                .accountNumber(accountNumber)
+                .amount(amount)
+                .status(PointsExchangeOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = PointsExchangeOutboxStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.leaseUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    public void markDone(LocalDateTime completedAt, String error) {
+        this.status = PointsExchangeOutboxStatus.DONE;
+        this.completedAt = completedAt;
+        this.leaseUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= LAST_ERROR_MAX_LENGTH) {
+            return error;
+        }
+        return error.substring(0, LAST_ERROR_MAX_LENGTH);
+    }
+}
@@ -0,0 +1,8 @@
+package dev.woori.wooriLearn.domain.account.entity;
+
+public enum PointsExchangeOutboxStatus {
+    PENDING,    // 은행 이체 대기 (next_attempt_at 이후 실행)
+    IN_FLIGHT,  // 워커가 선점해 은행 이체 중 (lease_until 까지)
+    DONE,       // 결과 반영 완료
+    REVIEW_REQUIRED // lease 만료 (은행 이체 여부 불명) -> 자동 재시도하지 않고 수동 확인 대기
+}
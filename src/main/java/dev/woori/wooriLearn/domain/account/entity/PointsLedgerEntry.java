@@ -0,0 +1,50 @@
+package dev.woori.wooriLearn.domain.account.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 (append-only)
+ *
+ * users.points 를 바꾸는 모든 변경은 같은 트랜잭션에서 이 테이블에 한 행씩 추가된다. (PointsLedger)
+ * 행은 수정/삭제하지 않으며, 원장을 시작한 사용자(users.points_ledger_opened)의 delta 합계는 항상 users.points 와 같아야 한다.
+ * (PointsLedgerReconciliationScheduler 가 주기적으로 확인)
+ *
+ * 기록은 JDBC INSERT 로만 하고, 엔티티는 스키마 관리와 조회용이다.
+ */
+@Entity
+@Immutable
+@Table(name = "points_ledger",
+        indexes = @Index(name = "idx_points_ledger_user", columnList = "user_id, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointsLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 사용자 엔티티를 읽지 않도록 id 만 보관
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 증가는 양수, 차감은 음수
+    @Column(name = "delta", nullable = false)
+    private Integer delta;
+
+    // 변경 직후 users.points
+    @Column(name = "balance_after", nullable = false)
+    private Integer balanceAfter;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reason", nullable = false, length = 20)
+    private PointsLedgerReason reason;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package dev.woori.wooriLearn.domain.account.entity;
+
+/**
+ * 포인트 원장 변경 사유
+ */
+public enum PointsLedgerReason {
+    // 원장 도입 전 잔액 (사용자의 첫 원장 변경 때 한 번 기록)
+    OPENING,
+    // 신규 회원 가입 포인트
+    SIGNUP,
+    // 포인트 충전
+    DEPOSIT,
+    // 시나리오 완료 보상
+    REWARD,
+    // 환전 신청 선차감
+    EXCHANGE,
+    // 환전 실패 환불
+    EXCHANGE_REFUND
+}
@@ -4,6 +4,8 @@ package dev.woori.wooriLearn.domain.account.repository;
 import dev.woori.wooriLearn.domain.account.entity.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
@@ -11,4 +13,7 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Account> findByAccountNumber(String accountNumber);
 
     Optional<Account> findByUserId(Long userId);
+
+    // 계좌번호 일괄 조회 (환전 일괄 승인에서 사용)
+    List<Account> findAllByAccountNumberIn(Collection<String> accountNumbers);
 }
\ No newline at end of file
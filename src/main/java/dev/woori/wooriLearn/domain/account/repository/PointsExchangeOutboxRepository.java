@@ -0,0 +1,52 @@
+package dev.woori.wooriLearn.domain.account.repository;
+
+import dev.woori.wooriLearn.domain.account.entity.PointsExchangeOutbox;
+import dev.woori.wooriLearn.domain.account.entity.PointsExchangeOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PointsExchangeOutboxRepository extends JpaRepository<PointsExchangeOutbox, Long> {
+
+    // 실행 시각이 된 대기 건 (idx_points_exchange_outbox_status_next)
+    @Query("SELECT o.id FROM PointsExchangeOutbox o " +
+            "WHERE o.status = :status AND o.nextAttemptAt <= :now " +
+            "ORDER BY o.nextAttemptAt, o.id")
+    List<Long> findDueIds(@Param("status") PointsExchangeOutboxStatus status,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    /**
+     * 대기 건 선점 (PENDING -> IN_FLIGHT)
+     * 여러 인스턴스가 같은 건을 조회해도 1 을 돌려받은 워커만 은행을 호출한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PointsExchangeOutbox o " +
+            "SET o.status = :inFlight, o.leaseUntil = :leaseUntil, o.attempts = o.attempts + 1 " +
+            "WHERE o.id = :id AND o.status = :pending")
+    int claim(@Param("id") Long id,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("pending") PointsExchangeOutboxStatus pending,
+              @Param("inFlight") PointsExchangeOutboxStatus inFlight);
+
+    /**
+     * lease 가 만료된 선점 건을 수동 확인 대기로 전환 (처리 중 서버가 중단되었거나 결과 반영에 실패한 경우)
+     * 은행 이체가 이미 반영됐을 수 있으므로 PENDING 으로 되돌려 다시 보내지 않는다. (은행 이체 API 에 멱등키 없음)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PointsExchangeOutbox o " +
+            "SET o.status = :reviewRequired, o.leaseUntil = null, " +
+            "o.lastError = 'lease expired' " +
+            "WHERE o.status = :inFlight AND o.leaseUntil < :now")
+    int markExpiredForReview(@Param("now") LocalDateTime now,
+                             @Param("inFlight") PointsExchangeOutboxStatus inFlight,
+                             @Param("reviewRequired") PointsExchangeOutboxStatus reviewRequired);
+}
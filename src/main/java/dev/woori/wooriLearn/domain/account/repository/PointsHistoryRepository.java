@@ -1,10 +1,12 @@
 package dev.woori.wooriLearn.domain.account.repository;
 
+import dev.woori.wooriLearn.domain.account.entity.PointsFailReason;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistory;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistoryType;
 import dev.woori.wooriLearn.domain.account.entity.PointsStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import jakarta.persistence.LockModeType;
@@ -13,13 +15,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PointsHistoryRepository extends JpaRepository<PointsHistory, Long> {
 
+    // 사용자 행까지 함께 잠그지 않도록 user 는 JOIN FETCH 하지 않음
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT h FROM PointsHistory h JOIN FETCH h.user WHERE h.id = :id")
+    @Query("SELECT h FROM PointsHistory h WHERE h.id = :id")
     Optional<PointsHistory> findAndLockById(@Param("id") Long id);
 
     // 단순 타입 + 상태 조회 (프론트 사용자 내역용)
@@ -27,4 +32,28 @@ public interface PointsHistoryRepository extends JpaRepository<PointsHistory, Lo
     Page<PointsHistory> findByTypeAndStatus(PointsHistoryType type, PointsStatus status, Pageable pageable);
 
     List<PointsHistory> findByUserId(Long userId);
+
+    /**
+     * 환전 일괄 승인 대상 선점 (다른 승인 요청이 잠근 행은 건너뜀 -> 동시 일괄 승인끼리 대기하지 않음)
+     */
+    @Query(value = "SELECT id FROM points_history " +
+            "WHERE type = 'WITHDRAW' AND status = 'APPLY' " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockApplyWithdrawIds(@Param("limit") int limit);
+
+    @Query("SELECT h FROM PointsHistory h JOIN FETCH h.user WHERE h.id IN :ids ORDER BY h.id")
+    List<PointsHistory> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * PROCESSING 요청의 이체 결과 일괄 반영
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PointsHistory h " +
+            "SET h.status = :status, h.failReason = :failReason, h.processedAt = :processedAt, h.updatedAt = :processedAt " +
+            "WHERE h.id IN :ids AND h.status = dev.woori.wooriLearn.domain.account.entity.PointsStatus.PROCESSING")
+    int completeAll(@Param("ids") Collection<Long> ids,
+                    @Param("status") PointsStatus status,
+                    @Param("failReason") PointsFailReason failReason,
+                    @Param("processedAt") LocalDateTime processedAt);
 }
@@ -0,0 +1,120 @@
+package dev.woori.wooriLearn.domain.account.repository;
+
+import dev.woori.wooriLearn.domain.account.entity.PointsLedgerReason;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포인트 원장용 JDBC 쿼리
+ *
+ * 사용자 엔티티를 락으로 읽어 자바에서 포인트를 바꾸는 대신, 잔액 검사와 변경을 한 문장으로 처리한다.
+ * - 차감: points >= amount 인 경우에만 차감 (영향 행 0 = 포인트 부족 또는 사용자 없음)
+ * - 증가: 무조건 증가
+ * - 원장: 변경 직후 잔액과 함께 INSERT (IDENTITY 키라 JPA 로는 batch 가 되지 않음)
+ *
+ * 반드시 호출 측 트랜잭션 안에서 사용해야 하며, UPDATE 로 잡힌 행 락은 그 트랜잭션이 끝날 때까지만 유지된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointsLedgerJdbcRepository {
+
+    public static final String DEBIT_SQL = """
+            UPDATE users
+               SET points = points - ?
+             WHERE id = ? AND points >= ?
+            """;
+
+    public static final String CREDIT_SQL = """
+            UPDATE users
+               SET points = points + ?
+             WHERE id = ?
+            """;
+
+    public static final String SELECT_POINTS_SQL = """
+            SELECT points FROM users WHERE id = ?
+            """;
+
+    public static final String SELECT_USER_ID_SQL = """
+            SELECT u.id
+              FROM users u
+              JOIN auth_users a ON a.id = u.auth_user_id
+             WHERE a.user_id = ?
+            """;
+
+    public static final String INSERT_ENTRY_SQL = """
+            INSERT INTO points_ledger (user_id, delta, balance_after, reason, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    /** 첫 원장 변경 표시 (영향 행 1 = 이번이 첫 변경) */
+    public static final String MARK_OPENED_SQL = """
+            UPDATE users
+               SET points_ledger_opened = TRUE
+             WHERE id = ? AND points_ledger_opened = FALSE
+            """;
+
+    public static final String SELECT_BALANCES_AFTER_SQL = """
+            SELECT u.id, u.points, u.points_ledger_opened,
+                   COALESCE((SELECT SUM(l.delta) FROM points_ledger l WHERE l.user_id = u.id), 0) AS ledger_sum
+              FROM users u
+             WHERE u.id > ?
+             ORDER BY u.id
+             LIMIT ?
+            """;
+
+    /**
+     * 사용자 잔액과 원장 합계
+     * 원장을 시작하지 않은 사용자는 포인트 변경이 없었으므로 원장이 비어 있어야 한다.
+     */
+    public record Balance(Long userId, boolean opened, long points, long ledgerSum) {
+
+        public boolean matches() {
+            return opened ? points == ledgerSum : ledgerSum == 0;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** @return 차감되었으면 true (포인트 부족 / 사용자 없음이면 false) */
+    public boolean debit(Long userId, int amount) {
+        return jdbcTemplate.update(DEBIT_SQL, amount, userId, amount) == 1;
+    }
+
+    /** @return 증가되었으면 true (사용자 없음이면 false) */
+    public boolean credit(Long userId, int amount) {
+        return jdbcTemplate.update(CREDIT_SQL, amount, userId) == 1;
+    }
+
+    /** 같은 트랜잭션에서 변경한 뒤의 잔액 */
+    public Optional<Integer> findPoints(Long userId) {
+        return jdbcTemplate.queryForList(SELECT_POINTS_SQL, Integer.class, userId).stream().findFirst();
+    }
+
+    /** 로그인 아이디로 사용자 id 조회 (엔티티를 읽지 않음) */
+    public Optional<Long> findUserId(String username) {
+        return jdbcTemplate.queryForList(SELECT_USER_ID_SQL, Long.class, username).stream().findFirst();
+    }
+
+    public void insertEntry(Long userId, int delta, int balanceAfter, PointsLedgerReason reason, LocalDateTime createdAt) {
+        jdbcTemplate.update(INSERT_ENTRY_SQL, userId, delta, balanceAfter, reason.name(), Timestamp.valueOf(createdAt));
+    }
+
+    /** @return 이번이 사용자의 첫 원장 변경이면 true (같은 트랜잭션에서 이미 잡은 사용자 행 락 안에서 호출) */
+    public boolean markOpened(Long userId) {
+        return jdbcTemplate.update(MARK_OPENED_SQL, userId) == 1;
+    }
+
+    /** 사용자 id keyset 페이지 단위 잔액 / 원장 합계 (한 문장이라 페이지 안에서는 같은 시점 기준) */
+    public List<Balance> findBalancesAfter(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_BALANCES_AFTER_SQL,
+                (rs, rowNum) -> new Balance(rs.getLong("id"), rs.getBoolean("points_ledger_opened"),
+                        rs.getLong("points"), rs.getLong("ledger_sum")),
+                afterId, limit);
+    }
+}
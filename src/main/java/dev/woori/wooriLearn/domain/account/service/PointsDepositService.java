@@ -1,14 +1,12 @@
 package dev.woori.wooriLearn.domain.account.service;
 
-import dev.woori.wooriLearn.config.exception.CommonException;
-import dev.woori.wooriLearn.config.exception.ErrorCode;
 import dev.woori.wooriLearn.domain.account.dto.request.PointsDepositRequestDto;
 import dev.woori.wooriLearn.domain.account.dto.response.PointsDepositResponseDto;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistory;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistoryType;
+import dev.woori.wooriLearn.domain.account.entity.PointsLedgerReason;
 import dev.woori.wooriLearn.domain.account.entity.PointsStatus;
 import dev.woori.wooriLearn.domain.account.repository.PointsHistoryRepository;
-import dev.woori.wooriLearn.domain.user.entity.Users;
 import dev.woori.wooriLearn.domain.user.repository.UserRepository;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -20,43 +18,57 @@ public class PointsDepositService {
 
     private final UserRepository userRepository;
     private final PointsHistoryRepository pointsHistoryRepository;
+    private final PointsLedger pointsLedger;
     private static final String DEFAULT_DEPOSIT_MESSAGE = "포인트 적립 완료";
 
     /**
      * 처리 순서
-     * 1) 사용자 행 잠금 조회 (for update)로 동시성 이슈 방지
-     * 2) 포인트 증액 (엔티티 검증 포함)
+     * 1) 사용자 id 조회 (엔티티 / 행 잠금 조회 없음)
+     * 2) 포인트 원장에 증액 기록 (조건부 UPDATE + 원장 INSERT)
      * 3) 포인트 이력 저장 (DEPOSIT/SUCCESS)
      * 4) 응답 DTO 구성 후 반환
      */
     @Transactional
     public PointsDepositResponseDto depositPoints(String username, PointsDepositRequestDto dto) {
-        // 1) 사용자 행 잠금 조회
-        Users user = userRepository.findByUserIdForUpdate(username)
-                .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "사용자를 찾을 수 없습니다. userId=" + username));
+        // 1) 사용자 id 조회
+        Long userId = pointsLedger.getUserId(username);
 
         // 2) 포인트 증액
-        user.addPoints(dto.amount());
+        int balance = pointsLedger.credit(userId, dto.amount(), PointsLedgerReason.DEPOSIT);
 
         // 3) 포인트 이력 저장
-        PointsHistory history = pointsHistoryRepository.save(
-                PointsHistory.builder()
-                        .user(user)
-                        .amount(dto.amount())
-                        .type(PointsHistoryType.DEPOSIT)
-                        .status(PointsStatus.SUCCESS)
-                        .build()
-        );
+        PointsHistory history = saveDepositHistory(userId, dto.amount());
 
         // 4) 응답 DTO 구성 및 반환
         return PointsDepositResponseDto.builder()
-                .userId(user.getId())
+                .userId(userId)
                 .addedPoint(dto.amount())
-                .currentBalance(user.getPoints())
+                .currentBalance(balance)
                 .status(PointsStatus.SUCCESS)
                 .message(dto.reason() != null ? dto.reason() : DEFAULT_DEPOSIT_MESSAGE)
                 .createdAt(history.getCreatedAt())
                 .build();
     }
-}
 
+    /**
+     * 보상 지급용 포인트 적립 (사용자 행 잠금 없이 원자적 UPDATE)
+     * - points = points + amount 한 문장으로 증액(원장 기록 포함)하므로 동시에 여러 건이 지급되어도 유실되지 않음
+     * - 중복 지급 방지(멱등성)는 호출 측에서 보장해야 함 (예: 완료 이력 unique insert)
+     */
+    @Transactional
+    public void creditPoints(Long userId, int amount) {
+        pointsLedger.credit(userId, amount, PointsLedgerReason.REWARD);
+        saveDepositHistory(userId, amount);
+    }
+
+    private PointsHistory saveDepositHistory(Long userId, int amount) {
+        return pointsHistoryRepository.save(
+                PointsHistory.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .amount(amount)
+                        .type(PointsHistoryType.DEPOSIT)
+                        .status(PointsStatus.SUCCESS)
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,258 @@
+package dev.woori.wooriLearn.domain.account.service;
+
+import dev.woori.wooriLearn.domain.account.dto.external.request.BankTransferReqDto;
+import dev.woori.wooriLearn.domain.account.dto.external.response.BankTransferResDto;
+import dev.woori.wooriLearn.domain.account.dto.response.PointsBulkApproveResponseDto;
+import dev.woori.wooriLearn.domain.account.dto.response.PointsBulkApproveResponseDto.ItemResult;
+import dev.woori.wooriLearn.domain.account.entity.Account;
+import dev.woori.wooriLearn.domain.account.entity.PointsExchangeOutbox;
+import dev.woori.wooriLearn.domain.account.entity.PointsFailReason;
+import dev.woori.wooriLearn.domain.account.entity.PointsHistory;
+import dev.woori.wooriLearn.domain.account.entity.PointsLedgerReason;
+import dev.woori.wooriLearn.domain.account.entity.PointsStatus;
+import dev.woori.wooriLearn.domain.account.repository.AccountRepository;
+import dev.woori.wooriLearn.domain.account.repository.PointsExchangeOutboxRepository;
+import dev.woori.wooriLearn.domain.account.repository.PointsHistoryRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 환전 일괄 승인 (관리자 전용)
+ *
+ * 1. 선점 트랜잭션
+ *    - APPLY 출금 요청을 SELECT ... FOR UPDATE SKIP LOCKED 로 최대 batch-size 건 잠금
+ *      (다른 일괄 승인 / 단건 승인이 잡은 행은 건너뜀)
+ *    - 사용자 행은 잠그지 않고(포인트 변경은 PointsLedger 의 조건부 UPDATE), 계좌는 IN 조회 한 번으로 검증
+ *    - 검증 통과 건만 PROCESSING 으로 전환 (실패 건은 APPLY 유지, 결과에 사유 기록)
+ * 2. 정산
+ *    - 비동기 정산(app.points-exchange.settlement.enabled)이면 같은 트랜잭션에서 outbox 를 일괄 등록하고 끝
+ *      -> 은행 이체는 정산 워커가 workers 만큼 동시에 처리
+ *    - 동기 정산이면 은행 이체를 최대 parallelism 개까지 동시에 호출한 뒤,
+ *      결과 반영 트랜잭션 하나에서 성공 건은 UPDATE 한 번으로, 실패 건은 건별 조건부 UPDATE 로 반영하고
+ *      실제로 FAILED 로 바뀐 건만 사용자별 합계로 환불 (환불은 사용자별 원장 기록 한 건)
+ */
+@Slf4j
+@Service
+public class PointsExchangeBulkApprovalService {
+
+    private final PointsHistoryRepository pointsHistoryRepository;
+    private final PointsLedger pointsLedger;
+    private final AccountRepository accountRepository;
+    private final PointsExchangeOutboxRepository outboxRepository;
+    private final AccountClient accountClient;
+    private final EntityManager entityManager;
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.admin.account-number}")
+    private String adminAccountNumber;
+
+    @Value("${app.points-exchange.settlement.enabled:false}")
+    private boolean asyncSettlement;
+
+    @Value("${app.points-exchange.bulk-approve.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${app.points-exchange.bulk-approve.parallelism:16}")
+    private int parallelism = 16;
+
+    public PointsExchangeBulkApprovalService(PointsHistoryRepository pointsHistoryRepository,
+                                             PointsLedger pointsLedger,
+                                             AccountRepository accountRepository,
+                                             PointsExchangeOutboxRepository outboxRepository,
+                                             AccountClient accountClient,
+                                             EntityManager entityManager,
+                                             Clock clock,
+                                             PlatformTransactionManager transactionManager) {
+        this.pointsHistoryRepository = pointsHistoryRepository;
+        this.pointsLedger = pointsLedger;
+        this.accountRepository = accountRepository;
+        this.outboxRepository = outboxRepository;
+        this.accountClient = accountClient;
+        this.entityManager = entityManager;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** 승인된 출금 요청 (은행 이체 대상) */
+    record Approved(Long requestId, Long userId, String accountNumber, int amount) {
+    }
+
+    /** 선점 결과 */
+    record Claim(int claimed, List<Approved> approved, List<ItemResult> skipped) {
+    }
+
+    /**
+     * @param limit 이번 호출에서 처리할 최대 건수 (null 이면 batch-size, batch-size 보다 클 수 없음)
+     */
+    public PointsBulkApproveResponseDto approvePending(Integer limit) {
+        int size = (limit == null || limit < 1) ? batchSize : Math.min(limit, batchSize);
+
+        Claim claim;
+        try {
+            claim = transactionTemplate.execute(status -> claim(size));
+        } finally {
+            // OSIV 로 이어지는 영속성 컨텍스트에 선점 때 읽은 요청/사용자가 남지 않도록
+            entityManager.clear();
+        }
+
+        List<ItemResult> results = new ArrayList<>(claim.skipped());
+        if (asyncSettlement) {
+            claim.approved().forEach(a -> results.add(new ItemResult(a.requestId(), PointsStatus.PROCESSING,
+                    "출금 승인이 접수되었습니다. 은행 이체 후 결과가 반영됩니다.")));
+        } else if (!claim.approved().isEmpty()) {
+            results.addAll(settle(claim.approved()));
+        }
+
+        PointsBulkApproveResponseDto response = PointsBulkApproveResponseDto.of(claim.claimed(), results);
+        log.info("[환전 일괄 승인] claimed={}, queued={}, succeeded={}, failed={}, skipped={}",
+                response.claimed(), response.queued(), response.succeeded(), response.failed(), response.skipped());
+        return response;
+    }
+
+    private Claim claim(int size) {
+        List<Long> ids = pointsHistoryRepository.lockApplyWithdrawIds(size);
+        if (ids.isEmpty()) {
+            return new Claim(0, List.of(), List.of());
+        }
+        List<PointsHistory> histories = pointsHistoryRepository.findAllWithUserByIdIn(ids);
+
+        Map<String, Account> accounts = accountRepository.findAllByAccountNumberIn(
+                        histories.stream().map(PointsHistory::getAccountNumber).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+
+        List<Approved> approved = new ArrayList<>();
+        List<ItemResult> skipped = new ArrayList<>();
+        for (PointsHistory history : histories) {
+            String reason = validate(history, accounts);
+            if (reason != null) {
+                skipped.add(new ItemResult(history.getId(), PointsStatus.APPLY, reason));
+                continue;
+            }
+            history.markProcessing();
+            approved.add(new Approved(history.getId(), history.getUser().getId(),
+                    history.getAccountNumber(), history.getAmount()));
+        }
+
+        if (asyncSettlement && !approved.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            outboxRepository.saveAll(approved.stream()
+                    .map(a -> PointsExchangeOutbox.pending(a.requestId(), a.accountNumber(), a.amount(), now))
+                    .toList());
+        }
+        return new Claim(histories.size(), approved, skipped);
+    }
+
+    private String validate(PointsHistory history, Map<String, Account> accounts) {
+        Account account = accounts.get(history.getAccountNumber());
+        if (account == null) {
+            return "계좌를 찾을 수 없습니다.";
+        }
+        if (!account.getUser().getId().equals(history.getUser().getId())) {
+            return "해당 계좌의 소유자가 아닙니다.";
+        }
+        return null;
+    }
+
+    /**
+     * 은행 이체를 최대 parallelism 개까지 동시에 호출 후 결과 일괄 반영
+     */
+    private List<ItemResult> settle(List<Approved> approved) {
+        AtomicInteger sequence = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, approved.size()),
+                r -> new Thread(r, "points-bulk-approve-" + sequence.getAndIncrement()));
+        List<Boolean> transferred;
+        try {
+            List<CompletableFuture<Boolean>> futures = approved.stream()
+                    .map(a -> CompletableFuture.supplyAsync(() -> transfer(a), executor))
+                    .toList();
+            transferred = futures.stream().map(CompletableFuture::join).toList();
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Long> succeededIds = new ArrayList<>();
+        List<Approved> failed = new ArrayList<>();
+        for (int i = 0; i < approved.size(); i++) {
+            if (transferred.get(i)) {
+                succeededIds.add(approved.get(i).requestId());
+            } else {
+                failed.add(approved.get(i));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        Set<Long> refundedIds = transactionTemplate.execute(status -> {
+            // 실패 건은 한 건씩 조건부 UPDATE -> 실제로 PROCESSING 에서 FAILED 로 바뀐 건만 환불
+            // (그 사이 다른 경로가 먼저 완료한 요청을 다시 환불하지 않도록)
+            Set<Long> transitioned = new HashSet<>();
+            Map<Long, Integer> refunds = new TreeMap<>();
+            for (Approved a : failed) {
+                if (pointsHistoryRepository.completeAll(List.of(a.requestId()), PointsStatus.FAILED,
+                        PointsFailReason.PROCESSING_ERROR, now) == 1) {
+                    transitioned.add(a.requestId());
+                    refunds.merge(a.userId(), a.amount(), Integer::sum);
+                }
+            }
+            // 사용자 id 순으로 환불 (TreeMap -> UPDATE 로 잡는 사용자 행 락 순서 고정)
+            refunds.forEach((userId, amount) -> pointsLedger.credit(userId, amount, PointsLedgerReason.EXCHANGE_REFUND));
+            if (!succeededIds.isEmpty()) {
+                int updated = pointsHistoryRepository.completeAll(succeededIds, PointsStatus.SUCCESS, null, now);
+                if (updated != succeededIds.size()) {
+                    log.warn("[환전 일괄 승인] 이미 처리된 성공 건 - 반영 {}건 / 이체 성공 {}건", updated, succeededIds.size());
+                }
+            }
+            return transitioned;
+        });
+
+        List<ItemResult> results = new ArrayList<>(approved.size());
+        for (int i = 0; i < approved.size(); i++) {
+            Long requestId = approved.get(i).requestId();
+            if (transferred.get(i)) {
+                results.add(new ItemResult(requestId, PointsStatus.SUCCESS, "정상적으로 처리되었습니다."));
+            } else if (refundedIds.contains(requestId)) {
+                results.add(new ItemResult(requestId, PointsStatus.FAILED, "처리 중 오류가 발생했습니다."));
+            } else {
+                log.warn("[환전 일괄 승인] 이체 실패 건이 이미 처리되어 환불하지 않음. requestId={}", requestId);
+                results.add(new ItemResult(requestId, PointsStatus.FAILED, "이미 처리된 요청이라 환불하지 않았습니다."));
+            }
+        }
+        return results;
+    }
+
+    private boolean transfer(Approved approved) {
+        try {
+            BankTransferResDto bankRes = accountClient.transfer(
+                    new BankTransferReqDto(adminAccountNumber, approved.accountNumber(), (long) approved.amount()));
+            return bankRes != null && bankRes.code() == 200;
+        } catch (RestClientException e) {
+            log.error("은행 서버 통신 오류. requestId={}", approved.requestId(), e);
+            return false;
+        } catch (RuntimeException e) {
+            // 한 건의 예외로 나머지 건의 결과 반영이 막히지 않도록 실패로 처리
+            log.error("은행 이체 호출 오류. requestId={}", approved.requestId(), e);
+            return false;
+        }
+    }
+}
@@ -21,8 +21,16 @@ public class PointsExchangeFacade {
     @Value("${app.admin.account-number}")
     private String adminAccountNumber;
 
+    // true 이면 승인 요청에서는 정산 outbox 만 등록하고 은행 이체는 정산 워커가 처리
+    @Value("${app.points-exchange.settlement.enabled:false}")
+    private boolean asyncSettlement;
+
     public PointsExchangeResponseDto executeTransfer(Long requestId) {
 
+        if (asyncSettlement) {
+            return pointsExchangeService.enqueueSettlement(requestId);
+        }
+
         ExchangeProcessContext context = pointsExchangeService.prepareTransfer(requestId);
         BankTransferResDto bankRes;
 
@@ -9,8 +9,8 @@ import dev.woori.wooriLearn.domain.account.dto.response.PointsExchangeResponseDt
 import dev.woori.wooriLearn.domain.account.dto.response.PointsHistoryResponseDto;
 import dev.woori.wooriLearn.domain.account.entity.*;
 import dev.woori.wooriLearn.domain.account.repository.AccountRepository;
+import dev.woori.wooriLearn.domain.account.repository.PointsExchangeOutboxRepository;
 import dev.woori.wooriLearn.domain.account.repository.PointsHistoryRepository;
-import dev.woori.wooriLearn.domain.user.entity.Users;
 import dev.woori.wooriLearn.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,46 +33,42 @@ public class PointsExchangeService {
     private final PointsHistoryRepository pointsHistoryRepository;
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
+    private final PointsExchangeOutboxRepository pointsExchangeOutboxRepository;
+    private final PointsLedger pointsLedger;
 
     private static final int DEFAULT_PAGE_SIZE = 20;
     private static final int MAX_PAGE_SIZE = 200;
 
     /**
      * 처리 순서
-     * 1) 사용자 행 잠금 조회 (for update)
-     * 2) 요청 금액/잔액 검증
+     * 1) 요청 금액 검증
+     * 2) 사용자 id 조회 (엔티티 / 행 잠금 조회 없음)
      * 3) 출금 계좌 소유자 검증
-     * 4) 출금 APPLY 이력 저장
-     * 5) 응답 DTO 구성
+     * 4) 포인트 원장에 선차감 기록 (잔액 검사 + 차감을 조건부 UPDATE 한 문장으로)
+     * 5) 출금 APPLY 이력 저장
+     * 6) 응답 DTO 구성
      */
     @Transactional
     public PointsExchangeResponseDto requestExchange(String username, PointsExchangeRequestDto dto) {
 
-        // 1) 사용자 행 잠금 조회
-        Users user = userRepository.findByUserIdForUpdate(username)
-                .orElseThrow(() -> new CommonException(
-                        ErrorCode.ENTITY_NOT_FOUND,
-                        "사용자를 찾을 수 없습니다. userId=" + username
-                ));
-
-        // 2) 요청 금액/잔액 검증
+        // 1) 요청 금액 검증
         if (dto.exchangeAmount() <= 0) {
             throw new CommonException(ErrorCode.INVALID_REQUEST, "교환 요청 금액이 0보다 커야 합니다");
         }
-        if (user.getPoints() < dto.exchangeAmount()) {
-            throw new CommonException(ErrorCode.CONFLICT, "포인트가 부족하여 출금 요청을 처리할 수 없습니다.");
-        }
+
+        // 2) 사용자 id 조회
+        Long userId = pointsLedger.getUserId(username);
 
         // 3) 출금 계좌 소유자 검증
-        Account account = getValidateAccount(dto.accountNum(), user.getId());
+        Account account = getValidateAccount(dto.accountNum(), userId);
 
-        // 선차감
-        user.subtractPoints(dto.exchangeAmount());
+        // 4) 선차감 (포인트 부족 시 CONFLICT)
+        int balance = pointsLedger.debit(userId, dto.exchangeAmount(), PointsLedgerReason.EXCHANGE);
 
-        // 4) 출금 APPLY 이력 저장
+        // 5) 출금 APPLY 이력 저장
         PointsHistory history = pointsHistoryRepository.save(
                 PointsHistory.builder()
-                        .user(user)
+                        .user(userRepository.getReferenceById(userId))
                         .amount(dto.exchangeAmount())
                         .type(PointsHistoryType.WITHDRAW)
                         .status(PointsStatus.APPLY)
@@ -80,12 +76,12 @@ public class PointsExchangeService {
                         .build()
         );
 
-        // 5) 응답 DTO 구성
+        // 6) 응답 DTO 구성
         return PointsExchangeResponseDto.builder()
                 .requestId(history.getId())
-                .userId(user.getId())
+                .userId(userId)
                 .exchangeAmount(history.getAmount())
-                .currentBalance(user.getPoints())
+                .currentBalance(balance)
                 .status(history.getStatus())
                 .requestDate(history.getCreatedAt())
                 .message("출금 요청이 정상적으로 접수되었습니다.")
@@ -99,52 +95,52 @@ public class PointsExchangeService {
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public ExchangeProcessContext prepareTransfer(Long requestId) {
 
-        PointsHistory history = pointsHistoryRepository.findAndLockById(requestId)
-                .orElseThrow(() -> new CommonException(
-                        ErrorCode.ENTITY_NOT_FOUND,
-                        "출금 요청을 찾을 수 없습니다. requestId=" + requestId
-                ));
-
-        if (history.getStatus() != PointsStatus.APPLY) {
-            throw new CommonException(ErrorCode.CONFLICT, "이미 처리된 요청입니다.");
-        }
-
-        // 사용자 유효성 검사
-        Users user = userRepository.findByIdForUpdate(history.getUser().getId())
-                .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "사용자를 찾을 수 없습니다. Id=" + history.getUser().getId()));
-
-        // 계좌번호 유효성 검사
-        Account account = getValidateAccount(history.getAccountNumber(), user.getId());
-
-        // 상태를 Processing으로 변경
-        history.markProcessing();
+        PointsHistory history = lockForProcessing(requestId);
 
         return ExchangeProcessContext.builder()
                 .requestId(requestId)
-                .userId(user.getId())
-                .accountNum(account.getAccountNumber())
+                .userId(history.getUser().getId())
+                .accountNum(history.getAccountNumber())
                 .amount(history.getAmount())
                 .build();
     }
 
+    /**
+     * 비동기 정산 접수
+     * prepareTransfer 와 같은 검증 후 Process 상태로 전환하고, 같은 트랜잭션에서 정산 outbox 를 저장한다.
+     * 은행 이체와 결과 반영은 정산 워커(PointsExchangeSettlementWorker)가 처리한다.
+     */
+    @Transactional
+    public PointsExchangeResponseDto enqueueSettlement(Long requestId) {
+
+        PointsHistory history = lockForProcessing(requestId);
+
+        pointsExchangeOutboxRepository.save(PointsExchangeOutbox.pending(
+                history.getId(), history.getAccountNumber(), history.getAmount(), LocalDateTime.now(clock)));
+
+        return buildResponse(history, history.getUser().getPoints(), "출금 승인이 접수되었습니다. 은행 이체 후 결과가 반영됩니다.");
+    }
+
     // 이체 응답이 왔을 경우
     @Transactional
     public PointsExchangeResponseDto processResult(Long requestId, BankTransferResDto bankRes){
         PointsHistory history = pointsHistoryRepository.findAndLockById(requestId)
                 .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND,
                         "출금 요청을 찾을 수 없습니다. requestId=" + requestId));
-        Users user = userRepository.findByUserIdForUpdate(history.getUser().getUserId())
-                .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "사용자를 찾을 수 없습니다."));
+
+        if (history.getStatus() != PointsStatus.PROCESSING) {
+            return alreadyProcessed(history);
+        }
 
         LocalDateTime now = LocalDateTime.now(clock);
 
         if (bankRes != null && bankRes.code() == 200) {
             history.markSuccess(now);
-            return buildResponse(history, user, "정상적으로 처리되었습니다.");
+            return buildResponse(history, history.getUser().getPoints(), "정상적으로 처리되었습니다.");
         }  else { // 에러 메시지 return
-            user.addPoints(history.getAmount());
+            int balance = refund(history);
             history.markFailed(PointsFailReason.PROCESSING_ERROR, now);
-            return buildResponse(history, user, "처리 중 오류가 발생했습니다.");
+            return buildResponse(history, balance, "처리 중 오류가 발생했습니다.");
         }
     }
 
@@ -154,27 +150,40 @@ public class PointsExchangeService {
         PointsHistory history = pointsHistoryRepository.findAndLockById(requestId)
                 .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND
                         , "출금 요청을 찾을 수 없습니다. requestId=" + requestId));
-        Users user = userRepository.findByUserIdForUpdate(history.getUser().getUserId())
-                .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "사용자를 찾을 수 없습니다."));
+
+        if (history.getStatus() != PointsStatus.PROCESSING) {
+            return alreadyProcessed(history);
+        }
 
         LocalDateTime now = LocalDateTime.now(clock);
-        user.addPoints(history.getAmount());
+        int balance = refund(history);
         history.markFailed(PointsFailReason.PROCESSING_ERROR, now);
-        return buildResponse(history, user, "은행 서버에서 이체 실패가 발생했습니다.");
+        return buildResponse(history, balance, "은행 서버에서 이체 실패가 발생했습니다.");
     }
 
-    public PointsExchangeResponseDto buildResponse(PointsHistory history, Users user, String message) {
+    public PointsExchangeResponseDto buildResponse(PointsHistory history, Integer currentBalance, String message) {
         return PointsExchangeResponseDto.builder()
                 .requestId(history.getId())
-                .userId(user.getId())
+                .userId(history.getUser().getId())
                 .exchangeAmount(history.getAmount())
-                .currentBalance(user.getPoints())
+                .currentBalance(currentBalance)
                 .status(history.getStatus())
                 .message(message)
                 .processedDate(history.getProcessedAt())
                 .build();
     }
 
+    // 정산 재시도 등으로 결과가 중복 도착한 경우 (이중 환불 방지)
+    private PointsExchangeResponseDto alreadyProcessed(PointsHistory history) {
+        log.warn("이미 결과가 반영된 출금 요청. requestId={}, status={}", history.getId(), history.getStatus());
+        return buildResponse(history, history.getUser().getPoints(), "이미 처리된 요청입니다.");
+    }
+
+    // 선차감한 포인트 환불 (원장 기록, 사용자 행 잠금 조회 없음)
+    private int refund(PointsHistory history) {
+        return pointsLedger.credit(history.getUser().getId(), history.getAmount(), PointsLedgerReason.EXCHANGE_REFUND);
+    }
+
     /**
      * 관리자용: 환전 신청(APPLY) 전체 조회 (페이지네이션)
      */
@@ -198,6 +207,27 @@ public class PointsExchangeService {
                 .map(PointsHistoryResponseDto::new);
     }
 
+    // 출금 요청 잠금 + APPLY 상태 / 계좌 검증 후 Process 상태로 전환
+    private PointsHistory lockForProcessing(Long requestId) {
+
+        PointsHistory history = pointsHistoryRepository.findAndLockById(requestId)
+                .orElseThrow(() -> new CommonException(
+                        ErrorCode.ENTITY_NOT_FOUND,
+                        "출금 요청을 찾을 수 없습니다. requestId=" + requestId
+                ));
+
+        if (history.getStatus() != PointsStatus.APPLY) {
+            throw new CommonException(ErrorCode.CONFLICT, "이미 처리된 요청입니다.");
+        }
+
+        // 계좌번호 유효성 검사 (사용자는 출금 이력의 FK 로 보장되므로 잠그지 않음)
+        getValidateAccount(history.getAccountNumber(), history.getUser().getId());
+
+        // 상태를 Processing으로 변경
+        history.markProcessing();
+        return history;
+    }
+
     private Account getValidateAccount(String accountNumber, Long userId){
         // 1. 계좌 조회
         Account account = accountRepository.findByAccountNumber(accountNumber)
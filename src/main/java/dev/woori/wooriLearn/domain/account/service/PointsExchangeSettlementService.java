@@ -0,0 +1,156 @@
+package dev.woori.wooriLearn.domain.account.service;
+
+import dev.woori.wooriLearn.config.bankclient.BankCallNotPermittedException;
+import dev.woori.wooriLearn.domain.account.dto.external.request.BankTransferReqDto;
+import dev.woori.wooriLearn.domain.account.dto.external.response.BankTransferResDto;
+import dev.woori.wooriLearn.domain.account.entity.PointsExchangeOutbox;
+import dev.woori.wooriLearn.domain.account.entity.PointsExchangeOutboxStatus;
+import dev.woori.wooriLearn.domain.account.repository.PointsExchangeOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 환전 정산 1건 처리 (PointsExchangeSettlementWorker 가 선점한 outbox 행)
+ *
+ * 1. 은행 이체 호출 (트랜잭션 밖)
+ * 2. 결과 반영 + outbox DONE 을 한 트랜잭션에서 처리
+ *    - 은행 응답 수신 -> processResult (200 이면 성공, 아니면 환불)
+ *    - 요청이 은행에 도달하지 않은 오류(연결 실패, 503/429, 서킷 브레이커/벌크헤드 차단)
+ *      -> backoff 후 재시도, max-attempts 초과 시 processFailure
+ *    - 그 외 통신 오류(읽기 시간 초과 등) -> 기존 동기 처리와 같이 processFailure
+ *
+ * 읽기 시간 초과는 은행이 이체를 처리했을 수 있으므로 재시도하지 않는다. (은행 이체 API 에 멱등키 없음)
+ */
+@Slf4j
+@Service
+public class PointsExchangeSettlementService {
+
+    private final PointsExchangeService pointsExchangeService;
+    private final PointsExchangeOutboxRepository outboxRepository;
+    private final AccountClient accountClient;
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.admin.account-number}")
+    private String adminAccountNumber;
+
+    @Value("${app.points-exchange.settlement.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${app.points-exchange.settlement.backoff-base:2s}")
+    private Duration backoffBase = Duration.ofSeconds(2);
+
+    @Value("${app.points-exchange.settlement.backoff-max:60s}")
+    private Duration backoffMax = Duration.ofSeconds(60);
+
+    public PointsExchangeSettlementService(PointsExchangeService pointsExchangeService,
+                                           PointsExchangeOutboxRepository outboxRepository,
+                                           AccountClient accountClient,
+                                           Clock clock,
+                                           PlatformTransactionManager transactionManager) {
+        this.pointsExchangeService = pointsExchangeService;
+        this.outboxRepository = outboxRepository;
+        this.accountClient = accountClient;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 선점(IN_FLIGHT)된 outbox 1건 정산
+     */
+    public void settle(Long outboxId) {
+        PointsExchangeOutbox outbox = outboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null || outbox.getStatus() != PointsExchangeOutboxStatus.IN_FLIGHT) {
+            return;
+        }
+        Long requestId = outbox.getPointsHistoryId();
+
+        BankTransferResDto bankRes;
+        try {
+            bankRes = accountClient.transfer(
+                    new BankTransferReqDto(adminAccountNumber, outbox.getAccountNumber(), outbox.getAmount()));
+        } catch (RestClientException e) {
+            if (isRetryable(e) && outbox.getAttempts() < maxAttempts) {
+                LocalDateTime nextAttemptAt = LocalDateTime.now(clock).plus(backoff(outbox.getAttempts()));
+                log.warn("은행 서버 연결 실패, 재시도 예약. requestId={}, attempts={}, nextAttemptAt={}",
+                        requestId, outbox.getAttempts(), nextAttemptAt, e);
+                transactionTemplate.executeWithoutResult(status -> outboxRepository.findById(outboxId)
+                        .ifPresent(o -> o.retryAt(nextAttemptAt, e.getMessage())));
+                return;
+            }
+            log.error("은행 서버 통신 오류. requestId={}, attempts={}", requestId, outbox.getAttempts(), e);
+            transactionTemplate.executeWithoutResult(status -> {
+                pointsExchangeService.processFailure(requestId);
+                complete(outboxId, e.getMessage());
+            });
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            pointsExchangeService.processResult(requestId, bankRes);
+            complete(outboxId, bankRes != null && bankRes.code() == 200 ? null : "bank response: " + bankRes);
+        });
+    }
+
+    private void complete(Long outboxId, String error) {
+        outboxRepository.findById(outboxId)
+                .ifPresent(o -> o.markDone(LocalDateTime.now(clock), error));
+    }
+
+    /**
+     * 요청이 은행에 도달하지 않았음이 확실한 오류만 재시도
+     */
+    static boolean isRetryable(RestClientException e) {
+        if (e instanceof BankCallNotPermittedException) {
+            // 서킷 브레이커 / 벌크헤드에서 차단되어 호출하지 않음
+            return true;
+        }
+        if (e instanceof RestClientResponseException response) {
+            int code = response.getStatusCode().value();
+            return code == HttpStatus.SERVICE_UNAVAILABLE.value() || code == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        if (e instanceof ResourceAccessException) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ConnectException
+                    || cause instanceof HttpConnectTimeoutException
+                    || cause instanceof UnknownHostException
+                    || cause instanceof NoRouteToHostException) {
+                return true;
+            }
+            // APACHE 전송 계층: 풀에서 연결을 빌리지 못함(아무것도 보내지 않음) / 연결 시간 초과
+            // (둘 다 SocketTimeoutException 이 아닌 InterruptedIOException)
+            if (cause instanceof ConnectionRequestTimeoutException
+                    || cause instanceof ConnectTimeoutException) {
+                return true;
+            }
+            // 연결 시간 초과 (읽기 시간 초과는 "Read timed out")
+            return cause instanceof SocketTimeoutException
+                    && cause.getMessage() != null
+                    && cause.getMessage().toLowerCase().contains("connect");
+        }
+        return false;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = backoffBase.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+}
@@ -0,0 +1,175 @@
+package dev.woori.wooriLearn.domain.account.service;
+
+import dev.woori.wooriLearn.domain.account.entity.PointsExchangeOutboxStatus;
+import dev.woori.wooriLearn.domain.account.repository.PointsExchangeOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인트 환전 정산 워커 (app.points-exchange.settlement.enabled)
+ *
+ * - poll-interval 마다 실행 시각이 된 PENDING outbox 를 빈 워커 수만큼 조회해 선점(claim) 후 워커 풀에 넘김
+ *   선점은 조건부 UPDATE 이므로 여러 인스턴스가 동시에 돌아도 한 건은 한 워커만 처리
+ * - 워커 수(workers) 만큼만 은행을 동시에 호출 (은행 지연이 길어져도 대기 건은 DB 에 남고 메모리에 쌓이지 않음)
+ * - sweep-interval 마다 lease 가 만료된 IN_FLIGHT 건을 REVIEW_REQUIRED 로 옮기고 오류 로그를 남김
+ *   은행 이체가 이미 반영됐을 수 있으므로 자동으로 다시 보내지 않음 (은행 이체 API 에 멱등키 없음)
+ *
+ * lease(lease-duration)는 은행 호출 시간 초과보다 충분히 길게 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointsExchangeSettlementWorker implements SmartLifecycle {
+
+    private final PointsExchangeOutboxRepository outboxRepository;
+    private final PointsExchangeSettlementService settlementService;
+    private final Clock clock;
+
+    @Value("${app.points-exchange.settlement.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.points-exchange.settlement.workers:16}")
+    private int workers;
+
+    @Value("${app.points-exchange.settlement.poll-interval:500ms}")
+    private Duration pollInterval;
+
+    @Value("${app.points-exchange.settlement.sweep-interval:30s}")
+    private Duration sweepInterval;
+
+    @Value("${app.points-exchange.settlement.lease-duration:60s}")
+    private Duration leaseDuration;
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+    private ExecutorService workerPool;
+    private Semaphore idleWorkers;
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        idleWorkers = new Semaphore(workers);
+        AtomicInteger sequence = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(workers,
+                r -> new Thread(r, "points-settlement-worker-" + sequence.getAndIncrement()));
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "points-settlement-dispatcher");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::dispatchQuietly,
+                pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::sweepQuietly,
+                0L, sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+        running = true;
+        log.info("포인트 환전 정산 워커 활성화 - workers={}, pollInterval={}", workers, pollInterval);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        if (workerPool != null) {
+            // 진행 중인 은행 호출은 마무리, 끝나지 않은 건은 lease 만료 후 수동 확인 대기
+            workerPool.shutdown();
+            try {
+                workerPool.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 실행 시각이 된 대기 건을 빈 워커 수만큼 선점해 워커에 넘김
+     * @return 넘긴 건수
+     */
+    public int dispatch() {
+        int capacity = idleWorkers.availablePermits();
+        if (capacity == 0) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Long> dueIds = outboxRepository.findDueIds(
+                PointsExchangeOutboxStatus.PENDING, now, PageRequest.of(0, capacity));
+
+        int dispatched = 0;
+        for (Long outboxId : dueIds) {
+            if (!idleWorkers.tryAcquire()) {
+                break;
+            }
+            int claimed = outboxRepository.claim(outboxId, now.plus(leaseDuration),
+                    PointsExchangeOutboxStatus.PENDING, PointsExchangeOutboxStatus.IN_FLIGHT);
+            if (claimed == 0) {
+                // 다른 인스턴스가 먼저 선점
+                idleWorkers.release();
+                continue;
+            }
+            workerPool.execute(() -> {
+                try {
+                    settlementService.settle(outboxId);
+                } catch (RuntimeException e) {
+                    // 결과 반영 실패 -> IN_FLIGHT 로 남아 lease 만료 후 수동 확인 대기
+                    log.error("포인트 환전 정산 오류. outboxId={}", outboxId, e);
+                } finally {
+                    idleWorkers.release();
+                }
+            });
+            dispatched++;
+        }
+        return dispatched;
+    }
+
+    /**
+     * lease 가 만료된 IN_FLIGHT 건을 REVIEW_REQUIRED 로 옮김 (재전송하지 않음)
+     * @return 옮긴 건수
+     */
+    public int sweep() {
+        int expired = outboxRepository.markExpiredForReview(LocalDateTime.now(clock),
+                PointsExchangeOutboxStatus.IN_FLIGHT, PointsExchangeOutboxStatus.REVIEW_REQUIRED);
+        if (expired > 0) {
+            log.error("포인트 환전 정산 lease 만료 - 은행 이체 여부 확인 필요 {}건 (status=REVIEW_REQUIRED)", expired);
+        }
+        return expired;
+    }
+
+    private void dispatchQuietly() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.error("포인트 환전 정산 분배 오류", e);
+        }
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            log.error("포인트 환전 정산 복구 오류", e);
+        }
+    }
+}
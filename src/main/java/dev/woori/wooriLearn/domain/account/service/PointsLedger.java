@@ -0,0 +1,93 @@
+package dev.woori.wooriLearn.domain.account.service;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.account.entity.PointsLedgerReason;
+import dev.woori.wooriLearn.domain.account.repository.PointsLedgerJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장
+ *
+ * users.points 변경은 모두 여기를 거친다.
+ * 1) 조건부 UPDATE 한 문장으로 잔액 검사 + 변경 (사용자 엔티티 조회 / 행 잠금 조회 없음)
+ * 2) 변경 직후 잔액 조회
+ * 3) 원장(points_ledger) INSERT
+ *    - 사용자의 첫 원장 변경이면 변경 전 잔액(원장 도입 전 잔액)을 OPENING 으로 먼저 기록
+ *    - 1) 의 UPDATE 로 사용자 행 락을 잡은 뒤 표시하므로 같은 사용자의 다른 변경과 겹치지 않음
+ *
+ * 호출 측 트랜잭션 안에서만 사용할 수 있으며(MANDATORY), 잔액 변경과 원장 기록은 함께 커밋/롤백된다.
+ * UPDATE 로 잡힌 사용자 행 락은 호출 측 트랜잭션이 끝날 때까지 유지되므로, 호출 측은 은행 호출 등 느린 작업을
+ * 이 트랜잭션 밖에서 해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class PointsLedger {
+
+    private final PointsLedgerJdbcRepository ledgerRepository;
+    private final Clock clock;
+
+    /**
+     * 포인트 증가
+     * @return 변경 후 잔액
+     */
+    public int credit(Long userId, int amount, PointsLedgerReason reason) {
+        validateAmount(amount, "포인트 증액은 양수여야 합니다.");
+        if (!ledgerRepository.credit(userId, amount)) {
+            throw userNotFound(userId);
+        }
+        return record(userId, amount, reason);
+    }
+
+    /**
+     * 포인트 차감 (잔액이 부족하면 CONFLICT)
+     * @return 변경 후 잔액
+     */
+    public int debit(Long userId, int amount, PointsLedgerReason reason) {
+        validateAmount(amount, "포인트 차감은 양수여야 합니다.");
+        if (!ledgerRepository.debit(userId, amount)) {
+            if (ledgerRepository.findPoints(userId).isEmpty()) {
+                throw userNotFound(userId);
+            }
+            throw new CommonException(ErrorCode.CONFLICT, "포인트가 부족하여 출금 요청을 처리할 수 없습니다.");
+        }
+        return record(userId, -amount, reason);
+    }
+
+    /** 로그인 아이디로 사용자 id 조회 */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Long getUserId(String username) {
+        return ledgerRepository.findUserId(username)
+                .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "사용자를 찾을 수 없습니다. userId=" + username));
+    }
+
+    private int record(Long userId, int delta, PointsLedgerReason reason) {
+        int balanceAfter = ledgerRepository.findPoints(userId).orElseThrow(() -> userNotFound(userId));
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (ledgerRepository.markOpened(userId)) {
+            int opening = balanceAfter - delta;
+            if (opening != 0) {
+                ledgerRepository.insertEntry(userId, opening, opening, PointsLedgerReason.OPENING, now);
+            }
+        }
+        ledgerRepository.insertEntry(userId, delta, balanceAfter, reason, now);
+        return balanceAfter;
+    }
+
+    private static void validateAmount(int amount, String message) {
+        if (amount <= 0) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST, message);
+        }
+    }
+
+    private static CommonException userNotFound(Long userId) {
+        return new CommonException(ErrorCode.ENTITY_NOT_FOUND, "사용자를 찾을 수 없습니다. id=" + userId);
+    }
+}
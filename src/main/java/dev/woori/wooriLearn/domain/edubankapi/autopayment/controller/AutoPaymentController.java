@@ -1,5 +1,6 @@
 package dev.woori.wooriLearn.domain.edubankapi.autopayment.controller;
 
+import dev.woori.wooriLearn.config.idempotency.IdempotencyService;
 import dev.woori.wooriLearn.util.AuthenticationUtil;
 import dev.woori.wooriLearn.config.response.ApiResponse;
 import dev.woori.wooriLearn.config.response.BaseResponse;
@@ -32,6 +33,7 @@ import java.util.List;
 public class AutoPaymentController {
 
     private final AutoPaymentService autoPaymentService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 자동이체 목록 조회 (레거시 - 전체 조회)
@@ -87,17 +89,23 @@ public class AutoPaymentController {
         return ApiResponse.success(SuccessCode.OK, response);
     }
 
+    /**
+     * 자동이체 등록
+     * Idempotency-Key 헤더(선택)를 보내면 같은 키의 재시도는 새로 등록하지 않고 처음 응답을 반환
+     */
     @PostMapping
     public ResponseEntity<BaseResponse<?>> createAutoPayment(
             @Valid @RequestBody AutoPaymentCreateRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             Authentication authentication) {
 
         String currentUserId = AuthenticationUtil.extractUserId(authentication);
         log.info("자동이체 등록 요청 - 교육용계좌ID: {}, 금액: {}, 사용자ID: {}",
                 request.educationalAccountId(), request.amount(), currentUserId);
 
-        AutoPaymentResponse response = autoPaymentService.createAutoPayment(
-                request, currentUserId);
+        AutoPaymentResponse response = idempotencyService.execute(
+                "auto-payment", currentUserId, idempotencyKey, request, AutoPaymentResponse.class,
+                () -> autoPaymentService.createAutoPayment(request, currentUserId));
 
         return ApiResponse.success(SuccessCode.CREATED, response);
     }
@@ -0,0 +1,23 @@
+package dev.woori.wooriLearn.domain.edubankapi.autopayment.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 자동이체 실행 배치 한 회차 결과
+ *
+ * @param runDate       실행 기준일 (이 날짜까지 예정된 회차를 실행)
+ * @param due           실행 대상 건수
+ * @param succeeded     출금 성공
+ * @param failed        잔액 부족 등으로 실패 이력만 남긴 건
+ * @param skipped       다른 실행에서 이미 처리했거나 그 사이 해지된 건
+ * @param deferred      실행 시간 창 초과 / 일시 오류로 처리하지 못한 건 (같은 날짜로 재실행하면 이어서 처리)
+ */
+public record AutoPaymentRunResult(
+        LocalDate runDate,
+        int due,
+        int succeeded,
+        int failed,
+        int skipped,
+        int deferred
+) {
+}
@@ -0,0 +1,16 @@
+package dev.woori.wooriLearn.domain.edubankapi.autopayment.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 자동이체 실행 대상 (엔티티를 로드하지 않는 projection)
+ * 실제 출금은 실행 시 엔티티를 다시 조회해 처리하므로 여기에는 분배에 필요한 값만 둔다.
+ *
+ * @param nextExecutionDate 실행할 회차의 예정일 (멱등키의 일부)
+ */
+public record DueAutoPayment(
+        Long id,
+        Long educationalAccountId,
+        LocalDate nextExecutionDate
+) {
+}
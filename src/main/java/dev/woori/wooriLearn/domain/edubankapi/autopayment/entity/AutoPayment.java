@@ -6,11 +6,16 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "auto_payment")
+@Table(name = "auto_payment", indexes = {
+        // 실행 대상 조회 (next_execution_date <= :date 범위 스캔)
+        @Index(name = "idx_auto_payment_next_execution", columnList = "next_execution_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -52,6 +57,13 @@ public class AutoPayment {
     @Column(name = "expiration_date", nullable = false)
     private LocalDate expirationDate;
 
+    /**
+     * 다음 실행 예정일 (해지되었거나 만료일까지 남은 실행이 없으면 null)
+     * 등록 시 계산, 실행(성공/실패) 후 다음 회차로 이동, 해지 시 비움
+     */
+    @Column(name = "next_execution_date")
+    private LocalDate nextExecutionDate;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "processing_status", nullable = false, length = 20)
     @Builder.Default
@@ -74,6 +86,7 @@ public class AutoPayment {
 
     public void cancel() {
         this.processingStatus = AutoPaymentStatus.CANCELLED;
+        this.nextExecutionDate = null;
     }
 
     public boolean isOwnedBy(Long educationalAccountId) {
@@ -84,12 +97,73 @@ public class AutoPayment {
         return this.processingStatus == AutoPaymentStatus.CANCELLED;
     }
 
+    /**
+     * 다음 실행 예정일을 from 이후(포함) 첫 실행일로 계산 (해지 상태면 null)
+     * - 등록 시: from = 오늘 (과거 시작일로 등록해도 지난 회차는 실행하지 않음)
+     * - 백필 시: from = 오늘
+     */
+    public void scheduleFrom(LocalDate from) {
+        this.nextExecutionDate = isCancelled()
+                ? null
+                : firstExecutionOnOrAfter(from, startDate, expirationDate, designatedDate, transferCycle);
+    }
+
+    /**
+     * executionDate 회차 처리(성공/실패) 후 다음 회차로 이동
+     */
+    public void advanceAfter(LocalDate executionDate) {
+        scheduleFrom(executionDate.plusDays(1));
+    }
+
+    /**
+     * 주어진 날짜가 실행일인지 (실행일 정의)
+     * - 시작일~만료일 사이
+     * - 그 달의 실행일(지정일, 그 달에 없는 날이면 말일)과 같은 날
+     * - 시작 월부터 이체 주기(개월) 배수만큼 지난 달
+     */
+    public static boolean isScheduledOn(LocalDate date, LocalDate startDate, LocalDate expirationDate,
+                                        int designatedDate, int transferCycle) {
+        if (date.isBefore(startDate) || date.isAfter(expirationDate)) {
+            return false;
+        }
+        if (date.getDayOfMonth() != Math.min(designatedDate, date.lengthOfMonth())) {
+            return false;
+        }
+        long months = ChronoUnit.MONTHS.between(YearMonth.from(startDate), YearMonth.from(date));
+        return months % transferCycle == 0;
+    }
+
+    /**
+     * from 이후(포함) 첫 실행일 (isScheduledOn 을 만족하는 가장 이른 날짜), 만료일까지 없으면 null
+     * 시작 월에서 주기 배수만큼 떨어진 달로 바로 이동하므로 최대 두 달만 확인한다.
+     */
+    public static LocalDate firstExecutionOnOrAfter(LocalDate from, LocalDate startDate, LocalDate expirationDate,
+                                                    int designatedDate, int transferCycle) {
+        LocalDate lowerBound = from.isBefore(startDate) ? startDate : from;
+        YearMonth startMonth = YearMonth.from(startDate);
+        long elapsed = ChronoUnit.MONTHS.between(startMonth, YearMonth.from(lowerBound));
+        long cycles = Math.max(0L, elapsed / transferCycle);
+
+        while (true) {
+            YearMonth month = startMonth.plusMonths(cycles * transferCycle);
+            LocalDate candidate = month.atDay(Math.min(designatedDate, month.lengthOfMonth()));
+            if (candidate.isAfter(expirationDate)) {
+                return null;
+            }
+            if (!candidate.isBefore(lowerBound)) {
+                return candidate;
+            }
+            cycles++;
+        }
+    }
+
     public static AutoPayment createWithResolvedDate(
             AutoPaymentCreateRequest request,
             EducationalAccount educationalAccount,
-            int resolvedDesignatedDate
+            int resolvedDesignatedDate,
+            LocalDate today
     ) {
-        return AutoPayment.builder()
+        AutoPayment autoPayment = AutoPayment.builder()
                 .educationalAccount(educationalAccount)
                 .depositNumber(request.depositNumber())
                 .depositBankCode(request.depositBankCode())
@@ -102,5 +176,7 @@ public class AutoPayment {
                 .expirationDate(request.expirationDate())
                 .processingStatus(AutoPaymentStatus.ACTIVE)
                 .build();
+        autoPayment.scheduleFrom(today);
+        return autoPayment;
     }
 }
\ No newline at end of file
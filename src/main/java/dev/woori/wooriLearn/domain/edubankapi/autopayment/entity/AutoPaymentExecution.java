@@ -0,0 +1,97 @@
+package dev.woori.wooriLearn.domain.edubankapi.autopayment.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 자동이체 실행 이력
+ *
+ * idempotency_key = (자동이체 id, 실행 예정일) 이므로 같은 날짜에 대한 실행은 한 번만 기록된다.
+ * 성공 시에는 출금/입금과 같은 트랜잭션에서 먼저 INSERT 하므로,
+ * 중단 후 재실행/다중 인스턴스 동시 실행에서도 이중 출금이 일어나지 않는다.
+ */
+@Entity
+@Table(name = "auto_payment_execution",
+        uniqueConstraints = @UniqueConstraint(name = "uk_auto_payment_execution_key", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_auto_payment_execution_date", columnList = "execution_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AutoPaymentExecution {
+
+    private static final DateTimeFormatter KEY_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 40)
+    private String idempotencyKey;
+
+    @Column(name = "auto_payment_id", nullable = false)
+    private Long autoPaymentId;
+
+    @Column(name = "educational_account_id", nullable = false)
+    private Long educationalAccountId;
+
+    @Column(name = "execution_date", nullable = false)
+    private LocalDate executionDate;
+
+    @Column(nullable = false)
+    private Integer amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ExecutionStatus status;
+
+    @Column(name = "failure_reason", length = 200)
+    private String failureReason;
+
+    @Column(name = "executed_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime executedAt;
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum ExecutionStatus {
+        SUCCEEDED("성공"),
+        FAILED("실패");
+
+        private final String description;
+    }
+
+    /** 실행 예정일 단위 멱등키 (예: AP-15-20250131) */
+    public static String keyOf(Long autoPaymentId, LocalDate executionDate) {
+        return "AP-" + autoPaymentId + "-" + executionDate.format(KEY_DATE_FORMAT);
+    }
+
+    public static AutoPaymentExecution succeeded(AutoPayment autoPayment, LocalDate executionDate, LocalDateTime now) {
+        return of(autoPayment.getId(), autoPayment.getEducationalAccount().getId(), autoPayment.getAmount(),
+                executionDate, ExecutionStatus.SUCCEEDED, null, now);
+    }
+
+    public static AutoPaymentExecution failed(Long autoPaymentId, Long educationalAccountId, Integer amount,
+                                              LocalDate executionDate, String reason, LocalDateTime now) {
+        String truncated = (reason != null && reason.length() > 200) ? reason.substring(0, 200) : reason;
+        return of(autoPaymentId, educationalAccountId, amount, executionDate, ExecutionStatus.FAILED, truncated, now);
+    }
+
+    private static AutoPaymentExecution of(Long autoPaymentId, Long educationalAccountId, Integer amount,
+                                           LocalDate executionDate, ExecutionStatus status,
+                                           String failureReason, LocalDateTime now) {
+        return AutoPaymentExecution.builder()
+                .idempotencyKey(keyOf(autoPaymentId, executionDate))
+                .autoPaymentId(autoPaymentId)
+                .educationalAccountId(educationalAccountId)
+                .executionDate(executionDate)
+                .amount(amount)
+                .status(status)
+                .failureReason(failureReason)
+                .executedAt(now)
+                .build();
+    }
+}
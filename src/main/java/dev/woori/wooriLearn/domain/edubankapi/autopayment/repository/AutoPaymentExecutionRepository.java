@@ -0,0 +1,11 @@
+package dev.woori.wooriLearn.domain.edubankapi.autopayment.repository;
+
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPaymentExecution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AutoPaymentExecutionRepository extends JpaRepository<AutoPaymentExecution, Long> {
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+}
@@ -1,15 +1,19 @@
 package dev.woori.wooriLearn.domain.edubankapi.autopayment.repository;
 
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.dto.DueAutoPayment;
 import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPayment;
 import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPayment.AutoPaymentStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,4 +48,48 @@ public interface AutoPaymentRepository extends JpaRepository<AutoPayment, Long>
            "JOIN FETCH ea.user " +
            "WHERE ap.id = :id")
     Optional<AutoPayment> findByIdWithAccountAndUser(@Param("id") Long id);
-}
\ No newline at end of file
+
+    /**
+     * [실행용] 자동이체 행을 비관적 락으로 조회
+     *
+     * - 실행/실패 기록이 다음 실행 예정일을 옮기는 동안 동시 해지가 덮어써지지 않도록 행을 잠금
+     * - 계좌까지 JOIN FETCH 하면 계좌 행도 함께 잠겨 계좌 락 순서(lockInOrder)가 깨지므로 자동이체 행만 조회
+     *
+     * @param id 자동이체 ID
+     * @return 잠긴 AutoPayment (교육용 계좌는 지연 로딩)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ap FROM AutoPayment ap WHERE ap.id = :id")
+    Optional<AutoPayment> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 실행 대상 조회 (next_execution_date 범위 스캔 + id 기준 keyset 페이징)
+     * - 예정일이 지난 건(배치 중단 등으로 밀린 회차)도 포함, 실행은 각자의 예정일 기준
+     * - 해지/만료된 자동이체는 next_execution_date 가 null 이라 조회되지 않음
+     *
+     * @param afterId 이전 페이지의 마지막 id (첫 페이지는 0)
+     */
+    @Query("SELECT new dev.woori.wooriLearn.domain.edubankapi.autopayment.dto.DueAutoPayment(" +
+           "ap.id, ap.educationalAccount.id, ap.nextExecutionDate) " +
+           "FROM AutoPayment ap " +
+           "WHERE ap.nextExecutionDate <= :date " +
+           "AND ap.id > :afterId " +
+           "ORDER BY ap.id")
+    List<DueAutoPayment> findDue(@Param("date") LocalDate date,
+                                 @Param("afterId") Long afterId,
+                                 Pageable pageable);
+
+    /**
+     * 다음 실행 예정일 백필 대상 (활성 + 예정일 없음 + 아직 만료 전), id 기준 keyset 페이징
+     */
+    @Query("SELECT ap FROM AutoPayment ap " +
+           "WHERE ap.processingStatus = :status " +
+           "AND ap.nextExecutionDate IS NULL " +
+           "AND ap.expirationDate >= :today " +
+           "AND ap.id > :afterId " +
+           "ORDER BY ap.id")
+    List<AutoPayment> findWithoutNextExecutionDate(@Param("status") AutoPaymentStatus status,
+                                                   @Param("today") LocalDate today,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+}
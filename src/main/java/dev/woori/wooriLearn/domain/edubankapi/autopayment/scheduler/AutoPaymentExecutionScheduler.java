@@ -0,0 +1,204 @@
+package dev.woori.wooriLearn.domain.edubankapi.autopayment.scheduler;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.dto.AutoPaymentRunResult;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.dto.DueAutoPayment;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.repository.AutoPaymentRepository;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.service.AutoPaymentExecutionService;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.service.AutoPaymentExecutionService.Outcome;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자동이체 실행 배치
+ *
+ * - 다음 실행 예정일이 실행 기준일 이전(포함)인 건을 id keyset 페이지 단위로 조회 (idx_auto_payment_next_execution)
+ *   밀린 회차는 한 번에 한 회차씩, 각자의 예정일 기준으로 실행
+ * - 출금 계좌(educational_account_id) 해시로 워커를 고정 -> 같은 계좌의 자동이체는 한 워커에서 순서대로 실행되어
+ *   워커끼리 같은 계좌 락을 두고 경합하지 않음
+ * - 건마다 독립 트랜잭션 (AutoPaymentExecutionService) + 예정일 단위 멱등키
+ *   -> 중단 후 재실행, 다중 인스턴스 동시 실행에서도 이중 출금 없음
+ * - 워커 큐에 쌓이는 작업 수는 (워커 수 x 페이지 크기) 로 제한
+ * - 실행 시간 창(window-minutes)을 넘기면 남은 건은 실행하지 않고 deferred 로 집계 (같은 날짜로 재실행하면 이어서 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutoPaymentExecutionScheduler {
+
+    private final AutoPaymentRepository autoPaymentRepository;
+    private final AutoPaymentExecutionService executionService;
+    private final Clock clock;
+
+    @Value("${app.auto-payment.execution.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.auto-payment.execution.workers:8}")
+    private int workers;
+
+    @Value("${app.auto-payment.execution.page-size:1000}")
+    private int pageSize;
+
+    @Value("${app.auto-payment.execution.window-minutes:120}")
+    private long windowMinutes;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${app.auto-payment.execution.cron:0 0 6 * * *}", zone = "Asia/Seoul")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            run(LocalDate.now(clock));
+        } catch (RuntimeException e) {
+            log.error("자동이체 실행 배치 오류", e);
+        }
+    }
+
+    /**
+     * 실행 기준일까지 예정된 자동이체 실행 (같은 날짜로 여러 번 호출해도 안전)
+     */
+    public AutoPaymentRunResult run(LocalDate runDate) {
+        if (!running.compareAndSet(false, true)) {
+            throw new CommonException(ErrorCode.CONFLICT, "자동이체 실행 배치가 이미 실행 중입니다.");
+        }
+        try {
+            AutoPaymentRunResult result = doRun(runDate);
+            log.info("[자동이체 실행 완료] {}", result);
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private AutoPaymentRunResult doRun(LocalDate runDate) {
+        Instant deadline = clock.instant().plus(Duration.ofMinutes(windowMinutes));
+
+        Counters counters = new Counters();
+        Semaphore inFlight = new Semaphore(workers * pageSize);
+        List<ExecutorService> partitions = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            String name = "auto-payment-worker-" + i;
+            partitions.add(Executors.newSingleThreadExecutor(r -> new Thread(r, name)));
+        }
+
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<DueAutoPayment> page = autoPaymentRepository.findDue(runDate, afterId, PageRequest.of(0, pageSize));
+                for (DueAutoPayment candidate : page) {
+                    counters.due.incrementAndGet();
+                    inFlight.acquire();
+                    partitions.get(partitionOf(candidate.educationalAccountId())).execute(() -> {
+                        try {
+                            executeOne(candidate.id(), candidate.nextExecutionDate(), deadline, counters);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+                if (page.size() < pageSize) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).id();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("자동이체 실행 배치 분배 중단 - runDate={}", runDate);
+        } finally {
+            awaitWorkers(partitions, deadline, counters);
+        }
+
+        return new AutoPaymentRunResult(runDate, counters.due.get(), counters.succeeded.get(),
+                counters.failed.get(), counters.skipped.get(), counters.deferred.get());
+    }
+
+    private void executeOne(Long autoPaymentId, LocalDate executionDate, Instant deadline, Counters counters) {
+        if (clock.instant().isAfter(deadline)) {
+            counters.deferred.incrementAndGet();
+            return;
+        }
+        try {
+            Outcome outcome = executionService.execute(autoPaymentId, executionDate);
+            counters.of(outcome).incrementAndGet();
+        } catch (DataIntegrityViolationException e) {
+            // 같은 멱등키를 다른 실행이 먼저 커밋함
+            counters.skipped.incrementAndGet();
+        } catch (CommonException e) {
+            recordFailure(autoPaymentId, executionDate, e.getMessage(), counters);
+        } catch (RuntimeException e) {
+            // 일시 오류(락 대기 시간 초과 등)는 이력을 남기지 않아 재실행 시 다시 시도
+            log.error("[자동이체 실행 오류] autoPaymentId={} executionDate={}", autoPaymentId, executionDate, e);
+            counters.deferred.incrementAndGet();
+        }
+    }
+
+    private void recordFailure(Long autoPaymentId, LocalDate executionDate, String reason, Counters counters) {
+        try {
+            executionService.recordFailure(autoPaymentId, executionDate, reason);
+            counters.failed.incrementAndGet();
+            log.info("[자동이체 실패] autoPaymentId={} executionDate={} reason={}", autoPaymentId, executionDate, reason);
+        } catch (DataIntegrityViolationException e) {
+            counters.skipped.incrementAndGet();
+        } catch (RuntimeException e) {
+            log.error("[자동이체 실패 이력 저장 오류] autoPaymentId={} executionDate={}", autoPaymentId, executionDate, e);
+            counters.deferred.incrementAndGet();
+        }
+    }
+
+    /** 실행 시간 창 + 여유 1분까지 대기, 그래도 남은 작업은 실행하지 않고 deferred 로 집계 */
+    private void awaitWorkers(List<ExecutorService> partitions, Instant deadline, Counters counters) {
+        partitions.forEach(ExecutorService::shutdown);
+        for (ExecutorService partition : partitions) {
+            long waitMillis = Math.max(0L, Duration.between(clock.instant(), deadline).toMillis()) + 60_000L;
+            try {
+                if (!partition.awaitTermination(waitMillis, TimeUnit.MILLISECONDS)) {
+                    counters.deferred.addAndGet(partition.shutdownNow().size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                counters.deferred.addAndGet(partition.shutdownNow().size());
+            }
+        }
+    }
+
+    private int partitionOf(Long educationalAccountId) {
+        return Math.floorMod(Long.hashCode(educationalAccountId), workers);
+    }
+
+    private static final class Counters {
+        final AtomicInteger due = new AtomicInteger();
+        final AtomicInteger succeeded = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicInteger skipped = new AtomicInteger();
+        final AtomicInteger deferred = new AtomicInteger();
+
+        AtomicInteger of(Outcome outcome) {
+            return switch (outcome) {
+                case SUCCEEDED -> succeeded;
+                case FAILED -> failed;
+                case SKIPPED -> skipped;
+            };
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package dev.woori.wooriLearn.domain.edubankapi.autopayment.service;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPayment;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPaymentExecution;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.repository.AutoPaymentExecutionRepository;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.repository.AutoPaymentRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.service.EdubankapiTransferService;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.service.EdubankapiTransferService.LockedAccounts;
+import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 자동이체 한 건 실행 (건마다 독립 트랜잭션)
+ *
+ * 0) 자동이체 행을 비관적 락으로 읽고, 다음 실행 예정일이 요청한 회차와 같을 때만 실행
+ *    - 해지와 동시에 실행돼도 해지가 커밋됐으면 예정일이 비어 SKIPPED, 아니면 해지가 이 트랜잭션 뒤로 밀림
+ * 1) 멱등키(자동이체 id + 실행일)로 실행 이력을 먼저 INSERT (flush)
+ *    - 같은 키가 이미 커밋되어 있으면 unique 위반으로 실패 -> 호출 측에서 SKIPPED 처리
+ *    - 다른 인스턴스가 같은 키를 처리 중이면 그 트랜잭션이 끝날 때까지 대기 후 같은 결과
+ * 2) 락 없이 읽은 출금 계좌는 영속성 컨텍스트에서 분리한 뒤
+ *    (같은 영속성 컨텍스트면 락 조회가 이미 읽어 둔 잔액을 그대로 돌려주므로)
+ *    계좌이체와 같은 순서로 락 획득 후 같은 경로(EdubankapiTransferService.post)로 잔액 변경 + 거래내역 저장,
+ *    같은 트랜잭션에서 다음 실행 예정일로 이동
+ * 3) 검증 실패(잔액 부족 등)는 CommonException 으로 전체 롤백 -> 호출 측에서 recordFailure 로 실패 이력만 남김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutoPaymentExecutionService {
+
+    static final String WITHDRAW_DESCRIPTION = "자동이체(출금)";
+    static final String DEPOSIT_DESCRIPTION = "자동이체(입금)";
+
+    private final AutoPaymentRepository autoPaymentRepository;
+    private final AutoPaymentExecutionRepository executionRepository;
+    private final EdubankapiTransferService transferService;
+    private final EntityManager entityManager;
+    private final Clock clock;
+
+    public enum Outcome {
+        SUCCEEDED,
+        FAILED,
+        /** 이미 처리됨 / 해지됨 / 예정일 아님 */
+        SKIPPED
+    }
+
+    /**
+     * @param executionDate 실행 예정일 (멱등키의 일부)
+     */
+    @Transactional
+    public Outcome execute(Long autoPaymentId, LocalDate executionDate) {
+        AutoPayment autoPayment = autoPaymentRepository.findByIdForUpdate(autoPaymentId).orElse(null);
+        if (autoPayment == null || !executionDate.equals(autoPayment.getNextExecutionDate())) {
+            // 조회 이후 해지/삭제되었거나 다른 실행이 이미 다음 회차로 옮긴 건
+            return Outcome.SKIPPED;
+        }
+        if (executionRepository.existsByIdempotencyKey(AutoPaymentExecution.keyOf(autoPaymentId, executionDate))) {
+            // 이력은 있는데 예정일이 남아 있는 건 (백필 직후 등) -> 다음 회차로만 이동
+            autoPayment.advanceAfter(executionDate);
+            return Outcome.SKIPPED;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        executionRepository.saveAndFlush(AutoPaymentExecution.succeeded(autoPayment, executionDate, now));
+
+        // 락 없이 fetch 된 출금 계좌를 분리해야 락 조회가 현재 잔액으로 다시 읽음 (계좌이체 verify 와 같은 처리)
+        EducationalAccount source = autoPayment.getEducationalAccount();
+        String sourceNumber = source.getAccountNumber();
+        entityManager.detach(source);
+        LockedAccounts locked = transferService.lockInOrder(sourceNumber, autoPayment.getDepositNumber());
+        EducationalAccount fromAccount = locked.from()
+                .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "출금 계좌를 찾을 수 없습니다."));
+        EducationalAccount toAccount = locked.to().orElse(null);
+
+        validate(autoPayment, fromAccount);
+
+        transferService.post(fromAccount, toAccount, autoPayment.getAmount(),
+                autoPayment.getCounterpartyName(), autoPayment.getDisplayName(),
+                WITHDRAW_DESCRIPTION, DEPOSIT_DESCRIPTION, now);
+        autoPayment.advanceAfter(executionDate);
+
+        log.debug("[자동이체 실행] autoPaymentId={} date={} amount={} fromBalanceAfter={}",
+                autoPaymentId, executionDate, autoPayment.getAmount(), fromAccount.getBalance());
+        return Outcome.SUCCEEDED;
+    }
+
+    /**
+     * 실패 이력 기록 + 다음 회차로 이동 (execute 가 롤백된 뒤 별도 트랜잭션에서 호출)
+     * 자동이체 행을 잠그고 읽으므로 그 사이 해지됐으면 예정일이 비어 있어 옮기지 않음
+     * 같은 키가 이미 있으면 unique 위반 -> 호출 측에서 SKIPPED 처리
+     */
+    @Transactional
+    public void recordFailure(Long autoPaymentId, LocalDate executionDate, String reason) {
+        AutoPayment autoPayment = autoPaymentRepository.findByIdForUpdate(autoPaymentId)
+                .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "자동이체 없음: " + autoPaymentId));
+        executionRepository.saveAndFlush(AutoPaymentExecution.failed(
+                autoPaymentId, autoPayment.getEducationalAccount().getId(), autoPayment.getAmount(),
+                executionDate, reason, LocalDateTime.now(clock)));
+        if (executionDate.equals(autoPayment.getNextExecutionDate())) {
+            autoPayment.advanceAfter(executionDate);
+        }
+    }
+
+    private void validate(AutoPayment autoPayment, EducationalAccount fromAccount) {
+        if (fromAccount.getAccountNumber().equals(autoPayment.getDepositNumber())) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST, "같은 계좌로는 이체할 수 없습니다.");
+        }
+        if (autoPayment.getAmount() <= 0) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST, "이체 금액은 0보다 커야 합니다.");
+        }
+        if (fromAccount.getBalance() < autoPayment.getAmount()) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST, "잔액이 부족합니다.");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package dev.woori.wooriLearn.domain.edubankapi.autopayment.service;
+
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPayment;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPayment.AutoPaymentStatus;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.repository.AutoPaymentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기동 시 다음 실행 예정일(next_execution_date)이 비어 있는 기존 활성 자동이체에 예정일을 계산해 채운다.
+ * - 오늘 이후(포함) 첫 실행일로 계산하므로 지난 회차를 소급 실행하지 않음
+ * - 오늘 회차가 이미 실행된 건은 실행 배치에서 멱등키 확인 후 다음 회차로만 이동
+ * - id keyset 페이지 단위로 개별 트랜잭션 처리
+ */
+@Slf4j
+@Component
+public class AutoPaymentScheduleBackfill {
+
+    static final int PAGE_SIZE = 500;
+
+    private final AutoPaymentRepository autoPaymentRepository;
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.auto-payment.next-execution-backfill.enabled:true}")
+    private boolean enabled;
+
+    public AutoPaymentScheduleBackfill(AutoPaymentRepository autoPaymentRepository,
+                                       Clock clock,
+                                       PlatformTransactionManager transactionManager) {
+        this.autoPaymentRepository = autoPaymentRepository;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) {
+            backfill();
+        }
+    }
+
+    /** @return 예정일을 채운 자동이체 수 */
+    public int backfill() {
+        LocalDate today = LocalDate.now(clock);
+        int scanned = 0;
+        int filled = 0;
+        long afterId = 0L;
+        while (true) {
+            long cursor = afterId;
+            List<AutoPayment> page = transactionTemplate.execute(status -> {
+                List<AutoPayment> targets = autoPaymentRepository.findWithoutNextExecutionDate(
+                        AutoPaymentStatus.ACTIVE, today, cursor, PageRequest.of(0, PAGE_SIZE));
+                targets.forEach(autoPayment -> autoPayment.scheduleFrom(today));
+                return targets;
+            });
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            scanned += page.size();
+            filled += (int) page.stream().filter(ap -> ap.getNextExecutionDate() != null).count();
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+        if (scanned > 0) {
+            log.info("자동이체 다음 실행 예정일 backfill 완료 - 대상={}, 예정일 계산={}", scanned, filled);
+        }
+        return filled;
+    }
+}
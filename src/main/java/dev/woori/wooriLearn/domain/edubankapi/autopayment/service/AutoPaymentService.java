@@ -8,6 +8,7 @@ import dev.woori.wooriLearn.domain.edubankapi.autopayment.dto.AutoPaymentRespons
 import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPayment;
 import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPayment.AutoPaymentStatus;
 import dev.woori.wooriLearn.domain.edubankapi.autopayment.repository.AutoPaymentRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.cache.AccountOwnershipCache;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiAccountRepository;
 import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
 
@@ -26,6 +27,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -40,6 +42,8 @@ public class AutoPaymentService {
     private final PasswordEncoder passwordEncoder;
     private final CacheManager cacheManager;
     private final AutoPaymentCacheManager autoPaymentCacheManager;
+    private final Clock clock;
+    private final AccountOwnershipCache accountOwnershipCache;
 
     @Value("${app.auto-payment.max-amount:5000000}")
     private int maxTransferAmount;
@@ -166,11 +170,12 @@ public class AutoPaymentService {
         // 3. 지정일 처리 로직 적용
         int finalDesignatedDate = resolveDesignatedDate(request);
 
-        // 4. 자동이체 엔티티 생성
+        // 4. 자동이체 엔티티 생성 (다음 실행 예정일은 오늘 이후 첫 실행일)
         AutoPayment autoPayment = AutoPayment.createWithResolvedDate(
                 request,
                 educationalAccount,
-                finalDesignatedDate
+                finalDesignatedDate,
+                LocalDate.now(clock)
         );
 
         // 5. 저장
@@ -306,16 +311,16 @@ public class AutoPaymentService {
     }
 
     /**
-     * 계좌 소유자 권한 검증 (효율적인 exists 쿼리 사용)
+     * 계좌 소유자 권한 검증 (계좌 소유자 캐시 사용)
      *
      * 목록 조회 시 엔티티 전체를 로드하지 않고 소유권만 확인
-     * SELECT COUNT(*) 쿼리로 성능 최적화
+     * 소유자는 바뀌지 않으므로 로컬 -> Redis 캐시에서 확인하고, 둘 다 없을 때만 DB 조회
      *
      * @param accountId 검증할 계좌 ID
      * @param currentUserId 현재 로그인한 사용자 ID (username)
      */
     private void validateAccountOwnership(Long accountId, String currentUserId) {
-        boolean isOwner = edubankapiAccountRepository.existsByIdAndUser_UserId(accountId, currentUserId);
+        boolean isOwner = accountOwnershipCache.isOwner(accountId, currentUserId);
 
         if (!isOwner) {
             log.warn("계좌 소유권 검증 실패 - 계좌ID: {}, 요청사용자: {}", accountId, currentUserId);
@@ -0,0 +1,53 @@
+package dev.woori.wooriLearn.domain.edubankapi.balance.controller;
+
+import dev.woori.wooriLearn.config.response.ApiResponse;
+import dev.woori.wooriLearn.config.response.BaseResponse;
+import dev.woori.wooriLearn.config.response.SuccessCode;
+import dev.woori.wooriLearn.domain.edubankapi.balance.service.AccountBalanceQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/education/accounts")
+@RequiredArgsConstructor
+public class AccountBalanceController {
+
+    private final AccountBalanceQueryService balanceQueryService;
+
+    /**
+     *      특정 시점 잔액 조회
+     *      GET /education/accounts/balance?accountId=1&at=2025-03-16T00:00:00
+     *      - at 이전 거래까지 반영한 잔액
+     */
+    @GetMapping("/balance")
+    public ResponseEntity<BaseResponse<?>> getBalance(
+            @AuthenticationPrincipal String username,
+            @RequestParam Long accountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+
+        return ApiResponse.success(SuccessCode.OK, balanceQueryService.getBalance(username, accountId, at));
+    }
+
+    /**
+     *      기간 거래 요약 (기초/기말 잔액, 입금/출금 합계)
+     *      GET /education/accounts/statement?accountId=1&from=2025-03-01T00:00:00&to=2025-04-01T00:00:00
+     *      - [from, to) 구간
+     */
+    @GetMapping("/statement")
+    public ResponseEntity<BaseResponse<?>> getStatement(
+            @AuthenticationPrincipal String username,
+            @RequestParam Long accountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        return ApiResponse.success(SuccessCode.OK, balanceQueryService.getStatement(username, accountId, from, to));
+    }
+}
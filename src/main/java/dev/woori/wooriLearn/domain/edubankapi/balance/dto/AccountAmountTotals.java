@@ -0,0 +1,19 @@
+package dev.woori.wooriLearn.domain.edubankapi.balance.dto;
+
+/**
+ * 계좌별 거래 합계 (JPQL 생성자 프로젝션)
+ *
+ * @param depositTotal  입금 합계 (양수)
+ * @param withdrawTotal 출금 합계 (양수)
+ */
+public record AccountAmountTotals(Long accountId, Long depositTotal, Long withdrawTotal) {
+
+    public static AccountAmountTotals empty(Long accountId) {
+        return new AccountAmountTotals(accountId, 0L, 0L);
+    }
+
+    /** 잔액 변화량 */
+    public long net() {
+        return depositTotal - withdrawTotal;
+    }
+}
@@ -0,0 +1,13 @@
+package dev.woori.wooriLearn.domain.edubankapi.balance.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 특정 시점 잔액 (at 이전 거래까지 반영)
+ */
+public record AccountBalanceResponse(
+        Long accountId,
+        LocalDateTime at,
+        Long balance
+) {
+}
@@ -0,0 +1,22 @@
+package dev.woori.wooriLearn.domain.edubankapi.balance.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기간 거래 요약 ([from, to) 구간)
+ *
+ * @param openingBalance from 시점 잔액
+ * @param closingBalance to 시점 잔액
+ * @param depositTotal   기간 입금 합계
+ * @param withdrawTotal  기간 출금 합계 (양수)
+ */
+public record AccountStatementResponse(
+        Long accountId,
+        LocalDateTime from,
+        LocalDateTime to,
+        Long openingBalance,
+        Long closingBalance,
+        Long depositTotal,
+        Long withdrawTotal
+) {
+}
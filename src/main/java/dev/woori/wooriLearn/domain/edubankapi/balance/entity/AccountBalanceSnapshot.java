@@ -0,0 +1,61 @@
+package dev.woori.wooriLearn.domain.edubankapi.balance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 교육용 계좌 일별 잔액 스냅샷
+ *
+ * snapshot_date 하루(00:00 이상 ~ 다음날 00:00 미만)의 거래를 반영한 마감 잔액과 그날의 입금/출금 합계.
+ * 특정 시점 잔액 / 기간 합계는 가장 가까운 스냅샷 + 그 이후 거래만 읽어 계산한다. (AccountBalanceQueryService)
+ */
+@Entity
+@Table(name = "account_balance_snapshot",
+        uniqueConstraints = @UniqueConstraint(name = "uk_account_balance_snapshot_account_date",
+                columnNames = {"account_id", "snapshot_date"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AccountBalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    // 마감 잔액
+    @Column(name = "closing_balance", nullable = false)
+    private Long closingBalance;
+
+    // 그날 입금 합계 (양수)
+    @Column(name = "deposit_total", nullable = false)
+    private Long depositTotal;
+
+    // 그날 출금 합계 (양수로 저장)
+    @Column(name = "withdraw_total", nullable = false)
+    private Long withdrawTotal;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+
+    public static AccountBalanceSnapshot of(Long accountId, LocalDate snapshotDate, long closingBalance,
+                                            long depositTotal, long withdrawTotal, LocalDateTime now) {
+        return AccountBalanceSnapshot.builder()
+                .accountId(accountId)
+                .snapshotDate(snapshotDate)
+                .closingBalance(closingBalance)
+                .depositTotal(depositTotal)
+                .withdrawTotal(withdrawTotal)
+                .createdAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package dev.woori.wooriLearn.domain.edubankapi.balance.repository;
+
+import dev.woori.wooriLearn.domain.edubankapi.balance.entity.AccountBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountBalanceSnapshotRepository extends JpaRepository<AccountBalanceSnapshot, Long> {
+
+    /** date 이전(포함) 가장 최근 스냅샷 - uk_account_balance_snapshot_account_date 역순 탐색 */
+    Optional<AccountBalanceSnapshot> findFirstByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+            Long accountId, LocalDate date);
+
+    List<AccountBalanceSnapshot> findByAccountIdAndSnapshotDateBetween(Long accountId, LocalDate from, LocalDate to);
+
+    List<AccountBalanceSnapshot> findByAccountIdInAndSnapshotDate(Collection<Long> accountIds, LocalDate snapshotDate);
+}
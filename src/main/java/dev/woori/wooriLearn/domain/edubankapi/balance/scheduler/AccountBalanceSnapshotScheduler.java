@@ -0,0 +1,82 @@
+package dev.woori.wooriLearn.domain.edubankapi.balance.scheduler;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.edubankapi.balance.service.AccountBalanceSnapshotService;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiAccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 잔액 스냅샷 배치
+ *
+ * - 매일 새벽 전날 마감 스냅샷을 계좌 ID keyset 페이지 단위로 작성 (페이지마다 독립 트랜잭션)
+ * - 같은 날짜로 다시 실행하면 빠진 계좌만 채움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountBalanceSnapshotScheduler {
+
+    private final EdubankapiAccountRepository accountRepository;
+    private final AccountBalanceSnapshotService snapshotService;
+    private final Clock clock;
+
+    @Value("${app.balance-snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.balance-snapshot.page-size:500}")
+    private int pageSize;
+
+    @Scheduled(cron = "${app.balance-snapshot.cron:0 30 0 * * *}", zone = "Asia/Seoul")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            run(LocalDate.now(clock).minusDays(1));
+        } catch (RuntimeException e) {
+            log.error("잔액 스냅샷 배치 오류", e);
+        }
+    }
+
+    /**
+     * snapshotDate 마감 스냅샷 작성 (마감이 끝난 날짜만 가능)
+     *
+     * @return 새로 작성한 스냅샷 수
+     */
+    public int run(LocalDate snapshotDate) {
+        if (!snapshotDate.isBefore(LocalDate.now(clock))) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST, "마감되지 않은 날짜의 스냅샷은 만들 수 없습니다.");
+        }
+        int written = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Long> ids = accountRepository.findIdsAfter(afterId, PageRequest.of(0, pageSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            try {
+                written += snapshotService.writeSnapshots(snapshotDate, ids);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 같은 페이지를 먼저 작성함
+                log.info("[잔액 스냅샷] 이미 작성된 페이지 건너뜀 - date={} afterId={}", snapshotDate, afterId);
+            }
+            if (ids.size() < pageSize) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+        log.info("[잔액 스냅샷 완료] date={} written={}", snapshotDate, written);
+        return written;
+    }
+}
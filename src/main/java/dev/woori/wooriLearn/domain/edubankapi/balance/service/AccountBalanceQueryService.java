@@ -0,0 +1,139 @@
+package dev.woori.wooriLearn.domain.edubankapi.balance.service;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.edubankapi.balance.dto.AccountAmountTotals;
+import dev.woori.wooriLearn.domain.edubankapi.balance.dto.AccountBalanceResponse;
+import dev.woori.wooriLearn.domain.edubankapi.balance.dto.AccountStatementResponse;
+import dev.woori.wooriLearn.domain.edubankapi.balance.entity.AccountBalanceSnapshot;
+import dev.woori.wooriLearn.domain.edubankapi.balance.repository.AccountBalanceSnapshotRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.cache.AccountOwnershipCache;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiAccountRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiTransactionHistoryRepository;
+import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 특정 시점 잔액 / 기간 입출금 합계 조회
+ *
+ * 가장 가까운 일별 스냅샷 + 스냅샷이 덮지 않는 구간(당일, 경계의 일부 시간, 스냅샷 누락일)의 거래만 읽는다.
+ * 모든 구간은 [from, to) - at 시점 잔액은 at 이전 거래까지 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AccountBalanceQueryService {
+
+    private final AccountBalanceSnapshotRepository snapshotRepository;
+    private final EdubankapiAccountRepository accountRepository;
+    private final EdubankapiTransactionHistoryRepository transactionHistoryRepository;
+    private final Clock clock;
+    private final AccountOwnershipCache accountOwnershipCache;
+
+    public AccountBalanceResponse getBalance(String username, Long accountId, LocalDateTime at) {
+        validateAccountOwnership(username, accountId);
+        return new AccountBalanceResponse(accountId, at, balanceAt(accountId, at));
+    }
+
+    public AccountStatementResponse getStatement(String username, Long accountId, LocalDateTime from, LocalDateTime to) {
+        validateAccountOwnership(username, accountId);
+        if (!from.isBefore(to)) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST, "조회 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        long opening = balanceAt(accountId, from);
+        AccountAmountTotals totals = totalsBetween(accountId, from, to);
+        return new AccountStatementResponse(accountId, from, to, opening, opening + totals.net(),
+                totals.depositTotal(), totals.withdrawTotal());
+    }
+
+    /** at 이전 거래까지 반영한 잔액 */
+    long balanceAt(Long accountId, LocalDateTime at) {
+        // snapshot_date 마감 잔액은 다음날 00:00 이전 거래까지 반영 -> at 의 전날까지 사용 가능
+        Optional<AccountBalanceSnapshot> snapshot = snapshotRepository
+                .findFirstByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+                        accountId, at.toLocalDate().minusDays(1));
+        if (snapshot.isPresent()) {
+            LocalDateTime covered = snapshot.get().getSnapshotDate().plusDays(1).atStartOfDay();
+            return snapshot.get().getClosingBalance() + scan(accountId, covered, at).net();
+        }
+
+        // 스냅샷이 없으면 현재 잔액에서 at 이후 거래를 되돌림
+        EducationalAccount account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "해당 계좌를 찾을 수 없습니다."));
+        LocalDateTime end = LocalDateTime.now(clock).plusDays(1);
+        return account.getBalance() - (at.isBefore(end) ? scan(accountId, at, end).net() : 0L);
+    }
+
+    /** [from, to) 입금/출금 합계 - 하루 전체가 들어가는 날은 스냅샷 합계, 나머지만 거래 합산 */
+    AccountAmountTotals totalsBetween(Long accountId, LocalDateTime from, LocalDateTime to) {
+        LocalDate firstFullDay = from.toLocalTime().equals(LocalTime.MIDNIGHT)
+                ? from.toLocalDate()
+                : from.toLocalDate().plusDays(1);
+        LocalDate lastFullDay = to.toLocalDate().minusDays(1);
+        if (firstFullDay.isAfter(lastFullDay)) {
+            return scan(accountId, from, to);
+        }
+
+        Map<LocalDate, AccountBalanceSnapshot> snapshots = snapshotRepository
+                .findByAccountIdAndSnapshotDateBetween(accountId, firstFullDay, lastFullDay).stream()
+                .collect(Collectors.toMap(AccountBalanceSnapshot::getSnapshotDate, Function.identity()));
+
+        long deposit = 0L;
+        long withdraw = 0L;
+        LocalDateTime pendingFrom = from;       // 아직 합산하지 않은 구간의 시작 (null = 없음)
+        for (LocalDate day = firstFullDay; !day.isAfter(lastFullDay); day = day.plusDays(1)) {
+            AccountBalanceSnapshot snapshot = snapshots.get(day);
+            if (snapshot == null) {
+                if (pendingFrom == null) {
+                    pendingFrom = day.atStartOfDay();
+                }
+                continue;
+            }
+            if (pendingFrom != null && pendingFrom.isBefore(day.atStartOfDay())) {
+                AccountAmountTotals scanned = scan(accountId, pendingFrom, day.atStartOfDay());
+                deposit += scanned.depositTotal();
+                withdraw += scanned.withdrawTotal();
+            }
+            pendingFrom = null;
+            deposit += snapshot.getDepositTotal();
+            withdraw += snapshot.getWithdrawTotal();
+        }
+        LocalDateTime tailFrom = pendingFrom != null ? pendingFrom : lastFullDay.plusDays(1).atStartOfDay();
+        if (tailFrom.isBefore(to)) {
+            AccountAmountTotals scanned = scan(accountId, tailFrom, to);
+            deposit += scanned.depositTotal();
+            withdraw += scanned.withdrawTotal();
+        }
+        return new AccountAmountTotals(accountId, deposit, withdraw);
+    }
+
+    private AccountAmountTotals scan(Long accountId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return AccountAmountTotals.empty(accountId);
+        }
+        return transactionHistoryRepository.sumTotalsByAccount(List.of(accountId), from, to).stream()
+                .findFirst()
+                .orElse(AccountAmountTotals.empty(accountId));
+    }
+
+    private void validateAccountOwnership(String username, Long accountId) {
+        if (accountId == null) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST, "계좌 ID는 필수입니다.");
+        }
+        if (!accountOwnershipCache.isOwner(accountId, username)) {
+            throw new CommonException(ErrorCode.ENTITY_NOT_FOUND, "해당 계좌를 찾을 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package dev.woori.wooriLearn.domain.edubankapi.balance.service;
+
+import dev.woori.wooriLearn.domain.edubankapi.balance.dto.AccountAmountTotals;
+import dev.woori.wooriLearn.domain.edubankapi.balance.entity.AccountBalanceSnapshot;
+import dev.woori.wooriLearn.domain.edubankapi.balance.repository.AccountBalanceSnapshotRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiAccountRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiTransactionHistoryRepository;
+import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일별 잔액 스냅샷 작성 (계좌 페이지 단위 트랜잭션)
+ *
+ * - 전날 스냅샷이 있으면: 전날 마감 잔액 + 당일 거래 합계 (당일 거래만 읽음)
+ * - 없으면 (첫 실행, 배치 누락): 현재 잔액 - 다음날 00:00 이후 거래 합계
+ *   잔액과 거래 합계를 같은 트랜잭션의 일관된 읽기로 계산
+ * - 이미 스냅샷이 있는 계좌는 건너뜀 (같은 날짜로 재실행해도 안전)
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceSnapshotService {
+
+    private final AccountBalanceSnapshotRepository snapshotRepository;
+    private final EdubankapiAccountRepository accountRepository;
+    private final EdubankapiTransactionHistoryRepository transactionHistoryRepository;
+    private final Clock clock;
+
+    /** @return 새로 작성한 스냅샷 수 */
+    @Transactional
+    public int writeSnapshots(LocalDate snapshotDate, List<Long> accountIds) {
+        Set<Long> done = snapshotRepository.findByAccountIdInAndSnapshotDate(accountIds, snapshotDate).stream()
+                .map(AccountBalanceSnapshot::getAccountId)
+                .collect(Collectors.toSet());
+        List<Long> targets = accountIds.stream().filter(id -> !done.contains(id)).toList();
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime dayStart = snapshotDate.atStartOfDay();
+        LocalDateTime nextDayStart = snapshotDate.plusDays(1).atStartOfDay();
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        Map<Long, AccountBalanceSnapshot> previous = snapshotRepository
+                .findByAccountIdInAndSnapshotDate(targets, snapshotDate.minusDays(1)).stream()
+                .collect(Collectors.toMap(AccountBalanceSnapshot::getAccountId, Function.identity()));
+        Map<Long, AccountAmountTotals> dayTotals = totalsByAccount(targets, dayStart, nextDayStart);
+
+        List<Long> anchors = targets.stream().filter(id -> !previous.containsKey(id)).toList();
+        Map<Long, Integer> currentBalances = Map.of();
+        Map<Long, AccountAmountTotals> afterTotals = Map.of();
+        if (!anchors.isEmpty()) {
+            currentBalances = accountRepository.findAllById(anchors).stream()
+                    .collect(Collectors.toMap(EducationalAccount::getId, EducationalAccount::getBalance));
+            // 거래일시는 서버 시각 기준이므로 하루 여유를 두고 끝까지 합산
+            afterTotals = totalsByAccount(anchors, nextDayStart, now.plusDays(1));
+        }
+
+        List<AccountBalanceSnapshot> snapshots = new ArrayList<>(targets.size());
+        for (Long accountId : targets) {
+            AccountAmountTotals day = dayTotals.getOrDefault(accountId, AccountAmountTotals.empty(accountId));
+            long closingBalance;
+            AccountBalanceSnapshot prev = previous.get(accountId);
+            if (prev != null) {
+                closingBalance = prev.getClosingBalance() + day.net();
+            } else {
+                Integer current = currentBalances.get(accountId);
+                if (current == null) {
+                    continue; // 조회 사이 삭제된 계좌
+                }
+                closingBalance = current - afterTotals.getOrDefault(accountId, AccountAmountTotals.empty(accountId)).net();
+            }
+            snapshots.add(AccountBalanceSnapshot.of(accountId, snapshotDate, closingBalance,
+                    day.depositTotal(), day.withdrawTotal(), now));
+        }
+        snapshotRepository.saveAll(snapshots);
+        return snapshots.size();
+    }
+
+    private Map<Long, AccountAmountTotals> totalsByAccount(List<Long> accountIds, LocalDateTime from, LocalDateTime to) {
+        return transactionHistoryRepository.sumTotalsByAccount(accountIds, from, to).stream()
+                .collect(Collectors.toMap(AccountAmountTotals::accountId, Function.identity()));
+    }
+}
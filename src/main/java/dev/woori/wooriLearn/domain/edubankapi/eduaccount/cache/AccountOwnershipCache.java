@@ -0,0 +1,111 @@
+package dev.woori.wooriLearn.domain.edubankapi.eduaccount.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiAccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 교육용 계좌 소유자 캐시 (계좌 ID -> 소유자 userId)
+ *
+ * 계좌 소유자는 계좌 생성 후 바뀌지 않으므로, 조회 API 마다 users 를 조인해 소유권을 확인하는 대신
+ * 2단계 캐시로 확인한다.
+ *
+ * - 1단계: 서버 로컬 Caffeine (최대 local-max-size 건, local-ttl 후 만료)
+ * - 2단계: Redis account-owner:{계좌ID} (redis-ttl 후 만료)
+ * - 둘 다 없으면 DB 조회 후 양쪽에 채움 (없는 계좌는 캐시하지 않음)
+ * - 계좌 삭제 시 evict 로 무효화 (다른 서버의 로컬 캐시는 local-ttl 안에 만료)
+ *
+ * Redis 장애 시에는 로컬 캐시와 DB 만으로 동작한다.
+ */
+@Slf4j
+@Component
+public class AccountOwnershipCache {
+
+    private static final String KEY_PREFIX = "account-owner:";
+
+    private final EdubankapiAccountRepository accountRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration redisTtl;
+    private final Cache<Long, String> local;
+
+    public AccountOwnershipCache(EdubankapiAccountRepository accountRepository,
+                                 StringRedisTemplate redisTemplate,
+                                 @Value("${app.account-ownership-cache.local-max-size:10000}") long localMaxSize,
+                                 @Value("${app.account-ownership-cache.local-ttl:10m}") Duration localTtl,
+                                 @Value("${app.account-ownership-cache.redis-ttl:7d}") Duration redisTtl) {
+        this.accountRepository = accountRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = redisTtl;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    /**
+     * @return 계좌가 존재하고 userId 소유이면 true
+     */
+    public boolean isOwner(Long accountId, String userId) {
+        if (accountId == null || userId == null) {
+            return false;
+        }
+        return findOwner(accountId).map(userId::equals).orElse(false);
+    }
+
+    /**
+     * 계좌 소유자 userId 조회 (로컬 -> Redis -> DB)
+     */
+    public Optional<String> findOwner(Long accountId) {
+        String owner = local.getIfPresent(accountId);
+        if (owner != null) {
+            return Optional.of(owner);
+        }
+
+        owner = readRedis(accountId);
+        if (owner == null) {
+            owner = accountRepository.findOwnerUserIdById(accountId).orElse(null);
+            if (owner == null) {
+                return Optional.empty();
+            }
+            writeRedis(accountId, owner);
+        }
+        local.put(accountId, owner);
+        return Optional.of(owner);
+    }
+
+    /**
+     * 계좌 삭제 시 호출
+     */
+    public void evict(Long accountId) {
+        local.invalidate(accountId);
+        try {
+            redisTemplate.delete(KEY_PREFIX + accountId);
+        } catch (RuntimeException e) {
+            log.warn("[계좌 소유자 캐시] Redis 무효화 실패 - accountId={}", accountId, e);
+        }
+    }
+
+    private String readRedis(Long accountId) {
+        try {
+            return redisTemplate.opsForValue().get(KEY_PREFIX + accountId);
+        } catch (RuntimeException e) {
+            log.warn("[계좌 소유자 캐시] Redis 조회 실패, DB 로 확인 - accountId={}", accountId, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(Long accountId, String owner) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + accountId, owner, redisTtl);
+        } catch (RuntimeException e) {
+            log.warn("[계좌 소유자 캐시] Redis 저장 실패 - accountId={}", accountId, e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.woori.wooriLearn.domain.edubankapi.eduaccount.controller;
+
+import dev.woori.wooriLearn.config.response.ApiResponse;
+import dev.woori.wooriLearn.config.response.BaseResponse;
+import dev.woori.wooriLearn.config.response.SuccessCode;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.BulkTransferRequest;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.service.EdubankapiBulkTransferService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class AdminBulkTransferController {
+
+    private final EdubankapiBulkTransferService bulkTransferService;
+
+    // 수업 실습용 일괄 계좌이체 (건별 결과 반환)
+    @PostMapping("/admin/education/transfers/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BaseResponse<?>> bulkTransfer(@Valid @RequestBody BulkTransferRequest request) {
+        return ApiResponse.success(SuccessCode.OK, bulkTransferService.transfer(request));
+    }
+}
@@ -1,5 +1,6 @@
 package dev.woori.wooriLearn.domain.edubankapi.eduaccount.controller;
 
+import dev.woori.wooriLearn.config.idempotency.IdempotencyService;
 import dev.woori.wooriLearn.config.response.ApiResponse;
 import dev.woori.wooriLearn.config.response.BaseResponse;
 import dev.woori.wooriLearn.config.response.SuccessCode;
@@ -13,7 +14,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiAccountDto;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiTransactionHistoryDto;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiTransactionPageDto;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiTransferRequestDto;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiTransferResponseDto;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.PasswordCheckRequest;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.TransactionListReqDto;
 
@@ -30,6 +33,8 @@ public class EdubankapiAccountController {
     private final EdubankapiAccountService edubankapiAccountService;
     // 실제 계좌이체 로직(출금, 입금, 예외처리 등)은 Service에서 수행
     private final EdubankapiTransferService transferService;
+    // Idempotency-Key 헤더가 있으면 재시도 시 보관된 응답 반환
+    private final IdempotencyService idempotencyService;
 
     /**
      *   계좌 목록 조회
@@ -76,18 +81,49 @@ public class EdubankapiAccountController {
         return ApiResponse.success(SuccessCode.OK, transactions);
     }
 
+    /**
+     *      거래내역 페이지 조회 (무한 스크롤)
+     *      GET /education/accounts/transactions/page
+     *      - 조회 조건은 거래내역 목록 조회와 같고, size(기본 30, 최대 100) 만큼 최신순으로 반환
+     *      - 응답의 nextCursor 를 다음 요청의 cursor 로 전달 (hasNext=false 면 마지막 페이지)
+     *
+     *      @param username JWT 토큰에서 추출한 사용자 ID
+     *      @param request accountId, period, startDate, endDate, type, cursor, size 쿼리 파라미터
+     */
+    @GetMapping("/transactions/page")
+    public ResponseEntity<BaseResponse<?>> getTransactionPage(
+            @AuthenticationPrincipal String username,
+            @Valid TransactionListReqDto request) {
+
+        EdubankapiTransactionPageDto page =
+                edubankapiAccountService.getTransactionPage(
+                        username,
+                        request.accountId(),
+                        request.periodOrDefault(),
+                        request.startDate(),
+                        request.endDate(),
+                        request.typeOrDefault(),
+                        request.cursor(),
+                        request.size());
+
+        return ApiResponse.success(SuccessCode.OK, page);
+    }
+
     /**
      *      계좌이체 실행
      *      POST /accounts/transfer
      *      - 요청 Body: EdubankapiTransferRequestDto(JSON)
      *      - 응답 Body: EdubankapiTransferResponseDto(JSON)
+     *      - Idempotency-Key 헤더(선택): 같은 키로 재시도하면 이체를 다시 실행하지 않고 처음 응답을 반환
      *
      *      @param username JWT 토큰에서 추출한 사용자 ID
+     *      @param idempotencyKey 중복 이체 방지 키
      *      @param request 계좌이체 요청 정보
      */
     @PostMapping("/transfer")
     public ResponseEntity<BaseResponse<?>> transfer(
             @AuthenticationPrincipal String username,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestBody EdubankapiTransferRequestDto request) {
 
         /*
@@ -96,7 +132,10 @@ public class EdubankapiAccountController {
              → 실제 계좌 잔액 검증, 출금 처리, 입금 처리, 거래내역 저장 등을 수행
              → 그 결과로 Response DTO 반환
          */
-        return ApiResponse.success(SuccessCode.OK, transferService.transfer(username, request));
+        EdubankapiTransferResponseDto response = idempotencyService.execute(
+                "transfer", username, idempotencyKey, request, EdubankapiTransferResponseDto.class,
+                () -> transferService.transfer(username, request));
+        return ApiResponse.success(SuccessCode.OK, response);
     }
 
     /**
@@ -0,0 +1,32 @@
+package dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 일괄 계좌이체 요청 (수업 실습용, 관리자 전용)
+ */
+public record BulkTransferRequest(
+        @NotEmpty(message = "이체 목록은 비어 있을 수 없습니다.")
+        @Size(max = 5000, message = "한 번에 최대 5000건까지 이체할 수 있습니다.")
+        List<@Valid Item> transfers
+) {
+    public record Item(
+            @NotBlank(message = "출금 계좌번호는 필수입니다.")
+            String fromAccountNumber,
+            @NotBlank(message = "입금 계좌번호는 필수입니다.")
+            String toAccountNumber,
+            @NotNull(message = "이체 금액은 필수입니다.")
+            @Positive(message = "이체 금액은 0보다 커야 합니다.")
+            Integer amount,
+            @Size(max = 30, message = "표시 이름은 30자 이하여야 합니다.")
+            String displayName
+    ) {
+    }
+}
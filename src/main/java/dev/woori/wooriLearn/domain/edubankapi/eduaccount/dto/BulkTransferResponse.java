@@ -0,0 +1,41 @@
+package dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 계좌이체 결과 (results 는 요청 순서와 같음)
+ */
+public record BulkTransferResponse(
+        int requested,
+        int succeeded,
+        int failed,
+        List<ItemResult> results
+) {
+    public enum Status {
+        SUCCEEDED, FAILED
+    }
+
+    /**
+     * @param index        요청 목록에서의 위치 (0부터)
+     * @param balanceAfter 성공 시 출금 계좌의 이체 후 잔액
+     */
+    public record ItemResult(
+            int index,
+            Status status,
+            Integer balanceAfter,
+            String message
+    ) {
+        public static ItemResult succeeded(int index, int balanceAfter) {
+            return new ItemResult(index, Status.SUCCEEDED, balanceAfter, "이체가 완료되었습니다.");
+        }
+
+        public static ItemResult failed(int index, String message) {
+            return new ItemResult(index, Status.FAILED, null, message);
+        }
+    }
+
+    public static BulkTransferResponse of(List<ItemResult> results) {
+        int succeeded = (int) results.stream().filter(r -> r.status() == Status.SUCCEEDED).count();
+        return new BulkTransferResponse(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
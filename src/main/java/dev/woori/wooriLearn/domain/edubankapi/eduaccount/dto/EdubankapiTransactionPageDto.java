@@ -0,0 +1,15 @@
+package dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto;
+
+import java.util.List;
+
+/**
+ * 거래내역 페이지 응답
+ *
+ * @param nextCursor 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+ */
+public record EdubankapiTransactionPageDto(
+        List<EdubankapiTransactionHistoryDto> transactions,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,41 @@
+package dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 거래내역 keyset 커서 (마지막으로 내려준 거래의 transactionDate, id)
+ *
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출하고, 다음 페이지 요청 시 그대로 돌려받는다.
+ */
+public record TransactionCursor(LocalDateTime transactionDate, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /** 첫 페이지: 조회 종료 시각 이하 전체 */
+    public static TransactionCursor first(LocalDateTime end) {
+        return new TransactionCursor(end, Long.MAX_VALUE);
+    }
+
+    public String encode() {
+        String raw = transactionDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
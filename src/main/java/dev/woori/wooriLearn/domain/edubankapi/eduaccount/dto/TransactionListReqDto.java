@@ -1,5 +1,7 @@
 package dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.format.annotation.DateTimeFormat;
 
@@ -13,7 +15,11 @@ public record TransactionListReqDto(
         LocalDate startDate, // 직접 시작일 지정
         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
         LocalDate endDate,   // 직접 종료일 지정
-        String type // 거래구분 필터, 기본 전체 보기
+        String type, // 거래구분 필터, 기본 전체 보기
+        String cursor, // 이전 페이지 응답의 nextCursor (페이지 조회 전용)
+        @Min(value = 1, message = "size는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "size는 100 이하여야 합니다.")
+        Integer size // 페이지 크기, 기본 30 (페이지 조회 전용)
 ) {
     public String typeOrDefault() {
         return (type == null || type.isBlank()) ? "ALL" : type;
@@ -2,12 +2,14 @@ package dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository;
 
 import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,6 +50,21 @@ public interface EdubankapiAccountRepository extends JpaRepository<EducationalAc
     @Query(FIND_BY_ACCOUNT_NUMBER_QUERY)
     Optional<EducationalAccount> findByAccountNumber(@Param("accountNumber") String accountNumber);
 
+    /**
+     * [이체/수정용] 여러 계좌를 한 번의 쿼리로 비관적 락 조회
+     *
+     * - WHERE account_number IN (...) ORDER BY account_number FOR UPDATE
+     * - 계좌번호 unique 인덱스를 정렬 순서대로 읽으며 락을 잡으므로, 계좌를 하나씩 정렬 순서로 잠그는 것과 같은 순서 보장
+     * - 여러 계좌를 수정하는 작업(계좌이체, 자동이체 실행, 일괄 이체)은 이 메서드로 락을 잡아 교착을 피함
+     * - 없는 계좌번호는 결과에서 빠짐 (빈 컬렉션은 전달하지 말 것)
+     *
+     * @param accountNumbers 계좌번호 목록
+     * @return 계좌번호 오름차순 계좌 목록 (User 정보 포함)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM EducationalAccount e JOIN FETCH e.user WHERE e.accountNumber IN :accountNumbers ORDER BY e.accountNumber")
+    List<EducationalAccount> findAllByAccountNumberInForUpdate(@Param("accountNumbers") Collection<String> accountNumbers);
+
     /**
      * [단순 조회용] 계좌번호로 계좌 조회 (비관적 락 X)
      *
@@ -74,15 +91,21 @@ public interface EdubankapiAccountRepository extends JpaRepository<EducationalAc
     Optional<EducationalAccount> findByIdWithUser(@Param("id") Long id);
 
     /**
-     * 계좌 소유권 존재 여부 확인 (효율적인 쿼리)
-     *
-     * 목록 조회 API에서 소유권만 확인할 때 사용
-     * SELECT COUNT(*) 쿼리로 엔티티를 로드하지 않고 존재 여부만 확인
+     * 계좌 소유자 로그인 ID 조회 (AccountOwnershipCache 미스 시 사용)
      *
      * @param id 계좌 ID
-     * @param userId 사용자 ID (String login ID)
-     * @return 계좌가 존재하고 해당 사용자 소유인지 여부
+     * @return 소유자 userId (계좌가 없으면 empty)
+     */
+    @Query("SELECT u.userId FROM EducationalAccount e JOIN e.user u WHERE e.id = :id")
+    Optional<String> findOwnerUserIdById(@Param("id") Long id);
+
+    /**
+     * 계좌 ID keyset 페이지 조회 (배치용)
+     *
+     * @param afterId 이전 페이지 마지막 ID (첫 페이지: 0)
+     * @return afterId 보다 큰 계좌 ID 목록 (오름차순)
      */
-    boolean existsByIdAndUser_UserId(Long id, String userId);
+    @Query("SELECT e.id FROM EducationalAccount e WHERE e.id > :afterId ORDER BY e.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 
 }
\ No newline at end of file
@@ -1,31 +1,77 @@
 package dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository;
 
 
+import dev.woori.wooriLearn.domain.edubankapi.balance.dto.AccountAmountTotals;
 import dev.woori.wooriLearn.domain.edubankapi.entity.TransactionHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface EdubankapiTransactionHistoryRepository extends JpaRepository<TransactionHistory, Long> {
 
     /**
-     *  특정 계좌번호에 해당하는 거래내역을 기간 기준으로 조회하기
-     *  최신순으로 정렬 (desc)
+     *  특정 계좌의 거래내역을 기간 + 금액 범위 기준으로 최신순 keyset 페이지 조회
+     *  (transactionDate, id) 가 커서보다 작은 거래부터 pageable 크기만큼 반환
+     *  idx_transaction_history_account_date_id (account_id, transaction_date, id) 를 역순으로 읽음
      *
-     *  @param accountId 계좌번호
+     *  @param accountId 계좌 ID
      *  @param startDate 조회 시작일
      *  @param endDate 조회 종료일
+     *  @param minAmount 최소 금액 (입금만: 1)
+     *  @param maxAmount 최대 금액 (출금만: -1)
+     *  @param cursorDate 커서 거래일시 (첫 페이지: endDate)
+     *  @param cursorId 커서 거래 ID (첫 페이지: Long.MAX_VALUE)
      *  @return 거래내역 리스트
      */
-
-    @Query("SELECT th FROM TransactionHistory th WHERE th.account.id = :accountId AND th.transactionDate BETWEEN :startDate AND :endDate ORDER BY th.transactionDate DESC")
-    List<TransactionHistory> findTransactionsByAccountIdAndDateRange(
+    @Query("""
+            SELECT th FROM TransactionHistory th
+             WHERE th.account.id = :accountId
+               AND th.transactionDate BETWEEN :startDate AND :endDate
+               AND th.amount BETWEEN :minAmount AND :maxAmount
+               AND (th.transactionDate < :cursorDate
+                    OR (th.transactionDate = :cursorDate AND th.id < :cursorId))
+             ORDER BY th.transactionDate DESC, th.id DESC
+            """)
+    List<TransactionHistory> findPage(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
+            @Param("endDate") LocalDateTime endDate,
+            @Param("minAmount") Integer minAmount,
+            @Param("maxAmount") Integer maxAmount,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     *  계좌별 [from, to) 구간 입금/출금 합계 (거래가 없는 계좌는 결과에 없음)
+     *  계좌마다 idx_transaction_history_account_date_id 범위 탐색
+     *
+     *  @param accountIds 계좌 ID 목록
+     *  @param from 구간 시작 (포함)
+     *  @param to 구간 끝 (미포함)
+     *  @return 계좌별 합계 (출금 합계는 양수)
+     */
+    @Query("""
+            SELECT new dev.woori.wooriLearn.domain.edubankapi.balance.dto.AccountAmountTotals(
+                       th.account.id,
+                       SUM(CASE WHEN th.amount > 0 THEN th.amount ELSE 0 END),
+                       SUM(CASE WHEN th.amount < 0 THEN -th.amount ELSE 0 END))
+              FROM TransactionHistory th
+             WHERE th.account.id IN :accountIds
+               AND th.transactionDate >= :from
+               AND th.transactionDate < :to
+             GROUP BY th.account.id
+            """)
+    List<AccountAmountTotals> sumTotalsByAccount(
+            @Param("accountIds") Collection<Long> accountIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
     );
 
 }
@@ -0,0 +1,89 @@
+package dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository;
+
+import dev.woori.wooriLearn.domain.edubankapi.entity.TransactionHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 조건부 UPDATE 기반 이체용 JDBC 쿼리
+ *
+ * 엔티티를 락으로 읽어 자바에서 잔액을 바꾸는 대신, 잔액 검사와 변경을 한 문장으로 처리한다.
+ * - 출금: 비밀번호 해시가 검증 시점과 같고 balance >= amount 인 경우에만 차감
+ *   (영향 행 0 = 잔액 부족 / 비밀번호 변경 / 계좌 없음)
+ * - 입금: 무조건 증가
+ * - 거래내역: JDBC batch INSERT (IDENTITY 키라 JPA 로는 batch 가 되지 않음)
+ *
+ * 반드시 호출 측 트랜잭션 안에서 사용해야 하며, UPDATE 로 잡힌 행 락은 그 트랜잭션이 끝날 때까지만 유지된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EdubankapiTransferJdbcRepository {
+
+    public static final String DEBIT_SQL = """
+            UPDATE educational_account
+               SET balance = balance - ?
+             WHERE account_number = ? AND account_password = ? AND balance >= ?
+            """;
+
+    public static final String CREDIT_SQL = """
+            UPDATE educational_account
+               SET balance = balance + ?
+             WHERE account_number = ?
+            """;
+
+    public static final String SELECT_PASSWORD_SQL = """
+            SELECT account_password FROM educational_account WHERE account_number = ?
+            """;
+
+    public static final String SELECT_BALANCE_SQL = """
+            SELECT balance FROM educational_account WHERE account_number = ?
+            """;
+
+    public static final String INSERT_HISTORY_SQL = """
+            INSERT INTO transaction_history
+                   (account_id, transaction_date, counterparty_name, display_name, amount, description)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param passwordHash 검증에 사용한 비밀번호 해시 (그 사이 바뀌었으면 차감하지 않음)
+     * @return 차감되었으면 true (잔액 부족 / 비밀번호 변경 / 계좌 없음이면 false)
+     */
+    public boolean debit(String accountNumber, int amount, String passwordHash) {
+        return jdbcTemplate.update(DEBIT_SQL, amount, accountNumber, passwordHash, amount) == 1;
+    }
+
+    /** @return 입금되었으면 true (계좌 없음이면 false) */
+    public boolean credit(String accountNumber, int amount) {
+        return jdbcTemplate.update(CREDIT_SQL, amount, accountNumber) == 1;
+    }
+
+    /** 차감 실패 원인 구분용 현재 비밀번호 해시 */
+    public Optional<String> findPasswordHash(String accountNumber) {
+        return jdbcTemplate.queryForList(SELECT_PASSWORD_SQL, String.class, accountNumber).stream().findFirst();
+    }
+
+    /** 같은 트랜잭션에서 변경한 뒤의 잔액 */
+    public Optional<Integer> findBalance(String accountNumber) {
+        return jdbcTemplate.queryForList(SELECT_BALANCE_SQL, Integer.class, accountNumber).stream().findFirst();
+    }
+
+    /** 거래내역 batch INSERT (account 는 id 만 사용) */
+    public void insertHistories(List<TransactionHistory> histories) {
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, histories, histories.size(), (ps, h) -> {
+            ps.setLong(1, h.getAccount().getId());
+            ps.setTimestamp(2, Timestamp.valueOf(h.getTransactionDate()));
+            ps.setString(3, h.getCounterpartyName());
+            ps.setString(4, h.getDisplayName());
+            ps.setInt(5, h.getAmount());
+            ps.setString(6, h.getDescription());
+        });
+    }
+}
@@ -2,9 +2,12 @@ package dev.woori.wooriLearn.domain.edubankapi.eduaccount.service;
 
 import dev.woori.wooriLearn.config.exception.CommonException;
 import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.cache.AccountOwnershipCache;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiAccountDto;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiTransactionHistoryDto;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiTransactionPageDto;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.PasswordCheckRequest;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.TransactionCursor;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.validation.PeriodType;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.validation.TransactionType;
 import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
@@ -14,6 +17,7 @@ import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiTr
 import dev.woori.wooriLearn.domain.user.entity.Users;
 import dev.woori.wooriLearn.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +37,7 @@ public class EdubankapiAccountService {
     private final EdubankapiTransactionHistoryRepository edubankapiTransactionHistoryRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AccountOwnershipCache accountOwnershipCache;
 
     /**
      *      사용자 username을 통해 계좌 목록 조회 (JWT 인증용)
@@ -57,8 +62,12 @@ public class EdubankapiAccountService {
                 .collect(Collectors.toList());
     }
 
+    /** 거래내역 기본 페이지 크기 */
+    public static final int DEFAULT_PAGE_SIZE = 30;
+
     /**
      *   거래내역 목록 조회 (보안 강화: 계좌 소유권 검증 추가)
+     *   최신순 첫 페이지(30건)만 반환 - 이어서 조회하려면 getTransactionPage 사용
      *
      *   @param username JWT 토큰에서 추출한 사용자 ID
      *   @param accountId 조회할 계좌 ID
@@ -74,6 +83,29 @@ public class EdubankapiAccountService {
             LocalDate startDate,
             LocalDate endDate,
             String type
+    ) {
+        return getTransactionPage(username, accountId, period, startDate, endDate, type, null, DEFAULT_PAGE_SIZE)
+                .transactions();
+    }
+
+    /**
+     *   거래내역 keyset 페이지 조회
+     *
+     *   - (transactionDate, id) 커서 기준으로 다음 페이지를 조회하므로 페이지가 깊어져도 비용이 일정
+     *   - 입금/출금 필터와 건수 제한은 SQL 에서 처리 (size + 1 건을 읽어 다음 페이지 여부 판단)
+     *
+     *   @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     *   @param size 페이지 크기 (null 이면 30)
+     */
+    public EdubankapiTransactionPageDto getTransactionPage(
+            String username,
+            Long accountId,
+            String period,
+            LocalDate startDate,
+            LocalDate endDate,
+            String type,
+            String cursor,
+            Integer size
     ) {
         // 0. 계좌 소유권 검증
         validateAccountOwnership(username, accountId);
@@ -101,22 +133,33 @@ public class EdubankapiAccountService {
             start = end.minusMonths(1);
         }
 
-        // 3. DB 조회
-        List<TransactionHistory> histories =
-                edubankapiTransactionHistoryRepository.findTransactionsByAccountIdAndDateRange(
-                        accountId, start, end
-                );
-
-        // 4. 거래 유형 필터링
-        return histories.stream()
-                .filter(h -> switch (transactionType) {
-                    case ALL -> true;
-                    case DEPOSIT -> h.getAmount() > 0;
-                    case WITHDRAW -> h.getAmount() < 0;
-                })
-                .limit(30)
-                .map(EdubankapiTransactionHistoryDto::from)
-                .collect(Collectors.toList());
+        // 3. 거래 유형 -> 금액 범위
+        int minAmount = transactionType == TransactionType.DEPOSIT ? 1 : Integer.MIN_VALUE;
+        int maxAmount = transactionType == TransactionType.WITHDRAW ? -1 : Integer.MAX_VALUE;
+
+        // 4. DB 조회 (size + 1 건)
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        TransactionCursor after = cursor != null && !cursor.isBlank()
+                ? TransactionCursor.decode(cursor)
+                : TransactionCursor.first(end);
+        List<TransactionHistory> histories = edubankapiTransactionHistoryRepository.findPage(
+                accountId, start, end, minAmount, maxAmount,
+                after.transactionDate(), after.id(), PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = histories.size() > pageSize;
+        List<TransactionHistory> page = hasNext ? histories.subList(0, pageSize) : histories;
+        String nextCursor = null;
+        if (hasNext) {
+            TransactionHistory last = page.get(page.size() - 1);
+            nextCursor = new TransactionCursor(last.getTransactionDate(), last.getId()).encode();
+        }
+
+        return new EdubankapiTransactionPageDto(
+                page.stream()
+                        .map(EdubankapiTransactionHistoryDto::from)
+                        .collect(Collectors.toList()),
+                nextCursor,
+                hasNext);
     }
 
     /**
@@ -132,7 +175,8 @@ public class EdubankapiAccountService {
             throw new CommonException(ErrorCode.INVALID_REQUEST, "계좌 ID는 필수입니다.");
         }
 
-        if (!edubankapiAccountRepository.existsByIdAndUser_UserId(accountId, username)) {
+        // 소유자는 바뀌지 않으므로 캐시로 확인 (로컬 -> Redis -> DB)
+        if (!accountOwnershipCache.isOwner(accountId, username)) {
             throw new CommonException(ErrorCode.ENTITY_NOT_FOUND, "해당 계좌를 찾을 수 없습니다.");
         }
     }
@@ -0,0 +1,155 @@
+package dev.woori.wooriLearn.domain.edubankapi.eduaccount.service;
+
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.BulkTransferRequest;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.BulkTransferResponse;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.BulkTransferResponse.ItemResult;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiAccountRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiTransferJdbcRepository;
+import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
+import dev.woori.wooriLearn.domain.edubankapi.entity.TransactionHistory;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 일괄 계좌이체 (수업 실습용, 관리자 전용)
+ *
+ * - 청크에 포함된 계좌 전체를 계좌번호 순 SELECT ... FOR UPDATE 한 번으로 락
+ *   -> 단건 계좌이체/자동이체 실행(lockInOrder)과 같은 순서라 서로 교착되지 않음
+ * - 청크(기본 500건)마다 한 트랜잭션: 잔액은 엔티티에서 변경(계좌당 UPDATE 1회), 거래내역은 JDBC batch INSERT
+ * - 건별 검증 실패(계좌 없음, 잔액 부족 등)는 그 건만 실패로 기록하고 나머지는 계속 처리
+ * - 청크 트랜잭션 자체가 실패하면(락 대기 초과 등) 그 청크의 모든 건을 실패로 기록
+ */
+@Slf4j
+@Service
+public class EdubankapiBulkTransferService {
+
+    private final EdubankapiAccountRepository accountRepository;
+    private final EdubankapiTransferJdbcRepository transferJdbcRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.edubank.bulk-transfer.chunk-size:500}")
+    private int chunkSize = 500;
+
+    public EdubankapiBulkTransferService(EdubankapiAccountRepository accountRepository,
+                                         EdubankapiTransferJdbcRepository transferJdbcRepository,
+                                         EntityManager entityManager,
+                                         PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.transferJdbcRepository = transferJdbcRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public BulkTransferResponse transfer(BulkTransferRequest request) {
+        List<BulkTransferRequest.Item> items = request.transfers();
+        ItemResult[] results = new ItemResult[items.size()];
+
+        // 청크 단위 트랜잭션
+        long startedAt = System.nanoTime();
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, items.size());
+            int chunkStart = from;
+            try {
+                ItemResult[] chunkResults = transactionTemplate.execute(
+                        status -> applyChunk(items, chunkStart, to));
+                System.arraycopy(chunkResults, 0, results, chunkStart, chunkResults.length);
+            } catch (RuntimeException e) {
+                log.error("[일괄 계좌이체] 청크 처리 실패 - items {}~{}", chunkStart, to - 1, e);
+                for (int i = chunkStart; i < to; i++) {
+                    results[i] = ItemResult.failed(i, "일시적인 오류로 처리되지 않았습니다. 다시 시도해 주세요.");
+                }
+            } finally {
+                // OSIV 로 이어지는 영속성 컨텍스트에 이전 청크의 계좌가 남아 있으면 다음 락 조회가 옛 잔액을 돌려줌
+                entityManager.clear();
+            }
+        }
+
+        BulkTransferResponse response = BulkTransferResponse.of(Arrays.asList(results));
+        log.info("[일괄 계좌이체 완료] requested={} succeeded={} failed={} elapsedMs={}",
+                response.requested(), response.succeeded(), response.failed(),
+                (System.nanoTime() - startedAt) / 1_000_000L);
+        return response;
+    }
+
+    private ItemResult[] applyChunk(List<BulkTransferRequest.Item> items, int from, int to) {
+        // 교착 방지 - 계좌번호 정렬 후 이 청크의 계좌를 한 번에 락
+        TreeSet<String> involved = new TreeSet<>();
+        for (int i = from; i < to; i++) {
+            involved.add(items.get(i).fromAccountNumber());
+            involved.add(items.get(i).toAccountNumber());
+        }
+        Map<String, EducationalAccount> locked = new HashMap<>();
+        for (EducationalAccount account : accountRepository.findAllByAccountNumberInForUpdate(involved)) {
+            locked.put(account.getAccountNumber(), account);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        ItemResult[] results = new ItemResult[to - from];
+        List<TransactionHistory> histories = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            BulkTransferRequest.Item item = items.get(i);
+            EducationalAccount fromAccount = locked.get(item.fromAccountNumber());
+            EducationalAccount toAccount = locked.get(item.toAccountNumber());
+            String failure = validate(item, fromAccount, toAccount);
+            if (failure != null) {
+                results[i - from] = ItemResult.failed(i, failure);
+                continue;
+            }
+
+            fromAccount.withdraw(item.amount());
+            toAccount.deposit(item.amount());
+            histories.add(history(fromAccount, -item.amount(), toAccount.getAccountName(), item, "계좌이체(출금)", now));
+            histories.add(history(toAccount, item.amount(), fromAccount.getAccountName(), item, "계좌이체(입금)", now));
+            results[i - from] = ItemResult.succeeded(i, fromAccount.getBalance());
+        }
+
+        if (!histories.isEmpty()) {
+            transferJdbcRepository.insertHistories(histories);
+        }
+        return results;
+    }
+
+    private String validate(BulkTransferRequest.Item item, EducationalAccount fromAccount, EducationalAccount toAccount) {
+        if (item.amount() == null || item.amount() <= 0) {
+            return "이체 금액은 0보다 커야 합니다.";
+        }
+        if (item.fromAccountNumber().equals(item.toAccountNumber())) {
+            return "같은 계좌로는 이체할 수 없습니다.";
+        }
+        if (fromAccount == null) {
+            return "출금 계좌를 찾을 수 없습니다.";
+        }
+        if (toAccount == null) {
+            return "입금 계좌를 찾을 수 없습니다.";
+        }
+        if (fromAccount.getBalance() < item.amount()) {
+            return "잔액이 부족합니다.";
+        }
+        return null;
+    }
+
+    private TransactionHistory history(EducationalAccount account, int amount, String counterparty,
+                                       BulkTransferRequest.Item item, String description, LocalDateTime now) {
+        return TransactionHistory.builder()
+                .account(account)
+                .transactionDate(now)
+                .counterpartyName(counterparty)
+                .displayName(item.displayName())
+                .amount(amount)
+                .description(description)
+                .build();
+    }
+}
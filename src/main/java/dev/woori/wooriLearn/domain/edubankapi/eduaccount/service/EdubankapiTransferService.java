@@ -6,136 +6,364 @@ import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiTransferR
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiTransferResponseDto;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiAccountRepository;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiTransactionHistoryRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiTransferJdbcRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.service.TransferLockMetrics.Mode;
 import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
 import dev.woori.wooriLearn.domain.edubankapi.entity.TransactionHistory;
 import dev.woori.wooriLearn.domain.user.entity.Users;
 import dev.woori.wooriLearn.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class EdubankapiTransferService {
 
     private final EdubankapiAccountRepository accountRepository;
     private final EdubankapiTransactionHistoryRepository transactionHistoryRepository;
+    private final EdubankapiTransferJdbcRepository transferJdbcRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EntityManager entityManager;
+    private final TransferLockMetrics lockMetrics;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 조건부 UPDATE 이체 모드 (기본: 비관적 락 모드)
+     * 받는 계좌 한 곳으로 이체가 몰리는 경우(수업 중 동시 실습 등) 처리량을 높이기 위한 옵션
+     */
+    @Value("${app.edubank.transfer.atomic-update:false}")
+    private boolean atomicUpdate;
+
+    /** 1단계 검증 결과(VerifiedTransfer)의 유효 시간 */
+    @Value("${app.edubank.transfer.verification-ttl-ms:5000}")
+    private long verificationTtlMs = 5000L;
+
+    public EdubankapiTransferService(EdubankapiAccountRepository accountRepository,
+                                     EdubankapiTransactionHistoryRepository transactionHistoryRepository,
+                                     EdubankapiTransferJdbcRepository transferJdbcRepository,
+                                     UserRepository userRepository,
+                                     PasswordEncoder passwordEncoder,
+                                     EntityManager entityManager,
+                                     TransferLockMetrics lockMetrics,
+                                     PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.transactionHistoryRepository = transactionHistoryRepository;
+        this.transferJdbcRepository = transferJdbcRepository;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.entityManager = entityManager;
+        this.lockMetrics = lockMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 계좌이체 (보안 강화: 출금 계좌 소유권 검증 추가)
      * <p>
-     * - 트랜잭션 경계 내에서 실행 (@Transactional)
-     * - JWT 토큰 기반 출금 계좌 소유권 검증
-     * - 비관적 락으로 동시성 제어
-     * - 교착 방지를 위해 계좌번호 기준 정렬 후 락 획득
-     * - 비밀번호/잔액/자기계좌 검증 수행
-     * - 잔액 변경 및 거래내역 저장을 원자적으로 처리
+     * 두 단계로 처리해 BCrypt 비밀번호 확인(~50~100ms) 동안 계좌 행 락을 잡지 않는다.
+     * 1. verify: 락 없는 조회로 소유권/비밀번호/금액 검증 후 짧게 유효한 VerifiedTransfer 발급 (트랜잭션 밖)
+     * 2. 잔액 변경: app.edubank.transfer.atomic-update 설정에 따라
+     *    - 비관적 락 모드 (기본): applyWithLocks
+     *    - 조건부 UPDATE 모드: applyAtomically
      *
      * @param username JWT 토큰에서 추출한 사용자 ID
      * @param request  계좌이체 요청 정보
      */
-    @Transactional
     public EdubankapiTransferResponseDto transfer(String username, EdubankapiTransferRequestDto request) {
 
-        log.info("[계좌이체 요청] username={} from={} to={} amount={} displayName={}",
+        log.info("[계좌이체 요청] username={} from={} to={} amount={} displayName={} atomicUpdate={}",
                 username, request.fromAccountNumber(), request.toAccountNumber(), request.amount(),
-                request.displayName());
+                request.displayName(), atomicUpdate);
+
+        VerifiedTransfer verified = verify(username, request);
+        if (atomicUpdate) {
+            return applyAtomically(verified);
+        }
+        return transactionTemplate.execute(status -> applyWithLocks(verified));
+    }
+
+    /**
+     * 1단계: 락 없이 이체 요청 검증 (트랜잭션 밖에서 호출)
+     * <p>
+     * - 출금 계좌 소유권, 자기계좌, 금액, BCrypt 비밀번호, 잔액(사전 확인) 검증
+     * - 조회한 계좌 엔티티는 영속성 컨텍스트에서 분리한다.
+     *   (OSIV 로 같은 EntityManager 가 2단계까지 이어지면 락 조회가 이 시점의 잔액을 그대로 돌려주므로)
+     */
+    VerifiedTransfer verify(String username, EdubankapiTransferRequestDto request) {
 
-        // 0. 사용자 조회
         Users user = userRepository.findByUserId(username)
                 .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "사용자를 찾을 수 없습니다."));
+        EducationalAccount fromAccount = accountRepository.findByAccountNumberForRead(request.fromAccountNumber())
+                .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "출금 계좌를 찾을 수 없습니다."));
+        EducationalAccount toAccount = accountRepository.findByAccountNumberForRead(request.toAccountNumber())
+                .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "입금 계좌를 찾을 수 없습니다."));
+        entityManager.detach(fromAccount);
+        entityManager.detach(toAccount);
 
-        // 1. 교착 방지 - 락 순서 고정
-        EducationalAccount fromAccount;
-        EducationalAccount toAccount;
+        // 🔒 출금 계좌 소유권 검증 (가장 먼저!)
+        if (!fromAccount.getUser().getId().equals(user.getId())) {
+            throw new CommonException(ErrorCode.FORBIDDEN, "본인 소유의 계좌에서만 출금할 수 있습니다.");
+        }
 
-        if (request.fromAccountNumber().compareTo(request.toAccountNumber()) < 0) {
-            fromAccount = findAccountByNumberOrThrow(request.fromAccountNumber(), "출금");
-            toAccount = findAccountByNumberOrThrow(request.toAccountNumber(), "입금");
-        } else {
-            toAccount = findAccountByNumberOrThrow(request.toAccountNumber(), "입금");
-            fromAccount = findAccountByNumberOrThrow(request.fromAccountNumber(), "출금");
+        // 동일 계좌 송금 금지
+        if (fromAccount.getAccountNumber().equals(toAccount.getAccountNumber())) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST, "같은 계좌로는 이체할 수 없습니다.");
         }
 
-        // 2️. 검증 로직 (출금 계좌 소유권 검증 추가)
-        validateTransfer(user, request, fromAccount, toAccount);
+        // 비밀번호 불일치
+        if (!passwordEncoder.matches(request.accountPassword(), fromAccount.getAccountPassword())) {
+            throw new CommonException(ErrorCode.UNAUTHORIZED, "계좌 비밀번호가 일치하지 않습니다.");
+        }
 
-        // 3️. 잔액 변경 (도메인 메서드로 책임 위임)
-        fromAccount.withdraw(request.amount());
-        toAccount.deposit(request.amount());
+        // 잔액 부족 (락 없는 사전 확인, 최종 판단은 2단계)
+        if (fromAccount.getBalance() < request.amount()) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST, "잔액이 부족합니다.");
+        }
 
-        // 명시적 저장 (Dirty Checking 의존 대신 명확하게)
-        accountRepository.save(fromAccount);
-        accountRepository.save(toAccount);
+        // 금액 유효성
+        if (request.amount() <= 0) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST, "이체 금액은 0보다 커야 합니다.");
+        }
+
+        return new VerifiedTransfer(
+                fromAccount.getId(), fromAccount.getAccountNumber(), fromAccount.getAccountName(),
+                fromAccount.getAccountPassword(),
+                toAccount.getId(), toAccount.getAccountNumber(), toAccount.getAccountName(),
+                request.amount(), request.displayName(),
+                System.nanoTime() + verificationTtlMs * 1_000_000L);
+    }
+
+    /**
+     * 2단계 - 비관적 락 모드
+     * <p>
+     * - 교착 방지를 위해 계좌번호 기준 정렬 후 락 획득
+     * - 락 구간에서는 BCrypt 를 다시 계산하지 않고, 검증한 비밀번호 해시가 그대로인지만 비교
+     * - 잔액 최종 확인 후 잔액 변경 및 거래내역 저장을 원자적으로 처리
+     */
+    private EdubankapiTransferResponseDto applyWithLocks(VerifiedTransfer verified) {
+        checkNotExpired(verified);
+
+        long waitStart = System.nanoTime();
+        LockedAccounts locked = lockInOrder(verified.fromAccountNumber(), verified.toAccountNumber());
+        long lockedAt = System.nanoTime();
+        lockMetrics.recordWait(Mode.PESSIMISTIC, lockedAt - waitStart);
+        try {
+            EducationalAccount fromAccount = locked.from()
+                    .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "출금 계좌를 찾을 수 없습니다."));
+            EducationalAccount toAccount = locked.to()
+                    .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "입금 계좌를 찾을 수 없습니다."));
+
+            // 검증 이후 비밀번호가 바뀌었으면 다시 검증하도록 거절
+            if (!fromAccount.getAccountPassword().equals(verified.fromPasswordHash())) {
+                throw new CommonException(ErrorCode.UNAUTHORIZED, "계좌 비밀번호가 변경되었습니다. 다시 시도해 주세요.");
+            }
+            if (fromAccount.getBalance() < verified.amount()) {
+                throw new CommonException(ErrorCode.INVALID_REQUEST, "잔액이 부족합니다.");
+            }
 
-        // 이름은 서버가 자동 조회
-        String toOwnerName = toAccount.getAccountName();     // 받는 사람
-        String fromOwnerName = fromAccount.getAccountName(); // 보내는 사람
+            // 잔액 변경 + 거래내역 생성 (이름은 서버가 자동 조회)
+            LocalDateTime now = LocalDateTime.now();
+            String toOwnerName = toAccount.getAccountName();     // 받는 사람
+            post(fromAccount, toAccount, verified.amount(), toOwnerName, verified.displayName(),
+                    "계좌이체(출금)", "계좌이체(입금)", now);
+
+            log.info("[계좌이체 완료] from={} to={} amount={} fromBalanceAfter={}",
+                    fromAccount.getAccountNumber(), toAccount.getAccountNumber(), verified.amount(),
+                    fromAccount.getBalance());
+
+            // 응답 DTO 구성 (하이픈 포함된 계좌번호 응답)
+            return EdubankapiTransferResponseDto.of(
+                    "TX-" + UUID.randomUUID().toString().substring(0, 8),
+                    now,
+                    toOwnerName,                  // 받는 사람 이름
+                    verified.amount(),
+                    fromAccount.getBalance(),
+                    "이체가 완료되었습니다.",
+                    fromAccount.getAccountNumber() // DB 원본 계좌번호 (하이픈 없음)
+            );
+        } finally {
+            lockMetrics.recordHold(Mode.PESSIMISTIC, System.nanoTime() - lockedAt);
+        }
+    }
+
+    /**
+     * 2단계 - 조건부 UPDATE 모드
+     * <p>
+     * - 짧은 트랜잭션 하나에서 출금(balance >= amount 조건부 차감) + 입금(증가) + 거래내역 batch INSERT
+     * - 두 UPDATE 도 계좌번호 순서로 실행해 반대 방향 이체끼리 교착되지 않도록 함
+     * - 검증 시점 이후 잔액이 줄었거나 비밀번호가 바뀌었으면 조건부 차감이 0건 -> 전체 롤백
+     *   (비관적 락 모드와 같이 검증한 비밀번호 해시를 차감 조건에 넣어 비교)
+     */
+    private EdubankapiTransferResponseDto applyAtomically(VerifiedTransfer verified) {
+        checkNotExpired(verified);
 
-        // 4️. 거래내역 생성
         LocalDateTime now = LocalDateTime.now();
+        String fromNumber = verified.fromAccountNumber();
+        String toNumber = verified.toAccountNumber();
+        int amount = verified.amount();
+        Integer balanceAfter = transactionTemplate.execute(status -> {
+            long waitStart = System.nanoTime();
+            try {
+                if (fromNumber.compareTo(toNumber) < 0) {
+                    debitOrThrow(fromNumber, amount, verified.fromPasswordHash());
+                    creditOrThrow(toNumber, amount);
+                } else {
+                    creditOrThrow(toNumber, amount);
+                    debitOrThrow(fromNumber, amount, verified.fromPasswordHash());
+                }
+                lockMetrics.recordWait(Mode.ATOMIC_UPDATE, System.nanoTime() - waitStart);
+                transferJdbcRepository.insertHistories(List.of(
+                        history(verified.fromAccountId(), -amount, verified.toAccountName(), verified.displayName(), "계좌이체(출금)", now),
+                        history(verified.toAccountId(), amount, verified.fromAccountName(), verified.displayName(), "계좌이체(입금)", now)));
+                return transferJdbcRepository.findBalance(fromNumber).orElse(null);
+            } finally {
+                lockMetrics.recordHold(Mode.ATOMIC_UPDATE, System.nanoTime() - waitStart);
+            }
+        });
+
+        log.info("[계좌이체 완료] from={} to={} amount={} fromBalanceAfter={} atomicUpdate=true",
+                fromNumber, toNumber, amount, balanceAfter);
 
-        TransactionHistory withdrawHistory = createHistory(
-                fromAccount,
-                -request.amount(),
-                toOwnerName,                 // 받는 사람 이름
-                request.displayName(),
-                "계좌이체(출금)",
-                now);
-
-        TransactionHistory depositHistory = createHistory(
-                toAccount,
-                request.amount(),
-                fromOwnerName,               // 보내는 사람 이름
-                request.displayName(),
-                "계좌이체(입금)",
-                now);
-
-        transactionHistoryRepository.save(withdrawHistory);
-        transactionHistoryRepository.save(depositHistory);
-
-        // 5️. 응답 DTO 구성 (하이픈 포함된 계좌번호 응답)
-        EdubankapiTransferResponseDto response = EdubankapiTransferResponseDto.of(
+        return EdubankapiTransferResponseDto.of(
                 "TX-" + UUID.randomUUID().toString().substring(0, 8),
                 now,
-                toOwnerName,                  // 받는 사람 이름
-                request.amount(),
-                fromAccount.getBalance(),
+                verified.toAccountName(),
+                amount,
+                balanceAfter,
                 "이체가 완료되었습니다.",
-                fromAccount.getAccountNumber() // DB 원본 계좌번호 (하이픈 없음)
+                fromNumber
         );
+    }
 
-        log.info("[계좌이체 완료] from={} to={} amount={} fromBalanceAfter={}",
-                fromAccount.getAccountNumber(), toAccount.getAccountNumber(), request.amount(),
-                fromAccount.getBalance());
+    private void checkNotExpired(VerifiedTransfer verified) {
+        if (verified.isExpired()) {
+            throw new CommonException(ErrorCode.CONFLICT, "이체 확인 시간이 만료되었습니다. 다시 시도해 주세요.");
+        }
+    }
 
-        return response;
+    private void debitOrThrow(String accountNumber, int amount, String passwordHash) {
+        if (transferJdbcRepository.debit(accountNumber, amount, passwordHash)) {
+            return;
+        }
+        // 차감 0건: 검증 이후 비밀번호가 바뀌었으면 다시 검증하도록 거절, 아니면 잔액 부족
+        String currentHash = transferJdbcRepository.findPasswordHash(accountNumber).orElse(null);
+        if (currentHash != null && !currentHash.equals(passwordHash)) {
+            throw new CommonException(ErrorCode.UNAUTHORIZED, "계좌 비밀번호가 변경되었습니다. 다시 시도해 주세요.");
+        }
+        throw new CommonException(ErrorCode.INVALID_REQUEST, "잔액이 부족합니다.");
+    }
+
+    private void creditOrThrow(String accountNumber, int amount) {
+        if (!transferJdbcRepository.credit(accountNumber, amount)) {
+            throw new CommonException(ErrorCode.ENTITY_NOT_FOUND, "입금 계좌를 찾을 수 없습니다.");
+        }
+    }
+
+    /** JDBC batch INSERT 용 거래내역 (계좌는 id 만 사용) */
+    private TransactionHistory history(Long accountId, int amount, String counterparty, String display,
+                                       String description, LocalDateTime date) {
+        return createHistory(EducationalAccount.builder().id(accountId).build(),
+                amount, counterparty, display, description, date);
+    }
+
+    /**
+     * 1단계 검증을 통과한 이체 (한 요청 안에서만 쓰이는 짧은 유효 토큰)
+     *
+     * @param fromPasswordHash 검증에 사용한 출금 계좌 비밀번호 해시 (2단계에서 변경 여부 비교)
+     * @param expiresAtNanos   System.nanoTime 기준 만료 시각
+     */
+    public record VerifiedTransfer(Long fromAccountId,
+                                   String fromAccountNumber,
+                                   String fromAccountName,
+                                   String fromPasswordHash,
+                                   Long toAccountId,
+                                   String toAccountNumber,
+                                   String toAccountName,
+                                   int amount,
+                                   String displayName,
+                                   long expiresAtNanos) {
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+
+    /**
+     * 출금/입금 계좌를 계좌번호 순서대로 비관적 락으로 조회
+     *
+     * 모든 이체 경로(계좌이체, 자동이체 실행, 일괄 이체)가 같은 순서로 락을 잡아야 교착이 생기지 않으므로
+     * 락 획득은 이 메서드(또는 lockAll)로만 한다. 호출 측 트랜잭션에 참여해야 한다.
+     *
+     * @return 조회된 계좌 (없는 계좌는 Optional.empty - 외부 은행 계좌 등)
+     */
+    public LockedAccounts lockInOrder(String fromAccountNumber, String toAccountNumber) {
+        Map<String, EducationalAccount> locked = lockAll(List.of(fromAccountNumber, toAccountNumber));
+        return new LockedAccounts(
+                Optional.ofNullable(locked.get(fromAccountNumber)),
+                Optional.ofNullable(locked.get(toAccountNumber)));
+    }
 
+    /**
+     * 여러 계좌를 한 번의 SELECT ... ORDER BY account_number FOR UPDATE 로 락
+     *
+     * @return 계좌번호 -> 계좌 (없는 계좌번호는 빠짐)
+     */
+    public Map<String, EducationalAccount> lockAll(Collection<String> accountNumbers) {
+        List<String> sorted = accountNumbers.stream().distinct().sorted().toList();
+        Map<String, EducationalAccount> locked = new HashMap<>();
+        for (EducationalAccount account : accountRepository.findAllByAccountNumberInForUpdate(sorted)) {
+            locked.put(account.getAccountNumber(), account);
+        }
+        return locked;
     }
 
     /**
-     * 계좌번호로 계좌 조회 헬퍼 메서드
+     * 검증이 끝난 이체의 잔액 변경 + 거래내역 저장 (계좌이체/자동이체 실행 공통 경로)
      *
-     * 계좌 종류에 따라 동적으로 오류 메시지를 생성하여 일관성을 유지
+     * - 잔액 변경은 도메인 메서드로 책임 위임
+     * - toAccount 가 null 이면 교육용 계좌가 아닌 곳으로의 이체로 보고 출금만 기록
+     * - 호출 측 트랜잭션에 참여하며, 두 계좌 모두 lockInOrder 로 락을 잡은 상태여야 한다.
      *
-     * @param accountNumber 계좌번호
-     * @param accountType 계좌 종류 ("출금" 또는 "입금")
-     * @return 조회된 계좌 (비관적 락 적용됨)
+     * @param withdrawCounterparty 출금 거래내역에 남길 상대방(받는 사람) 이름
      */
-    private EducationalAccount findAccountByNumberOrThrow(String accountNumber, String accountType) {
-        return accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND,
-                        accountType + " 계좌를 찾을 수 없습니다."));
+    public void post(EducationalAccount fromAccount,
+                     EducationalAccount toAccount,
+                     int amount,
+                     String withdrawCounterparty,
+                     String displayName,
+                     String withdrawDescription,
+                     String depositDescription,
+                     LocalDateTime now) {
+        fromAccount.withdraw(amount);
+        // 명시적 저장 (Dirty Checking 의존 대신 명확하게)
+        accountRepository.save(fromAccount);
+        transactionHistoryRepository.save(createHistory(
+                fromAccount, -amount, withdrawCounterparty, displayName, withdrawDescription, now));
+
+        if (toAccount != null) {
+            toAccount.deposit(amount);
+            accountRepository.save(toAccount);
+            transactionHistoryRepository.save(createHistory(
+                    toAccount, amount, fromAccount.getAccountName(), displayName, depositDescription, now));
+        }
     }
 
+    /** lockInOrder 결과 */
+    public record LockedAccounts(Optional<EducationalAccount> from, Optional<EducationalAccount> to) {}
+
     /**
      * 거래내역 생성 헬퍼 메서드
      */
@@ -155,38 +383,4 @@ public class EdubankapiTransferService {
                 .description(description)
                 .build();
     }
-
-    /**
-     * 계좌이체 검증 로직 (보안 강화: 출금 계좌 소유권 검증 추가)
-     */
-    private void validateTransfer(Users user,
-                                  EdubankapiTransferRequestDto request,
-                                  EducationalAccount fromAccount,
-                                  EducationalAccount toAccount) {
-
-        // 🔒 출금 계좌 소유권 검증 (가장 먼저!)
-        if (!fromAccount.getUser().getId().equals(user.getId())) {
-            throw new CommonException(ErrorCode.FORBIDDEN, "본인 소유의 계좌에서만 출금할 수 있습니다.");
-        }
-
-        // 동일 계좌 송금 금지
-        if (fromAccount.getAccountNumber().equals(toAccount.getAccountNumber())) {
-            throw new CommonException(ErrorCode.INVALID_REQUEST, "같은 계좌로는 이체할 수 없습니다.");
-        }
-
-        // 비밀번호 불일치
-        if (!passwordEncoder.matches(request.accountPassword(), fromAccount.getAccountPassword())) {
-            throw new CommonException(ErrorCode.UNAUTHORIZED, "계좌 비밀번호가 일치하지 않습니다.");
-        }
-
-        // 잔액 부족
-        if (fromAccount.getBalance() < request.amount()) {
-            throw new CommonException(ErrorCode.INVALID_REQUEST, "잔액이 부족합니다.");
-        }
-
-        // 금액 유효성
-        if (request.amount() <= 0) {
-            throw new CommonException(ErrorCode.INVALID_REQUEST, "이체 금액은 0보다 커야 합니다.");
-        }
-    }
 }
@@ -0,0 +1,58 @@
+package dev.woori.wooriLearn.domain.edubankapi.eduaccount.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌이체 행 락 지표 (/actuator/metrics)
+ *
+ * - edubank.transfer.lock.wait : 계좌 행 락을 얻기까지 기다린 시간 (비관적 락 조회 / 조건부 UPDATE 실행 시간)
+ * - edubank.transfer.lock.hold : 락을 얻은 뒤 트랜잭션 콜백이 끝날 때까지의 시간 (커밋 제외)
+ *
+ * mode 태그: pessimistic / atomic-update
+ */
+@Component
+public class TransferLockMetrics {
+
+    public enum Mode {
+        PESSIMISTIC("pessimistic"),
+        ATOMIC_UPDATE("atomic-update");
+
+        private final String tag;
+
+        Mode(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final Map<Mode, Timer> waitTimers = new EnumMap<>(Mode.class);
+    private final Map<Mode, Timer> holdTimers = new EnumMap<>(Mode.class);
+
+    public TransferLockMetrics(MeterRegistry registry) {
+        for (Mode mode : Mode.values()) {
+            waitTimers.put(mode, timer(registry, "edubank.transfer.lock.wait", "계좌이체 행 락 대기 시간", mode));
+            holdTimers.put(mode, timer(registry, "edubank.transfer.lock.hold", "계좌이체 행 락 보유 시간", mode));
+        }
+    }
+
+    public void recordWait(Mode mode, long nanos) {
+        waitTimers.get(mode).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHold(Mode mode, long nanos) {
+        holdTimers.get(mode).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String description, Mode mode) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("mode", mode.tag)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+}
@@ -7,7 +7,10 @@ import org.springframework.data.annotation.CreatedDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transaction_history")
+@Table(name = "transaction_history", indexes = {
+        // 계좌별 최신순 keyset 페이지 조회 (transactionDate DESC, id DESC)
+        @Index(name = "idx_transaction_history_account_date_id", columnList = "account_id, transaction_date, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
@@ -0,0 +1,127 @@
+package dev.woori.wooriLearn.domain.scenario.cache;
+
+import dev.woori.wooriLearn.domain.scenario.dto.QuizResDto;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 시나리오의 스텝 그래프를 한 번만 로딩/파싱해 둔 불변 객체
+ *
+ * - 스텝 테이블: 정렬된 long[] id 배열 + 같은 순서의 CompiledStep 배열 (이진 탐색, 박싱 없음)
+ * - 시작 스텝: 저장된 Scenario.startStepId, 없으면 진입 간선(nextStep / 선택지 next)이 없는 스텝 중 최소 id
+ *   (그래도 없으면 최소 id 스텝) -> 간선 규칙은 ScenarioGraphValidator 참고
+ * - title: 컴파일 시점의 시나리오 제목 (문서 응답이 그래프 버전 하나로 결정되도록 함께 보관)
+ * - version: 컴파일될 때마다 증가하는 값, 캐시 무효화 이후 새로 만들어진 그래프인지 구분할 때 사용
+ * - analysis: 컴파일 시 한 번 수행한 정적 분석 결과 (ScenarioGraphAnalyzer)
+ *
+ * 여러 요청이 동시에 공유하므로 생성 이후에는 절대 수정하지 않는다.
+ */
+public final class CompiledScenario {
+
+    private final Long scenarioId;
+    private final String title;
+    private final long version;
+    private final long[] ids;
+    private final CompiledStep[] steps;
+    private final Map<Long, ScenarioStep> byId;
+    private final Long startStepId;
+    private final Map<Long, QuizResDto> quizzes;
+    private final GraphAnalysis analysis;
+
+    CompiledScenario(Long scenarioId,
+                     String title,
+                     long version,
+                     long[] ids,
+                     CompiledStep[] steps,
+                     Map<Long, ScenarioStep> byId,
+                     Long startStepId,
+                     Map<Long, QuizResDto> quizzes) {
+        this(scenarioId, title, version, ids, steps, Collections.unmodifiableMap(byId), startStepId,
+                Collections.unmodifiableMap(quizzes), null);
+    }
+
+    private CompiledScenario(Long scenarioId,
+                             String title,
+                             long version,
+                             long[] ids,
+                             CompiledStep[] steps,
+                             Map<Long, ScenarioStep> byId,
+                             Long startStepId,
+                             Map<Long, QuizResDto> quizzes,
+                             GraphAnalysis analysis) {
+        this.scenarioId = scenarioId;
+        this.title = title;
+        this.version = version;
+        this.ids = ids;
+        this.steps = steps;
+        this.byId = byId;
+        this.startStepId = startStepId;
+        this.quizzes = quizzes;
+        this.analysis = analysis;
+    }
+
+    /** 같은 그래프에 분석 결과를 붙인 사본 (배열/맵은 공유) */
+    CompiledScenario withAnalysis(GraphAnalysis analysis) {
+        return new CompiledScenario(scenarioId, title, version, ids, steps, byId, startStepId, quizzes, analysis);
+    }
+
+    public Long scenarioId() {
+        return scenarioId;
+    }
+
+    public String title() {
+        return title;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * stepId 로 컴파일된 스텝 조회
+     * @return 해당 시나리오에 없는 스텝이면 null
+     */
+    public CompiledStep step(Long stepId) {
+        if (stepId == null) {
+            return null;
+        }
+        int idx = Arrays.binarySearch(ids, stepId);
+        return idx >= 0 ? steps[idx] : null;
+    }
+
+    /** id 오름차순 컴파일된 스텝 목록 (읽기 전용) */
+    public List<CompiledStep> steps() {
+        return Collections.unmodifiableList(Arrays.asList(steps));
+    }
+
+    /** StepContext 에 그대로 넘길 수 있는 stepId -> ScenarioStep 맵 (읽기 전용) */
+    public Map<Long, ScenarioStep> byId() {
+        return byId;
+    }
+
+    public Long startStepId() {
+        return startStepId;
+    }
+
+    public ScenarioStep startStep() {
+        return byId.get(startStepId);
+    }
+
+    /** 컴파일 시 수행한 정적 분석 결과 (분석 전 그래프면 null) */
+    public GraphAnalysis analysis() {
+        return analysis;
+    }
+
+    /** quizId -> 미리 파싱해 둔 QuizResDto */
+    public Map<Long, QuizResDto> quizzes() {
+        return quizzes;
+    }
+}
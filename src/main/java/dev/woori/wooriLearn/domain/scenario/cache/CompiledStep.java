@@ -0,0 +1,88 @@
+package dev.woori.wooriLearn.domain.scenario.cache;
+
+import dev.woori.wooriLearn.domain.scenario.content.ChoiceOption;
+import dev.woori.wooriLearn.domain.scenario.content.ParsedStepContent;
+import dev.woori.wooriLearn.domain.scenario.content.StepMeta;
+import dev.woori.wooriLearn.domain.scenario.dto.RawJsonContent;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
+import dev.woori.wooriLearn.domain.scenario.service.processor.ContentInfo;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 컴파일된 시나리오 그래프 안의 스텝 하나
+ * - content JSON 은 컴파일 시점에 한 번만 파싱(ParsedStepContent)하고, 요청마다 다시 파싱하지 않는다.
+ * - badBranch / badEnding / choices / payload 는 파싱 결과의 필드를 그대로 읽는다.
+ *
+ * @param step          스텝 엔티티 (nextStep / quiz 까지 로딩 완료, 읽기 전용으로만 사용)
+ * @param content       파싱된 content (파싱 실패 시 null -> 런타임에 재파싱하여 동일한 예외 발생)
+ * @param info          파싱된 메타 정보 / choices 존재 여부
+ *                      (파싱 실패 또는 meta 형식 오류 시 null -> 진행 엔진이 재파싱하여 예외, payload 는 그대로 응답 가능)
+ */
+public record CompiledStep(
+        ScenarioStep step,
+        ParsedStepContent content,
+        ContentInfo info
+) {
+    public static CompiledStep of(ScenarioStep step, ParsedStepContent content) {
+        ContentInfo info = (content == null || content.metaInvalid())
+                ? null
+                : new ContentInfo(Optional.ofNullable(content.meta()), content.hasChoices());
+        return new CompiledStep(step, content, info);
+    }
+
+    /** meta.branch == "bad" 여부 */
+    public boolean badBranch() {
+        return content != null && content.badBranch();
+    }
+
+    /** meta.badEnding == true 여부 */
+    public boolean badEnding() {
+        return content != null && content.badEnding();
+    }
+
+    /** 파싱된 선택지 목록 (choices 가 없거나 형식 오류면 null) */
+    public List<ChoiceOption> choices() {
+        return content == null ? null : content.choices();
+    }
+
+    /** 응답용으로 미리 직렬화한 content (파싱 실패 시 null) */
+    public RawJsonContent payload() {
+        return content == null ? null : content.payload();
+    }
+
+    /**
+     * 미리 직렬화한 payload 를 주어진 스텝 응답에 그대로 써도 되는지 확인
+     * - 같은 stepId 라도 캐시 이후 content 가 바뀐 엔티티면 사용하지 않음 (content 자체를 버전으로 취급)
+     */
+    public boolean payloadFor(ScenarioStep other) {
+        return content != null
+                && other != null
+                && Objects.equals(step.getId(), other.getId())
+                && content.isSourceOf(other);
+    }
+
+    public boolean hasChoices() {
+        return info != null && info.hasChoices();
+    }
+
+    /** meta.branch == "bad" 이면 배드 브랜치 */
+    public static boolean isBadBranch(ContentInfo info) {
+        return meta(info)
+                .map(meta -> "bad".equalsIgnoreCase(meta.branch()))
+                .orElse(false);
+    }
+
+    /** meta.badEnding == true 이면 배드 엔딩 */
+    public static boolean isBadEnding(ContentInfo info) {
+        return meta(info)
+                .map(meta -> Boolean.TRUE.equals(meta.badEnding()))
+                .orElse(false);
+    }
+
+    private static Optional<StepMeta> meta(ContentInfo info) {
+        return (info == null || info.meta() == null) ? Optional.empty() : info.meta();
+    }
+}
@@ -0,0 +1,62 @@
+package dev.woori.wooriLearn.domain.scenario.cache;
+
+import java.util.*;
+
+/**
+ * 컴파일된 스텝 그래프 하나에 대한 정적 분석 결과 (그래프 버전마다 한 번 계산, 이후 불변)
+ *
+ * - defects: 발견된 결함 목록
+ * - reachable: 시작 스텝에서 도달 가능한 스텝 id
+ * - stepsToCompletion: 각 스텝에서 정상 경로(배드 브랜치 제외)로 완료 처리까지 남은 최소 이동 수
+ *   (완료 처리되는 마지막 스텝 = 0, 완료까지 갈 수 없는 스텝은 표에 없음)
+ */
+public final class GraphAnalysis {
+
+    private final List<GraphDefect> defects;
+    private final Set<Long> reachable;
+    private final Map<Long, Integer> stepsToCompletion;
+    private final Map<Long, EnumSet<GraphDefect.Type>> defectsByStep;
+
+    GraphAnalysis(List<GraphDefect> defects, Set<Long> reachable, Map<Long, Integer> stepsToCompletion) {
+        this.defects = List.copyOf(defects);
+        this.reachable = Collections.unmodifiableSet(reachable);
+        this.stepsToCompletion = Collections.unmodifiableMap(stepsToCompletion);
+        Map<Long, EnumSet<GraphDefect.Type>> byStep = new HashMap<>();
+        for (GraphDefect d : defects) {
+            if (d.stepId() != null) {
+                byStep.computeIfAbsent(d.stepId(), id -> EnumSet.noneOf(GraphDefect.Type.class)).add(d.type());
+            }
+        }
+        this.defectsByStep = byStep;
+    }
+
+    public List<GraphDefect> defects() {
+        return defects;
+    }
+
+    public boolean isClean() {
+        return defects.isEmpty();
+    }
+
+    public boolean hasDefect(Long stepId, GraphDefect.Type type) {
+        EnumSet<GraphDefect.Type> types = defectsByStep.get(stepId);
+        return types != null && types.contains(type);
+    }
+
+    public boolean isReachable(Long stepId) {
+        return reachable.contains(stepId);
+    }
+
+    public Set<Long> reachable() {
+        return reachable;
+    }
+
+    /** @return 완료까지 남은 최소 이동 수, 완료까지 갈 수 없으면 null */
+    public Integer stepsToCompletion(Long stepId) {
+        return stepsToCompletion.get(stepId);
+    }
+
+    public Map<Long, Integer> stepsToCompletion() {
+        return stepsToCompletion;
+    }
+}
@@ -0,0 +1,39 @@
+package dev.woori.wooriLearn.domain.scenario.cache;
+
+/**
+ * 스텝 그래프 정적 분석에서 발견된 결함 하나
+ *
+ * @param type      결함 종류
+ * @param stepId    결함이 있는 스텝 id (시나리오 전체에 해당하는 결함이면 null)
+ * @param detail    관리자 확인용 상세 설명
+ */
+public record GraphDefect(
+        Type type,
+        Long stepId,
+        String detail
+) {
+    public enum Type {
+        /** 시나리오에 스텝이 하나도 없음 */
+        NO_STEPS,
+        /** 시작 후보(진입 간선 없는 스텝)가 없거나 2개 이상 */
+        START_NOT_UNIQUE,
+        /** nextStep 이 이 시나리오에 없는 스텝을 가리킴 */
+        DANGLING_NEXT,
+        /** 선택지 next 가 이 시나리오에 없는 스텝을 가리킴 */
+        DANGLING_CHOICE_NEXT,
+        /** 시작 스텝에서 도달할 수 없는 스텝 */
+        UNREACHABLE,
+        /** 배드 엔딩 복귀 외의 순환 */
+        CYCLE,
+        /** 하나의 스텝에 quiz 와 choices 가 동시에 존재 */
+        QUIZ_WITH_CHOICES,
+        /** content / meta / choices JSON 파싱 실패 */
+        INVALID_CONTENT,
+        /** 1..totalNormalSteps 중 어느 스텝에도 없는 normalIndex */
+        NORMAL_INDEX_GAP,
+        /** normalIndex 가 1..totalNormalSteps 범위를 벗어남 */
+        NORMAL_INDEX_OUT_OF_RANGE,
+        /** 시작 스텝에서 완료까지 이어지는 정상 경로가 없음 */
+        NO_COMPLETION_PATH
+    }
+}
@@ -0,0 +1,43 @@
+package dev.woori.wooriLearn.domain.scenario.cache;
+
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * 전체 시나리오 수 캐시
+ * - 완료 보상 처리마다 scenarioRepository.count() 를 날리지 않도록 TTL 동안 재사용
+ * - 시나리오 추가/삭제 후 즉시 반영이 필요하면 invalidate (관리자 캐시 무효화 API 에서 함께 호출)
+ */
+@Component
+@RequiredArgsConstructor
+public class ScenarioCountCache {
+
+    private final ScenarioRepository scenarioRepository;
+    private final Clock clock;
+
+    @Value("${app.scenario.count-cache-ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(long count, Instant expiresAt) {}
+
+    public long get() {
+        Instant now = clock.instant();
+        Snapshot current = snapshot;
+        if (current == null || !now.isBefore(current.expiresAt())) {
+            current = new Snapshot(scenarioRepository.count(), now.plusSeconds(ttlSeconds));
+            snapshot = current;
+        }
+        return current.count();
+    }
+
+    public void invalidate() {
+        snapshot = null;
+    }
+}
@@ -0,0 +1,63 @@
+package dev.woori.wooriLearn.domain.scenario.cache;
+
+/**
+ * 그래프 버전 하나에 대해 미리 렌더링해 둔 시나리오 문서 응답
+ *
+ * - body: BaseResponse 형태 그대로의 JSON 바이트 (UTF-8)
+ * - gzipBody: body 를 gzip 으로 압축한 바이트 (Accept-Encoding: gzip 클라이언트용)
+ * - eTag: body 의 SHA-256 기반 weak ETag (두 인코딩이 같은 표현이므로 weak 로 공유)
+ *
+ * 배열은 외부에 그대로 노출되므로 읽기 전용으로만 사용해야 한다.
+ */
+public final class ScenarioDocSnapshot {
+
+    private final long graphVersion;
+    private final byte[] body;
+    private final byte[] gzipBody;
+    private final String eTag;
+
+    public ScenarioDocSnapshot(long graphVersion, byte[] body, byte[] gzipBody, String eTag) {
+        this.graphVersion = graphVersion;
+        this.body = body;
+        this.gzipBody = gzipBody;
+        this.eTag = eTag;
+    }
+
+    public long graphVersion() {
+        return graphVersion;
+    }
+
+    public byte[] body() {
+        return body;
+    }
+
+    public byte[] gzipBody() {
+        return gzipBody;
+    }
+
+    public String eTag() {
+        return eTag;
+    }
+
+    /**
+     * If-None-Match 헤더가 이 문서의 ETag 와 일치하는지 (weak 비교)
+     * @param ifNoneMatch 요청 헤더 값 (null 이면 false, "*" 이면 true, 콤마로 여러 값 가능)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaque = opaque(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaque(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
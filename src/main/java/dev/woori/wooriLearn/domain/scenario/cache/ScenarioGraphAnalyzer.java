@@ -0,0 +1,200 @@
+package dev.woori.wooriLearn.domain.scenario.cache;
+
+import dev.woori.wooriLearn.domain.scenario.content.ChoiceOption;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
+
+import java.util.*;
+
+/**
+ * 컴파일된 스텝 그래프 정적 분석
+ *
+ * 그래프가 컴파일될 때(시나리오 그래프 버전마다) 한 번만 실행하고 결과를 CompiledScenario 에 붙여 둔다.
+ * 요청 처리 중에 드러나던 정의 오류(없는 next 참조, quiz + choices 동시 존재 등)를
+ * 학생이 해당 스텝에 도달하기 전에 관리자 API 로 확인할 수 있게 하는 것이 목적.
+ */
+public final class ScenarioGraphAnalyzer {
+
+    private ScenarioGraphAnalyzer() {}
+
+    /**
+     * @param graph             컴파일된 그래프
+     * @param totalNormalSteps  Scenario.totalNormalSteps (null 이면 normalIndex 검사 생략)
+     */
+    public static GraphAnalysis analyze(CompiledScenario graph, Integer totalNormalSteps) {
+        List<GraphDefect> defects = new ArrayList<>();
+
+        checkSteps(graph, defects);
+
+        List<Long> roots = ScenarioGraphValidator.roots(graph.steps());
+        if (roots.size() != 1) {
+            defects.add(new GraphDefect(GraphDefect.Type.START_NOT_UNIQUE, null,
+                    "시작 후보가 하나가 아닙니다. candidates=" + roots));
+        }
+
+        List<Long> cycle = ScenarioGraphValidator.findCycle(graph);
+        if (!cycle.isEmpty()) {
+            defects.add(new GraphDefect(GraphDefect.Type.CYCLE, cycle.get(0), "순환 경로=" + cycle));
+        }
+
+        Set<Long> reachable = reachableFrom(graph, graph.startStepId());
+        for (CompiledStep c : graph.steps()) {
+            Long id = c.step().getId();
+            if (!reachable.contains(id)) {
+                defects.add(new GraphDefect(GraphDefect.Type.UNREACHABLE, id, "시작 스텝에서 도달할 수 없습니다."));
+            }
+        }
+
+        Map<Long, Integer> stepsToCompletion = stepsToCompletion(graph);
+        if (!stepsToCompletion.containsKey(graph.startStepId())) {
+            defects.add(new GraphDefect(GraphDefect.Type.NO_COMPLETION_PATH, graph.startStepId(),
+                    "시작 스텝에서 완료까지 이어지는 정상 경로가 없습니다."));
+        }
+
+        if (totalNormalSteps != null) {
+            checkNormalIndexes(graph, totalNormalSteps, defects);
+        }
+
+        return new GraphAnalysis(defects, reachable, stepsToCompletion);
+    }
+
+    /** 스텝 단위 검사: 파싱 실패, quiz + choices, 없는 스텝 참조 */
+    private static void checkSteps(CompiledScenario graph, List<GraphDefect> defects) {
+        for (CompiledStep c : graph.steps()) {
+            ScenarioStep step = c.step();
+            Long id = step.getId();
+
+            if (c.content() != null && c.content().metaInvalid()) {
+                defects.add(new GraphDefect(GraphDefect.Type.INVALID_CONTENT, id, "meta 형식 오류"));
+            } else if (c.info() == null || (c.hasChoices() && c.choices() == null)) {
+                defects.add(new GraphDefect(GraphDefect.Type.INVALID_CONTENT, id, "content JSON 파싱 실패"));
+            }
+            if (c.hasChoices() && step.getQuiz() != null) {
+                defects.add(new GraphDefect(GraphDefect.Type.QUIZ_WITH_CHOICES, id,
+                        "하나의 스텝에 quiz와 choices가 동시에 존재합니다. quizId=" + step.getQuiz().getId()));
+            }
+            if (step.getNextStep() != null && graph.step(step.getNextStep().getId()) == null) {
+                defects.add(new GraphDefect(GraphDefect.Type.DANGLING_NEXT, id,
+                        "nextStep 이 시나리오에 없는 스텝을 가리킵니다. next=" + step.getNextStep().getId()));
+            }
+            if (c.choices() != null) {
+                for (int i = 0; i < c.choices().size(); i++) {
+                    ChoiceOption choice = c.choices().get(i);
+                    if (choice != null && choice.next() != null && graph.step(choice.next()) == null) {
+                        defects.add(new GraphDefect(GraphDefect.Type.DANGLING_CHOICE_NEXT, id,
+                                "선택지 next 가 시나리오에 없는 스텝을 가리킵니다. index=" + i + ", next=" + choice.next()));
+                    }
+                }
+            }
+        }
+    }
+
+    /** 시작 스텝에서 BFS (배드 엔딩 복귀 간선 포함, 실제로 이동 가능한 모든 간선) */
+    private static Set<Long> reachableFrom(CompiledScenario graph, Long startId) {
+        Set<Long> seen = new HashSet<>();
+        if (startId == null || graph.step(startId) == null) {
+            return seen;
+        }
+        Deque<Long> queue = new ArrayDeque<>();
+        seen.add(startId);
+        queue.add(startId);
+        while (!queue.isEmpty()) {
+            CompiledStep c = graph.step(queue.poll());
+            Set<Long> next = new LinkedHashSet<>(ScenarioGraphValidator.successors(c));
+            if (c.step().getNextStep() != null) {
+                next.add(c.step().getNextStep().getId()); // 배드 엔딩 복귀 지점
+            }
+            for (Long n : next) {
+                if (graph.step(n) != null && seen.add(n)) {
+                    queue.add(n);
+                }
+            }
+        }
+        return seen;
+    }
+
+    /**
+     * 정상 경로 간선만으로 완료까지 남은 최소 이동 수 계산 (완료 스텝에서 역방향 BFS)
+     * - 배드 브랜치/배드 엔딩 스텝은 정상 경로가 아님
+     * - CHOICE: good 선택지의 next (없으면 nextStep), 둘 다 없으면 그 스텝에서 완료
+     * - 그 외: nextStep, 없으면 그 스텝에서 완료
+     */
+    private static Map<Long, Integer> stepsToCompletion(CompiledScenario graph) {
+        Map<Long, List<Long>> reverse = new HashMap<>();
+        Deque<Long> queue = new ArrayDeque<>();
+        Map<Long, Integer> dist = new HashMap<>();
+
+        for (CompiledStep c : graph.steps()) {
+            if (c.badBranch() || c.badEnding() || c.info() == null) {
+                continue;
+            }
+            Long id = c.step().getId();
+            Long nextStepId = c.step().getNextStep() != null ? c.step().getNextStep().getId() : null;
+
+            List<Long> targets = new ArrayList<>();
+            boolean completes = false;
+            if (c.hasChoices()) {
+                if (c.choices() == null) {
+                    continue;
+                }
+                for (ChoiceOption choice : c.choices()) {
+                    if (choice == null || !Boolean.TRUE.equals(choice.good())) {
+                        continue;
+                    }
+                    Long target = choice.next() != null ? choice.next() : nextStepId;
+                    if (target == null) {
+                        completes = true;
+                    } else {
+                        targets.add(target);
+                    }
+                }
+            } else if (nextStepId == null) {
+                completes = true;
+            } else {
+                targets.add(nextStepId);
+            }
+
+            if (completes && dist.putIfAbsent(id, 0) == null) {
+                queue.add(id);
+            }
+            for (Long t : targets) {
+                if (graph.step(t) != null) {
+                    reverse.computeIfAbsent(t, k -> new ArrayList<>()).add(id);
+                }
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            Long id = queue.poll();
+            int d = dist.get(id);
+            for (Long prev : reverse.getOrDefault(id, List.of())) {
+                if (dist.putIfAbsent(prev, d + 1) == null) {
+                    queue.add(prev);
+                }
+            }
+        }
+        return dist;
+    }
+
+    /** normalIndex 가 1..totalNormalSteps 를 빠짐없이, 범위 안에서 채우는지 검사 */
+    private static void checkNormalIndexes(CompiledScenario graph, int totalNormalSteps, List<GraphDefect> defects) {
+        BitSet present = new BitSet(totalNormalSteps + 1);
+        for (CompiledStep c : graph.steps()) {
+            Integer idx = c.step().getNormalIndex();
+            if (idx == null) {
+                continue;
+            }
+            if (idx < 1 || idx > totalNormalSteps) {
+                defects.add(new GraphDefect(GraphDefect.Type.NORMAL_INDEX_OUT_OF_RANGE, c.step().getId(),
+                        "normalIndex=" + idx + ", totalNormalSteps=" + totalNormalSteps));
+            } else {
+                present.set(idx);
+            }
+        }
+        for (int i = 1; i <= totalNormalSteps; i++) {
+            if (!present.get(i)) {
+                defects.add(new GraphDefect(GraphDefect.Type.NORMAL_INDEX_GAP, null,
+                        "normalIndex=" + i + " 인 스텝이 없습니다. totalNormalSteps=" + totalNormalSteps));
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package dev.woori.wooriLearn.domain.scenario.cache;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.scenario.content.ParsedStepContent;
+import dev.woori.wooriLearn.domain.scenario.dto.QuizResDto;
+import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioStepRepository;
+import dev.woori.wooriLearn.domain.scenario.service.ScenarioStepContentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 시나리오 스텝 그래프 인메모리 캐시
+ *
+ * 시나리오 콘텐츠는 읽기 위주(운영 중 거의 변경되지 않음)이므로
+ * 요청마다 전체 스텝 조회 + content JSON 파싱 + 시작 스텝 서브쿼리를 반복하지 않고,
+ * 시나리오별로 한 번만 컴파일해 둔 CompiledScenario 를 모든 요청이 공유한다.
+ *
+ * 무효화:
+ * - 콘텐츠를 DB 에서 직접 수정한 경우 invalidate / invalidateAll 로 명시적으로 비운다. (관리자 API 제공)
+ * - 무효화 도중 진행 중이던 컴파일 결과는 캐시에 올리지 않는다. (epoch 비교)
+ *
+ * Redis(@Cacheable)가 아닌 로컬 메모리를 사용하는 이유:
+ * - 엔티티 그래프(nextStep 참조)를 그대로 공유해야 하고, 직렬화/역직렬화 비용 자체가 제거 대상이기 때문
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScenarioGraphCache {
+
+    private final ScenarioStepRepository stepRepository;
+    private final ScenarioStepContentService contentService;
+
+    private final ConcurrentMap<Long, CompiledScenario> compiled = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, QuizResDto> quizzes = new ConcurrentHashMap<>();
+
+    // 무효화가 일어날 때마다 증가 -> 컴파일 시작 시점과 다르면 결과를 캐시에 올리지 않음
+    private final AtomicLong epoch = new AtomicLong();
+    // 컴파일된 그래프마다 부여하는 버전
+    private final AtomicLong versionSeq = new AtomicLong();
+
+    /**
+     * 컴파일된 시나리오 그래프 조회 (없으면 컴파일 후 캐싱)
+     * @param scenarioId    시나리오 ID
+     * @return 컴파일된 그래프
+     */
+    public CompiledScenario get(Long scenarioId) {
+        CompiledScenario cached = compiled.get(scenarioId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startEpoch = epoch.get();
+        CompiledScenario built = compile(scenarioId);
+
+        synchronized (this) {
+            if (epoch.get() != startEpoch) {
+                // 컴파일 도중 무효화됨 -> 이번 요청에서만 사용하고 캐시에는 올리지 않음
+                return built;
+            }
+            CompiledScenario existing = compiled.putIfAbsent(scenarioId, built);
+            if (existing != null) {
+                return existing;
+            }
+            quizzes.putAll(built.quizzes());
+        }
+        log.info("시나리오 그래프 컴파일 완료 - scenarioId={}, steps={}, version={}",
+                scenarioId, built.size(), built.version());
+        return built;
+    }
+
+    /**
+     * 이미 컴파일된 그래프에서 스텝 조회 (컴파일을 유발하지 않음)
+     * @return 캐시에 없으면 null
+     */
+    public CompiledStep findStep(ScenarioStep step) {
+        if (step == null || step.getScenario() == null) {
+            return null;
+        }
+        CompiledScenario graph = compiled.get(step.getScenario().getId());
+        return graph == null ? null : graph.step(step.getId());
+    }
+
+    /**
+     * 미리 파싱해 둔 퀴즈 DTO 조회 (컴파일을 유발하지 않음)
+     * @return 캐시에 없으면 null
+     */
+    public QuizResDto findQuiz(Long quizId) {
+        return quizId == null ? null : quizzes.get(quizId);
+    }
+
+    /** 특정 시나리오 그래프 무효화 */
+    public synchronized void invalidate(Long scenarioId) {
+        epoch.incrementAndGet();
+        CompiledScenario removed = compiled.remove(scenarioId);
+        if (removed != null) {
+            removed.quizzes().keySet().forEach(quizzes::remove);
+        }
+        log.info("시나리오 그래프 캐시 무효화 - scenarioId={}", scenarioId);
+    }
+
+    /** 전체 시나리오 그래프 무효화 */
+    public synchronized void invalidateAll() {
+        epoch.incrementAndGet();
+        compiled.clear();
+        quizzes.clear();
+        log.info("시나리오 그래프 캐시 전체 무효화");
+    }
+
+    /**
+     * 시나리오 한 개의 스텝 전체를 로딩해서 컴파일
+     * - 스텝 id 오름차순 정렬 테이블 구성
+     * - 시작 스텝: 저장된 Scenario.startStepId 우선, 아직 저장되지 않았으면
+     *   ScenarioGraphValidator.roots 로 계산 (진입 간선이 없는 최소 id 스텝, 검증 없이 관대하게)
+     * - 그래프 정적 분석 (결함은 경고 로그 + 관리자 API 로 노출, 컴파일 자체는 실패시키지 않음)
+     * - content 는 스텝마다 한 번만 파싱(ParsedStepContent), quiz options 도 여기서 한 번만 파싱
+     *   (파싱 실패 시 null 로 두고, 실제 요청 시 재파싱하여 기존과 동일한 예외를 던지게 함)
+     */
+    CompiledScenario compile(Long scenarioId) {
+        List<ScenarioStep> loaded = stepRepository.findByScenarioIdWithNextStep(scenarioId);
+        if (loaded.isEmpty()) {
+            throw new CommonException(
+                    ErrorCode.INTERNAL_SERVER_ERROR,
+                    "스텝이 비어있습니다. scenarioId=" + scenarioId
+            );
+        }
+
+        Map<Long, ScenarioStep> byId = new LinkedHashMap<>();
+        for (ScenarioStep s : loaded) {
+            byId.putIfAbsent(s.getId(), s);
+        }
+
+        long[] ids = byId.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        CompiledStep[] steps = new CompiledStep[ids.length];
+        Map<Long, QuizResDto> quizDtos = new HashMap<>();
+
+        for (int i = 0; i < ids.length; i++) {
+            ScenarioStep step = byId.get(ids[i]);
+
+            // meta / choices / 응답 payload 를 한 번의 파싱으로 얻음
+            ParsedStepContent content = tryParse(() -> contentService.parse(step));
+            steps[i] = CompiledStep.of(step, content);
+
+            if (step.getQuiz() != null && !quizDtos.containsKey(step.getQuiz().getId())) {
+                QuizResDto dto = tryParse(() -> contentService.mapQuiz(step.getQuiz()));
+                if (dto != null) {
+                    quizDtos.put(dto.id(), new QuizResDto(
+                            dto.id(),
+                            dto.question(),
+                            dto.options() == null ? null : Collections.unmodifiableList(dto.options())
+                    ));
+                }
+            }
+        }
+
+        Scenario scenario = loaded.get(0).getScenario();
+        Long startStepId = startStepId(scenario, byId, steps, ids);
+
+        CompiledScenario graph = new CompiledScenario(
+                scenarioId,
+                scenario == null ? null : scenario.getTitle(),
+                versionSeq.incrementAndGet(),
+                ids,
+                steps,
+                byId,
+                startStepId,
+                quizDtos
+        );
+
+        GraphAnalysis analysis = ScenarioGraphAnalyzer.analyze(graph, scenario == null ? null : scenario.getTotalNormalSteps());
+        if (!analysis.isClean()) {
+            log.warn("시나리오 그래프 결함 발견 - scenarioId={}, defects={}", scenarioId, analysis.defects());
+        }
+        return graph.withAnalysis(analysis);
+    }
+
+    /** 저장된 시작 스텝이 이 시나리오의 스텝이면 그대로 사용, 아니면 진입 간선이 없는 최소 id 스텝 (없으면 최소 id) */
+    private static Long startStepId(Scenario scenario, Map<Long, ScenarioStep> byId, CompiledStep[] steps, long[] ids) {
+        if (scenario != null && scenario.getStartStepId() != null && byId.containsKey(scenario.getStartStepId())) {
+            return scenario.getStartStepId();
+        }
+        List<Long> roots = ScenarioGraphValidator.roots(Arrays.asList(steps));
+        return roots.isEmpty() ? ids[0] : roots.get(0);
+    }
+
+    private <T> T tryParse(Supplier<T> parser) {
+        try {
+            return parser.get();
+        } catch (CommonException e) {
+            log.warn("시나리오 그래프 컴파일 중 파싱 실패 (요청 시 재파싱): {}", e.getMessage());
+            return null;
+        }
+    }
+}
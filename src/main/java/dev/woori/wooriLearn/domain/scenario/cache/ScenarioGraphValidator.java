@@ -0,0 +1,129 @@
+package dev.woori.wooriLearn.domain.scenario.cache;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.scenario.content.ChoiceOption;
+
+import java.util.*;
+
+/**
+ * 컴파일된 스텝 그래프 구조 검증
+ *
+ * 간선 규칙:
+ * - nextStep 참조 (단, 배드 엔딩 스텝의 nextStep 은 "복귀 지점"이므로 간선으로 보지 않음)
+ * - CHOICE 스텝의 각 선택지 next
+ *
+ * 시작 스텝은 진입 간선이 없는 유일한 스텝이어야 하고, 그래프에 순환이 없어야 한다.
+ */
+public final class ScenarioGraphValidator {
+
+    private ScenarioGraphValidator() {}
+
+    /** 한 스텝에서 나가는 간선의 도착 stepId 목록 (중복 제거, 선언 순서 유지) */
+    public static Set<Long> successors(CompiledStep step) {
+        Set<Long> next = new LinkedHashSet<>();
+        if (!step.badEnding() && step.step().getNextStep() != null) {
+            next.add(step.step().getNextStep().getId());
+        }
+        if (step.choices() != null) {
+            for (ChoiceOption choice : step.choices()) {
+                if (choice != null && choice.next() != null) {
+                    next.add(choice.next());
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * 진입 간선이 없는 스텝 id 목록 (id 오름차순)
+     * @param steps id 오름차순으로 정렬된 스텝 목록
+     */
+    public static List<Long> roots(Collection<CompiledStep> steps) {
+        Set<Long> referenced = new HashSet<>();
+        for (CompiledStep step : steps) {
+            for (Long target : successors(step)) {
+                if (!target.equals(step.step().getId())) {
+                    referenced.add(target);
+                }
+            }
+        }
+        List<Long> roots = new ArrayList<>();
+        for (CompiledStep step : steps) {
+            if (!referenced.contains(step.step().getId())) {
+                roots.add(step.step().getId());
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * 순환 경로 탐색 (반복 DFS)
+     * @return 순환을 이루는 stepId 경로 (첫 원소로 다시 돌아옴), 순환이 없으면 빈 목록
+     */
+    public static List<Long> findCycle(CompiledScenario graph) {
+        Map<Long, Integer> state = new HashMap<>(); // 없음: 미방문, 1: 탐색 중, 2: 완료
+        for (CompiledStep root : graph.steps()) {
+            Long rootId = root.step().getId();
+            if (state.containsKey(rootId)) {
+                continue;
+            }
+            Deque<Long> path = new ArrayDeque<>();
+            Deque<Iterator<Long>> pending = new ArrayDeque<>();
+            state.put(rootId, 1);
+            path.addLast(rootId);
+            pending.push(successors(root).iterator());
+
+            while (!pending.isEmpty()) {
+                Iterator<Long> it = pending.peek();
+                if (!it.hasNext()) {
+                    pending.pop();
+                    state.put(path.removeLast(), 2);
+                    continue;
+                }
+                Long next = it.next();
+                CompiledStep nextStep = graph.step(next);
+                if (nextStep == null) {
+                    continue; // 다른 시나리오/없는 스텝 참조는 순환 판단 대상 아님
+                }
+                Integer s = state.get(next);
+                if (s == null) {
+                    state.put(next, 1);
+                    path.addLast(next);
+                    pending.push(successors(nextStep).iterator());
+                } else if (s == 1) {
+                    List<Long> cycle = new ArrayList<>();
+                    boolean inCycle = false;
+                    for (Long id : path) {
+                        inCycle = inCycle || id.equals(next);
+                        if (inCycle) {
+                            cycle.add(id);
+                        }
+                    }
+                    cycle.add(next);
+                    return cycle;
+                }
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 그래프를 검증하고 시작 스텝 id 를 반환
+     * - 시작 후보(진입 간선 없는 스텝)가 없거나 2개 이상이면 CONFLICT
+     * - 순환이 있으면 CONFLICT
+     */
+    public static Long resolveStartStepId(CompiledScenario graph) {
+        List<Long> roots = roots(graph.steps());
+        if (roots.size() != 1) {
+            throw new CommonException(ErrorCode.CONFLICT,
+                    "시작 스텝이 하나가 아닙니다. scenarioId=" + graph.scenarioId() + ", candidates=" + roots);
+        }
+        List<Long> cycle = findCycle(graph);
+        if (!cycle.isEmpty()) {
+            throw new CommonException(ErrorCode.CONFLICT,
+                    "스텝 그래프에 순환이 있습니다. scenarioId=" + graph.scenarioId() + ", cycle=" + cycle);
+        }
+        return roots.get(0);
+    }
+}
@@ -0,0 +1,49 @@
+package dev.woori.wooriLearn.domain.scenario.content;
+
+import dev.woori.wooriLearn.domain.scenario.dto.RawJsonContent;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 스텝 content JSON 을 한 번 파싱해서 얻은 결과 (불변)
+ *
+ * 진행 엔진이 필요로 하는 값(meta, choices, 배드 브랜치/엔딩 여부, 응답용 직렬화 바이트)을
+ * 모두 필드로 들고 있어서, 이후에는 같은 JSON 을 다시 파싱하지 않고 필드만 읽는다.
+ *
+ * @param source        파싱한 원본 content (스텝 content 가 바뀌었는지 판단하는 버전으로 사용)
+ * @param meta          메타 정보 (없거나 형식 오류면 null)
+ * @param metaInvalid   meta 가 있지만 StepMeta 로 매핑할 수 없음 (응답은 그대로 가능, 진행 엔진/분석에서만 오류)
+ * @param choices       choices 배열 (키가 없으면 null, hasChoices 인데 null 이면 choices 형식 오류)
+ * @param hasChoices    비어있지 않은 choices 배열 존재 여부
+ * @param badBranch     meta.branch == "bad" 여부
+ * @param badEnding     meta.badEnding == true 여부
+ * @param payload       응답용으로 공백 없이 직렬화한 content
+ */
+public record ParsedStepContent(
+        String source,
+        StepMeta meta,
+        boolean metaInvalid,
+        List<ChoiceOption> choices,
+        boolean hasChoices,
+        boolean badBranch,
+        boolean badEnding,
+        RawJsonContent payload
+) {
+    public static ParsedStepContent of(String source,
+                                       StepMeta meta,
+                                       boolean metaInvalid,
+                                       List<ChoiceOption> choices,
+                                       boolean hasChoices,
+                                       RawJsonContent payload) {
+        boolean badBranch = meta != null && "bad".equalsIgnoreCase(meta.branch());
+        boolean badEnding = meta != null && Boolean.TRUE.equals(meta.badEnding());
+        return new ParsedStepContent(source, meta, metaInvalid, choices, hasChoices, badBranch, badEnding, payload);
+    }
+
+    /** 주어진 스텝의 현재 content 를 파싱한 결과인지 (같은 stepId 라도 content 가 바뀌었으면 false) */
+    public boolean isSourceOf(ScenarioStep step) {
+        return step != null && Objects.equals(source, step.getContent());
+    }
+}
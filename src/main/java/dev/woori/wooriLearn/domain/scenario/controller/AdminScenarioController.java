@@ -0,0 +1,61 @@
+package dev.woori.wooriLearn.domain.scenario.controller;
+
+import dev.woori.wooriLearn.config.response.ApiResponse;
+import dev.woori.wooriLearn.config.response.BaseResponse;
+import dev.woori.wooriLearn.config.response.SuccessCode;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioCountCache;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioGraphCache;
+import dev.woori.wooriLearn.domain.scenario.service.ScenarioGraphReportService;
+import dev.woori.wooriLearn.domain.scenario.service.ScenarioStartStepService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 관리자용 시나리오 관리 API
+ */
+@RestController
+@RequestMapping("/admin/scenarios")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminScenarioController {
+
+    private final ScenarioGraphCache scenarioGraphCache;
+    private final ScenarioCountCache scenarioCountCache;
+    private final ScenarioStartStepService startStepService;
+    private final ScenarioGraphReportService graphReportService;
+
+    // 시나리오 콘텐츠 수정 후 컴파일된 스텝 그래프 캐시 무효화
+    @DeleteMapping("/{scenarioId}/graph-cache")
+    public ResponseEntity<BaseResponse<?>> invalidateGraph(@PathVariable Long scenarioId) {
+        scenarioGraphCache.invalidate(scenarioId);
+        return ApiResponse.success(SuccessCode.OK);
+    }
+
+    // 전체 시나리오 스텝 그래프 캐시 + 전체 시나리오 수 캐시 무효화 (시나리오 추가/삭제 후 호출)
+    @DeleteMapping("/graph-cache")
+    public ResponseEntity<BaseResponse<?>> invalidateAllGraphs() {
+        scenarioGraphCache.invalidateAll();
+        scenarioCountCache.invalidate();
+        return ApiResponse.success(SuccessCode.OK);
+    }
+
+    // 시나리오 콘텐츠 반영 후 스텝 그래프 검증 + 시작 스텝 재계산 (그래프 캐시도 갱신)
+    @PostMapping("/{scenarioId}/start-step")
+    public ResponseEntity<BaseResponse<?>> refreshStartStep(@PathVariable Long scenarioId) {
+        return ApiResponse.success(SuccessCode.OK, startStepService.refresh(scenarioId));
+    }
+
+    // 시나리오 스텝 그래프 분석 결과 (도달 가능 스텝 수, 최소 정상 경로, 결함 목록)
+    @GetMapping("/{scenarioId}/graph-report")
+    public ResponseEntity<BaseResponse<?>> getGraphReport(@PathVariable Long scenarioId) {
+        return ApiResponse.success(SuccessCode.OK, graphReportService.getReport(scenarioId));
+    }
+
+    // 결함이 있는 시나리오 목록 (학생이 해당 스텝에 도달하기 전에 확인용)
+    @GetMapping("/graph-defects")
+    public ResponseEntity<BaseResponse<?>> getGraphDefects() {
+        return ApiResponse.success(SuccessCode.OK, graphReportService.getDefectiveReports());
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
  *  1) GET  /users/me/scenarios/{scenarioId}              : 저장된 위치가 있으면 그 스텝부터, 없으면 시작 스텝 반환
  *  2) PUT  /users/me/scenarios/{scenarioId}/progress     : 시나리오 진행률 업데이트
  *  3) POST /users/me/scenarios/{scenarioId}/next-step    : 다음 스텝으로 진행(퀴즈 게이트 포함)
+ *  4) POST /users/me/scenarios/{scenarioId}/next-steps   : 여러 스텝 일괄 진행(첫 게이트에서 멈춤)
  */
 @RestController
 @RequiredArgsConstructor
@@ -95,6 +96,29 @@ public class ScenarioController {
                 progressService.advance(me, scenarioId, req.nowStepId(), req.answer()));
     }
 
+    /**
+     * 여러 스텝을 한 번에 진행
+     * ex) POST /users/me/scenarios/{scenarioId}/next-steps
+     * Body 예:
+     *   - { "moves": [ { "nowStepId": 101 }, { "nowStepId": 102 }, { "nowStepId": 103, "answer": 2 } ] }
+     *
+     * 규칙
+     * - 각 이동은 next-step 과 같은 규칙으로 처리, 두 번째 이동부터는 직전 결과 스텝에서 출발해야 함
+     * - QUIZ_REQUIRED / QUIZ_WRONG / CHOICE_REQUIRED / BAD_ENDING / COMPLETED 를 만나면 남은 이동은 처리하지 않음
+     * - 진행 상태는 한 트랜잭션에서 최종 위치만 저장, 이어지지 않는 이동이 있으면 전체 롤백
+     */
+    @PostMapping(value = "/next-steps", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<BaseResponse<?>> nextSteps(
+            @AuthenticationPrincipal String username,
+            @PathVariable("scenarioId") Long scenarioId,
+            @Valid @RequestBody BatchAdvanceReqDto req
+    ) {
+        Users me = userService.getByUserIdOrThrow(username);
+        return ApiResponse.success(SuccessCode.OK,
+                progressService.advanceBatch(me, scenarioId, req.moves()));
+    }
+
     /**
      * 시나리오 완료 보상 수령 (최초 1회만 적립)
      * ex) POST /users/me/scenarios/{scenarioId}/reward
@@ -1,23 +1,26 @@
 package dev.woori.wooriLearn.domain.scenario.controller;
 
 import dev.woori.wooriLearn.config.response.ApiResponse;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioDocSnapshot;
 import dev.woori.wooriLearn.domain.scenario.service.ScenarioDocService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import dev.woori.wooriLearn.config.response.BaseResponse;
 import dev.woori.wooriLearn.config.response.SuccessCode;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.Duration;
+import java.util.Locale;
 
 /**
  *  제공 기능:
- *  1) GET  /scenarios/{scenarioId}/doc : 시나리오 전체 문서 조회
+ *  1) GET  /scenarios/{scenarioId}/doc : 시나리오 전체 문서 조회 (ETag / If-None-Match 304, gzip)
  */
 @RestController
 @RequiredArgsConstructor
@@ -27,20 +30,57 @@ import java.time.Duration;
 )
 public class ScenarioDocController {
 
+    private static final Duration DOC_CACHE_DURATION = Duration.ofMinutes(60);
+
     private final ScenarioDocService docService;
 
     /**
      * 시나리오 전체 문서 조회
      * ex) GET /scenarios/1/doc
+     *
+     * 규칙
+     * - 그래프 버전마다 미리 렌더링된 본문을 그대로 전송
+     * - If-None-Match 가 ETag 와 일치하면 304 (본문 없음)
+     * - Accept-Encoding 에 gzip 이 있으면 미리 압축해 둔 본문 전송
      */
     @GetMapping("/doc")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<BaseResponse<?>> getDoc(
-            @PathVariable Long scenarioId) {
+    public ResponseEntity<byte[]> getDoc(
+            @PathVariable Long scenarioId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ScenarioDocSnapshot doc = docService.getScenarioDoc(scenarioId);
+        if (doc.matches(ifNoneMatch)) {
+            return ApiResponse.notModified(doc.eTag(), DOC_CACHE_DURATION);
+        }
+        boolean gzip = acceptsGzip(acceptEncoding);
         return ApiResponse.successWithCache(
                 SuccessCode.OK,
-                docService.getScenarioDoc(scenarioId),
-                Duration.ofMinutes(60)
+                gzip ? doc.gzipBody() : doc.body(),
+                doc.eTag(),
+                gzip ? "gzip" : null,
+                DOC_CACHE_DURATION
         );
     }
+
+    /** Accept-Encoding 에 gzip 이 q=0 이 아닌 값으로 포함되어 있는지 */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (!tokens[0].trim().equals("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=") && param.substring(2).trim().matches("0(\\.0{0,3})?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,20 @@
+package dev.woori.wooriLearn.domain.scenario.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 시나리오 일괄 진행 요청 DTO
+ *
+ * @param moves 순서대로 처리할 이동 목록 (각 이동은 단건 진행 요청과 동일한 형태)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BatchAdvanceReqDto(
+        @NotEmpty
+        @Size(max = 100)
+        List<@Valid AdvanceReqDto> moves
+) {}
@@ -0,0 +1,27 @@
+package dev.woori.wooriLearn.domain.scenario.dto;
+
+import dev.woori.wooriLearn.domain.scenario.model.AdvanceStatus;
+
+import java.util.List;
+
+/**
+ * 시나리오 일괄 진행 응답 DTO
+ *
+ * @param results   실제로 처리된 이동별 결과 (게이트/완료에서 멈추면 요청보다 짧을 수 있음)
+ * @param last      마지막으로 처리된 이동의 전체 응답 (다음 렌더링 대상)
+ */
+public record BatchAdvanceResDto(
+        List<MoveResult> results,
+        AdvanceResDto last
+) {
+    /**
+     * @param stepId        이동 요청 시 위치한 스텝
+     * @param status        처리 결과 상태값
+     * @param nextStepId    처리 후 위치한 스텝 (없으면 null)
+     */
+    public record MoveResult(
+            Long stepId,
+            AdvanceStatus status,
+            Long nextStepId
+    ) {}
+}
@@ -1,6 +1,5 @@
 package dev.woori.wooriLearn.domain.scenario.dto;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import dev.woori.wooriLearn.domain.scenario.model.StepType;
 
 /**
@@ -11,12 +10,12 @@ import dev.woori.wooriLearn.domain.scenario.model.StepType;
  * @param nowStepId     현재 바로 보여줄(재개할) 스텝 ID
  * @param type          현재 스텝 유형(DIALOG/CHOICE/OVERLAY/MODAL/ETC)
  * @param quizId        현재 스텝에 연결된 퀴즈 ID
- * @param content       현재 스텝의 콘텐츠(JSON)
+ * @param content       현재 스텝의 콘텐츠(JSON, 미리 직렬화된 바이트를 그대로 출력)
  */
 public record ProgressResumeResDto(
         Long scenarioId,
         Long nowStepId,
         StepType type,
         Long quizId,
-        JsonNode content
+        RawJsonContent content
 ) {}
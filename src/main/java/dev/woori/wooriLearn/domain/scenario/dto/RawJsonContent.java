@@ -0,0 +1,78 @@
+package dev.woori.wooriLearn.domain.scenario.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * 이미 검증/직렬화가 끝난 스텝 content JSON
+ *
+ * - 생성 시점에 UTF-8 바이트로 인코딩해 두고, 응답 직렬화 시 JsonNode 트리를 만들지 않고
+ *   바이트를 그대로 출력 버퍼에 복사한다. (readTree -> 재직렬화 왕복 제거)
+ * - 반드시 유효한 JSON 문자열로만 생성해야 한다. (ScenarioStepContentService.serializeContent 사용)
+ */
+@JsonSerialize(using = RawJsonContent.Serializer.class)
+public final class RawJsonContent {
+
+    private final SerializedString json;
+
+    private RawJsonContent(String json) {
+        this.json = new SerializedString(json);
+        // UTF-8 인코딩 결과를 미리 캐싱 (SerializedString 내부에 보관됨)
+        this.json.asUnquotedUTF8();
+    }
+
+    /**
+     * @param validatedJson 파싱 검증을 마친 JSON 문자열
+     */
+    public static RawJsonContent of(String validatedJson) {
+        return new RawJsonContent(validatedJson);
+    }
+
+    /** JSON 문자열 */
+    public String json() {
+        return json.getValue();
+    }
+
+    /** UTF-8 인코딩 바이트 길이 */
+    public int byteLength() {
+        return json.asUnquotedUTF8().length;
+    }
+
+    /** 미리 인코딩된 바이트를 raw 값으로 그대로 출력 (스트리밍 렌더러용) */
+    public void writeTo(JsonGenerator gen) throws IOException {
+        gen.writeRawValue(json);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RawJsonContent other && json().equals(other.json());
+    }
+
+    @Override
+    public int hashCode() {
+        return json().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return json();
+    }
+
+    /** 미리 인코딩된 바이트를 raw 값으로 그대로 출력 */
+    static final class Serializer extends StdSerializer<RawJsonContent> {
+
+        Serializer() {
+            super(RawJsonContent.class);
+        }
+
+        @Override
+        public void serialize(RawJsonContent value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            value.writeTo(gen);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package dev.woori.wooriLearn.domain.scenario.dto;
+
+import dev.woori.wooriLearn.domain.scenario.cache.GraphDefect;
+
+import java.util.List;
+
+/**
+ * 관리자용 시나리오 스텝 그래프 분석 결과 DTO
+ *
+ * @param scenarioId            시나리오 ID
+ * @param graphVersion          분석한 컴파일 그래프 버전 (그래프 캐시 무효화 후 새로 컴파일되면 증가)
+ * @param startStepId           시작 스텝 ID
+ * @param stepCount             전체 스텝 수
+ * @param reachableCount        시작 스텝에서 도달 가능한 스텝 수
+ * @param shortestNormalPath    시작 스텝부터 완료까지 정상 경로의 최소 스텝 수 (완료 불가면 null)
+ * @param defects               발견된 결함 목록
+ */
+public record ScenarioGraphReportResDto(
+        Long scenarioId,
+        Long graphVersion,
+        Long startStepId,
+        int stepCount,
+        int reachableCount,
+        Integer shortestNormalPath,
+        List<GraphDefect> defects
+) {}
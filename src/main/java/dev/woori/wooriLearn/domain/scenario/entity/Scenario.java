@@ -23,4 +23,12 @@ public class Scenario {
 
     @Column(name = "total_normal_steps", nullable = false)
     private Integer totalNormalSteps;
+
+    // 콘텐츠 반영 시 검증을 거쳐 계산해 둔 시작 스텝 id (미계산 시 null -> 조회 시 계산)
+    @Column(name = "start_step_id")
+    private Long startStepId;
+
+    public void updateStartStep(Long startStepId) {
+        this.startStepId = startStepId;
+    }
 }
@@ -0,0 +1,39 @@
+package dev.woori.wooriLearn.domain.scenario.entity;
+
+import dev.woori.wooriLearn.domain.user.entity.Users;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 시나리오 완주 보상 지급 이력
+ * - (user_id, scenario_count) unique 제약이 완주 보상 중복 지급을 막는 멱등성 키 역할
+ * - scenario_count: 지급 당시 전체 시나리오 수 (시나리오가 추가되면 다시 완주 보상 대상이 됨)
+ */
+@Entity
+@Table(name = "scenario_all_completed_reward",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "scenario_count"}))
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class ScenarioAllCompletedReward {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private Users user;
+
+    @Column(name = "scenario_count", nullable = false)
+    private Long scenarioCount;
+
+    @CreatedDate
+    @Column(name = "rewarded_at", updatable = false, nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime rewardedAt;
+}
@@ -0,0 +1,16 @@
+package dev.woori.wooriLearn.domain.scenario.repository;
+
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioAllCompletedReward;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ScenarioAllCompletedRewardRepository extends JpaRepository<ScenarioAllCompletedReward, Long> {
+
+    long countByUserId(Long userId);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scenario_all_completed_reward (user_id, scenario_count, rewarded_at) VALUES (:userId, :scenarioCount, NOW(6))", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("scenarioCount") long scenarioCount);
+}
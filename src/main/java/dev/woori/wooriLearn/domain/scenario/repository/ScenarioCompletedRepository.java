@@ -20,6 +20,8 @@ public interface ScenarioCompletedRepository extends JpaRepository<ScenarioCompl
 
     long countByUser(Users user);
 
+    long countByUserId(Long userId);
+
     @Query("""
         SELECT sc.user.id AS userId, COUNT(sc) AS completedCount
         FROM ScenarioCompleted sc
@@ -2,5 +2,13 @@ package dev.woori.wooriLearn.domain.scenario.repository;
 
 import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface ScenarioRepository extends JpaRepository<Scenario, Long> {}
+import java.util.List;
+
+public interface ScenarioRepository extends JpaRepository<Scenario, Long> {
+
+    /** 시작 스텝이 아직 계산되지 않은 시나리오 id 목록 (backfill 용) */
+    @Query("select s.id from Scenario s where s.startStepId is null order by s.id")
+    List<Long> findIdsWithoutStartStep();
+}
@@ -0,0 +1,115 @@
+package dev.woori.wooriLearn.domain.scenario.service;
+
+import dev.woori.wooriLearn.domain.account.service.PointsDepositService;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioCountCache;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioAllCompletedRewardRepository;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioCompletedRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 시나리오 완료 처리 + 완료 보상 지급
+ *
+ * 사용자 행 잠금 없이 동작:
+ * - scenario_completed (user_id, scenario_id) unique INSERT IGNORE 가 유일한 멱등성 게이트
+ *   -> 동시에 여러 요청이 와도 insert 에 성공한 1건만 보상 지급
+ * - 포인트는 PointsLedger 로 원자적 증액 (UPDATE users SET points = points + ? + 원장 기록)
+ * - 전체 시나리오 수는 ScenarioCountCache 사용
+ *
+ * 전체 완주 보상:
+ * - 마지막 두 시나리오를 동시에 완료하면 각 트랜잭션이 서로의 insert 를 보지 못해 둘 다 미완주로 판단할 수 있음
+ *   -> 완료 트랜잭션 커밋 이후 별도 트랜잭션에서 커밋된 완료 수로 판단 (마지막 커밋은 항상 전체를 봄)
+ * - 중복 지급은 scenario_all_completed_reward (user_id, scenario_count) unique INSERT IGNORE 로 방지
+ */
+@Slf4j
+@Service
+public class ScenarioCompletionRewardService {
+
+    static final int SCENARIO_COMPLETION_REWARD_POINTS = 1000;
+    static final int ALL_SCENARIOS_COMPLETION_REWARD_POINTS = 10000;
+
+    private final ScenarioCompletedRepository completedRepository;
+    private final ScenarioAllCompletedRewardRepository allCompletedRewardRepository;
+    private final PointsDepositService pointsDepositService;
+    private final ScenarioCountCache scenarioCountCache;
+    private final TransactionTemplate requiresNew;
+
+    public ScenarioCompletionRewardService(ScenarioCompletedRepository completedRepository,
+                                           ScenarioAllCompletedRewardRepository allCompletedRewardRepository,
+                                           PointsDepositService pointsDepositService,
+                                           ScenarioCountCache scenarioCountCache,
+                                           PlatformTransactionManager transactionManager) {
+        this.completedRepository = completedRepository;
+        this.allCompletedRewardRepository = allCompletedRewardRepository;
+        this.pointsDepositService = pointsDepositService;
+        this.scenarioCountCache = scenarioCountCache;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 시나리오 완료 등록 + 개별 완료 보상 지급 (호출 측 트랜잭션에 참여)
+     * - 전체 완주 보상 판단은 커밋 이후로 예약
+     *
+     * @return 이번 요청으로 최초 완료된 경우 true, 이미 완료 이력이 있으면 false
+     */
+    @Transactional
+    public boolean completeAndReward(Long userId, Long scenarioId) {
+        int inserted = completedRepository.insertIgnore(userId, scenarioId);
+        if (inserted == 0) {
+            return false;
+        }
+
+        pointsDepositService.creditPoints(userId, SCENARIO_COMPLETION_REWARD_POINTS);
+        runAfterCommit(() -> grantAllCompletedBonusIfEligible(userId));
+        return true;
+    }
+
+    /**
+     * 커밋된 완료 이력 기준으로 전체 완주 보상 지급 (새 트랜잭션)
+     * @return 이번 호출로 지급했으면 true
+     */
+    public boolean grantAllCompletedBonusIfEligible(Long userId) {
+        long total = scenarioCountCache.get();
+        if (total <= 0) {
+            return false;
+        }
+        Boolean granted = requiresNew.execute(status -> {
+            long completed = completedRepository.countByUserId(userId);
+            if (completed < total) {
+                return false;
+            }
+            if (allCompletedRewardRepository.insertIgnore(userId, total) == 0) {
+                return false; // 이미 지급됨
+            }
+            pointsDepositService.creditPoints(userId, ALL_SCENARIOS_COMPLETION_REWARD_POINTS);
+            return true;
+        });
+        return Boolean.TRUE.equals(granted);
+    }
+
+    /** 트랜잭션이 있으면 커밋 이후 실행, 없으면 즉시 실행 */
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    // 완료/개별 보상은 이미 커밋됨 -> 완주 보상 실패는 로그로 남기고 요청은 성공 처리
+                    log.error("전체 시나리오 완주 보상 처리 실패", e);
+                }
+            }
+        });
+    }
+}
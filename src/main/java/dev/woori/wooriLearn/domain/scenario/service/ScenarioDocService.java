@@ -1,66 +1,169 @@
 package dev.woori.wooriLearn.domain.scenario.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.woori.wooriLearn.config.exception.CommonException;
 import dev.woori.wooriLearn.config.exception.ErrorCode;
-import dev.woori.wooriLearn.domain.scenario.dto.ScenarioDocDto;
-import dev.woori.wooriLearn.domain.scenario.dto.ScenarioDocStepDto;
+import dev.woori.wooriLearn.config.response.SuccessCode;
+import dev.woori.wooriLearn.domain.scenario.cache.CompiledScenario;
+import dev.woori.wooriLearn.domain.scenario.cache.CompiledStep;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioDocSnapshot;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioGraphCache;
 import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
 import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
 import dev.woori.wooriLearn.domain.scenario.repository.ScenarioRepository;
-import dev.woori.wooriLearn.domain.scenario.repository.ScenarioStepRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 시나리오 전체를 조회하는 서비스
+ *
+ * 문서는 컴파일된 스텝 그래프(ScenarioGraphCache) 버전마다 한 번만 렌더링한다.
+ * - JsonGenerator 로 응답 JSON 을 직접 출력하고, 스텝 content 는 그래프 캐시에 보관된 직렬화 바이트를 그대로 복사
+ *   (JsonNode 트리 / 중간 DTO 목록을 만들지 않음)
+ * - 렌더링 결과(원본 + gzip + ETag)를 그래프 버전과 함께 보관, 같은 버전이면 DB 조회 없이 그대로 반환
+ * - 제목 / 시작 스텝도 컴파일된 그래프에서 읽으므로 문서는 그래프 버전 하나로 결정된다.
+ *   (시작 스텝 저장, 제목/콘텐츠 직접 수정 후 그래프 무효화 -> 버전이 바뀌어 다음 요청에서 다시 렌더링)
+ *
+ * 응답 스트리밍이 아니라 시나리오마다 원본 + gzip 바이트를 메모리에 보관한다.
+ * 문서 하나는 스텝 content 합 정도 크기이고 시나리오 수만큼만 보관되므로,
+ * 요청마다 렌더링/압축하는 비용 대신 이 메모리를 쓰는 쪽을 택함.
+ *
+ * 캐시 적중 시 DB 를 전혀 사용하지 않도록 클래스 단위 트랜잭션은 두지 않는다.
+ * (재렌더링 시 필요한 조회는 모두 fetch join 된 단건/목록 조회라 리포지토리 트랜잭션으로 충분)
  */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ScenarioDocService {
 
     private final ScenarioRepository scenarioRepository;
-    private final ScenarioStepRepository stepRepository;
     private final ObjectMapper objectMapper;
+    private final ScenarioGraphCache graphCache;
 
-    public ScenarioDocDto getScenarioDoc(Long scenarioId) {
-        // 1) 시나리오 존재 확인
+    // 시나리오 id -> 마지막으로 렌더링한 문서
+    private final ConcurrentMap<Long, ScenarioDocSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * 렌더링된 시나리오 문서 조회
+     *
+     * 응답 형태 (BaseResponse 그대로):
+     * { "code":200, "message":"...", "data": { "scenarioId", "title", "startStepId",
+     *   "steps": [ { "id", "type", "next", "quizId", "content" }, ... ] } }
+     */
+    public ScenarioDocSnapshot getScenarioDoc(Long scenarioId) {
+        // 1) 현재 그래프 버전으로 렌더링된 문서가 있으면 그대로 반환
+        ScenarioDocSnapshot cached = snapshots.get(scenarioId);
+        if (cached != null && graphCache.get(scenarioId).version() == cached.graphVersion()) {
+            return cached;
+        }
+
+        // 2) 시나리오 존재 확인 (없는 시나리오는 그래프 컴파일 전에 ENTITY_NOT_FOUND)
         Scenario scenario = scenarioRepository.findById(scenarioId)
                 .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "시나리오 없음: " + scenarioId));
 
-        // 2) 모든 스텝 조회
-        List<ScenarioStep> steps = stepRepository.findByScenarioIdWithNextStep(scenarioId);
-        if (steps.isEmpty()) {
-            throw new CommonException(ErrorCode.INTERNAL_SERVER_ERROR, "스텝이 비어있습니다. scenarioId=" + scenarioId);
-        }
+        // 3) 컴파일된 스텝 그래프 (스텝이 비어있으면 INTERNAL_SERVER_ERROR)
+        CompiledScenario graph = graphCache.get(scenarioId);
+
+        // 4) 렌더링 후 보관 (동시에 렌더링된 경우 더 새로운 그래프 버전을 유지)
+        //    제목 / 시작 스텝은 그래프 버전과 어긋나지 않도록 컴파일된 그래프의 값을 사용
+        ScenarioDocSnapshot rendered = render(scenario.getId(), graph);
+        return snapshots.merge(scenarioId, rendered,
+                (old, fresh) -> old.graphVersion() >= fresh.graphVersion() ? old : fresh);
+    }
+
+    private ScenarioDocSnapshot render(Long scenarioId, CompiledScenario graph) {
+        MessageDigest digest = sha256();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(estimateSize(graph));
 
-        // 3) 시작 스텝 계산 (중복 제거: repository default 메서드 사용)
-        Long startId = stepRepository.findStartStepOrFail(scenarioId).getId();
-
-        // 4) 문서 스텝 DTO 변환
-        List<ScenarioDocStepDto> docSteps = steps.stream().map(s -> {
-            try {
-                JsonNode content = objectMapper.readTree(s.getContent());
-                return new ScenarioDocStepDto(
-                        s.getId(),
-                        s.getType(),
-                        s.getNextStep() != null ? s.getNextStep().getId() : null,
-                        s.getQuiz() != null ? s.getQuiz().getId() : null,
-                        content
-                );
-            } catch (JsonProcessingException e) {
-                throw new CommonException(ErrorCode.INTERNAL_SERVER_ERROR, "content JSON 파싱 실패. stepId=" + s.getId());
+        try (JsonGenerator gen = objectMapper.getFactory()
+                .createGenerator(new DigestOutputStream(body, digest), JsonEncoding.UTF8)) {
+            gen.writeStartObject();
+            gen.writeNumberField("code", SuccessCode.OK.getCode());
+            gen.writeStringField("message", SuccessCode.OK.getMessage());
+
+            gen.writeObjectFieldStart("data");
+            writeNumberOrNull(gen, "scenarioId", scenarioId);
+            gen.writeStringField("title", graph.title());
+            writeNumberOrNull(gen, "startStepId", graph.startStepId());
+
+            gen.writeArrayFieldStart("steps");
+            for (CompiledStep compiled : graph.steps()) {
+                writeStep(gen, compiled);
             }
-        }).toList();
+            gen.writeEndArray();
+
+            gen.writeEndObject();
+            gen.writeEndObject();
+        } catch (IOException e) {
+            throw new CommonException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "시나리오 문서 렌더링 실패. scenarioId=" + scenarioId);
+        }
 
-        // 5) 최종 문서 반환
-        return new ScenarioDocDto(scenario.getId(), scenario.getTitle(), startId, docSteps);
+        byte[] bytes = body.toByteArray();
+        String eTag = "W/\"" + HexFormat.of().formatHex(Arrays.copyOf(digest.digest(), 16)) + "\"";
+        return new ScenarioDocSnapshot(graph.version(), bytes, gzip(bytes), eTag);
     }
-}
 
+    private void writeStep(JsonGenerator gen, CompiledStep compiled) throws IOException {
+        ScenarioStep s = compiled.step();
+        if (compiled.payload() == null) {
+            // 그래프 컴파일 시 content 파싱에 실패한 스텝
+            throw new CommonException(ErrorCode.INTERNAL_SERVER_ERROR, "content JSON 파싱 실패. stepId=" + s.getId());
+        }
+        gen.writeStartObject();
+        writeNumberOrNull(gen, "id", s.getId());
+        gen.writeStringField("type", s.getType() != null ? s.getType().name() : null);
+        writeNumberOrNull(gen, "next", s.getNextStep() != null ? s.getNextStep().getId() : null);
+        writeNumberOrNull(gen, "quizId", s.getQuiz() != null ? s.getQuiz().getId() : null);
+        gen.writeFieldName("content");
+        compiled.payload().writeTo(gen);
+        gen.writeEndObject();
+    }
+
+    private static void writeNumberOrNull(JsonGenerator gen, String field, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNullField(field);
+        } else {
+            gen.writeNumberField(field, value);
+        }
+    }
+
+    /** 렌더링 버퍼 초기 크기 (content 바이트 + 스텝당 필드 여유분) */
+    private static int estimateSize(CompiledScenario graph) {
+        long size = 256;
+        for (CompiledStep c : graph.steps()) {
+            size += 96 + (c.payload() != null ? c.payload().byteLength() : 0);
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE - 8);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(bytes);
+        } catch (IOException e) {
+            throw new CommonException(ErrorCode.INTERNAL_SERVER_ERROR, "시나리오 문서 압축 실패");
+        }
+        return out.toByteArray();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package dev.woori.wooriLearn.domain.scenario.service;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.scenario.cache.CompiledScenario;
+import dev.woori.wooriLearn.domain.scenario.cache.GraphAnalysis;
+import dev.woori.wooriLearn.domain.scenario.cache.GraphDefect;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioGraphCache;
+import dev.woori.wooriLearn.domain.scenario.dto.ScenarioGraphReportResDto;
+import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 관리자용 시나리오 스텝 그래프 분석 결과 조회
+ * - 그래프 캐시에 컴파일된 그래프의 정적 분석 결과를 그대로 보여줌 (캐시 미스면 이 시점에 컴파일)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScenarioGraphReportService {
+
+    private final ScenarioRepository scenarioRepository;
+    private final ScenarioGraphCache graphCache;
+
+    public ScenarioGraphReportResDto getReport(Long scenarioId) {
+        if (!scenarioRepository.existsById(scenarioId)) {
+            throw new CommonException(ErrorCode.ENTITY_NOT_FOUND, "시나리오 없음: " + scenarioId);
+        }
+        return buildReport(scenarioId);
+    }
+
+    /** 결함이 하나라도 있는 시나리오의 분석 결과 목록 */
+    public List<ScenarioGraphReportResDto> getDefectiveReports() {
+        return scenarioRepository.findAll().stream()
+                .map(Scenario::getId)
+                .map(this::buildReport)
+                .filter(report -> !report.defects().isEmpty())
+                .toList();
+    }
+
+    private ScenarioGraphReportResDto buildReport(Long scenarioId) {
+        CompiledScenario graph;
+        try {
+            graph = graphCache.get(scenarioId);
+        } catch (CommonException e) {
+            // 스텝이 없는 시나리오는 컴파일 자체가 불가
+            return new ScenarioGraphReportResDto(scenarioId, null, null, 0, 0, null,
+                    List.of(new GraphDefect(GraphDefect.Type.NO_STEPS, null, e.getMessage())));
+        }
+
+        GraphAnalysis analysis = graph.analysis();
+        Integer toCompletion = analysis.stepsToCompletion(graph.startStepId());
+        return new ScenarioGraphReportResDto(
+                scenarioId,
+                graph.version(),
+                graph.startStepId(),
+                graph.size(),
+                analysis.reachable().size(),
+                toCompletion == null ? null : toCompletion + 1,
+                analysis.defects()
+        );
+    }
+}
@@ -2,10 +2,14 @@ package dev.woori.wooriLearn.domain.scenario.service;
 
 import dev.woori.wooriLearn.config.exception.CommonException;
 import dev.woori.wooriLearn.config.exception.ErrorCode;
-import dev.woori.wooriLearn.domain.account.dto.request.PointsDepositRequestDto;
-import dev.woori.wooriLearn.domain.account.service.PointsDepositService;
+import dev.woori.wooriLearn.domain.scenario.cache.CompiledScenario;
+import dev.woori.wooriLearn.domain.scenario.cache.CompiledStep;
+import dev.woori.wooriLearn.domain.scenario.cache.GraphDefect;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioGraphCache;
 import dev.woori.wooriLearn.domain.scenario.content.StepMeta;
+import dev.woori.wooriLearn.domain.scenario.dto.AdvanceReqDto;
 import dev.woori.wooriLearn.domain.scenario.dto.AdvanceResDto;
+import dev.woori.wooriLearn.domain.scenario.dto.BatchAdvanceResDto;
 import dev.woori.wooriLearn.domain.scenario.dto.ProgressResumeResDto;
 import dev.woori.wooriLearn.domain.scenario.dto.ProgressSaveResDto;
 import dev.woori.wooriLearn.domain.scenario.dto.QuizResDto;
@@ -16,12 +20,10 @@ import dev.woori.wooriLearn.domain.scenario.model.ChoiceInfo;
 import dev.woori.wooriLearn.domain.scenario.repository.ScenarioCompletedRepository;
 import dev.woori.wooriLearn.domain.scenario.repository.ScenarioProgressRepository;
 import dev.woori.wooriLearn.domain.scenario.repository.ScenarioRepository;
-import dev.woori.wooriLearn.domain.scenario.repository.ScenarioStepRepository;
 import dev.woori.wooriLearn.domain.scenario.service.processor.ContentInfo;
 import dev.woori.wooriLearn.domain.scenario.service.processor.StepProcessor;
 import dev.woori.wooriLearn.domain.scenario.service.processor.StepProcessorResolver;
 import dev.woori.wooriLearn.domain.user.entity.Users;
-import dev.woori.wooriLearn.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
@@ -44,25 +46,34 @@ import java.util.*;
  * - meta.badEnding == true 인 스텝은 배드 엔딩으로 간주
  * - 배드 브랜치에 있는 동안은 진행률을 "동결" (증가시키지 않음)
  * - 배드 엔딩 스텝의 nextStep 은 복귀 지점(보통 CHOICE 스텝)으로 설정
+ *
+ * 스텝 그래프(스텝 목록, 시작 스텝, 파싱된 content)는 ScenarioGraphCache 에서 시나리오별로 한 번만 컴파일해서 공유
  */
 @Service
 @RequiredArgsConstructor
 public class ScenarioProgressService {
-    private final UserRepository userRepository;
     private final ScenarioRepository scenarioRepository;
-    private final ScenarioStepRepository stepRepository;
     private final ScenarioProgressRepository progressRepository;
     private final ScenarioCompletedRepository completedRepository;
-    private final PointsDepositService pointsDepositService;
 
-    private static final int SCENARIO_COMPLETION_REWARD_POINTS = 1000;
-    private static final int ALL_SCENARIOS_COMPLETION_REWARD_POINTS = 10000;
+    // 시나리오 완료 등록 + 보상 지급 (사용자 행 잠금 없이 완료 이력 unique insert 로 멱등성 보장)
+    private final ScenarioCompletionRewardService completionRewardService;
+
     // 스텝 타입/상태에 따라 적절한 StepProcessor를 찾아주는 Resolver
     private final StepProcessorResolver stepProcessorResolver;
 
     // content JSON 파싱/DTO 매핑 전담 서비스
     private final ScenarioStepContentService contentService;
 
+    // 시나리오별 컴파일된 스텝 그래프 캐시
+    private final ScenarioGraphCache graphCache;
+
+    // 진행률 변화 없는 위치 이동 write-behind 버퍼 (opt-in)
+    private final ScenarioProgressWriteBuffer writeBuffer;
+
+    // 일괄 진행 API 에서 한 번에 처리할 수 있는 최대 이동 수
+    static final int MAX_BATCH_MOVES = 100;
+
     /**
      * 시나리오 진행 재개
      *
@@ -84,9 +95,10 @@ public class ScenarioProgressService {
         Scenario scenario = getScenarioOrThrow(scenarioId);
 
         // 2) 유저의 진행 이력 조회 -> 있으면 해당 스텝, 없으면 시작 스텝 계산
+        //    (write-behind 버퍼에 아직 반영되지 않은 이동이 있으면 그 위치를 우선)
         ScenarioStep step = progressRepository.findByUserAndScenario(user, scenario)
-                .map(ScenarioProgress::getStep)
-                .orElseGet(() -> stepRepository.findStartStepOrFail(scenarioId));
+                .map(progress -> pendingStepOrCurrent(user, scenarioId, progress.getStep()))
+                .orElseGet(() -> graphCache.get(scenarioId).startStep());
 
         // 3) 현재 스텝을 클라이언트 응답 DTO로 매핑
         return mapStep(step);
@@ -107,17 +119,67 @@ public class ScenarioProgressService {
     public AdvanceResDto advance(Users user, Long scenarioId, Long nowStepId, Integer answer) {
         // 공통 로딩 로직
         StepRuntime runtime = loadStepRuntime(user, scenarioId, nowStepId);
+        return processStep(user, runtime, answer);
+    }
 
-        Scenario scenario = runtime.scenario();
-        Map<Long, ScenarioStep> byId = runtime.byId();
-        ScenarioStep current = runtime.current();
-        ScenarioProgress progress = runtime.progress();
+    /**
+     * 여러 스텝을 한 번에 진행 (오프라인/빨리감기 클라이언트용)
+     * - 시나리오/스텝 그래프/진행 엔티티는 한 번만 로딩하고, 이동을 순서대로 같은 Processor 규칙으로 처리
+     * - 게이트(퀴즈/선택 필요, 오답, 배드 엔딩) 또는 완료 상태를 만나면 거기서 멈춤
+     * - 하나의 트랜잭션에서 같은 관리 엔티티만 갱신하므로 진행 상태는 커밋 시 최종 값으로 한 번 반영됨
+     * - 각 이동의 stepId 는 직전 이동 결과의 스텝과 같아야 함 (다르면 전체 롤백)
+     *
+     * @param user          현재 사용자
+     * @param scenarioId    진행 중인 시나리오 ID
+     * @param moves         순서대로 처리할 (stepId, answer) 목록
+     * @return 이동별 상태 목록 + 마지막 이동 결과
+     */
+    @Transactional
+    public BatchAdvanceResDto advanceBatch(Users user, Long scenarioId, List<AdvanceReqDto> moves) {
+        if (moves == null || moves.isEmpty() || moves.size() > MAX_BATCH_MOVES) {
+            throw new CommonException(ErrorCode.INVALID_REQUEST,
+                    "한 번에 진행할 수 있는 스텝 수는 1~" + MAX_BATCH_MOVES + "개입니다.");
+        }
 
-        // 시작 스텝 ID
-        Long startStepId = stepRepository.findStartStepOrFail(scenarioId).getId();
+        Scenario scenario = getScenarioOrThrow(scenarioId);
+        CompiledScenario graph = graphCache.get(scenarioId);
+
+        ScenarioProgress progress = null;
+        AdvanceResDto last = null;
+        List<BatchAdvanceResDto.MoveResult> results = new ArrayList<>(moves.size());
+
+        for (AdvanceReqDto move : moves) {
+            if (last != null && (last.step() == null || !Objects.equals(last.step().nowStepId(), move.nowStepId()))) {
+                throw new CommonException(ErrorCode.INVALID_REQUEST,
+                        "이전 이동 결과와 이어지지 않는 스텝입니다. stepId=" + move.nowStepId());
+            }
+
+            StepRuntime runtime = buildStepRuntime(user, scenario, graph, progress, move.nowStepId());
+            progress = runtime.progress();
+
+            last = processStep(user, runtime, move.answer());
+            results.add(new BatchAdvanceResDto.MoveResult(
+                    move.nowStepId(),
+                    last.status(),
+                    last.step() == null ? null : last.step().nowStepId()
+            ));
+
+            if (!isPassThrough(last.status())) {
+                break;
+            }
+        }
+        return new BatchAdvanceResDto(results, last);
+    }
+
+    /** 일괄 진행 중 다음 이동을 계속 처리해도 되는 상태인지 (그 외 상태는 사용자 입력이 필요하거나 종료) */
+    private static boolean isPassThrough(AdvanceStatus status) {
+        return status == AdvanceStatus.ADVANCED || status == AdvanceStatus.ADVANCED_FROZEN;
+    }
 
-        // Processor에 넘길 Context 구성
-        StepContext ctx = new StepContext(user, scenario, current, answer, byId, progress, runtime.badBranch(), runtime.badEnding(), startStepId, runtime.hasChoices());
+    private AdvanceResDto processStep(Users user, StepRuntime runtime, Integer answer) {
+        // Processor에 넘길 Context 구성 (시작 스텝은 그래프 컴파일 시점에 계산됨)
+        StepContext ctx = new StepContext(user, runtime.scenario(), runtime.current(), answer, runtime.byId(),
+                runtime.progress(), runtime.badBranch(), runtime.badEnding(), runtime.startStepId(), runtime.hasChoices());
 
         StepProcessor processor = stepProcessorResolver.resolve(ctx);
         return processor.process(ctx, this);
@@ -156,6 +218,8 @@ public class ScenarioProgressService {
      * @param scenario      시나리오(진행률 계산에 필요). forceFreeze=true 이면 null 가능
      * @param forceFreeze   true면 진행률을 변경하지 않고 위치만 저장
      * @return 최종 progressRate 값
+     *
+     * write-behind 활성화 시 진행률이 바뀌지 않는 이동은 버퍼에 기록만 하고, 진행률 증가는 즉시 저장
      */
     public double updateProgressAndSave(ScenarioProgress progress,
                                  ScenarioStep newStep,
@@ -165,8 +229,10 @@ public class ScenarioProgressService {
         double finalRate;
         if (forceFreeze || scenario == null) {
             // 진행률 동결 : 위치만 갱신
-            progress.moveToStep(newStep);
-            progressRepository.save(progress);
+            if (!deferStepMove(progress, newStep)) {
+                progress.moveToStep(newStep);
+                saveProgress(progress);
+            }
             finalRate = (progress.getProgressRate() == null) ? 0.0 : progress.getProgressRate();
             return finalRate;
         }
@@ -175,14 +241,19 @@ public class ScenarioProgressService {
         Double computed = computeProgressRateOnNormalPath(scenario, newStep);
         if (computed == null) {
             // 정상 루트에 속하지 않는 스텝(배드/연습용 등) -> 진행률 동결
-            progress.moveToStep(newStep);
-            progressRepository.save(progress);
+            if (!deferStepMove(progress, newStep)) {
+                progress.moveToStep(newStep);
+                saveProgress(progress);
+            }
             finalRate = (progress.getProgressRate() == null) ? 0.0 : progress.getProgressRate();
         } else {
             // 진행률 후보 값과 기존 값 중 더 큰 값으로 단조 증가 보장
+            double prev = (progress.getProgressRate() == null) ? 0.0 : progress.getProgressRate();
             double rate = monotonicRate(progress, computed);
-            progress.moveToStep(newStep, rate);
-            progressRepository.save(progress);
+            if (rate > prev || !deferStepMove(progress, newStep)) {
+                progress.moveToStep(newStep, rate);
+                saveProgress(progress);
+            }
             finalRate = rate;
         }
         return finalRate;
@@ -211,24 +282,13 @@ public class ScenarioProgressService {
     }
 
     /**
-     * 한 시나리오의 모든 스텝을 한 번에 로딩해서 Map 형태로 반환
-     * - N+1 문제를 피하기 위해 findByScenarioIdWithNextStep (JOIN FETCH) 사용
+     * 한 시나리오의 모든 스텝을 Map 형태로 반환
+     * - ScenarioGraphCache 에 컴파일된 그래프가 있으면 재사용, 없으면 JOIN FETCH 로 한 번 로딩 후 컴파일
      * @param scenarioId    대상 시나리오 ID
-     * @return key: stepId, value: ScenarioStep 엔티티
+     * @return key: stepId, value: ScenarioStep 엔티티 (읽기 전용)
      */
     Map<Long, ScenarioStep> preloadStepsAsMap(Long scenarioId) {
-        List<ScenarioStep> steps = stepRepository.findByScenarioIdWithNextStep(scenarioId);
-        if (steps.isEmpty()) {
-            throw new CommonException(
-                    ErrorCode.INTERNAL_SERVER_ERROR,
-                    "스텝이 비어있습니다. scenarioId=" + scenarioId
-            );
-        }
-        Map<Long, ScenarioStep> byId = new LinkedHashMap<>();
-        for (ScenarioStep s : steps) {
-            byId.putIfAbsent(s.getId(), s);
-        }
-        return byId;
+        return graphCache.get(scenarioId).byId();
     }
 
     /**
@@ -263,48 +323,52 @@ public class ScenarioProgressService {
         }
     }
 
-    /** 외부 Processor가 진행 엔티티 저장만 필요할 때 사용 */
-    boolean ensureCompletedOnceInsertIgnore(Users user, Scenario scenario) {
-        int inserted = completedRepository.insertIgnore(user.getId(), scenario.getId());
-        return inserted > 0;
-    }
-
+    /** 진행 엔티티 즉시 저장 (write-behind 버퍼에 대기 중인 이전 이동은 버림) */
     void saveProgress(ScenarioProgress progress) {
+        if (writeBuffer.isEnabled() && progress.getId() != null) {
+            writeBuffer.discard(progress.getUser().getId(), progress.getScenario().getId());
+        }
         progressRepository.save(progress);
     }
-    private void grantCompletionRewards(Users user) {
-        // 개별 시나리오 완료 보상
-        pointsDepositService.depositPoints(
-                user.getUserId(),
-                new PointsDepositRequestDto(SCENARIO_COMPLETION_REWARD_POINTS, "시나리오 완료 보상")
+
+    /**
+     * 진행률이 변하지 않는 위치 이동을 write-behind 버퍼에 기록
+     * - 관리 중인 엔티티는 수정하지 않음 (dirty checking 으로 UPDATE 가 나가지 않도록)
+     * - 버퍼 비활성화 / 아직 저장되지 않은 신규 진행 엔티티면 false -> 호출 측에서 즉시 저장
+     */
+    private boolean deferStepMove(ScenarioProgress progress, ScenarioStep newStep) {
+        if (!writeBuffer.isEnabled() || progress.getId() == null || newStep == null) {
+            return false;
+        }
+        writeBuffer.record(
+                progress.getUser().getId(),
+                progress.getScenario().getId(),
+                progress.getId(),
+                newStep.getId()
         );
-        // 전체 시나리오 완주 보상 (모든 시나리오 완료 시 1회)
-        long totalScenarioCount = scenarioRepository.count();
-        long userCompletedCount = completedRepository.countByUser(user);
-        if (totalScenarioCount > 0 && userCompletedCount == totalScenarioCount) {
-            pointsDepositService.depositPoints(
-                    user.getUserId(),
-                    new PointsDepositRequestDto(ALL_SCENARIOS_COMPLETION_REWARD_POINTS, "전체 시나리오 완주 보상")
-            );
+        return true;
+    }
+
+    /** write-behind 버퍼에 대기 중인 위치가 있으면 해당 스텝, 없으면 DB 에 저장된 스텝 */
+    private ScenarioStep pendingStepOrCurrent(Users user, Long scenarioId, ScenarioStep current) {
+        if (!writeBuffer.isEnabled()) {
+            return current;
         }
+        return writeBuffer.pendingStepId(user.getId(), scenarioId)
+                .map(stepId -> graphCache.get(scenarioId).byId().get(stepId))
+                .orElse(current);
     }
+    /**
+     * 시나리오 완료 처리
+     * - 최초 완료면 완료 이력 등록 + 보상 지급 (사용자 행 잠금 없음)
+     * - 진행률 100 으로 올리고 시작 스텝으로 이동
+     */
     @Transactional
     public AdvanceResDto handleScenarioCompletion(StepContext ctx) {
-
-        // 🔒 user 객체 비관적 잠금 조회
-        Users lockedUser = userRepository.findByIdForUpdate(ctx.user().getId())
-                .orElseThrow(() -> new CommonException(
-                        ErrorCode.ENTITY_NOT_FOUND,
-                        "사용자를 찾을 수 없습니다. id=" + ctx.user().getId()
-                ));
-
         Scenario scenario = ctx.scenario();
         ScenarioProgress progress = ctx.progress();
 
-        boolean newlyCompleted = ensureCompletedOnceInsertIgnore(lockedUser, scenario);
-        if (newlyCompleted) {
-            grantCompletionRewards(lockedUser); // 중복 로직 제거된 리팩토링 메소드
-        }
+        completionRewardService.completeAndReward(ctx.user().getId(), scenario.getId());
 
         double rate = monotonicRate(progress, 100.0);
 
@@ -327,56 +391,50 @@ public class ScenarioProgressService {
      */
     @Transactional
     public ScenarioRewardResDto claimScenarioReward(Users user, Long scenarioId) {
-
-
-
-        //  user 비관적 잠금 조회
-        Users lockedUser = userRepository.findByIdForUpdate(user.getId())
-                .orElseThrow(() -> new CommonException(
-                        ErrorCode.ENTITY_NOT_FOUND,
-                        "사용자를 찾을 수 없습니다. id=" + user.getId()
-                ));
-
         Scenario scenario = getScenarioOrThrow(scenarioId);
 
         // 시나리오를 완료했는지 확인
-        ScenarioProgress progress = progressRepository.findByUserAndScenario(lockedUser, scenario)
+        ScenarioProgress progress = progressRepository.findByUserAndScenario(user, scenario)
                 .orElseThrow(() -> new CommonException(ErrorCode.FORBIDDEN, "아직 시나리오를 시작하지 않았습니다."));
 
         if (progress.getProgressRate() == null || progress.getProgressRate() < 100.0) {
             throw new CommonException(ErrorCode.FORBIDDEN, "아직 시나리오를 완료하지 않았습니다.");
         }
 
-        boolean newlyCompleted = ensureCompletedOnceInsertIgnore(lockedUser, scenario);
+        // 완료 이력 unique insert 에 성공한 경우에만 보상 지급
+        boolean newlyCompleted = completionRewardService.completeAndReward(user.getId(), scenario.getId());
         if (!newlyCompleted) {
             return new ScenarioRewardResDto(false, "이미 시나리오 보상을 받았습니다.");
         }
 
-        grantCompletionRewards(lockedUser);
-
         return new ScenarioRewardResDto(true, "시나리오 완료 보상이 지급되었습니다.");
-
-
     }
 
 
 
     /**
      * ScenarioStep -> ProgressResumeResDto 매핑
-     * - 실제 JSON 파싱/구조환는 ScenarioStepContentService에 위임
+     * - 그래프 캐시에 미리 직렬화된 content 가 있으면 파싱 없이 그대로 사용
+     * - 없으면 JSON 파싱/직렬화를 ScenarioStepContentService에 위임
      * @param step 응답으로 내려줄 스텝 엔티티
      * @return 재개용 DTO
      */
     public ProgressResumeResDto mapStep(ScenarioStep step) {
+        CompiledStep compiled = graphCache.findStep(step);
+        if (compiled != null && compiled.payloadFor(step)) {
+            return contentService.mapStep(step, compiled.payload());
+        }
         return contentService.mapStep(step);
     }
 
     /**
      * Quiz 엔티티 -> QuizResDto 매핑
-     * - options 의 JSON 배열 문자열을 List<String> 으로 파싱
+     * - 그래프 컴파일 시 미리 파싱해 둔 DTO가 있으면 재사용
+     * - 없으면 options 의 JSON 배열 문자열을 List<String> 으로 파싱
      */
     public QuizResDto mapQuiz(Quiz quiz) {
-        return contentService.mapQuiz(quiz);
+        QuizResDto cached = graphCache.findQuiz(quiz.getId());
+        return cached != null ? cached : contentService.mapQuiz(quiz);
     }
 
     /**
@@ -386,6 +444,10 @@ public class ScenarioProgressService {
      * @return 선택 결과(정답 여부, 다음 스텝 ID)를 담은 ChoiceInfo
      */
     public ChoiceInfo parseChoice(ScenarioStep step, int answerIndex) {
+        CompiledStep compiled = graphCache.findStep(step);
+        if (compiled != null && compiled.choices() != null) {
+            return contentService.selectChoice(step, compiled.choices(), answerIndex);
+        }
         return contentService.parseChoice(step, answerIndex);
     }
 
@@ -411,6 +473,7 @@ public class ScenarioProgressService {
     private record StepRuntime(
             Scenario scenario,
             Map<Long, ScenarioStep> byId,
+            Long startStepId,
             ScenarioStep current,
             ScenarioProgress progress,
             Optional<StepMeta> metaOpt,
@@ -427,20 +490,35 @@ public class ScenarioProgressService {
         // 1) 시나리오 검증
         Scenario scenario = getScenarioOrThrow(scenarioId);
 
-        // 2) 스텝 맵 로딩
-        Map<Long, ScenarioStep> byId = preloadStepsAsMap(scenarioId);
+        // 2) 컴파일된 스텝 그래프 조회 (캐시 미스 시 한 번만 로딩/파싱)
+        CompiledScenario graph = graphCache.get(scenarioId);
+
+        return buildStepRuntime(user, scenario, graph, null, nowStepId);
+    }
+
+    /**
+     * 이미 로딩된 시나리오/그래프 기준으로 현재 스텝 런타임 구성
+     * @param loadedProgress 이미 조회한 진행 엔티티 (null 이면 조회/생성)
+     */
+    private StepRuntime buildStepRuntime(Users user,
+                                         Scenario scenario,
+                                         CompiledScenario graph,
+                                         ScenarioProgress loadedProgress,
+                                         Long nowStepId) {
+        Long scenarioId = scenario.getId();
 
         // 3) 현재 스텝 검증
-        ScenarioStep current = byId.get(nowStepId);
-        if (current == null || !Objects.equals(current.getScenario().getId(), scenarioId)) {
+        CompiledStep compiled = graph.step(nowStepId);
+        if (compiled == null || !Objects.equals(compiled.step().getScenario().getId(), scenarioId)) {
             throw new CommonException(
                     ErrorCode.ENTITY_NOT_FOUND,
                     "스텝이 존재하지 않거나 시나리오와 불일치. stepId=" + nowStepId
             );
         }
+        ScenarioStep current = compiled.step();
 
         // 4) 진행 엔티티 조회/생성
-        ScenarioProgress progress = progressRepository.findByUserAndScenario(user, scenario)
+        ScenarioProgress progress = (loadedProgress != null) ? loadedProgress : progressRepository.findByUserAndScenario(user, scenario)
                 .orElseGet(() -> ScenarioProgress.builder()
                         .user(user)
                         .scenario(scenario)
@@ -448,20 +526,20 @@ public class ScenarioProgressService {
                         .progressRate(0.0)
                         .build());
 
-        // 5) 메타 정보 한 번만 파싱하여 배드 브랜치/배드 엔딩 여부 확인
-        ContentInfo info = contentService.parseContentInfo(current);
+        // 5) 컴파일 시점에 파싱된 메타 정보로 배드 브랜치/배드 엔딩 여부 확인
+        //    (컴파일 시 파싱에 실패한 스텝은 여기서 재파싱하여 동일한 예외를 던짐)
+        ContentInfo info = compiled.info() != null ? compiled.info() : contentService.parseContentInfo(current);
         Optional<StepMeta> metaOpt = info.meta();
         boolean hasChoices = info.hasChoices();
 
-        boolean badBranch = metaOpt
-                .map(meta -> "bad".equalsIgnoreCase(meta.branch()))
-                .orElse(false);
-        boolean badEnding = metaOpt
-                .map(meta -> Boolean.TRUE.equals(meta.badEnding()))
-                .orElse(false);
+        boolean badBranch = compiled.info() != null ? compiled.badBranch() : CompiledStep.isBadBranch(info);
+        boolean badEnding = compiled.info() != null ? compiled.badEnding() : CompiledStep.isBadEnding(info);
 
-        boolean hasQuiz = current.getQuiz() != null;
-        if (hasChoices && hasQuiz) {
+        // quiz + choices 동시 존재 여부는 컴파일 시 정적 분석 결과로 판단 (파싱 실패 스텝만 직접 확인)
+        boolean quizWithChoices = (compiled.info() != null && graph.analysis() != null)
+                ? graph.analysis().hasDefect(nowStepId, GraphDefect.Type.QUIZ_WITH_CHOICES)
+                : hasChoices && current.getQuiz() != null;
+        if (quizWithChoices) {
             throw new CommonException(
                     ErrorCode.CONFLICT,
                     "시나리오 정의 오류: 하나의 스텝에 quiz와 choices가 동시에 존재할 수 없습니다. " +
@@ -469,6 +547,6 @@ public class ScenarioProgressService {
             );
         }
 
-        return new StepRuntime(scenario, byId, current, progress, metaOpt, badBranch, badEnding, hasChoices);
+        return new StepRuntime(scenario, graph.byId(), graph.startStepId(), current, progress, metaOpt, badBranch, badEnding, hasChoices);
     }
 }
@@ -0,0 +1,247 @@
+package dev.woori.wooriLearn.domain.scenario.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시나리오 진행 위치(step_id) write-behind 버퍼 (opt-in: app.scenario.progress.write-behind.enabled)
+ *
+ * 진행률이 변하지 않는 이동(배드 브랜치 이동, 정상 루트 밖 스텝 이동 등)은 위치만 바뀌므로
+ * 클릭마다 UPDATE 를 날리지 않고 (userId, scenarioId) 단위로 마지막 위치만 모아 두었다가
+ * 백그라운드에서 JDBC batch 로 한 번에 반영한다.
+ *
+ * - 진행률 증가 / 완료 / 신규 진행 엔티티 생성은 이 버퍼를 거치지 않고 즉시 저장 (보상 정합성)
+ * - 즉시 저장이 일어나면 해당 키의 대기 중인 이동은 버림 (discard)
+ * - 이미 꺼내간 오래된 이동이 즉시 저장 뒤에 반영되지 않도록 updated_at 조건부 UPDATE 사용
+ * - 애플리케이션 종료 시(stop) 남은 이동을 모두 반영
+ * - 트랜잭션 안에서 기록한 이동은 커밋된 뒤에만 버퍼에 들어감 (롤백되면 버림)
+ *
+ * 버퍼는 인스턴스 로컬이므로, 다중 인스턴스 환경에서는 다른 인스턴스의 resume 이
+ * 최대 flush 주기만큼 이전 위치를 볼 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScenarioProgressWriteBuffer implements SmartLifecycle {
+
+    private static final String UPDATE_STEP_SQL = """
+            UPDATE scenario_progress
+               SET step_id = ?, updated_at = ?
+             WHERE id = ? AND updated_at <= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.scenario.progress.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.scenario.progress.write-behind.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    @Value("${app.scenario.progress.write-behind.batch-size:500}")
+    private int batchSize;
+
+    private final ConcurrentMap<Key, PendingMove> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    private volatile boolean running;
+    private ScheduledExecutorService flusher;
+
+    /** (사용자, 시나리오) 단위 키 */
+    record Key(Long userId, Long scenarioId) {}
+
+    /**
+     * 대기 중인 위치 이동
+     * @param recordedAt    updated_at 과 비교하기 위한 기록 시각 (JPA Auditing 과 같은 시스템 기본 시간대 사용)
+     */
+    record PendingMove(Long progressId, Long stepId, LocalDateTime recordedAt) {}
+
+    /** 버퍼에 기록 가능한 상태인지 (옵션 활성화 + 라이프사이클 실행 중) */
+    public boolean isEnabled() {
+        return enabled && running;
+    }
+
+    /**
+     * 위치 이동 기록 (같은 키는 마지막 기록만 남음)
+     * 트랜잭션 안이면 커밋 후에 버퍼에 넣고, 트랜잭션 밖이면 바로 넣는다.
+     */
+    public void record(Long userId, Long scenarioId, Long progressId, Long stepId) {
+        Key key = new Key(userId, scenarioId);
+        PendingMove move = new PendingMove(progressId, stepId, LocalDateTime.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionMoves(true).moves.put(key, move);
+            return;
+        }
+        enqueue(key, move);
+    }
+
+    /** 아직 반영되지 않은 마지막 위치 (resume 시 사용, 현재 트랜잭션에서 기록한 이동 우선) */
+    public Optional<Long> pendingStepId(Long userId, Long scenarioId) {
+        Key key = new Key(userId, scenarioId);
+        TransactionMoves current = transactionMoves(false);
+        PendingMove move = current != null && current.moves.containsKey(key) ? current.moves.get(key) : pending.get(key);
+        return Optional.ofNullable(move).map(PendingMove::stepId);
+    }
+
+    /** 즉시 저장이 일어날 때 대기 중인 이동을 버림 (현재 트랜잭션에서 기록한 이동 포함) */
+    public void discard(Long userId, Long scenarioId) {
+        Key key = new Key(userId, scenarioId);
+        TransactionMoves current = transactionMoves(false);
+        if (current != null) {
+            current.moves.remove(key);
+        }
+        pending.remove(key);
+    }
+
+    private void enqueue(Key key, PendingMove move) {
+        pending.put(key, move);
+        if (!running) {
+            // 종료 중에 들어온 기록은 유실되지 않도록 즉시 반영
+            flush();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에 등록된 이동 모음 (REQUIRES_NEW 등으로 보류된 바깥 트랜잭션의 것은 보이지 않음)
+     * @param create 없으면 새로 등록할지 여부
+     */
+    private TransactionMoves transactionMoves(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TransactionMoves moves && moves.owner() == this) {
+                return moves;
+            }
+        }
+        if (!create) {
+            return null;
+        }
+        TransactionMoves moves = new TransactionMoves();
+        TransactionSynchronizationManager.registerSynchronization(moves);
+        return moves;
+    }
+
+    /** 트랜잭션 안에서 기록한 이동 (커밋 후 버퍼로 옮김, 롤백 시 버림) */
+    private final class TransactionMoves implements TransactionSynchronization {
+
+        private final Map<Key, PendingMove> moves = new LinkedHashMap<>();
+
+        ScenarioProgressWriteBuffer owner() {
+            return ScenarioProgressWriteBuffer.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            moves.forEach(ScenarioProgressWriteBuffer.this::enqueue);
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 대기 중인 이동을 모두 꺼내 JDBC batch 로 반영
+     * @return 반영 시도한 건수
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            List<Map.Entry<Key, PendingMove>> drained = new ArrayList<>();
+            for (Map.Entry<Key, PendingMove> e : pending.entrySet()) {
+                if (pending.remove(e.getKey(), e.getValue())) {
+                    drained.add(e);
+                }
+            }
+            if (drained.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_STEP_SQL, drained, batchSize, (ps, e) -> {
+                    PendingMove move = e.getValue();
+                    Timestamp at = Timestamp.valueOf(move.recordedAt());
+                    ps.setLong(1, move.stepId());
+                    ps.setTimestamp(2, at);
+                    ps.setLong(3, move.progressId());
+                    ps.setTimestamp(4, at);
+                });
+            } catch (DataAccessException ex) {
+                // 실패 분은 다시 넣되, 그 사이 들어온 최신 기록은 덮어쓰지 않음
+                drained.forEach(e -> pending.putIfAbsent(e.getKey(), e.getValue()));
+                log.error("시나리오 진행 위치 batch 반영 실패 - count={}", drained.size(), ex);
+                return 0;
+            }
+            log.debug("시나리오 진행 위치 batch 반영 - count={}", drained.size());
+            return drained.size();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "scenario-progress-flusher");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        running = true;
+        log.info("시나리오 진행 write-behind 활성화 - interval={}ms, batchSize={}", flushIntervalMs, batchSize);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 남은 이동을 모두 반영 (실패 시 재시도하지 않고 로그만 남김)
+        while (!pending.isEmpty()) {
+            if (flush() == 0) {
+                log.error("종료 시 시나리오 진행 위치 반영 실패 - 유실 건수={}", pending.size());
+                pending.clear();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("시나리오 진행 위치 flush 중 오류", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dev.woori.wooriLearn.domain.scenario.service;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 시작 스텝이 비어 있는 기존 시나리오에 대해 시작 스텝을 계산해 채운다.
+ * - 시나리오 단위로 개별 트랜잭션 처리, 검증 실패한 시나리오는 로그만 남기고 건너뜀 (조회 시 그래프 캐시가 같은 roots 규칙으로 계산)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScenarioStartStepBackfill {
+
+    private final ScenarioRepository scenarioRepository;
+    private final ScenarioStartStepService startStepService;
+
+    @Value("${app.scenario.start-step-backfill.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) {
+            backfill();
+        }
+    }
+
+    /** @return 시작 스텝을 채운 시나리오 수 */
+    public int backfill() {
+        List<Long> targets = scenarioRepository.findIdsWithoutStartStep();
+        int filled = 0;
+        for (Long scenarioId : targets) {
+            try {
+                startStepService.refresh(scenarioId);
+                filled++;
+            } catch (CommonException e) {
+                log.warn("시작 스텝 backfill 실패 - scenarioId={}, reason={}", scenarioId, e.getMessage());
+            }
+        }
+        if (!targets.isEmpty()) {
+            log.info("시작 스텝 backfill 완료 - 대상={}, 성공={}", targets.size(), filled);
+        }
+        return filled;
+    }
+}
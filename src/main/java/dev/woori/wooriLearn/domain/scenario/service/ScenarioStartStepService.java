@@ -0,0 +1,67 @@
+package dev.woori.wooriLearn.domain.scenario.service;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.scenario.cache.CompiledScenario;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioGraphCache;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioGraphValidator;
+import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 시나리오 시작 스텝 계산 + 저장
+ *
+ * 시작 스텝을 조회 때마다 anti-join 서브쿼리로 구하지 않고,
+ * 콘텐츠 반영 시점에 그래프를 검증(시작 후보 1개, 순환 없음)한 뒤 Scenario.startStepId 에 저장해 둔다.
+ * 컴파일된 그래프는 저장된 값을 시작 스텝으로 쓰므로, 커밋 후 그래프 캐시를 다시 비워 새 값으로 컴파일되게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScenarioStartStepService {
+
+    private final ScenarioRepository scenarioRepository;
+    private final ScenarioGraphCache graphCache;
+
+    /**
+     * 스텝 그래프를 새로 컴파일/검증하고 시작 스텝을 저장
+     * - 콘텐츠 수정 후 호출 (컴파일된 그래프 캐시도 함께 갱신됨)
+     *
+     * @param scenarioId 시나리오 ID
+     * @return 저장된 시작 스텝 id
+     * @throws CommonException 시작 후보가 1개가 아니거나 순환이 있으면 CONFLICT
+     */
+    @Transactional
+    public Long refresh(Long scenarioId) {
+        Scenario scenario = scenarioRepository.findById(scenarioId)
+                .orElseThrow(() -> new CommonException(ErrorCode.ENTITY_NOT_FOUND, "시나리오 없음: " + scenarioId));
+
+        graphCache.invalidate(scenarioId);
+        CompiledScenario graph = graphCache.get(scenarioId);
+        Long startStepId = ScenarioGraphValidator.resolveStartStepId(graph);
+
+        scenario.updateStartStep(startStepId);
+        invalidateAfterCommit(scenarioId);
+        log.info("시나리오 시작 스텝 저장 - scenarioId={}, startStepId={}", scenarioId, startStepId);
+        return startStepId;
+    }
+
+    private void invalidateAfterCommit(Long scenarioId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            graphCache.invalidate(scenarioId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                graphCache.invalidate(scenarioId);
+            }
+        });
+    }
+}
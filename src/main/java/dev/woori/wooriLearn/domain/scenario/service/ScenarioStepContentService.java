@@ -6,11 +6,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import dev.woori.wooriLearn.config.exception.CommonException;
 import dev.woori.wooriLearn.config.exception.ErrorCode;
-import dev.woori.wooriLearn.domain.scenario.content.ChoiceContent;
 import dev.woori.wooriLearn.domain.scenario.content.ChoiceOption;
+import dev.woori.wooriLearn.domain.scenario.content.ParsedStepContent;
 import dev.woori.wooriLearn.domain.scenario.content.StepMeta;
 import dev.woori.wooriLearn.domain.scenario.dto.ProgressResumeResDto;
 import dev.woori.wooriLearn.domain.scenario.dto.QuizResDto;
+import dev.woori.wooriLearn.domain.scenario.dto.RawJsonContent;
 import dev.woori.wooriLearn.domain.scenario.entity.Quiz;
 import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
 import dev.woori.wooriLearn.domain.scenario.model.ChoiceInfo;
@@ -18,6 +19,9 @@ import dev.woori.wooriLearn.domain.scenario.service.processor.ContentInfo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,16 +34,64 @@ public class ScenarioStepContentService {
 
     private final ObjectMapper objectMapper;
 
-    /** ScenarioStep -> ProgressResumeResDto 매핑 (콘텐츠 JsonNode 포함) */
+    /** ScenarioStep -> ProgressResumeResDto 매핑 (content 를 파싱/검증 후 직렬화) */
     public ProgressResumeResDto mapStep(ScenarioStep step) {
+        return mapStep(step, serializeContent(step));
+    }
+
+    /** ScenarioStep -> ProgressResumeResDto 매핑 (이미 직렬화된 content 재사용) */
+    public ProgressResumeResDto mapStep(ScenarioStep step, RawJsonContent content) {
+        return new ProgressResumeResDto(
+                step.getScenario().getId(),
+                step.getId(),
+                step.getType(),
+                step.getQuiz() != null ? step.getQuiz().getId() : null,
+                content
+        );
+    }
+
+    /**
+     * 스텝 content 를 파싱하여 유효한 JSON 인지 검증한 뒤, 공백 없는 형태로 직렬화
+     * - meta 형식 오류는 응답에 영향을 주지 않음 (JSON 자체가 잘못된 경우만 예외)
+     * - 결과는 응답에 그대로 출력 가능한 바이트로 보관되므로 스텝 그래프 캐시에 저장해 재사용
+     */
+    public RawJsonContent serializeContent(ScenarioStep step) {
+        return parse(step).payload();
+    }
+
+    /**
+     * 스텝 content JSON 을 한 번만 파싱해서 엔진이 쓰는 값을 모두 채운 ParsedStepContent 생성
+     * - meta / choices 존재 여부 / 배드 브랜치·엔딩 / 응답용 직렬화 바이트
+     * - JSON 자체가 잘못되면 예외, meta / choices 매핑 실패는 null 로 둠
+     *   (meta 는 진행 엔진이 ContentInfo 를 만들 때 parseContentInfo 에서,
+     *    choices 는 실제로 선택을 처리할 때 parseChoiceOptions 에서 기존과 같은 예외를 던짐)
+     * - 스텝 그래프 캐시가 컴파일 시점에 스텝마다 한 번 호출해 CompiledStep 에 보관
+     */
+    public ParsedStepContent parse(ScenarioStep step) {
+        String source = step.getContent();
         try {
-            JsonNode contentNode = objectMapper.readTree(step.getContent());
-            return new ProgressResumeResDto(
-                    step.getScenario().getId(),
-                    step.getId(),
-                    step.getType(),
-                    step.getQuiz() != null ? step.getQuiz().getId() : null,
-                    contentNode
+            JsonNode root = objectMapper.readTree(source);
+            if (root == null || root.isMissingNode()) {
+                return ParsedStepContent.of(source, null, false, null, false, RawJsonContent.of("null"));
+            }
+
+            // meta 추출 (형식 오류면 null + metaInvalid)
+            JsonNode metaNode = root.get("meta");
+            boolean hasMeta = metaNode != null && !metaNode.isNull();
+            StepMeta meta = hasMeta ? readMeta(metaNode) : null;
+
+            // choices 존재 여부 확인 + 선택지 목록
+            JsonNode choicesNode = root.get("choices");
+            boolean hasChoices = choicesNode != null && choicesNode.isArray() && choicesNode.size() > 0;
+            List<ChoiceOption> choices = readChoices(choicesNode);
+
+            return ParsedStepContent.of(
+                    source,
+                    meta,
+                    hasMeta && meta == null,
+                    choices,
+                    hasChoices,
+                    RawJsonContent.of(objectMapper.writeValueAsString(root))
             );
         } catch (JsonProcessingException e) {
             throw new CommonException(
@@ -49,6 +101,26 @@ public class ScenarioStepContentService {
         }
     }
 
+    private StepMeta readMeta(JsonNode metaNode) {
+        try {
+            return objectMapper.treeToValue(metaNode, StepMeta.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private List<ChoiceOption> readChoices(JsonNode choicesNode) {
+        if (choicesNode == null || choicesNode.isNull()) {
+            return null;
+        }
+        try {
+            List<ChoiceOption> parsed = objectMapper.readerForListOf(ChoiceOption.class).readValue(choicesNode);
+            return parsed == null ? null : Collections.unmodifiableList(new ArrayList<>(parsed));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
     /** Quiz 엔티티 -> QuizResDto 매핑 */
     public QuizResDto mapQuiz(Quiz quiz) {
         try {
@@ -66,38 +138,47 @@ public class ScenarioStepContentService {
 
     /** CHOICE 스텝 content -> ChoiceInfo 파싱 */
     public ChoiceInfo parseChoice(ScenarioStep step, int answerIndex) {
-        try {
-            ChoiceContent content = objectMapper.readValue(
-                    step.getContent(),
-                    ChoiceContent.class
-            );
-
-            if (content.choices() == null || content.choices().isEmpty()) {
-                throw new CommonException(
-                        ErrorCode.INTERNAL_SERVER_ERROR,
-                        "CHOICE 스텝에 choices 배열이 비어있습니다. stepId=" + step.getId()
-                );
-            }
-
-            if (answerIndex < 0 || answerIndex >= content.choices().size()) {
-                throw new CommonException(
-                        ErrorCode.INVALID_REQUEST,
-                        "선택 인덱스 범위 초과. index=" + answerIndex
-                );
-            }
-
-            ChoiceOption selected = content.choices().get(answerIndex);
-            boolean good = Boolean.TRUE.equals(selected.good());
-            Long next = selected.next(); // null 허용
-
-            return new ChoiceInfo(good, next);
+        return selectChoice(step, parseChoiceOptions(step), answerIndex);
+    }
 
-        } catch (JsonProcessingException e) {
+    /** CHOICE 스텝 content -> 선택지 목록 파싱 (choices 키가 없으면 null) */
+    public List<ChoiceOption> parseChoiceOptions(ScenarioStep step) {
+        ParsedStepContent content = parse(step);
+        if (content.hasChoices() && content.choices() == null) {
             throw new CommonException(
                     ErrorCode.INTERNAL_SERVER_ERROR,
                     "CHOICE content 파싱 실패. stepId=" + step.getId()
             );
         }
+        return content.choices();
+    }
+
+    /**
+     * 이미 파싱된 선택지 목록에서 사용자가 고른 인덱스의 선택지를 ChoiceInfo로 변환
+     * @param step          CHOICE 타입 스텝 (에러 메시지용)
+     * @param choices       파싱된 선택지 목록
+     * @param answerIndex   사용자가 선택한 인덱스
+     */
+    public ChoiceInfo selectChoice(ScenarioStep step, List<ChoiceOption> choices, int answerIndex) {
+        if (choices == null || choices.isEmpty()) {
+            throw new CommonException(
+                    ErrorCode.INTERNAL_SERVER_ERROR,
+                    "CHOICE 스텝에 choices 배열이 비어있습니다. stepId=" + step.getId()
+            );
+        }
+
+        if (answerIndex < 0 || answerIndex >= choices.size()) {
+            throw new CommonException(
+                    ErrorCode.INVALID_REQUEST,
+                    "선택 인덱스 범위 초과. index=" + answerIndex
+            );
+        }
+
+        ChoiceOption selected = choices.get(answerIndex);
+        boolean good = Boolean.TRUE.equals(selected.good());
+        Long next = selected.next(); // null 허용
+
+        return new ChoiceInfo(good, next);
     }
 
     /**
@@ -107,26 +188,18 @@ public class ScenarioStepContentService {
      * @return 파싱된 메타 정보(Optional)와 choices 존재 여부를 담은 ContentInfo 객체
      */
     public ContentInfo parseContentInfo(ScenarioStep step) {
-        try {
-            JsonNode root = objectMapper.readTree(step.getContent());
-
-            // meta 추출
-            JsonNode metaNode = root.get("meta");
-            StepMeta meta = (metaNode != null && !metaNode.isNull())
-                    ? objectMapper.treeToValue(metaNode, StepMeta.class)
-                    : null;
-            Optional<StepMeta> metaOpt = Optional.ofNullable(meta);
-
-            // choices 존재 여부 확인
-            JsonNode choicesNode = root.get("choices");
-            boolean hasChoices = choicesNode != null && choicesNode.isArray() && choicesNode.size() > 0;
-
-            return new ContentInfo(metaOpt, hasChoices);
-        } catch (JsonProcessingException e) {
+        ParsedStepContent content = parse(step);
+        if (content.metaInvalid()) {
             throw new CommonException(
                     ErrorCode.INTERNAL_SERVER_ERROR,
                     "스텝 content JSON 파싱 실패. stepId=" + step.getId()
             );
         }
+        return toContentInfo(content);
+    }
+
+    /** 파싱 결과 -> 진행 엔진용 ContentInfo */
+    public ContentInfo toContentInfo(ParsedStepContent content) {
+        return new ContentInfo(Optional.ofNullable(content.meta()), content.hasChoices());
     }
 }
@@ -2,8 +2,6 @@ package dev.woori.wooriLearn.domain.user.entity;
 
 import dev.woori.wooriLearn.config.BaseEntity;
 import dev.woori.wooriLearn.domain.auth.entity.AuthUsers;
-import dev.woori.wooriLearn.config.exception.CommonException;
-import dev.woori.wooriLearn.config.exception.ErrorCode;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -30,26 +28,16 @@ public class Users extends BaseEntity {
     @Column(unique = true) // 기존 데이터와의 충돌을 피하기 위해 임시로 nullable = true 설정
     private String email;
 
-    @Column(nullable = false)
+    // 잔액과 원장 시작 여부는 PointsLedger 의 조건부 UPDATE 로만 바뀜
+    // 엔티티 flush(닉네임 변경 등)가 읽어 둔 값으로 덮어쓰지 않도록 갱신 대상에서 제외 (가입 시 INSERT 의 0/false 만 기록)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Integer points = 0;
 
-    public void addPoints(Integer amount) {
-        if (amount == null || amount <= 0) {
-            throw new CommonException(ErrorCode.INVALID_REQUEST, "포인트 증액은 양수여야 합니다.");
-        }
-        this.points += amount;
-    }
-
-    public void subtractPoints(Integer amount) {
-        if (amount == null || amount <= 0) {
-            throw new CommonException(ErrorCode.INVALID_REQUEST, "포인트 차감은 양수여야 합니다.");
-        }
-        if (this.points < amount) {
-            throw new CommonException(ErrorCode.CONFLICT, "포인트가 부족합니다.");
-        }
-        this.points -= amount;
-    }
+    // 포인트 원장 기록 시작 여부 (첫 원장 변경 때 PointsLedger 가 true 로 바꾸고 기존 잔액을 OPENING 으로 기록)
+    @Column(name = "points_ledger_opened", nullable = false, updatable = false, columnDefinition = "boolean default false")
+    @Builder.Default
+    private boolean pointsLedgerOpened = false;
 
     public void updateNickname(String nickname) {
         this.nickname = nickname;
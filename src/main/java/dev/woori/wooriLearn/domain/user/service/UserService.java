@@ -5,9 +5,11 @@ import dev.woori.wooriLearn.config.exception.ErrorCode;
 import dev.woori.wooriLearn.domain.account.entity.Account;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistory;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistoryType;
+import dev.woori.wooriLearn.domain.account.entity.PointsLedgerReason;
 import dev.woori.wooriLearn.domain.account.entity.PointsStatus;
 import dev.woori.wooriLearn.domain.account.repository.AccountRepository;
 import dev.woori.wooriLearn.domain.account.repository.PointsHistoryRepository;
+import dev.woori.wooriLearn.domain.account.service.PointsLedger;
 import dev.woori.wooriLearn.domain.auth.entity.AuthUsers;
 import dev.woori.wooriLearn.domain.auth.port.AuthUserPort;
 import dev.woori.wooriLearn.domain.edubankapi.entity.AccountType;
@@ -41,6 +43,7 @@ public class UserService {
     private final PointsHistoryRepository pointsHistoryRepository;
     private final EdubankapiAccountRepository eduAccountRepository;
     private final AccountRepository accountRepository;
+    private final PointsLedger pointsLedger;
 
     private static final int NEW_MEMBER_REGISTRATION_POINTS = 5000;
     private static final int INITIAL_ACCOUNT_BALANCE = 5000000;
@@ -68,13 +71,13 @@ public class UserService {
                 .userId(signupReqDto.userId())
                 .nickname(signupReqDto.nickname())
                 .email(signupReqDto.email())
-                .points(NEW_MEMBER_REGISTRATION_POINTS)
                 .build();
 
         authUserRepository.save(authUser);
         userRepository.save(user);
 
-        // 신규 회원 포인트 지급
+        // 신규 회원 포인트 지급 (0 포인트로 생성 후 원장을 거쳐 지급)
+        pointsLedger.credit(user.getId(), NEW_MEMBER_REGISTRATION_POINTS, PointsLedgerReason.SIGNUP);
         pointsHistoryRepository.save(
                 PointsHistory.builder()
                         .user(user)
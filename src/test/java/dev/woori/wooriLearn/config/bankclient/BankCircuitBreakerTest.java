@@ -0,0 +1,100 @@
+package dev.woori.wooriLearn.config.bankclient;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("은행 호출 서킷 브레이커 테스트")
+class BankCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final BankCircuitBreaker breaker =
+            new BankCircuitBreaker(10, 4, 50, Duration.ofSeconds(30), 2, now::get);
+
+    private void call(boolean fail) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        if (fail) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 실패해도 열리지 않는다")
+    void staysClosedBelowMinCalls() {
+        call(true);
+        call(true);
+        call(true);
+
+        assertThat(breaker.getState()).isEqualTo(BankCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("실패율이 기준 이상이면 열리고, 열린 동안은 호출을 허용하지 않는다")
+    void opensOnFailureRate() {
+        call(false);
+        call(false);
+        call(true);
+        call(true);
+
+        assertThat(breaker.getState()).isEqualTo(BankCircuitBreaker.State.OPEN);
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("open-duration 후 시험 호출이 모두 성공하면 닫힌다")
+    void halfOpenSuccessCloses() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.getState()).isEqualTo(BankCircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(BankCircuitBreaker.State.CLOSED);
+        call(true);
+        assertThat(breaker.getState()).isEqualTo(BankCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열린다")
+    void halfOpenFailureReopens() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        call(true);
+
+        assertThat(breaker.getState()).isEqualTo(BankCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래된 실패는 window 밖으로 밀려나 실패율에서 빠진다")
+    void slidingWindow() {
+        BankCircuitBreaker small = new BankCircuitBreaker(4, 4, 75, Duration.ofSeconds(30), 1, now::get);
+        for (boolean fail : new boolean[]{true, true, false, false, false, true}) {
+            assertThat(small.tryAcquire()).isTrue();
+            if (fail) {
+                small.onFailure();
+            } else {
+                small.onSuccess();
+            }
+        }
+
+        // 최근 4건 = 성공, 성공, 성공, 실패 -> 25%
+        assertThat(small.getState()).isEqualTo(BankCircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,91 @@
+package dev.woori.wooriLearn.config.bankclient;
+
+import dev.woori.wooriLearn.domain.account.dto.external.request.BankTransferReqDto;
+import dev.woori.wooriLearn.domain.account.service.AccountClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("은행 HTTP 전송 계층 테스트")
+class BankHttpTransportTest {
+
+    private static final BankHttpTransport.Settings SETTINGS = new BankHttpTransport.Settings(
+            Duration.ofSeconds(1), Duration.ofSeconds(2), 8, 4, Duration.ofSeconds(1),
+            Duration.ofSeconds(30), Duration.ofSeconds(60), false);
+
+    private StubBankServer stub;
+    private BankHttpTransport transport;
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new StubBankServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (transport != null) {
+            transport.close();
+        }
+        stub.close();
+    }
+
+    private AccountClient client(BankHttpTransport.Type type) {
+        transport = BankHttpTransport.create(type, SETTINGS, registry);
+        return HttpServiceProxyFactory
+                .builderFor(RestClientAdapter.create(RestClient.builder()
+                        .baseUrl(stub.baseUrl())
+                        .requestFactory(transport.requestFactory())
+                        .build()))
+                .build()
+                .createClient(AccountClient.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(BankHttpTransport.Type.class)
+    @DisplayName("모든 전송 방식으로 은행 API 를 호출할 수 있다")
+    void transfer(BankHttpTransport.Type type) {
+        AccountClient client = client(type);
+
+        assertThat(client.transfer(new BankTransferReqDto("A", "B", 1L)).code()).isEqualTo(200);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = BankHttpTransport.Type.class, names = {"APACHE", "JDK"})
+    @DisplayName("연속 호출은 keep-alive 연결 하나를 재사용한다")
+    void reusesConnection(BankHttpTransport.Type type) {
+        AccountClient client = client(type);
+
+        for (int i = 0; i < 5; i++) {
+            client.transfer(new BankTransferReqDto("A", "B", 1L));
+        }
+
+        assertThat(stub.received).hasValue(5);
+        assertThat(stub.remotePorts).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("APACHE 는 연결 풀 상태를 지표로 노출한다")
+    void apache_poolMetrics() {
+        AccountClient client = client(BankHttpTransport.Type.APACHE);
+
+        client.transfer(new BankTransferReqDto("A", "B", 1L));
+
+        assertThat(registry.get("bank.client.pool.leased").gauge().value()).isZero();
+        assertThat(registry.get("bank.client.pool.pending").gauge().value()).isZero();
+        assertThat(registry.get("bank.client.pool.available").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("bank.client.pool.max").gauge().value()).isEqualTo(8.0);
+    }
+}
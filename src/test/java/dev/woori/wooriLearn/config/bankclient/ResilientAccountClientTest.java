@@ -0,0 +1,147 @@
+package dev.woori.wooriLearn.config.bankclient;
+
+import dev.woori.wooriLearn.domain.account.dto.external.request.BankTransferReqDto;
+import dev.woori.wooriLearn.domain.account.dto.external.response.BankTransferResDto;
+import dev.woori.wooriLearn.domain.account.service.AccountClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 지연 / 오류를 주입할 수 있는 로컬 stub 은행 서버(StubBankServer)로 실제 HTTP 호출 경로를 검증
+ */
+@DisplayName("은행 호출 보호 (stub 서버) 테스트")
+class ResilientAccountClientTest {
+
+    private StubBankServer stub;
+    private BankHttpTransport transport;
+
+    private SimpleMeterRegistry registry;
+    private BankClientResilience resilience;
+    private AccountClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new StubBankServer();
+
+        registry = new SimpleMeterRegistry();
+        resilience = new BankClientResilience(registry);
+        ReflectionTestUtils.setField(resilience, "windowSize", 10);
+        ReflectionTestUtils.setField(resilience, "minCalls", 4);
+        ReflectionTestUtils.setField(resilience, "maxConcurrent", 2);
+        ReflectionTestUtils.setField(resilience, "maxWait", Duration.ZERO);
+
+        transport = BankHttpTransport.create(BankHttpTransport.Type.APACHE, new BankHttpTransport.Settings(
+                Duration.ofSeconds(1), Duration.ofMillis(500), 8, 8, Duration.ofSeconds(1),
+                Duration.ofSeconds(30), Duration.ofSeconds(60), false), registry);
+        AccountClient proxy = HttpServiceProxyFactory
+                .builderFor(RestClientAdapter.create(RestClient.builder()
+                        .baseUrl(stub.baseUrl())
+                        .requestFactory(transport.requestFactory())
+                        .build()))
+                .build()
+                .createClient(AccountClient.class);
+        client = new ResilientAccountClient(proxy, resilience);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.close();
+        stub.close();
+    }
+
+    private BankTransferReqDto request() {
+        return new BankTransferReqDto("ADMIN-ACC", "USER-ACC", 1_000L);
+    }
+
+    @Test
+    @DisplayName("정상 응답은 엔드포인트별 응답 시간 히스토그램에 기록된다")
+    void success_recordsLatency() {
+        BankTransferResDto res = client.transfer(request());
+
+        assertThat(res.code()).isEqualTo(200);
+        assertThat(registry.get("bank.client.requests")
+                .tag("endpoint", "transfer").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("5xx 가 이어지면 서킷 브레이커가 열려 은행에 보내지 않고 바로 실패한다")
+    void serverErrors_openCircuit() {
+        stub.errorStatus.set(500);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.transfer(request())).isInstanceOf(HttpServerErrorException.class);
+        }
+
+        assertThatThrownBy(() -> client.transfer(request()))
+                .isInstanceOf(BankCallNotPermittedException.class)
+                .extracting("reason")
+                .isEqualTo(BankCallNotPermittedException.Reason.CIRCUIT_OPEN);
+        assertThat(stub.received).hasValue(4);
+        assertThat(resilience.state("transfer")).isEqualTo(BankCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("읽기 시간 초과도 실패로 집계된다")
+    void slowResponse_countsAsFailure() {
+        stub.delayMillis.set(1_000);
+
+        assertThatThrownBy(() -> client.transfer(request())).isInstanceOf(ResourceAccessException.class);
+        assertThat(registry.get("bank.client.requests")
+                .tag("endpoint", "transfer").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 호출이 max-concurrent 를 넘으면 벌크헤드가 바로 거절한다")
+    void bulkhead_rejectsOverflow() throws Exception {
+        stub.delayMillis.set(300);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    return client.transfer(request());
+                }));
+            }
+            start.countDown();
+
+            int rejected = 0;
+            for (Future<?> future : futures) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                } catch (java.util.concurrent.ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(BankCallNotPermittedException.class);
+                    rejected++;
+                }
+            }
+            assertThat(rejected).isEqualTo(2);
+            assertThat(stub.received).hasValue(2);
+            assertThat(registry.get("bank.client.rejected")
+                    .tag("endpoint", "transfer").tag("reason", "bulkhead_full").counter().count()).isEqualTo(2.0);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+}
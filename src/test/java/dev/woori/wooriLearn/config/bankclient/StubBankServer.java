@@ -0,0 +1,67 @@
+package dev.woori.wooriLearn.config.bankclient;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 로컬 stub 은행 서버 (POST /api/transfer)
+ *
+ * 응답 지연(delayMillis)과 오류 상태 코드(errorStatus, 0 이면 200)를 테스트 중에 바꿀 수 있다.
+ * 받은 요청 수와 클라이언트 연결(원격 포트) 수를 기록한다.
+ */
+class StubBankServer implements AutoCloseable {
+
+    static final String OK_BODY = "{\"code\":200,\"success\":true,\"message\":\"ok\",\"data\":null}";
+
+    final AtomicLong delayMillis = new AtomicLong();
+    final AtomicInteger errorStatus = new AtomicInteger();
+    final AtomicInteger received = new AtomicInteger();
+    final Set<Integer> remotePorts = ConcurrentHashMap.newKeySet();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    StubBankServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/transfer", exchange -> {
+            received.incrementAndGet();
+            remotePorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(delayMillis.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            int status = errorStatus.get() == 0 ? 200 : errorStatus.get();
+            byte[] body = (status == 200 ? OK_BODY : "{}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        executor = Executors.newFixedThreadPool(16);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
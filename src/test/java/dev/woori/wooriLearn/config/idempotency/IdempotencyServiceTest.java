@@ -0,0 +1,213 @@
+package dev.woori.wooriLearn.config.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency-Key 처리 테스트")
+class IdempotencyServiceTest {
+
+    private static final String KEY = "idempotency:transfer:user1:key-1";
+
+    record Request(String from, int amount) {
+    }
+
+    record Response(String transactionId, int balance) {
+    }
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(redisTemplate, objectMapper, "fingerprint-secret");
+        ReflectionTestUtils.setField(idempotencyService, "pollInterval", Duration.ofMillis(1));
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 Redis 를 거치지 않고 그대로 실행한다")
+    void execute_withoutKey() {
+        Response response = idempotencyService.execute("transfer", "user1", null,
+                new Request("A", 100), Response.class, () -> new Response("TX-1", 900));
+
+        assertThat(response).isEqualTo(new Response("TX-1", 900));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("키를 선점하면 실행 후 응답을 보관하고, 같은 키의 재시도는 보관된 응답을 반환한다")
+    void execute_storesAndReplays() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).willReturn(true, false);
+        AtomicInteger executions = new AtomicInteger();
+
+        Response first = idempotencyService.execute("transfer", "user1", "key-1",
+                new Request("A", 100), Response.class,
+                () -> new Response("TX-" + executions.incrementAndGet(), 900));
+
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(KEY), stored.capture(), eq(Duration.ofHours(24)));
+        given(valueOperations.get(KEY)).willReturn(stored.getValue());
+
+        Response retry = idempotencyService.execute("transfer", "user1", "key-1",
+                new Request("A", 100), Response.class,
+                () -> new Response("TX-" + executions.incrementAndGet(), 800));
+
+        assertThat(retry).isEqualTo(first);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 내용이 다른 요청을 보내면 CONFLICT")
+    void execute_fingerprintMismatch() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).willReturn(true, false);
+        idempotencyService.execute("transfer", "user1", "key-1",
+                new Request("A", 100), Response.class, () -> new Response("TX-1", 900));
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(KEY), stored.capture(), any(Duration.class));
+        given(valueOperations.get(KEY)).willReturn(stored.getValue());
+
+        assertThatThrownBy(() -> idempotencyService.execute("transfer", "user1", "key-1",
+                new Request("A", 200), Response.class, () -> new Response("TX-2", 800)))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CONFLICT);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 들어온 동시 요청은 다시 실행하지 않고 선행 요청의 응답을 기다린다")
+    void execute_waitsForInFlight() throws Exception {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).willReturn(false);
+        Request request = new Request("A", 100);
+        String fingerprint = (String) ReflectionTestUtils.invokeMethod(idempotencyService, "fingerprint", request);
+        String processing = objectMapper.writeValueAsString(
+                IdempotencyService.IdempotencyRecord.processing(fingerprint));
+        String completed = objectMapper.writeValueAsString(IdempotencyService.IdempotencyRecord.completed(
+                fingerprint, objectMapper.writeValueAsString(new Response("TX-1", 900))));
+        given(valueOperations.get(KEY)).willReturn(processing, processing, completed);
+
+        Response response = idempotencyService.execute("transfer", "user1", "key-1", request, Response.class,
+                () -> {
+                    throw new AssertionError("중복 실행되면 안 됨");
+                });
+
+        assertThat(response).isEqualTo(new Response("TX-1", 900));
+    }
+
+    @Test
+    @DisplayName("실행이 실패하면 키를 지워 같은 키로 다시 시도할 수 있게 한다")
+    void execute_releasesKeyOnFailure() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).willReturn(true);
+
+        assertThatThrownBy(() -> idempotencyService.execute("transfer", "user1", "key-1",
+                new Request("A", 100), Response.class, () -> {
+                    throw new CommonException(ErrorCode.INVALID_REQUEST, "잔액이 부족합니다.");
+                }))
+                .isInstanceOf(CommonException.class);
+
+        verify(redisTemplate).delete(KEY);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("실행이 processing-ttl 보다 길어지면 처리 중 표시의 만료를 연장한다")
+    void execute_renewsLeaseWhileRunning() {
+        ReflectionTestUtils.setField(idempotencyService, "processingTtl", Duration.ofMillis(30));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).willReturn(true);
+
+        idempotencyService.execute("transfer", "user1", "key-1", new Request("A", 100), Response.class, () -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Response("TX-1", 900);
+        });
+
+        verify(redisTemplate, atLeastOnce()).expire(KEY, Duration.ofMillis(30));
+        verify(valueOperations).set(eq(KEY), anyString(), eq(Duration.ofHours(24)));
+    }
+
+    @Test
+    @DisplayName("응답 보관에 실패하면 처리 중 표시를 response-ttl 동안 유지해 다시 실행되지 않게 한다")
+    void execute_keepsProcessingWhenStoreFails() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).willReturn(true);
+        willThrow(new IllegalStateException("Redis 연결 끊김"))
+                .given(valueOperations).set(eq(KEY), anyString(), any(Duration.class));
+
+        Response response = idempotencyService.execute("transfer", "user1", "key-1",
+                new Request("A", 100), Response.class, () -> new Response("TX-1", 900));
+
+        assertThat(response).isEqualTo(new Response("TX-1", 900));
+        verify(redisTemplate).expire(KEY, Duration.ofHours(24));
+        verify(redisTemplate, never()).delete(KEY);
+    }
+
+    @Test
+    @DisplayName("요청 지문은 서버 비밀키로 만든 HMAC 이라 비밀키가 다르면 달라진다")
+    void fingerprint_keyedBySecret() {
+        IdempotencyService otherSecret = new IdempotencyService(redisTemplate, objectMapper, "other-secret");
+        Request request = new Request("A", 100);
+
+        String fingerprint = (String) ReflectionTestUtils.invokeMethod(idempotencyService, "fingerprint", request);
+
+        assertThat(fingerprint)
+                .isEqualTo(ReflectionTestUtils.invokeMethod(idempotencyService, "fingerprint", request))
+                .isNotEqualTo(ReflectionTestUtils.invokeMethod(otherSecret, "fingerprint", request));
+    }
+
+    @Test
+    @DisplayName("지문 전용 비밀키가 비어 있으면 다른 키로 대신하지 않고 기동을 막는다")
+    void constructor_requiresFingerprintSecret() {
+        assertThatThrownBy(() -> new IdempotencyService(redisTemplate, objectMapper, " "))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("app.idempotency.fingerprint-secret");
+    }
+
+    @Test
+    @DisplayName("형식에 맞지 않는 키는 INVALID_REQUEST")
+    void execute_invalidKey() {
+        assertThatThrownBy(() -> idempotencyService.execute("transfer", "user1", "키 값",
+                new Request("A", 100), Response.class, () -> new Response("TX-1", 900)))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+}
@@ -0,0 +1,77 @@
+package dev.woori.wooriLearn.domain.account.scheduler;
+
+import dev.woori.wooriLearn.domain.account.repository.PointsLedgerJdbcRepository;
+import dev.woori.wooriLearn.domain.account.repository.PointsLedgerJdbcRepository.Balance;
+import dev.woori.wooriLearn.domain.account.scheduler.PointsLedgerReconciliationScheduler.ReconciliationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("포인트 원장 정합성 점검 테스트")
+class PointsLedgerReconciliationSchedulerTest {
+
+    @Mock
+    private PointsLedgerJdbcRepository ledgerRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PointsLedgerReconciliationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new PointsLedgerReconciliationScheduler(ledgerRepository, meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "pageSize", 2);
+    }
+
+    @Test
+    @DisplayName("사용자 id keyset 페이지를 끝까지 돌며 잔액과 원장 합계가 다른 사용자를 모은다 (원장 시작 전 사용자는 원장이 비어 있으면 정상)")
+    void run_collectsMismatches() {
+        given(ledgerRepository.findBalancesAfter(0L, 2)).willReturn(List.of(
+                new Balance(1L, true, 1_000, 1_000),
+                new Balance(3L, true, 500, 300)));
+        given(ledgerRepository.findBalancesAfter(3L, 2)).willReturn(List.of(
+                new Balance(4L, false, 700, 0)));
+
+        ReconciliationResult result = scheduler.run();
+
+        assertThat(result.checked()).isEqualTo(3);
+        assertThat(result.mismatches()).containsExactly(new Balance(3L, true, 500, 300));
+        assertThat(meterRegistry.get("points.ledger.mismatched.users").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("불일치가 없으면 지표를 0 으로 되돌린다")
+    void run_resetsGauge() {
+        given(ledgerRepository.findBalancesAfter(0L, 2)).willReturn(
+                List.of(new Balance(1L, true, 100, 50)),
+                List.of(new Balance(1L, true, 100, 100)));
+
+        scheduler.run();
+        ReconciliationResult result = scheduler.run();
+
+        assertThat(result.mismatches()).isEmpty();
+        assertThat(meterRegistry.get("points.ledger.mismatched.users").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 점검하지 않는다")
+    void runScheduled_disabled() {
+        ReflectionTestUtils.setField(scheduler, "enabled", false);
+
+        scheduler.runScheduled();
+
+        verifyNoInteractions(ledgerRepository);
+    }
+}
@@ -5,6 +5,7 @@ import dev.woori.wooriLearn.config.exception.ErrorCode;
 import dev.woori.wooriLearn.domain.account.dto.request.PointsDepositRequestDto;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistory;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistoryType;
+import dev.woori.wooriLearn.domain.account.entity.PointsLedgerReason;
 import dev.woori.wooriLearn.domain.account.entity.PointsStatus;
 import dev.woori.wooriLearn.domain.account.repository.PointsHistoryRepository;
 import dev.woori.wooriLearn.domain.auth.entity.AuthUsers;
@@ -19,12 +20,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import java.time.LocalDateTime;
-import java.util.Optional;
-
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 
@@ -39,6 +39,9 @@ class PointsDepositServiceTest {
     @Mock
     private PointsHistoryRepository pointsHistoryRepository;
 
+    @Mock
+    private PointsLedger pointsLedger;
+
     private Users user;
 
     @BeforeEach
@@ -62,7 +65,9 @@ class PointsDepositServiceTest {
     @DisplayName("포인트 충전 성공 시 히스토리를 저장하고 잔액을 반환한다")
     void depositPoints_success() {
         PointsDepositRequestDto dto = new PointsDepositRequestDto(100, "reason");
-        when(userRepository.findByUserIdForUpdate("user")).thenReturn(Optional.of(user));
+        when(pointsLedger.getUserId("user")).thenReturn(1L);
+        when(pointsLedger.credit(1L, 100, PointsLedgerReason.DEPOSIT)).thenReturn(100);
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
 
         PointsHistory saved = PointsHistory.builder()
                 .id(10L)
@@ -84,26 +89,69 @@ class PointsDepositServiceTest {
         assertEquals(PointsStatus.SUCCESS, res.status());
         assertEquals(100, res.addedPoint());
         assertEquals(100, res.currentBalance());
+        assertEquals(1L, res.userId());
         assertEquals("reason", res.message());
     }
 
     @Test
     @DisplayName("사용자를 찾지 못하면 ENTITY_NOT_FOUND 예외를 던진다")
     void depositPoints_userNotFound() {
-        when(userRepository.findByUserIdForUpdate("missing")).thenReturn(Optional.empty());
+        when(pointsLedger.getUserId("missing")).thenThrow(new CommonException(ErrorCode.ENTITY_NOT_FOUND));
 
         CommonException ex = assertThrows(CommonException.class,
                 () -> service.depositPoints("missing", new PointsDepositRequestDto(100, null)));
         assertEquals(ErrorCode.ENTITY_NOT_FOUND, ex.getErrorCode());
+        verify(pointsLedger, never()).credit(any(), anyInt(), any());
+        verify(pointsHistoryRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("충전 금액이 0 이하이면 INVALID_REQUEST 예외를 던진다")
     void depositPoints_invalidAmount_throwsCommonException() {
-        when(userRepository.findByUserIdForUpdate("user")).thenReturn(Optional.of(user));
+        when(pointsLedger.getUserId("user")).thenReturn(1L);
+        when(pointsLedger.credit(1L, 0, PointsLedgerReason.DEPOSIT))
+                .thenThrow(new CommonException(ErrorCode.INVALID_REQUEST));
 
         CommonException ex = assertThrows(CommonException.class,
                 () -> service.depositPoints("user", new PointsDepositRequestDto(0, null)));
         assertEquals(ErrorCode.INVALID_REQUEST, ex.getErrorCode());
+        verify(pointsHistoryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("creditPoints는 원장에 보상으로 기록하고 히스토리를 저장한다")
+    void creditPoints_success() {
+        when(pointsLedger.credit(1L, 1000, PointsLedgerReason.REWARD)).thenReturn(1000);
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+
+        service.creditPoints(1L, 1000);
+
+        verify(pointsLedger).credit(1L, 1000, PointsLedgerReason.REWARD);
+        ArgumentCaptor<PointsHistory> captor = ArgumentCaptor.forClass(PointsHistory.class);
+        verify(pointsHistoryRepository).save(captor.capture());
+        assertEquals(1000, captor.getValue().getAmount());
+        assertEquals(PointsHistoryType.DEPOSIT, captor.getValue().getType());
+        assertEquals(PointsStatus.SUCCESS, captor.getValue().getStatus());
+    }
+
+    @Test
+    @DisplayName("creditPoints 대상 사용자가 없으면 ENTITY_NOT_FOUND 예외를 던진다")
+    void creditPoints_userNotFound() {
+        when(pointsLedger.credit(99L, 1000, PointsLedgerReason.REWARD))
+                .thenThrow(new CommonException(ErrorCode.ENTITY_NOT_FOUND));
+
+        CommonException ex = assertThrows(CommonException.class, () -> service.creditPoints(99L, 1000));
+        assertEquals(ErrorCode.ENTITY_NOT_FOUND, ex.getErrorCode());
+        verify(pointsHistoryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("creditPoints 금액이 0 이하이면 INVALID_REQUEST 예외를 던진다")
+    void creditPoints_invalidAmount() {
+        when(pointsLedger.credit(1L, 0, PointsLedgerReason.REWARD))
+                .thenThrow(new CommonException(ErrorCode.INVALID_REQUEST));
+
+        CommonException ex = assertThrows(CommonException.class, () -> service.creditPoints(1L, 0));
+        assertEquals(ErrorCode.INVALID_REQUEST, ex.getErrorCode());
     }
 }
@@ -0,0 +1,219 @@
+package dev.woori.wooriLearn.domain.account.service;
+
+import dev.woori.wooriLearn.domain.account.dto.external.request.BankTransferReqDto;
+import dev.woori.wooriLearn.domain.account.dto.external.response.BankTransferResDto;
+import dev.woori.wooriLearn.domain.account.dto.response.PointsBulkApproveResponseDto;
+import dev.woori.wooriLearn.domain.account.entity.Account;
+import dev.woori.wooriLearn.domain.account.entity.PointsExchangeOutbox;
+import dev.woori.wooriLearn.domain.account.entity.PointsFailReason;
+import dev.woori.wooriLearn.domain.account.entity.PointsHistory;
+import dev.woori.wooriLearn.domain.account.entity.PointsHistoryType;
+import dev.woori.wooriLearn.domain.account.entity.PointsLedgerReason;
+import dev.woori.wooriLearn.domain.account.entity.PointsStatus;
+import dev.woori.wooriLearn.domain.account.repository.AccountRepository;
+import dev.woori.wooriLearn.domain.account.repository.PointsExchangeOutboxRepository;
+import dev.woori.wooriLearn.domain.account.repository.PointsHistoryRepository;
+import dev.woori.wooriLearn.domain.user.entity.Users;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("환전 일괄 승인 테스트")
+class PointsExchangeBulkApprovalServiceTest {
+
+    @Mock
+    private PointsHistoryRepository pointsHistoryRepository;
+
+    @Mock
+    private PointsLedger pointsLedger;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private PointsExchangeOutboxRepository outboxRepository;
+
+    @Mock
+    private AccountClient accountClient;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-12-03T09:00:00Z"), ZoneId.of("UTC"));
+    private final LocalDateTime now = LocalDateTime.now(clock);
+
+    private PointsExchangeBulkApprovalService bulkApprovalService;
+
+    private Users user1;
+    private Users user2;
+
+    @BeforeEach
+    void setUp() {
+        bulkApprovalService = new PointsExchangeBulkApprovalService(pointsHistoryRepository, pointsLedger,
+                accountRepository, outboxRepository, accountClient, entityManager, clock, transactionManager);
+        ReflectionTestUtils.setField(bulkApprovalService, "adminAccountNumber", "ADMIN-ACC");
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        user1 = Users.builder().id(1L).userId("user1").nickname("u1").points(0).build();
+        user2 = Users.builder().id(2L).userId("user2").nickname("u2").points(0).build();
+    }
+
+    private PointsHistory apply(Long id, Users user, String accountNumber, int amount) {
+        return PointsHistory.builder()
+                .id(id)
+                .user(user)
+                .accountNumber(accountNumber)
+                .amount(amount)
+                .type(PointsHistoryType.WITHDRAW)
+                .status(PointsStatus.APPLY)
+                .build();
+    }
+
+    private Account account(Users owner, String accountNumber) {
+        return Account.builder().user(owner).accountNumber(accountNumber).bankCode("020").accountName("name").build();
+    }
+
+    /** 요청 1, 2 는 user1, 요청 3 은 user2 */
+    private List<PointsHistory> stubClaim() {
+        List<PointsHistory> histories = List.of(
+                apply(1L, user1, "ACC-1", 1_000),
+                apply(2L, user1, "ACC-1", 2_000),
+                apply(3L, user2, "ACC-2", 3_000));
+        given(pointsHistoryRepository.lockApplyWithdrawIds(500)).willReturn(List.of(1L, 2L, 3L));
+        given(pointsHistoryRepository.findAllWithUserByIdIn(List.of(1L, 2L, 3L))).willReturn(histories);
+        given(accountRepository.findAllByAccountNumberIn(anyCollection()))
+                .willReturn(List.of(account(user1, "ACC-1"), account(user2, "ACC-2")));
+        return histories;
+    }
+
+    @Test
+    @DisplayName("사용자 행은 잠그지 않고, 성공은 UPDATE 한 번, 실패는 건별 조건부 UPDATE 로 반영하며 실패 건은 사용자별 합계로 원장에 환불한다")
+    void approvePending_sync() {
+        List<PointsHistory> histories = stubClaim();
+        given(pointsHistoryRepository.completeAll(List.of(2L), PointsStatus.FAILED, PointsFailReason.PROCESSING_ERROR, now))
+                .willReturn(1);
+        given(pointsHistoryRepository.completeAll(List.of(1L, 3L), PointsStatus.SUCCESS, null, now)).willReturn(2);
+        given(accountClient.transfer(any(BankTransferReqDto.class))).willAnswer(invocation -> {
+            BankTransferReqDto req = invocation.getArgument(0);
+            if (req.amount() == 2_000L) {
+                throw new RestClientException("timeout");
+            }
+            return new BankTransferResDto(200, true, "ok", null);
+        });
+
+        PointsBulkApproveResponseDto response = bulkApprovalService.approvePending(null);
+
+        assertThat(response.claimed()).isEqualTo(3);
+        assertThat(response.succeeded()).isEqualTo(2);
+        assertThat(response.failed()).isEqualTo(1);
+        assertThat(histories).allMatch(h -> h.getStatus() == PointsStatus.PROCESSING);
+        verify(pointsLedger).credit(1L, 2_000, PointsLedgerReason.EXCHANGE_REFUND);
+        verify(pointsLedger, never()).credit(eq(2L), anyInt(), any());
+        verify(pointsHistoryRepository).completeAll(List.of(2L), PointsStatus.FAILED, PointsFailReason.PROCESSING_ERROR, now);
+        verify(pointsHistoryRepository).completeAll(List.of(1L, 3L), PointsStatus.SUCCESS, null, now);
+        verifyNoInteractions(outboxRepository);
+    }
+
+    @Test
+    @DisplayName("이체 실패 건이 그 사이 다른 경로에서 이미 완료됐으면 (조건부 UPDATE 0건) 환불하지 않는다")
+    void approvePending_sync_alreadyCompletedFailure_noRefund() {
+        stubClaim();
+        given(accountClient.transfer(any(BankTransferReqDto.class))).willAnswer(invocation -> {
+            BankTransferReqDto req = invocation.getArgument(0);
+            if (req.amount() == 3_000L) {
+                return new BankTransferResDto(200, true, "ok", null);
+            }
+            throw new RestClientException("timeout");
+        });
+        given(pointsHistoryRepository.completeAll(List.of(1L), PointsStatus.FAILED, PointsFailReason.PROCESSING_ERROR, now))
+                .willReturn(1);
+        // 요청 2 는 단건 처리 경로가 먼저 FAILED 로 바꾸고 환불까지 마친 상태
+        given(pointsHistoryRepository.completeAll(List.of(2L), PointsStatus.FAILED, PointsFailReason.PROCESSING_ERROR, now))
+                .willReturn(0);
+        given(pointsHistoryRepository.completeAll(List.of(3L), PointsStatus.SUCCESS, null, now)).willReturn(1);
+
+        PointsBulkApproveResponseDto response = bulkApprovalService.approvePending(null);
+
+        verify(pointsLedger).credit(1L, 1_000, PointsLedgerReason.EXCHANGE_REFUND);
+        verify(pointsLedger, never()).credit(eq(1L), eq(3_000), any());
+        verify(pointsLedger, never()).credit(eq(2L), anyInt(), any());
+        assertThat(response.results())
+                .filteredOn(r -> r.requestId().equals(2L))
+                .singleElement()
+                .satisfies(r -> assertThat(r.message()).isEqualTo("이미 처리된 요청이라 환불하지 않았습니다."));
+    }
+
+    @Test
+    @DisplayName("계좌 소유자가 다른 요청은 승인하지 않고 APPLY 로 남긴다")
+    void approvePending_skipsInvalidAccount() {
+        List<PointsHistory> histories = List.of(apply(1L, user1, "ACC-2", 1_000));
+        given(pointsHistoryRepository.lockApplyWithdrawIds(10)).willReturn(List.of(1L));
+        given(pointsHistoryRepository.findAllWithUserByIdIn(List.of(1L))).willReturn(histories);
+        given(accountRepository.findAllByAccountNumberIn(anyCollection())).willReturn(List.of(account(user2, "ACC-2")));
+
+        PointsBulkApproveResponseDto response = bulkApprovalService.approvePending(10);
+
+        assertThat(response.skipped()).isEqualTo(1);
+        assertThat(response.results().get(0).message()).isEqualTo("해당 계좌의 소유자가 아닙니다.");
+        assertThat(histories.get(0).getStatus()).isEqualTo(PointsStatus.APPLY);
+        verifyNoInteractions(accountClient);
+        verify(pointsHistoryRepository, never()).completeAll(anyCollection(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("비동기 정산이면 은행을 호출하지 않고 outbox 를 일괄 등록한다")
+    @SuppressWarnings("unchecked")
+    void approvePending_async() {
+        ReflectionTestUtils.setField(bulkApprovalService, "asyncSettlement", true);
+        stubClaim();
+
+        PointsBulkApproveResponseDto response = bulkApprovalService.approvePending(null);
+
+        assertThat(response.queued()).isEqualTo(3);
+        ArgumentCaptor<List<PointsExchangeOutbox>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(PointsExchangeOutbox::getPointsHistoryId).containsExactly(1L, 2L, 3L);
+        verifyNoInteractions(accountClient);
+    }
+
+    @Test
+    @DisplayName("대기 요청이 없으면 아무것도 하지 않는다")
+    void approvePending_empty() {
+        given(pointsHistoryRepository.lockApplyWithdrawIds(anyInt())).willReturn(List.of());
+
+        PointsBulkApproveResponseDto response = bulkApprovalService.approvePending(null);
+
+        assertThat(response.claimed()).isZero();
+        verifyNoInteractions(pointsLedger, accountClient);
+    }
+}
@@ -78,4 +78,18 @@ class PointsExchangeFacadeTest {
         assertEquals(expected, res);
         verify(pointsExchangeService).processFailure(2L);
     }
+
+    @Test
+    @DisplayName("비동기 정산이 켜져 있으면 outbox 등록만 하고 은행 API를 호출하지 않는다")
+    void executeTransfer_asyncSettlement_enqueuesOnly() {
+        ReflectionTestUtils.setField(facade, "asyncSettlement", true);
+        PointsExchangeResponseDto expected = PointsExchangeResponseDto.builder().build();
+        when(pointsExchangeService.enqueueSettlement(3L)).thenReturn(expected);
+
+        PointsExchangeResponseDto res = facade.executeTransfer(3L);
+
+        assertEquals(expected, res);
+        verify(pointsExchangeService, never()).prepareTransfer(anyLong());
+        verifyNoInteractions(accountClient);
+    }
 }
@@ -0,0 +1,82 @@
+package dev.woori.wooriLearn.domain.account.service;
+
+import dev.woori.wooriLearn.domain.account.entity.PointsExchangeOutbox;
+import dev.woori.wooriLearn.domain.account.entity.PointsExchangeOutboxStatus;
+import dev.woori.wooriLearn.domain.account.repository.PointsExchangeOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 포인트 환전 정산 lease 만료 처리
+ * - 은행 호출 후 결과를 반영하지 못한 채 lease 가 만료된 건은 은행 이체가 이미 반영됐을 수 있으므로
+ *   다시 대기열에 넣지 않고 REVIEW_REQUIRED 로 옮겨, 은행을 두 번 호출하지 않는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PointsExchangeLeaseExpiryTest {
+
+    @Autowired PointsExchangeSettlementWorker settlementWorker;
+    @Autowired PointsExchangeSettlementService settlementService;
+    @Autowired PointsExchangeOutboxRepository outboxRepository;
+    @Autowired Clock clock;
+
+    @MockitoBean AccountClient accountClient;
+    @MockitoBean PointsExchangeService pointsExchangeService;
+
+    private Long outboxId;
+
+    @AfterEach
+    void tearDown() {
+        if (outboxId != null) {
+            outboxRepository.deleteById(outboxId);
+        }
+    }
+
+    @Test
+    @DisplayName("lease 가 만료된 선점 건은 REVIEW_REQUIRED 로 옮겨지고 은행 이체를 다시 호출하지 않는다")
+    void sweep_expiredLease_neverResends() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        // 은행 호출까지 마친 뒤 서버가 중단되어 결과가 반영되지 않은 건
+        outboxId = outboxRepository.save(PointsExchangeOutbox.builder()
+                .pointsHistoryId(1L)
+                .accountNumber("USER-ACC")
+                .amount(1_000L)
+                .status(PointsExchangeOutboxStatus.IN_FLIGHT)
+                .attempts(1)
+                .nextAttemptAt(now.minusMinutes(5))
+                .leaseUntil(now.minusMinutes(1))
+                .createdAt(now.minusMinutes(5))
+                .build()).getId();
+
+        assertThat(settlementWorker.sweep()).isEqualTo(1);
+
+        PointsExchangeOutbox expired = outboxRepository.findById(outboxId).orElseThrow();
+        assertThat(expired.getStatus()).isEqualTo(PointsExchangeOutboxStatus.REVIEW_REQUIRED);
+        assertThat(expired.getLeaseUntil()).isNull();
+        assertThat(expired.getLastError()).isEqualTo("lease expired");
+        assertThat(outboxRepository.findDueIds(PointsExchangeOutboxStatus.PENDING, now.plusDays(1),
+                PageRequest.of(0, 100))).doesNotContain(outboxId);
+
+        // 이전에 넘겨진 작업이 뒤늦게 실행돼도 선점 상태가 아니므로 호출하지 않음
+        settlementService.settle(outboxId);
+
+        verify(accountClient, never()).transfer(any());
+        verify(pointsExchangeService, never()).processFailure(anyLong());
+        assertThat(settlementWorker.sweep()).isZero();
+    }
+}
@@ -7,11 +7,15 @@ import dev.woori.wooriLearn.domain.account.dto.external.response.BankTransferRes
 import dev.woori.wooriLearn.domain.account.dto.request.PointsExchangeRequestDto;
 import dev.woori.wooriLearn.domain.account.dto.response.PointsExchangeResponseDto;
 import dev.woori.wooriLearn.domain.account.entity.Account;
+import dev.woori.wooriLearn.domain.account.entity.PointsExchangeOutbox;
+import dev.woori.wooriLearn.domain.account.entity.PointsExchangeOutboxStatus;
 import dev.woori.wooriLearn.domain.account.entity.PointsFailReason;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistory;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistoryType;
+import dev.woori.wooriLearn.domain.account.entity.PointsLedgerReason;
 import dev.woori.wooriLearn.domain.account.entity.PointsStatus;
 import dev.woori.wooriLearn.domain.account.repository.AccountRepository;
+import dev.woori.wooriLearn.domain.account.repository.PointsExchangeOutboxRepository;
 import dev.woori.wooriLearn.domain.account.repository.PointsHistoryRepository;
 import dev.woori.wooriLearn.domain.auth.entity.AuthUsers;
 import dev.woori.wooriLearn.domain.auth.entity.Role;
@@ -36,6 +40,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -50,6 +55,10 @@ class PointsExchangeServiceTest {
     private UserRepository userRepository;
     @Mock
     private AccountRepository accountRepository;
+    @Mock
+    private PointsExchangeOutboxRepository pointsExchangeOutboxRepository;
+    @Mock
+    private PointsLedger pointsLedger;
 
     private Users user;
     private Account account;
@@ -60,7 +69,8 @@ class PointsExchangeServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         // inject fixed clock
-        service = new PointsExchangeService(fixedClock, pointsHistoryRepository, userRepository, accountRepository);
+        service = new PointsExchangeService(fixedClock, pointsHistoryRepository, userRepository, accountRepository,
+                pointsExchangeOutboxRepository, pointsLedger);
 
         user = Users.builder()
                 .id(1L)
@@ -88,8 +98,10 @@ class PointsExchangeServiceTest {
     @DisplayName("포인트 출금 신청 성공 시 요청 ID와 잔액을 반환한다")
     void requestExchange_success() {
         PointsExchangeRequestDto dto = new PointsExchangeRequestDto(500, account.getAccountNumber(), "020");
-        when(userRepository.findByUserIdForUpdate("user")).thenReturn(Optional.of(user));
+        when(pointsLedger.getUserId("user")).thenReturn(1L);
         when(accountRepository.findByAccountNumber(account.getAccountNumber())).thenReturn(Optional.of(account));
+        when(pointsLedger.debit(1L, 500, PointsLedgerReason.EXCHANGE)).thenReturn(500);
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
 
         PointsHistory saved = PointsHistory.builder()
                 .id(11L)
@@ -108,44 +120,43 @@ class PointsExchangeServiceTest {
         assertEquals(500, res.exchangeAmount());
         assertEquals(500, res.currentBalance()); // 1000 - 500
         verify(pointsHistoryRepository).save(any());
+        verify(userRepository, never()).findByUserIdForUpdate(any());
     }
 
     @Test
     @DisplayName("출금 금액이 0 이하이면 INVALID_REQUEST 예외를 던진다")
     void requestExchange_invalidAmount() {
         PointsExchangeRequestDto dto = new PointsExchangeRequestDto(0, account.getAccountNumber(), "020");
-        when(userRepository.findByUserIdForUpdate("user")).thenReturn(Optional.of(user));
 
         CommonException ex = assertThrows(CommonException.class, () -> service.requestExchange("user", dto));
         assertEquals(ErrorCode.INVALID_REQUEST, ex.getErrorCode());
+        verifyNoInteractions(pointsLedger);
     }
 
     @Test
     @DisplayName("보유 포인트보다 큰 금액을 출금하면 CONFLICT 예외를 던진다")
     void requestExchange_insufficientPoints() {
-        user = Users.builder()
-                .id(1L)
-                .authUser(user.getAuthUser())
-                .userId(user.getUserId())
-                .nickname(user.getNickname())
-                .points(100)
-                .build();
         PointsExchangeRequestDto dto = new PointsExchangeRequestDto(500, account.getAccountNumber(), "020");
-        when(userRepository.findByUserIdForUpdate("user")).thenReturn(Optional.of(user));
+        when(pointsLedger.getUserId("user")).thenReturn(1L);
+        when(accountRepository.findByAccountNumber(account.getAccountNumber())).thenReturn(Optional.of(account));
+        when(pointsLedger.debit(1L, 500, PointsLedgerReason.EXCHANGE))
+                .thenThrow(new CommonException(ErrorCode.CONFLICT, "포인트가 부족하여 출금 요청을 처리할 수 없습니다."));
 
         CommonException ex = assertThrows(CommonException.class, () -> service.requestExchange("user", dto));
         assertEquals(ErrorCode.CONFLICT, ex.getErrorCode());
+        verify(pointsHistoryRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("계좌를 찾지 못하면 ENTITY_NOT_FOUND 예외를 던진다")
     void requestExchange_accountNotFound() {
         PointsExchangeRequestDto dto = new PointsExchangeRequestDto(100, account.getAccountNumber(), "020");
-        when(userRepository.findByUserIdForUpdate("user")).thenReturn(Optional.of(user));
+        when(pointsLedger.getUserId("user")).thenReturn(1L);
         when(accountRepository.findByAccountNumber(account.getAccountNumber())).thenReturn(Optional.empty());
 
         CommonException ex = assertThrows(CommonException.class, () -> service.requestExchange("user", dto));
         assertEquals(ErrorCode.ENTITY_NOT_FOUND, ex.getErrorCode());
+        verify(pointsLedger, never()).debit(any(), anyInt(), any());
     }
 
     @Test
@@ -166,11 +177,12 @@ class PointsExchangeServiceTest {
                 .bankCode(account.getBankCode())
                 .accountName(account.getAccountName())
                 .build();
-        when(userRepository.findByUserIdForUpdate("user")).thenReturn(Optional.of(user));
+        when(pointsLedger.getUserId("user")).thenReturn(1L);
         when(accountRepository.findByAccountNumber(account.getAccountNumber())).thenReturn(Optional.of(otherAccount));
 
         CommonException ex = assertThrows(CommonException.class, () -> service.requestExchange("user", dto));
         assertEquals(ErrorCode.FORBIDDEN, ex.getErrorCode());
+        verify(pointsLedger, never()).debit(any(), anyInt(), any());
     }
 
     @Test
@@ -200,7 +212,6 @@ class PointsExchangeServiceTest {
                 .accountNumber(account.getAccountNumber())
                 .build();
         when(pointsHistoryRepository.findAndLockById(1L)).thenReturn(Optional.of(history));
-        when(userRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.of(user));
         when(accountRepository.findByAccountNumber(account.getAccountNumber())).thenReturn(Optional.of(account));
 
         ExchangeProcessContext ctx = service.prepareTransfer(1L);
@@ -208,6 +219,51 @@ class PointsExchangeServiceTest {
         assertEquals(PointsStatus.PROCESSING, history.getStatus());
         assertEquals(account.getAccountNumber(), ctx.accountNum());
         assertEquals(100, ctx.amount());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("비동기 정산 접수 시 PROCESSING으로 바꾸고 같은 트랜잭션에서 정산 outbox를 저장한다")
+    void enqueueSettlement_marksProcessingAndSavesOutbox() {
+        PointsHistory history = PointsHistory.builder()
+                .id(1L)
+                .user(user)
+                .amount(300)
+                .status(PointsStatus.APPLY)
+                .accountNumber(account.getAccountNumber())
+                .build();
+        when(pointsHistoryRepository.findAndLockById(1L)).thenReturn(Optional.of(history));
+        when(accountRepository.findByAccountNumber(account.getAccountNumber())).thenReturn(Optional.of(account));
+
+        PointsExchangeResponseDto res = service.enqueueSettlement(1L);
+
+        assertEquals(PointsStatus.PROCESSING, history.getStatus());
+        assertEquals(PointsStatus.PROCESSING, res.status());
+        ArgumentCaptor<PointsExchangeOutbox> captor = ArgumentCaptor.forClass(PointsExchangeOutbox.class);
+        verify(pointsExchangeOutboxRepository).save(captor.capture());
+        PointsExchangeOutbox outbox = captor.getValue();
+        assertEquals(1L, outbox.getPointsHistoryId());
+        assertEquals(account.getAccountNumber(), outbox.getAccountNumber());
+        assertEquals(300L, outbox.getAmount());
+        assertEquals(PointsExchangeOutboxStatus.PENDING, outbox.getStatus());
+        assertEquals(LocalDateTime.now(fixedClock), outbox.getNextAttemptAt());
+    }
+
+    @Test
+    @DisplayName("APPLY 상태가 아니면 정산 접수 시 CONFLICT 예외를 던지고 outbox를 저장하지 않는다")
+    void enqueueSettlement_statusNotApply_throwsConflict() {
+        PointsHistory history = PointsHistory.builder()
+                .id(1L)
+                .user(user)
+                .amount(300)
+                .status(PointsStatus.PROCESSING)
+                .accountNumber(account.getAccountNumber())
+                .build();
+        when(pointsHistoryRepository.findAndLockById(1L)).thenReturn(Optional.of(history));
+
+        CommonException ex = assertThrows(CommonException.class, () -> service.enqueueSettlement(1L));
+        assertEquals(ErrorCode.CONFLICT, ex.getErrorCode());
+        verify(pointsExchangeOutboxRepository, never()).save(any());
     }
 
     @Test
@@ -221,7 +277,6 @@ class PointsExchangeServiceTest {
                 .accountNumber(account.getAccountNumber())
                 .build();
         when(pointsHistoryRepository.findAndLockById(1L)).thenReturn(Optional.of(history));
-        when(userRepository.findByUserIdForUpdate(user.getUserId())).thenReturn(Optional.of(user));
 
         BankTransferResDto bankRes = new BankTransferResDto(200, true, "ok", null);
 
@@ -230,6 +285,7 @@ class PointsExchangeServiceTest {
         assertEquals(PointsStatus.SUCCESS, history.getStatus());
         assertNotNull(history.getProcessedAt());
         assertEquals(PointsStatus.SUCCESS, res.status());
+        verifyNoInteractions(pointsLedger, userRepository);
     }
 
     @Test
@@ -250,14 +306,15 @@ class PointsExchangeServiceTest {
                 .accountNumber(account.getAccountNumber())
                 .build();
         when(pointsHistoryRepository.findAndLockById(1L)).thenReturn(Optional.of(history));
-        when(userRepository.findByUserIdForUpdate(user.getUserId())).thenReturn(Optional.of(user));
+        when(pointsLedger.credit(1L, 200, PointsLedgerReason.EXCHANGE_REFUND)).thenReturn(200);
 
         PointsExchangeResponseDto res = service.processResult(1L, null);
 
         assertEquals(PointsStatus.FAILED, history.getStatus());
         assertEquals(PointsFailReason.PROCESSING_ERROR, history.getFailReason());
         assertEquals(200, res.currentBalance());
-        assertEquals(200, user.getPoints());
+        verify(pointsLedger).credit(1L, 200, PointsLedgerReason.EXCHANGE_REFUND);
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -278,16 +335,36 @@ class PointsExchangeServiceTest {
                 .accountNumber(account.getAccountNumber())
                 .build();
         when(pointsHistoryRepository.findAndLockById(1L)).thenReturn(Optional.of(history));
-        when(userRepository.findByUserIdForUpdate(user.getUserId())).thenReturn(Optional.of(user));
+        when(pointsLedger.credit(1L, 150, PointsLedgerReason.EXCHANGE_REFUND)).thenReturn(150);
 
         PointsExchangeResponseDto res = service.processFailure(1L);
 
         assertEquals(PointsStatus.FAILED, history.getStatus());
         assertEquals(PointsFailReason.PROCESSING_ERROR, history.getFailReason());
-        assertEquals(150, user.getPoints());
+        assertEquals(150, res.currentBalance());
+        verify(pointsLedger).credit(1L, 150, PointsLedgerReason.EXCHANGE_REFUND);
         assertEquals(PointsStatus.FAILED, res.status());
     }
 
+    @Test
+    @DisplayName("이미 결과가 반영된 요청은 다시 환불하지 않는다")
+    void processFailure_alreadyFailed_doesNotRefundTwice() {
+        PointsHistory history = PointsHistory.builder()
+                .id(1L)
+                .user(user)
+                .amount(150)
+                .status(PointsStatus.FAILED)
+                .accountNumber(account.getAccountNumber())
+                .build();
+        when(pointsHistoryRepository.findAndLockById(1L)).thenReturn(Optional.of(history));
+
+        service.processFailure(1L);
+        service.processResult(1L, null);
+
+        verifyNoInteractions(pointsLedger);
+        assertEquals(PointsStatus.FAILED, history.getStatus());
+    }
+
     @Test
     @DisplayName("대기 중인 출금 목록 조회는 기본 페이지 정보로 조회한다")
     void getPendingWithdrawals_usesDefaultPaging() {
@@ -0,0 +1,225 @@
+package dev.woori.wooriLearn.domain.account.service;
+
+import dev.woori.wooriLearn.config.bankclient.BankCallNotPermittedException;
+import dev.woori.wooriLearn.config.bankclient.BankHttpTransport;
+import dev.woori.wooriLearn.domain.account.dto.external.request.BankTransferReqDto;
+import dev.woori.wooriLearn.domain.account.dto.external.response.BankTransferResDto;
+import dev.woori.wooriLearn.domain.account.entity.PointsExchangeOutbox;
+import dev.woori.wooriLearn.domain.account.entity.PointsExchangeOutboxStatus;
+import dev.woori.wooriLearn.domain.account.repository.PointsExchangeOutboxRepository;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("포인트 환전 정산 처리 테스트")
+class PointsExchangeSettlementServiceTest {
+
+    @Mock
+    private PointsExchangeService pointsExchangeService;
+
+    @Mock
+    private PointsExchangeOutboxRepository outboxRepository;
+
+    @Mock
+    private AccountClient accountClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-12-03T09:00:00Z"), ZoneId.of("UTC"));
+    private final LocalDateTime now = LocalDateTime.now(clock);
+
+    private PointsExchangeSettlementService settlementService;
+
+    @BeforeEach
+    void setUp() {
+        settlementService = new PointsExchangeSettlementService(
+                pointsExchangeService, outboxRepository, accountClient, clock, transactionManager);
+        ReflectionTestUtils.setField(settlementService, "adminAccountNumber", "ADMIN-ACC");
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    private PointsExchangeOutbox inFlight(int attempts) {
+        return PointsExchangeOutbox.builder()
+                .id(10L)
+                .pointsHistoryId(1L)
+                .accountNumber("USER-ACC")
+                .amount(1_000L)
+                .status(PointsExchangeOutboxStatus.IN_FLIGHT)
+                .attempts(attempts)
+                .nextAttemptAt(now)
+                .leaseUntil(now.plusSeconds(60))
+                .createdAt(now)
+                .build();
+    }
+
+    @Test
+    @DisplayName("은행 응답을 받으면 결과를 반영하고 outbox 를 DONE 으로 바꾼다")
+    void settle_bankResponse_completes() {
+        PointsExchangeOutbox outbox = inFlight(1);
+        given(outboxRepository.findById(10L)).willReturn(Optional.of(outbox));
+        BankTransferResDto bankRes = new BankTransferResDto(200, true, "ok", null);
+        given(accountClient.transfer(new BankTransferReqDto("ADMIN-ACC", "USER-ACC", 1_000L))).willReturn(bankRes);
+
+        settlementService.settle(10L);
+
+        verify(pointsExchangeService).processResult(1L, bankRes);
+        assertThat(outbox.getStatus()).isEqualTo(PointsExchangeOutboxStatus.DONE);
+        assertThat(outbox.getCompletedAt()).isEqualTo(now);
+        assertThat(outbox.getLastError()).isNull();
+    }
+
+    @Test
+    @DisplayName("연결 실패는 backoff 후 재시도하도록 PENDING 으로 되돌린다")
+    void settle_connectFailure_schedulesRetry() {
+        PointsExchangeOutbox outbox = inFlight(2);
+        given(outboxRepository.findById(10L)).willReturn(Optional.of(outbox));
+        given(accountClient.transfer(any())).willThrow(
+                new ResourceAccessException("I/O error", new ConnectException("Connection refused")));
+
+        settlementService.settle(10L);
+
+        assertThat(outbox.getStatus()).isEqualTo(PointsExchangeOutboxStatus.PENDING);
+        assertThat(outbox.getNextAttemptAt()).isEqualTo(now.plusSeconds(4));
+        assertThat(outbox.getLeaseUntil()).isNull();
+        verifyNoInteractions(pointsExchangeService);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커가 열려 호출하지 않은 건은 환불하지 않고 재시도한다")
+    void settle_circuitOpen_schedulesRetry() {
+        PointsExchangeOutbox outbox = inFlight(1);
+        given(outboxRepository.findById(10L)).willReturn(Optional.of(outbox));
+        given(accountClient.transfer(any())).willThrow(
+                new BankCallNotPermittedException("transfer", BankCallNotPermittedException.Reason.CIRCUIT_OPEN));
+
+        settlementService.settle(10L);
+
+        assertThat(outbox.getStatus()).isEqualTo(PointsExchangeOutboxStatus.PENDING);
+        assertThat(outbox.getNextAttemptAt()).isEqualTo(now.plusSeconds(2));
+        verifyNoInteractions(pointsExchangeService);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 실패 처리(환불)하고 DONE 으로 바꾼다")
+    void settle_retriesExhausted_fails() {
+        PointsExchangeOutbox outbox = inFlight(5);
+        given(outboxRepository.findById(10L)).willReturn(Optional.of(outbox));
+        given(accountClient.transfer(any())).willThrow(
+                HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "unavailable", null, null, null));
+
+        settlementService.settle(10L);
+
+        verify(pointsExchangeService).processFailure(1L);
+        assertThat(outbox.getStatus()).isEqualTo(PointsExchangeOutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("읽기 시간 초과는 은행이 처리했을 수 있으므로 재시도하지 않고 실패 처리한다")
+    void settle_readTimeout_doesNotRetry() {
+        PointsExchangeOutbox outbox = inFlight(1);
+        given(outboxRepository.findById(10L)).willReturn(Optional.of(outbox));
+        given(accountClient.transfer(any())).willThrow(
+                new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out")));
+
+        settlementService.settle(10L);
+
+        verify(pointsExchangeService).processFailure(1L);
+        assertThat(outbox.getStatus()).isEqualTo(PointsExchangeOutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("APACHE 연결 시간 초과(ConnectTimeoutException)는 은행에 도달하지 않았으므로 재시도한다")
+    void isRetryable_apacheConnectTimeout() {
+        assertThat(PointsExchangeSettlementService.isRetryable(new ResourceAccessException("I/O error",
+                new ConnectTimeoutException("Connect to http://127.0.0.1:1 failed: Connect timed out")))).isTrue();
+    }
+
+    @Test
+    @DisplayName("APACHE 연결 풀이 가득 차 연결을 빌리지 못한 호출은 아무것도 보내지 않았으므로 재시도한다")
+    void isRetryable_apachePoolExhausted() throws Exception {
+        BankHttpTransport.Settings settings = new BankHttpTransport.Settings(
+                Duration.ofSeconds(1), Duration.ofSeconds(5), 1, 1, Duration.ofMillis(200),
+                Duration.ofSeconds(30), Duration.ofSeconds(60), false);
+        CountDownLatch accepted = new CountDownLatch(1);
+
+        // 연결만 받고 응답하지 않는 서버 -> 첫 호출이 풀의 유일한 연결을 계속 잡고 있음
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+             BankHttpTransport transport = BankHttpTransport.create(BankHttpTransport.Type.APACHE, settings, null)) {
+            CompletableFuture.runAsync(() -> {
+                try (Socket ignored = server.accept()) {
+                    accepted.countDown();
+                    Thread.sleep(5_000);
+                } catch (IOException | InterruptedException ignoredException) {
+                    // 테스트 종료 시 서버 소켓이 닫힘
+                }
+            });
+            RestClient restClient = RestClient.builder()
+                    .baseUrl("http://127.0.0.1:" + server.getLocalPort())
+                    .requestFactory(transport.requestFactory())
+                    .build();
+            CompletableFuture<?> first = CompletableFuture.runAsync(() ->
+                    restClient.post().uri("/api/transfer").body("{}").retrieve().toBodilessEntity());
+            assertThat(accepted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            ResourceAccessException e = catchThrowableOfType(
+                    () -> restClient.post().uri("/api/transfer").body("{}").retrieve().toBodilessEntity(),
+                    ResourceAccessException.class);
+
+            assertThat(e.getCause()).isInstanceOf(ConnectionRequestTimeoutException.class);
+            assertThat(PointsExchangeSettlementService.isRetryable(e)).isTrue();
+            first.cancel(true);
+        }
+    }
+
+    @Test
+    @DisplayName("선점 상태가 아니면 은행을 호출하지 않는다")
+    void settle_notInFlight_skips() {
+        PointsExchangeOutbox outbox = PointsExchangeOutbox.pending(1L, "USER-ACC", 1_000L, now);
+        given(outboxRepository.findById(10L)).willReturn(Optional.of(outbox));
+
+        settlementService.settle(10L);
+
+        verifyNoInteractions(accountClient);
+        verify(pointsExchangeService, never()).processFailure(anyLong());
+    }
+}
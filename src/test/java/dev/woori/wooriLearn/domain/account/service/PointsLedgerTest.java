@@ -0,0 +1,159 @@
+package dev.woori.wooriLearn.domain.account.service;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.account.entity.PointsLedgerReason;
+import dev.woori.wooriLearn.domain.account.repository.PointsLedgerJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("포인트 원장 테스트")
+class PointsLedgerTest {
+
+    @Mock
+    private PointsLedgerJdbcRepository ledgerRepository;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-12-03T09:00:00Z"), ZoneId.of("UTC"));
+    private final LocalDateTime now = LocalDateTime.now(clock);
+
+    private PointsLedger pointsLedger;
+
+    @BeforeEach
+    void setUp() {
+        pointsLedger = new PointsLedger(ledgerRepository, clock);
+    }
+
+    @Test
+    @DisplayName("증가는 조건 없는 UPDATE 후 변경된 잔액과 함께 원장에 기록한다")
+    void credit() {
+        given(ledgerRepository.credit(1L, 300)).willReturn(true);
+        given(ledgerRepository.findPoints(1L)).willReturn(Optional.of(1_300));
+
+        int balance = pointsLedger.credit(1L, 300, PointsLedgerReason.REWARD);
+
+        assertThat(balance).isEqualTo(1_300);
+        InOrder order = inOrder(ledgerRepository);
+        order.verify(ledgerRepository).credit(1L, 300);
+        order.verify(ledgerRepository).insertEntry(1L, 300, 1_300, PointsLedgerReason.REWARD, now);
+    }
+
+    @Test
+    @DisplayName("사용자의 첫 원장 변경이면 변경 전 잔액을 OPENING 으로 먼저 기록한다")
+    void credit_firstChangeWritesOpening() {
+        given(ledgerRepository.credit(1L, 300)).willReturn(true);
+        given(ledgerRepository.findPoints(1L)).willReturn(Optional.of(1_300));
+        given(ledgerRepository.markOpened(1L)).willReturn(true);
+
+        pointsLedger.credit(1L, 300, PointsLedgerReason.REWARD);
+
+        InOrder order = inOrder(ledgerRepository);
+        order.verify(ledgerRepository).credit(1L, 300);
+        order.verify(ledgerRepository).markOpened(1L);
+        order.verify(ledgerRepository).insertEntry(1L, 1_000, 1_000, PointsLedgerReason.OPENING, now);
+        order.verify(ledgerRepository).insertEntry(1L, 300, 1_300, PointsLedgerReason.REWARD, now);
+    }
+
+    @Test
+    @DisplayName("첫 변경이라도 변경 전 잔액이 0 이면 OPENING 을 기록하지 않는다")
+    void credit_firstChangeWithoutBalance() {
+        given(ledgerRepository.credit(1L, 5_000)).willReturn(true);
+        given(ledgerRepository.findPoints(1L)).willReturn(Optional.of(5_000));
+        given(ledgerRepository.markOpened(1L)).willReturn(true);
+
+        pointsLedger.credit(1L, 5_000, PointsLedgerReason.SIGNUP);
+
+        verify(ledgerRepository, never()).insertEntry(any(), anyInt(), anyInt(), eq(PointsLedgerReason.OPENING), any());
+        verify(ledgerRepository).insertEntry(1L, 5_000, 5_000, PointsLedgerReason.SIGNUP, now);
+    }
+
+    @Test
+    @DisplayName("차감은 음수 delta 로 원장에 기록한다")
+    void debit() {
+        given(ledgerRepository.debit(1L, 500)).willReturn(true);
+        given(ledgerRepository.findPoints(1L)).willReturn(Optional.of(500));
+
+        int balance = pointsLedger.debit(1L, 500, PointsLedgerReason.EXCHANGE);
+
+        assertThat(balance).isEqualTo(500);
+        verify(ledgerRepository).insertEntry(1L, -500, 500, PointsLedgerReason.EXCHANGE, now);
+    }
+
+    @Test
+    @DisplayName("포인트가 부족해 UPDATE 된 행이 없으면 CONFLICT, 원장은 기록하지 않는다")
+    void debit_insufficient() {
+        given(ledgerRepository.debit(1L, 500)).willReturn(false);
+        given(ledgerRepository.findPoints(1L)).willReturn(Optional.of(100));
+
+        assertThatThrownBy(() -> pointsLedger.debit(1L, 500, PointsLedgerReason.EXCHANGE))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CONFLICT);
+        verify(ledgerRepository, never()).insertEntry(any(), anyInt(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("사용자가 없으면 ENTITY_NOT_FOUND")
+    void userNotFound() {
+        given(ledgerRepository.debit(9L, 500)).willReturn(false);
+        given(ledgerRepository.findPoints(9L)).willReturn(Optional.empty());
+        given(ledgerRepository.credit(9L, 500)).willReturn(false);
+
+        assertThatThrownBy(() -> pointsLedger.debit(9L, 500, PointsLedgerReason.EXCHANGE))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ENTITY_NOT_FOUND);
+        assertThatThrownBy(() -> pointsLedger.credit(9L, 500, PointsLedgerReason.DEPOSIT))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ENTITY_NOT_FOUND);
+        verify(ledgerRepository, never()).insertEntry(any(), anyInt(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("0 이하 금액은 INVALID_REQUEST, UPDATE 하지 않는다")
+    void invalidAmount() {
+        assertThatThrownBy(() -> pointsLedger.credit(1L, 0, PointsLedgerReason.DEPOSIT))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+        assertThatThrownBy(() -> pointsLedger.debit(1L, -1, PointsLedgerReason.EXCHANGE))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+        verifyNoInteractions(ledgerRepository);
+    }
+
+    @Test
+    @DisplayName("로그인 아이디로 사용자 id 를 찾지 못하면 ENTITY_NOT_FOUND")
+    void getUserId_notFound() {
+        given(ledgerRepository.findUserId("missing")).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> pointsLedger.getUserId("missing"))
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ENTITY_NOT_FOUND);
+    }
+}
@@ -0,0 +1,134 @@
+package dev.woori.wooriLearn.domain.edubankapi.autopayment.entity;
+
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPayment.AutoPaymentStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("자동이체 실행일 계산 테스트")
+class AutoPaymentScheduleTest {
+
+    // 윤년 2024, 2028 포함
+    private static final LocalDate RANGE_START = LocalDate.of(2023, 1, 1);
+    private static final LocalDate RANGE_END = LocalDate.of(2029, 12, 31);
+
+    private static final List<LocalDate> START_DATES = List.of(
+            LocalDate.of(2023, 1, 31),   // 31일 시작
+            LocalDate.of(2023, 11, 30),  // 짧은 달 말일 시작
+            LocalDate.of(2024, 2, 29),   // 윤년 2월 말일 시작
+            LocalDate.of(2025, 2, 28)    // 평년 2월 말일 시작
+    );
+
+    @Test
+    @DisplayName("모든 지정일(1~31) x 주기(1~12개월) x 시작일에 대해, 매일 기준 다음 실행일이 전수 탐색 결과와 같다")
+    void firstExecutionOnOrAfter_matchesBruteForce() {
+        int days = (int) (RANGE_END.toEpochDay() - RANGE_START.toEpochDay()) + 1;
+        List<String> mismatches = new ArrayList<>();
+        for (LocalDate start : START_DATES) {
+            for (LocalDate expiration : List.of(RANGE_END, start.plusMonths(13))) {
+                for (int designated = 1; designated <= 31; designated++) {
+                    for (int cycle = 1; cycle <= 12; cycle++) {
+                        // 뒤에서부터 "이 날 이후(포함) 첫 실행일" 표를 만든 뒤 날짜마다 비교
+                        LocalDate[] expected = new LocalDate[days + 1];
+                        for (int i = days - 1; i >= 0; i--) {
+                            LocalDate d = RANGE_START.plusDays(i);
+                            expected[i] = AutoPayment.isScheduledOn(d, start, expiration, designated, cycle)
+                                    ? d : expected[i + 1];
+                        }
+                        for (int i = 0; i < days; i++) {
+                            LocalDate from = RANGE_START.plusDays(i);
+                            LocalDate actual = AutoPayment.firstExecutionOnOrAfter(from, start, expiration, designated, cycle);
+                            if (!Objects.equals(actual, expected[i])) {
+                                mismatches.add("start=" + start + " exp=" + expiration + " designated=" + designated
+                                        + " cycle=" + cycle + " from=" + from + " expected=" + expected[i] + " actual=" + actual);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실행하는 달에는 정확히 하루, 지정일이 없는 달은 말일에 실행한다")
+    void isScheduledOn_oncePerScheduledMonth() {
+        LocalDate start = LocalDate.of(2023, 1, 1);
+        for (int designated = 1; designated <= 31; designated++) {
+            for (LocalDate month = start; month.isBefore(RANGE_END); month = month.plusMonths(1)) {
+                List<LocalDate> hits = new ArrayList<>();
+                for (int day = 1; day <= month.lengthOfMonth(); day++) {
+                    if (AutoPayment.isScheduledOn(month.withDayOfMonth(day), start, RANGE_END, designated, 1)) {
+                        hits.add(month.withDayOfMonth(day));
+                    }
+                }
+                assertThat(hits).containsExactly(month.withDayOfMonth(Math.min(designated, month.lengthOfMonth())));
+            }
+        }
+
+        assertThat(AutoPayment.isScheduledOn(LocalDate.of(2024, 2, 29), start, RANGE_END, 31, 1)).isTrue();
+        assertThat(AutoPayment.isScheduledOn(LocalDate.of(2023, 2, 28), start, RANGE_END, 29, 1)).isTrue();
+        assertThat(AutoPayment.isScheduledOn(LocalDate.of(2024, 2, 28), start, RANGE_END, 29, 1)).isFalse();
+        assertThat(AutoPayment.isScheduledOn(LocalDate.of(2024, 4, 30), start, RANGE_END, 31, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("등록 -> 실행 후 이동 -> 만료/해지 시 다음 실행 예정일")
+    void nextExecutionDate_lifecycle() {
+        AutoPayment autoPayment = autoPayment(31, 1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30));
+
+        autoPayment.scheduleFrom(LocalDate.of(2024, 1, 10));
+        List<LocalDate> executed = new ArrayList<>();
+        while (autoPayment.getNextExecutionDate() != null) {
+            executed.add(autoPayment.getNextExecutionDate());
+            autoPayment.advanceAfter(autoPayment.getNextExecutionDate());
+        }
+
+        assertThat(executed).containsExactly(
+                LocalDate.of(2024, 1, 31),
+                LocalDate.of(2024, 2, 29),
+                LocalDate.of(2024, 3, 31),
+                LocalDate.of(2024, 4, 30),
+                LocalDate.of(2024, 5, 31),
+                LocalDate.of(2024, 6, 30));
+
+        AutoPayment cancelled = autoPayment(15, 3, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        cancelled.scheduleFrom(LocalDate.of(2025, 2, 1));
+        assertThat(cancelled.getNextExecutionDate()).isEqualTo(LocalDate.of(2025, 4, 15));
+        cancelled.cancel();
+        assertThat(cancelled.getNextExecutionDate()).isNull();
+        cancelled.scheduleFrom(LocalDate.of(2025, 2, 1));
+        assertThat(cancelled.getNextExecutionDate()).isNull();
+    }
+
+    @Test
+    @DisplayName("과거 시작일로 등록해도 지난 회차는 예정하지 않는다")
+    void scheduleFrom_pastStartDate() {
+        AutoPayment autoPayment = autoPayment(5, 1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        autoPayment.scheduleFrom(LocalDate.of(2024, 3, 6));
+
+        assertThat(autoPayment.getNextExecutionDate()).isEqualTo(LocalDate.of(2024, 4, 5));
+    }
+
+    private AutoPayment autoPayment(int designated, int cycle, LocalDate start, LocalDate expiration) {
+        return AutoPayment.builder()
+                .depositNumber("1002987654321")
+                .depositBankCode("020")
+                .amount(10000)
+                .counterpartyName("김철수")
+                .displayName("월세")
+                .transferCycle(cycle)
+                .designatedDate(designated)
+                .startDate(start)
+                .expirationDate(expiration)
+                .processingStatus(AutoPaymentStatus.ACTIVE)
+                .build();
+    }
+}
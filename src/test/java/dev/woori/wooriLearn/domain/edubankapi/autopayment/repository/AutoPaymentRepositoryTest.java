@@ -169,6 +169,18 @@ class AutoPaymentRepositoryTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("실행용 잠금 조회는 자동이체 행만 읽고 계좌는 지연 로딩한다")
+    void findByIdForUpdate() {
+        // when
+        Optional<AutoPayment> result = autoPaymentRepository.findByIdForUpdate(activeAutoPayment.getId());
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getProcessingStatus()).isEqualTo(AutoPaymentStatus.ACTIVE);
+        assertThat(result.get().getEducationalAccount().getId()).isEqualTo(educationalAccount.getId());
+    }
+
     @Test
     @DisplayName("자동이체 저장")
     void save() {
@@ -0,0 +1,92 @@
+package dev.woori.wooriLearn.domain.edubankapi.autopayment.scheduler;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.dto.AutoPaymentRunResult;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.dto.DueAutoPayment;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.repository.AutoPaymentRepository;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.service.AutoPaymentExecutionService;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.service.AutoPaymentExecutionService.Outcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("자동이체 실행 배치 테스트")
+class AutoPaymentExecutionSchedulerTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2025, 3, 15);
+
+    @Mock
+    private AutoPaymentRepository autoPaymentRepository;
+
+    @Mock
+    private AutoPaymentExecutionService executionService;
+
+    private AutoPaymentExecutionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-03-14T21:00:00Z"), ZoneId.of("Asia/Seoul"));
+        scheduler = new AutoPaymentExecutionScheduler(autoPaymentRepository, executionService, clock);
+        ReflectionTestUtils.setField(scheduler, "workers", 2);
+        ReflectionTestUtils.setField(scheduler, "pageSize", 2);
+        ReflectionTestUtils.setField(scheduler, "windowMinutes", 60L);
+    }
+
+    @Test
+    @DisplayName("keyset 페이지를 끝까지 읽고, 각 건을 자신의 예정일 기준으로 실행해 결과를 집계한다")
+    void run_aggregatesOutcomes() {
+        LocalDate missed = RUN_DATE.minusDays(1);
+        given(autoPaymentRepository.findDue(RUN_DATE, 0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(due(1L, 100L, RUN_DATE), due(2L, 101L, RUN_DATE)));
+        given(autoPaymentRepository.findDue(RUN_DATE, 2L, PageRequest.of(0, 2)))
+                .willReturn(List.of(due(4L, 100L, missed)));
+
+        given(executionService.execute(1L, RUN_DATE)).willReturn(Outcome.SUCCEEDED);
+        given(executionService.execute(2L, RUN_DATE))
+                .willThrow(new CommonException(ErrorCode.INVALID_REQUEST, "잔액이 부족합니다."));
+        given(executionService.execute(4L, missed)).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        AutoPaymentRunResult result = scheduler.run(RUN_DATE);
+
+        assertThat(result).isEqualTo(new AutoPaymentRunResult(RUN_DATE, 3, 1, 1, 1, 0));
+        verify(executionService).recordFailure(2L, RUN_DATE, "잔액이 부족합니다.");
+    }
+
+    @Test
+    @DisplayName("실패 이력 저장이 멱등키 중복이면 SKIPPED 로 집계한다")
+    void run_failureAlreadyRecorded() {
+        given(autoPaymentRepository.findDue(RUN_DATE, 0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(due(1L, 100L, RUN_DATE)));
+        given(executionService.execute(1L, RUN_DATE))
+                .willThrow(new CommonException(ErrorCode.INVALID_REQUEST, "잔액이 부족합니다."));
+        willThrow(new DataIntegrityViolationException("duplicate"))
+                .given(executionService).recordFailure(1L, RUN_DATE, "잔액이 부족합니다.");
+
+        AutoPaymentRunResult result = scheduler.run(RUN_DATE);
+
+        assertThat(result).isEqualTo(new AutoPaymentRunResult(RUN_DATE, 1, 0, 0, 1, 0));
+    }
+
+    private DueAutoPayment due(Long id, Long accountId, LocalDate nextExecutionDate) {
+        return new DueAutoPayment(id, accountId, nextExecutionDate);
+    }
+}
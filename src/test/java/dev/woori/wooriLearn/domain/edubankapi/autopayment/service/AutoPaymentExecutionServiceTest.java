@@ -0,0 +1,225 @@
+package dev.woori.wooriLearn.domain.edubankapi.autopayment.service;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPayment;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPayment.AutoPaymentStatus;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPaymentExecution;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPaymentExecution.ExecutionStatus;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.repository.AutoPaymentExecutionRepository;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.repository.AutoPaymentRepository;
+import dev.woori.wooriLearn.domain.edubankapi.autopayment.service.AutoPaymentExecutionService.Outcome;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.service.EdubankapiTransferService;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.service.EdubankapiTransferService.LockedAccounts;
+import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("자동이체 실행 Service 테스트")
+class AutoPaymentExecutionServiceTest {
+
+    private static final LocalDate EXECUTION_DATE = LocalDate.of(2025, 3, 15);
+
+    @Mock
+    private AutoPaymentRepository autoPaymentRepository;
+
+    @Mock
+    private AutoPaymentExecutionRepository executionRepository;
+
+    @Mock
+    private EdubankapiTransferService transferService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private AutoPaymentExecutionService executionService;
+
+    private EducationalAccount fromAccount;
+    private EducationalAccount toAccount;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-03-14T21:00:00Z"), ZoneId.of("Asia/Seoul"));
+        executionService = new AutoPaymentExecutionService(
+                autoPaymentRepository, executionRepository, transferService, entityManager, clock);
+
+        fromAccount = EducationalAccount.builder()
+                .id(1L)
+                .accountNumber("1002123456789")
+                .accountName("보내는계좌")
+                .balance(100000)
+                .build();
+        toAccount = EducationalAccount.builder()
+                .id(2L)
+                .accountNumber("1002987654321")
+                .accountName("받는계좌")
+                .balance(0)
+                .build();
+    }
+
+    @Test
+    @DisplayName("실행일이면 실행 이력을 먼저 기록하고 계좌이체와 같은 경로로 출금/입금한다")
+    void execute_success() {
+        AutoPayment autoPayment = autoPayment(50000);
+        given(autoPaymentRepository.findByIdForUpdate(10L)).willReturn(Optional.of(autoPayment));
+        given(executionRepository.existsByIdempotencyKey("AP-10-20250315")).willReturn(false);
+        given(transferService.lockInOrder(fromAccount.getAccountNumber(), toAccount.getAccountNumber()))
+                .willReturn(new LockedAccounts(Optional.of(fromAccount), Optional.of(toAccount)));
+
+        Outcome outcome = executionService.execute(10L, EXECUTION_DATE);
+
+        assertThat(outcome).isEqualTo(Outcome.SUCCEEDED);
+        ArgumentCaptor<AutoPaymentExecution> captor = ArgumentCaptor.forClass(AutoPaymentExecution.class);
+        var order = inOrder(executionRepository, transferService);
+        order.verify(executionRepository).saveAndFlush(captor.capture());
+        order.verify(transferService).post(eq(fromAccount), eq(toAccount), eq(50000), eq("김철수"), eq("월세"),
+                eq("자동이체(출금)"), eq("자동이체(입금)"), any());
+        assertThat(captor.getValue().getStatus()).isEqualTo(ExecutionStatus.SUCCEEDED);
+        assertThat(captor.getValue().getIdempotencyKey()).isEqualTo("AP-10-20250315");
+        assertThat(autoPayment.getNextExecutionDate()).isEqualTo(LocalDate.of(2025, 4, 15));
+    }
+
+    @Test
+    @DisplayName("같은 예정일 이력이 이미 있으면 출금하지 않고 다음 회차로만 이동한다")
+    void execute_alreadyProcessed() {
+        AutoPayment autoPayment = autoPayment(50000);
+        given(autoPaymentRepository.findByIdForUpdate(10L)).willReturn(Optional.of(autoPayment));
+        given(executionRepository.existsByIdempotencyKey("AP-10-20250315")).willReturn(true);
+
+        Outcome outcome = executionService.execute(10L, EXECUTION_DATE);
+
+        assertThat(outcome).isEqualTo(Outcome.SKIPPED);
+        assertThat(autoPayment.getNextExecutionDate()).isEqualTo(LocalDate.of(2025, 4, 15));
+        verifyNoInteractions(transferService);
+        verify(executionRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("다음 실행 예정일이 요청한 회차가 아니면 (이미 다음 회차로 이동) 건너뛴다")
+    void execute_staleCandidate() {
+        AutoPayment autoPayment = autoPayment(50000);
+        autoPayment.advanceAfter(EXECUTION_DATE);
+        given(autoPaymentRepository.findByIdForUpdate(10L)).willReturn(Optional.of(autoPayment));
+
+        assertThat(executionService.execute(10L, EXECUTION_DATE)).isEqualTo(Outcome.SKIPPED);
+        verifyNoInteractions(executionRepository, transferService);
+    }
+
+    @Test
+    @DisplayName("조회 이후 해지된 자동이체는 건너뛴다")
+    void execute_cancelled() {
+        AutoPayment autoPayment = autoPayment(50000);
+        autoPayment.cancel();
+        given(autoPaymentRepository.findByIdForUpdate(10L)).willReturn(Optional.of(autoPayment));
+
+        assertThat(executionService.execute(10L, EXECUTION_DATE)).isEqualTo(Outcome.SKIPPED);
+        verifyNoInteractions(executionRepository, transferService);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 CommonException 으로 롤백되고 잔액은 변경되지 않는다")
+    void execute_insufficientBalance() {
+        given(autoPaymentRepository.findByIdForUpdate(10L))
+                .willReturn(Optional.of(autoPayment(200000)));
+        given(executionRepository.existsByIdempotencyKey(anyString())).willReturn(false);
+        given(transferService.lockInOrder(anyString(), anyString()))
+                .willReturn(new LockedAccounts(Optional.of(fromAccount), Optional.of(toAccount)));
+
+        assertThatThrownBy(() -> executionService.execute(10L, EXECUTION_DATE))
+                .isInstanceOf(CommonException.class)
+                .hasMessage("잔액이 부족합니다.");
+        verify(transferService, never()).post(any(), any(), anyInt(), any(), any(), any(), any(), any());
+        assertThat(fromAccount.getBalance()).isEqualTo(100000);
+    }
+
+    @Test
+    @DisplayName("자동이체와 함께 읽은 출금 계좌는 락 전에 분리하고, 락으로 다시 읽은 현재 잔액으로 검증한다")
+    void execute_usesBalanceReadUnderLock() {
+        AutoPayment autoPayment = autoPayment(50000);
+        // 조회 이후 다른 이체가 커밋되어 잔액이 줄어든 상태
+        EducationalAccount lockedFrom = EducationalAccount.builder()
+                .id(1L)
+                .accountNumber(fromAccount.getAccountNumber())
+                .accountName("보내는계좌")
+                .balance(30000)
+                .build();
+        given(autoPaymentRepository.findByIdForUpdate(10L)).willReturn(Optional.of(autoPayment));
+        given(executionRepository.existsByIdempotencyKey(anyString())).willReturn(false);
+        given(transferService.lockInOrder(fromAccount.getAccountNumber(), toAccount.getAccountNumber()))
+                .willReturn(new LockedAccounts(Optional.of(lockedFrom), Optional.of(toAccount)));
+
+        assertThatThrownBy(() -> executionService.execute(10L, EXECUTION_DATE))
+                .isInstanceOf(CommonException.class)
+                .hasMessage("잔액이 부족합니다.");
+
+        var order = inOrder(entityManager, transferService);
+        order.verify(entityManager).detach(fromAccount);
+        order.verify(transferService).lockInOrder(fromAccount.getAccountNumber(), toAccount.getAccountNumber());
+        verify(transferService, never()).post(any(), any(), anyInt(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("실패 기록은 자동이체 행을 잠그고 읽어 실패 이력을 남긴 뒤 다음 회차로 이동한다")
+    void recordFailure_advancesUnderLock() {
+        AutoPayment autoPayment = autoPayment(200000);
+        given(autoPaymentRepository.findByIdForUpdate(10L)).willReturn(Optional.of(autoPayment));
+
+        executionService.recordFailure(10L, EXECUTION_DATE, "잔액이 부족합니다.");
+
+        verify(executionRepository).saveAndFlush(any(AutoPaymentExecution.class));
+        verify(autoPaymentRepository, never()).findById(anyLong());
+        assertThat(autoPayment.getNextExecutionDate()).isEqualTo(LocalDate.of(2025, 4, 15));
+    }
+
+    @Test
+    @DisplayName("실패 기록 전에 해지가 커밋됐으면 잠금 조회에서 해지 상태를 보고 예정일을 되살리지 않는다")
+    void recordFailure_keepsConcurrentCancel() {
+        AutoPayment autoPayment = autoPayment(200000);
+        autoPayment.cancel();
+        given(autoPaymentRepository.findByIdForUpdate(10L)).willReturn(Optional.of(autoPayment));
+
+        executionService.recordFailure(10L, EXECUTION_DATE, "잔액이 부족합니다.");
+
+        assertThat(autoPayment.isCancelled()).isTrue();
+        assertThat(autoPayment.getNextExecutionDate()).isNull();
+    }
+
+    private AutoPayment autoPayment(int amount) {
+        AutoPayment autoPayment = AutoPayment.builder()
+                .id(10L)
+                .educationalAccount(fromAccount)
+                .depositNumber(toAccount.getAccountNumber())
+                .depositBankCode("020")
+                .amount(amount)
+                .counterpartyName("김철수")
+                .displayName("월세")
+                .transferCycle(1)
+                .designatedDate(15)
+                .startDate(LocalDate.of(2025, 1, 1))
+                .expirationDate(LocalDate.of(2025, 12, 31))
+                .processingStatus(AutoPaymentStatus.ACTIVE)
+                .build();
+        autoPayment.scheduleFrom(EXECUTION_DATE);
+        return autoPayment;
+    }
+}
@@ -9,6 +9,7 @@ import dev.woori.wooriLearn.domain.edubankapi.autopayment.dto.AutoPaymentRespons
 import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPayment;
 import dev.woori.wooriLearn.domain.edubankapi.autopayment.entity.AutoPayment.AutoPaymentStatus;
 import dev.woori.wooriLearn.domain.edubankapi.autopayment.repository.AutoPaymentRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.cache.AccountOwnershipCache;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiAccountRepository;
 import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
 import dev.woori.wooriLearn.domain.user.entity.Users;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
@@ -28,7 +30,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,6 +62,12 @@ class AutoPaymentServiceTest {
     @Mock
     private AutoPaymentCacheManager autoPaymentCacheManager;
 
+    @Mock
+    private AccountOwnershipCache accountOwnershipCache;
+
+    @Spy
+    private Clock clock = Clock.fixed(Instant.parse("2024-01-15T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+
     @InjectMocks
     private AutoPaymentService autoPaymentService;
 
@@ -231,7 +242,7 @@ class AutoPaymentServiceTest {
     @DisplayName("자동이체 목록 조회 성공 - 전체")
     void getAutoPaymentList_All_Success() {
         // given
-        given(edubankapiAccountRepository.existsByIdAndUser_UserId(anyLong(), anyString()))
+        given(accountOwnershipCache.isOwner(anyLong(), anyString()))
                 .willReturn(true);
         List<AutoPaymentResponse> expectedResponses = List.of(
                 AutoPaymentResponse.of(mockAutoPayment, 1L)
@@ -244,7 +255,7 @@ class AutoPaymentServiceTest {
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).id()).isEqualTo(1L);
         assertThat(responses.get(0).processingStatus()).isEqualTo("ACTIVE");
-        verify(edubankapiAccountRepository).existsByIdAndUser_UserId(1L, "testuser");
+        verify(accountOwnershipCache).isOwner(1L, "testuser");
         verify(autoPaymentCacheManager).getAutoPaymentListCached(1L, "ALL", "testuser");
     }
 
@@ -252,7 +263,7 @@ class AutoPaymentServiceTest {
     @DisplayName("자동이체 목록 조회 성공 - ACTIVE만")
     void getAutoPaymentList_ActiveOnly_Success() {
         // given
-        given(edubankapiAccountRepository.existsByIdAndUser_UserId(anyLong(), anyString()))
+        given(accountOwnershipCache.isOwner(anyLong(), anyString()))
                 .willReturn(true);
         List<AutoPaymentResponse> expectedResponses = List.of(
                 AutoPaymentResponse.of(mockAutoPayment, 1L)
@@ -267,7 +278,7 @@ class AutoPaymentServiceTest {
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).processingStatus()).isEqualTo("ACTIVE");
 
-        verify(edubankapiAccountRepository).existsByIdAndUser_UserId(1L, "testuser");
+        verify(accountOwnershipCache).isOwner(1L, "testuser");
         verify(autoPaymentCacheManager).getAutoPaymentListCached(1L, "ACTIVE", "testuser");
     }
 
@@ -831,7 +842,7 @@ class AutoPaymentServiceTest {
     @DisplayName("자동이체 목록 조회 - 빈 목록 반환")
     void getAutoPaymentList_EmptyList_Success() {
         // given
-        given(edubankapiAccountRepository.existsByIdAndUser_UserId(anyLong(), anyString()))
+        given(accountOwnershipCache.isOwner(anyLong(), anyString()))
                 .willReturn(true);
         given(autoPaymentCacheManager.getAutoPaymentListCached(anyLong(), anyString(), anyString()))
                 .willReturn(List.of());  // 빈 리스트
@@ -841,7 +852,7 @@ class AutoPaymentServiceTest {
 
         // then
         assertThat(responses).isEmpty();
-        verify(edubankapiAccountRepository).existsByIdAndUser_UserId(1L, "testuser");
+        verify(accountOwnershipCache).isOwner(1L, "testuser");
         verify(autoPaymentCacheManager).getAutoPaymentListCached(1L, "ALL", "testuser");
     }
 
@@ -864,7 +875,7 @@ class AutoPaymentServiceTest {
                 .processingStatus(AutoPaymentStatus.CANCELLED)
                 .build();
 
-        given(edubankapiAccountRepository.existsByIdAndUser_UserId(anyLong(), anyString()))
+        given(accountOwnershipCache.isOwner(anyLong(), anyString()))
                 .willReturn(true);
         List<AutoPaymentResponse> expectedResponses = List.of(
                 AutoPaymentResponse.of(cancelledAutoPayment, 1L)
@@ -878,7 +889,7 @@ class AutoPaymentServiceTest {
         // then
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).processingStatus()).isEqualTo("CANCELLED");
-        verify(edubankapiAccountRepository).existsByIdAndUser_UserId(1L, "testuser");
+        verify(accountOwnershipCache).isOwner(1L, "testuser");
         verify(autoPaymentCacheManager).getAutoPaymentListCached(1L, "CANCELLED", "testuser");
     }
 
@@ -916,7 +927,7 @@ class AutoPaymentServiceTest {
                 .processingStatus(AutoPaymentStatus.ACTIVE)
                 .build();
 
-        given(edubankapiAccountRepository.existsByIdAndUser_UserId(anyLong(), anyString()))
+        given(accountOwnershipCache.isOwner(anyLong(), anyString()))
                 .willReturn(true);
         List<AutoPaymentResponse> expectedResponses = List.of(
                 AutoPaymentResponse.of(autoPayment1, 1L),
@@ -932,7 +943,7 @@ class AutoPaymentServiceTest {
         assertThat(responses).hasSize(2);
         assertThat(responses).extracting(AutoPaymentResponse::displayName)
                 .containsExactly("월세", "관리비");
-        verify(edubankapiAccountRepository).existsByIdAndUser_UserId(1L, "testuser");
+        verify(accountOwnershipCache).isOwner(1L, "testuser");
         verify(autoPaymentCacheManager).getAutoPaymentListCached(1L, "ALL", "testuser");
     }
 
@@ -940,7 +951,7 @@ class AutoPaymentServiceTest {
     @DisplayName("상태 변환 - 소문자 'active' 입력 시 정상 처리")
     void resolveStatus_LowercaseActive_Success() {
         // given
-        given(edubankapiAccountRepository.existsByIdAndUser_UserId(anyLong(), anyString()))
+        given(accountOwnershipCache.isOwner(anyLong(), anyString()))
                 .willReturn(true);
         List<AutoPaymentResponse> expectedResponses = List.of(
                 AutoPaymentResponse.of(mockAutoPayment, 1L)
@@ -953,7 +964,7 @@ class AutoPaymentServiceTest {
 
         // then
         assertThat(responses).hasSize(1);
-        verify(edubankapiAccountRepository).existsByIdAndUser_UserId(1L, "testuser");
+        verify(accountOwnershipCache).isOwner(1L, "testuser");
         verify(autoPaymentCacheManager).getAutoPaymentListCached(1L, "ACTIVE", "testuser");
     }
 
@@ -961,7 +972,7 @@ class AutoPaymentServiceTest {
     @DisplayName("상태 변환 - 대소문자 섞인 'AcTiVe' 입력 시 정상 처리")
     void resolveStatus_MixedCaseActive_Success() {
         // given
-        given(edubankapiAccountRepository.existsByIdAndUser_UserId(anyLong(), anyString()))
+        given(accountOwnershipCache.isOwner(anyLong(), anyString()))
                 .willReturn(true);
         List<AutoPaymentResponse> expectedResponses = List.of(
                 AutoPaymentResponse.of(mockAutoPayment, 1L)
@@ -974,7 +985,7 @@ class AutoPaymentServiceTest {
 
         // then
         assertThat(responses).hasSize(1);
-        verify(edubankapiAccountRepository).existsByIdAndUser_UserId(1L, "testuser");
+        verify(accountOwnershipCache).isOwner(1L, "testuser");
         verify(autoPaymentCacheManager).getAutoPaymentListCached(1L, "ACTIVE", "testuser");
     }
 
@@ -982,7 +993,7 @@ class AutoPaymentServiceTest {
     @DisplayName("상태 변환 - 빈 문자열 입력 시 ACTIVE로 처리")
     void resolveStatus_EmptyString_DefaultToActive() {
         // given
-        given(edubankapiAccountRepository.existsByIdAndUser_UserId(anyLong(), anyString()))
+        given(accountOwnershipCache.isOwner(anyLong(), anyString()))
                 .willReturn(true);
         List<AutoPaymentResponse> expectedResponses = List.of(
                 AutoPaymentResponse.of(mockAutoPayment, 1L)
@@ -995,7 +1006,7 @@ class AutoPaymentServiceTest {
 
         // then
         assertThat(responses).hasSize(1);
-        verify(edubankapiAccountRepository).existsByIdAndUser_UserId(1L, "testuser");
+        verify(accountOwnershipCache).isOwner(1L, "testuser");
         verify(autoPaymentCacheManager).getAutoPaymentListCached(1L, "ACTIVE", "testuser");
     }
 
@@ -1183,7 +1194,7 @@ class AutoPaymentServiceTest {
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "startDate"));
 
         // 소유권 검증 mock
-        given(edubankapiAccountRepository.existsByIdAndUser_UserId(1L, "testuser"))
+        given(accountOwnershipCache.isOwner(1L, "testuser"))
                 .willReturn(true);
 
         AutoPayment activePayment1 = AutoPayment.builder()
@@ -1243,7 +1254,7 @@ class AutoPaymentServiceTest {
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "startDate"));
 
         // 소유권 검증 mock
-        given(edubankapiAccountRepository.existsByIdAndUser_UserId(1L, "testuser"))
+        given(accountOwnershipCache.isOwner(1L, "testuser"))
                 .willReturn(true);
 
         AutoPayment cancelledPayment = AutoPayment.builder()
@@ -1286,7 +1297,7 @@ class AutoPaymentServiceTest {
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "startDate"));
 
         // 소유권 검증 mock
-        given(edubankapiAccountRepository.existsByIdAndUser_UserId(1L, "testuser"))
+        given(accountOwnershipCache.isOwner(1L, "testuser"))
                 .willReturn(true);
 
         AutoPayment activePayment = AutoPayment.builder()
@@ -1342,7 +1353,7 @@ class AutoPaymentServiceTest {
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "startDate"));
 
         // 소유권 검증 mock
-        given(edubankapiAccountRepository.existsByIdAndUser_UserId(1L, "testuser"))
+        given(accountOwnershipCache.isOwner(1L, "testuser"))
                 .willReturn(true);
 
         Page<AutoPayment> emptyPage = new PageImpl<>(List.of(), pageable, 0);
@@ -1370,7 +1381,7 @@ class AutoPaymentServiceTest {
         Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "startDate")); // 2번째 페이지
 
         // 소유권 검증 mock
-        given(edubankapiAccountRepository.existsByIdAndUser_UserId(1L, "testuser"))
+        given(accountOwnershipCache.isOwner(1L, "testuser"))
                 .willReturn(true);
 
         AutoPayment payment3 = AutoPayment.builder()
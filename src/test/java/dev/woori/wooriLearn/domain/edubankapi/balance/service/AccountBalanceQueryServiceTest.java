@@ -0,0 +1,163 @@
+package dev.woori.wooriLearn.domain.edubankapi.balance.service;
+
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.domain.edubankapi.balance.dto.AccountAmountTotals;
+import dev.woori.wooriLearn.domain.edubankapi.balance.dto.AccountBalanceResponse;
+import dev.woori.wooriLearn.domain.edubankapi.balance.dto.AccountStatementResponse;
+import dev.woori.wooriLearn.domain.edubankapi.balance.entity.AccountBalanceSnapshot;
+import dev.woori.wooriLearn.domain.edubankapi.balance.repository.AccountBalanceSnapshotRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.cache.AccountOwnershipCache;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiAccountRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiTransactionHistoryRepository;
+import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("잔액 스냅샷 기반 조회 Service 테스트")
+class AccountBalanceQueryServiceTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final String USERNAME = "testuser";
+
+    @Mock
+    private AccountBalanceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private EdubankapiAccountRepository accountRepository;
+
+    @Mock
+    private EdubankapiTransactionHistoryRepository transactionHistoryRepository;
+
+    @Mock
+    private AccountOwnershipCache accountOwnershipCache;
+
+    private AccountBalanceQueryService queryService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-03-20T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+        queryService = new AccountBalanceQueryService(
+                snapshotRepository, accountRepository, transactionHistoryRepository, clock, accountOwnershipCache);
+    }
+
+    @Test
+    @DisplayName("특정 시점 잔액 = 전날 마감 스냅샷 + 당일 0시부터 그 시점까지의 거래")
+    void getBalance_fromSnapshot() {
+        LocalDateTime at = LocalDateTime.of(2025, 3, 15, 12, 0);
+        given(accountOwnershipCache.isOwner(ACCOUNT_ID, USERNAME)).willReturn(true);
+        given(snapshotRepository.findFirstByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+                ACCOUNT_ID, LocalDate.of(2025, 3, 14)))
+                .willReturn(Optional.of(snapshot(LocalDate.of(2025, 3, 14), 10_000L, 0L, 0L)));
+        given(transactionHistoryRepository.sumTotalsByAccount(
+                List.of(ACCOUNT_ID), LocalDateTime.of(2025, 3, 15, 0, 0), at))
+                .willReturn(List.of(new AccountAmountTotals(ACCOUNT_ID, 500L, 200L)));
+
+        AccountBalanceResponse response = queryService.getBalance(USERNAME, ACCOUNT_ID, at);
+
+        assertThat(response.balance()).isEqualTo(10_300L);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 현재 잔액에서 그 시점 이후 거래를 되돌린다")
+    void getBalance_withoutSnapshot() {
+        LocalDateTime at = LocalDateTime.of(2025, 3, 15, 12, 0);
+        given(accountOwnershipCache.isOwner(ACCOUNT_ID, USERNAME)).willReturn(true);
+        given(snapshotRepository.findFirstByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+                ACCOUNT_ID, LocalDate.of(2025, 3, 14)))
+                .willReturn(Optional.empty());
+        given(accountRepository.findById(ACCOUNT_ID))
+                .willReturn(Optional.of(EducationalAccount.builder().id(ACCOUNT_ID).balance(5_000).build()));
+        given(transactionHistoryRepository.sumTotalsByAccount(
+                List.of(ACCOUNT_ID), at, LocalDateTime.of(2025, 3, 21, 12, 0)))
+                .willReturn(List.of(new AccountAmountTotals(ACCOUNT_ID, 1_000L, 300L)));
+
+        assertThat(queryService.getBalance(USERNAME, ACCOUNT_ID, at).balance()).isEqualTo(4_300L);
+    }
+
+    @Test
+    @DisplayName("기간 합계는 하루 전체가 들어가는 날은 스냅샷 합계를, 경계 시간과 스냅샷 누락일만 거래를 합산한다")
+    void getStatement_combinesSnapshotsAndTail() {
+        LocalDateTime from = LocalDateTime.of(2025, 3, 1, 9, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 3, 5, 0, 0);
+        given(accountOwnershipCache.isOwner(ACCOUNT_ID, USERNAME)).willReturn(true);
+
+        // 기초 잔액: 2/28 마감 + 3/1 00:00 ~ 09:00
+        given(snapshotRepository.findFirstByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+                ACCOUNT_ID, LocalDate.of(2025, 2, 28)))
+                .willReturn(Optional.of(snapshot(LocalDate.of(2025, 2, 28), 1_000L, 0L, 0L)));
+        given(transactionHistoryRepository.sumTotalsByAccount(
+                List.of(ACCOUNT_ID), LocalDateTime.of(2025, 3, 1, 0, 0), from))
+                .willReturn(List.of(new AccountAmountTotals(ACCOUNT_ID, 100L, 0L)));
+
+        // 3/2, 3/4 는 스냅샷, 3/3 은 누락
+        given(snapshotRepository.findByAccountIdAndSnapshotDateBetween(
+                ACCOUNT_ID, LocalDate.of(2025, 3, 2), LocalDate.of(2025, 3, 4)))
+                .willReturn(List.of(
+                        snapshot(LocalDate.of(2025, 3, 2), 0L, 300L, 50L),
+                        snapshot(LocalDate.of(2025, 3, 4), 0L, 0L, 70L)));
+        given(transactionHistoryRepository.sumTotalsByAccount(
+                List.of(ACCOUNT_ID), from, LocalDateTime.of(2025, 3, 2, 0, 0)))
+                .willReturn(List.of(new AccountAmountTotals(ACCOUNT_ID, 10L, 0L)));
+        given(transactionHistoryRepository.sumTotalsByAccount(
+                List.of(ACCOUNT_ID), LocalDateTime.of(2025, 3, 3, 0, 0), LocalDateTime.of(2025, 3, 4, 0, 0)))
+                .willReturn(List.of());
+
+        AccountStatementResponse statement = queryService.getStatement(USERNAME, ACCOUNT_ID, from, to);
+
+        assertThat(statement.openingBalance()).isEqualTo(1_100L);
+        assertThat(statement.depositTotal()).isEqualTo(310L);
+        assertThat(statement.withdrawTotal()).isEqualTo(120L);
+        assertThat(statement.closingBalance()).isEqualTo(1_100L + 310L - 120L);
+    }
+
+    @Test
+    @DisplayName("하루 안의 구간은 스냅샷 없이 거래만 합산한다")
+    void getStatement_withinOneDay() {
+        LocalDateTime from = LocalDateTime.of(2025, 3, 15, 9, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 3, 15, 18, 0);
+        given(accountOwnershipCache.isOwner(ACCOUNT_ID, USERNAME)).willReturn(true);
+        given(snapshotRepository.findFirstByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+                ACCOUNT_ID, LocalDate.of(2025, 3, 14)))
+                .willReturn(Optional.of(snapshot(LocalDate.of(2025, 3, 14), 2_000L, 0L, 0L)));
+        given(transactionHistoryRepository.sumTotalsByAccount(
+                List.of(ACCOUNT_ID), LocalDateTime.of(2025, 3, 15, 0, 0), from))
+                .willReturn(List.of());
+        given(transactionHistoryRepository.sumTotalsByAccount(List.of(ACCOUNT_ID), from, to))
+                .willReturn(List.of(new AccountAmountTotals(ACCOUNT_ID, 0L, 500L)));
+
+        AccountStatementResponse statement = queryService.getStatement(USERNAME, ACCOUNT_ID, from, to);
+
+        assertThat(statement.closingBalance()).isEqualTo(1_500L);
+    }
+
+    @Test
+    @DisplayName("본인 계좌가 아니면 조회하지 않는다")
+    void getBalance_notOwner() {
+        given(accountOwnershipCache.isOwner(ACCOUNT_ID, USERNAME)).willReturn(false);
+
+        assertThatThrownBy(() -> queryService.getBalance(USERNAME, ACCOUNT_ID, LocalDateTime.of(2025, 3, 15, 0, 0)))
+                .isInstanceOf(CommonException.class)
+                .hasMessage("해당 계좌를 찾을 수 없습니다.");
+    }
+
+    private AccountBalanceSnapshot snapshot(LocalDate date, long closing, long deposit, long withdraw) {
+        return AccountBalanceSnapshot.of(ACCOUNT_ID, date, closing, deposit, withdraw, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,95 @@
+package dev.woori.wooriLearn.domain.edubankapi.balance.service;
+
+import dev.woori.wooriLearn.domain.edubankapi.balance.dto.AccountAmountTotals;
+import dev.woori.wooriLearn.domain.edubankapi.balance.entity.AccountBalanceSnapshot;
+import dev.woori.wooriLearn.domain.edubankapi.balance.repository.AccountBalanceSnapshotRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiAccountRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiTransactionHistoryRepository;
+import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("일별 잔액 스냅샷 작성 Service 테스트")
+class AccountBalanceSnapshotServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 15);
+
+    @Mock
+    private AccountBalanceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private EdubankapiAccountRepository accountRepository;
+
+    @Mock
+    private EdubankapiTransactionHistoryRepository transactionHistoryRepository;
+
+    private AccountBalanceSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-03-15T15:30:00Z"), ZoneId.of("Asia/Seoul"));
+        snapshotService = new AccountBalanceSnapshotService(snapshotRepository, accountRepository, transactionHistoryRepository, clock);
+    }
+
+    @Test
+    @DisplayName("전날 스냅샷이 있으면 이어서, 없으면 현재 잔액에서 이후 거래를 되돌려 마감 잔액을 계산한다")
+    @SuppressWarnings("unchecked")
+    void writeSnapshots() {
+        LocalDateTime dayStart = DATE.atStartOfDay();
+        LocalDateTime nextDayStart = DATE.plusDays(1).atStartOfDay();
+        given(snapshotRepository.findByAccountIdInAndSnapshotDate(List.of(1L, 2L, 3L), DATE))
+                .willReturn(List.of(AccountBalanceSnapshot.of(3L, DATE, 0L, 0L, 0L, dayStart)));
+        given(snapshotRepository.findByAccountIdInAndSnapshotDate(List.of(1L, 2L), DATE.minusDays(1)))
+                .willReturn(List.of(AccountBalanceSnapshot.of(1L, DATE.minusDays(1), 10_000L, 0L, 0L, dayStart)));
+        given(transactionHistoryRepository.sumTotalsByAccount(List.of(1L, 2L), dayStart, nextDayStart))
+                .willReturn(List.of(
+                        new AccountAmountTotals(1L, 3_000L, 1_000L),
+                        new AccountAmountTotals(2L, 0L, 500L)));
+        given(accountRepository.findAllById(List.of(2L)))
+                .willReturn(List.of(EducationalAccount.builder().id(2L).balance(8_000).build()));
+        given(transactionHistoryRepository.sumTotalsByAccount(
+                List.of(2L), nextDayStart, LocalDateTime.of(2025, 3, 17, 0, 30)))
+                .willReturn(List.of(new AccountAmountTotals(2L, 2_000L, 0L)));
+
+        int written = snapshotService.writeSnapshots(DATE, List.of(1L, 2L, 3L));
+
+        assertThat(written).isEqualTo(2);
+        ArgumentCaptor<List<AccountBalanceSnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(snapshotRepository).saveAll(captor.capture());
+        List<AccountBalanceSnapshot> saved = captor.getValue().stream()
+                .sorted(Comparator.comparing(AccountBalanceSnapshot::getAccountId))
+                .toList();
+        assertThat(saved).extracting(AccountBalanceSnapshot::getAccountId).containsExactly(1L, 2L);
+        assertThat(saved).extracting(AccountBalanceSnapshot::getClosingBalance).containsExactly(12_000L, 6_000L);
+        assertThat(saved).extracting(AccountBalanceSnapshot::getWithdrawTotal).containsExactly(1_000L, 500L);
+    }
+
+    @Test
+    @DisplayName("모든 계좌의 스냅샷이 이미 있으면 아무것도 쓰지 않는다")
+    void writeSnapshots_alreadyDone() {
+        given(snapshotRepository.findByAccountIdInAndSnapshotDate(List.of(1L), DATE))
+                .willReturn(List.of(AccountBalanceSnapshot.of(1L, DATE, 0L, 0L, 0L, DATE.atStartOfDay())));
+
+        assertThat(snapshotService.writeSnapshots(DATE, List.of(1L))).isZero();
+        verifyNoInteractions(transactionHistoryRepository, accountRepository);
+    }
+}
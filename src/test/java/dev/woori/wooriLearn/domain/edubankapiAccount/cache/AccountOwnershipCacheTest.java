@@ -0,0 +1,105 @@
+package dev.woori.wooriLearn.domain.edubankapiAccount.cache;
+
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.cache.AccountOwnershipCache;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("계좌 소유자 캐시 테스트")
+class AccountOwnershipCacheTest {
+
+    @Mock
+    private EdubankapiAccountRepository accountRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private AccountOwnershipCache ownershipCache;
+
+    @BeforeEach
+    void setUp() {
+        ownershipCache = new AccountOwnershipCache(accountRepository, redisTemplate,
+                100, Duration.ofMinutes(10), Duration.ofDays(7));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("DB 에서 찾은 소유자를 Redis 와 로컬에 채우고, 이후 조회는 로컬에서 처리한다")
+    void isOwner_fillsBothTiers() {
+        given(accountRepository.findOwnerUserIdById(1L)).willReturn(Optional.of("user1"));
+
+        assertThat(ownershipCache.isOwner(1L, "user1")).isTrue();
+        assertThat(ownershipCache.isOwner(1L, "user2")).isFalse();
+        assertThat(ownershipCache.isOwner(1L, "user1")).isTrue();
+
+        verify(accountRepository, times(1)).findOwnerUserIdById(1L);
+        verify(valueOperations, times(1)).get("account-owner:1");
+        verify(valueOperations).set("account-owner:1", "user1", Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("Redis 에 있으면 DB 를 조회하지 않는다")
+    void isOwner_redisHit() {
+        given(valueOperations.get("account-owner:1")).willReturn("user1");
+
+        assertThat(ownershipCache.isOwner(1L, "user1")).isTrue();
+
+        verify(accountRepository, never()).findOwnerUserIdById(any());
+    }
+
+    @Test
+    @DisplayName("없는 계좌는 캐시하지 않는다")
+    void isOwner_missingAccount() {
+        given(accountRepository.findOwnerUserIdById(9L)).willReturn(Optional.empty());
+
+        assertThat(ownershipCache.isOwner(9L, "user1")).isFalse();
+        assertThat(ownershipCache.isOwner(9L, "user1")).isFalse();
+
+        verify(accountRepository, times(2)).findOwnerUserIdById(9L);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 로 확인한다")
+    void isOwner_redisDown() {
+        given(valueOperations.get("account-owner:1")).willThrow(new RedisConnectionFailureException("down"));
+        given(accountRepository.findOwnerUserIdById(1L)).willReturn(Optional.of("user1"));
+
+        assertThat(ownershipCache.isOwner(1L, "user1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("evict 후에는 다시 DB 에서 확인한다")
+    void evict() {
+        given(accountRepository.findOwnerUserIdById(1L)).willReturn(Optional.of("user1"));
+        ownershipCache.isOwner(1L, "user1");
+
+        ownershipCache.evict(1L);
+        ownershipCache.isOwner(1L, "user1");
+
+        verify(redisTemplate).delete("account-owner:1");
+        verify(accountRepository, times(2)).findOwnerUserIdById(1L);
+    }
+}
@@ -1,8 +1,11 @@
 package dev.woori.wooriLearn.domain.edubankapiAccount.service;
 
 import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.cache.AccountOwnershipCache;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiAccountDto;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiTransactionHistoryDto;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiTransactionPageDto;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.TransactionCursor;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.service.EdubankapiAccountService;
 import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
 import dev.woori.wooriLearn.domain.edubankapi.entity.TransactionHistory;
@@ -13,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -35,6 +39,9 @@ class EdubankapiAccountServiceTest {
         @Mock
         private UserRepository userRepository;
 
+        @Mock
+        private AccountOwnershipCache accountOwnershipCache;
+
         private static final String TEST_USERNAME = "testuser";
 
         @BeforeEach
@@ -125,13 +132,13 @@ class EdubankapiAccountServiceTest {
         @DisplayName("기간 미지정 시 기본 1개월 거래내역을 조회한다")
         void testGetTransactions_Default1Month() {
                 // 소유권 검증 mock
-                when(accountRepository.existsByIdAndUser_UserId(1L, TEST_USERNAME))
+                when(accountOwnershipCache.isOwner(1L, TEST_USERNAME))
                                 .thenReturn(true);
 
                 TransactionHistory h1 = createHistory(1L, 1000); // 입금
                 TransactionHistory h2 = createHistory(1L, -2000); // 출금
 
-                when(historyRepository.findTransactionsByAccountIdAndDateRange(any(), any(), any()))
+                when(historyRepository.findPage(any(), any(), any(), any(), any(), any(), any(), any()))
                                 .thenReturn(List.of(h1, h2));
 
                 List<EdubankapiTransactionHistoryDto> result = service.getTransactionList(
@@ -143,9 +150,9 @@ class EdubankapiAccountServiceTest {
                                 "ALL");
 
                 assertEquals(2, result.size());
-                verify(accountRepository, times(1)).existsByIdAndUser_UserId(1L, TEST_USERNAME);
+                verify(accountOwnershipCache, times(1)).isOwner(1L, TEST_USERNAME);
                 verify(historyRepository, times(1))
-                                .findTransactionsByAccountIdAndDateRange(any(), any(), any());
+                                .findPage(any(), any(), any(), any(), any(), any(), any(), any());
         }
 
         /*
@@ -157,13 +164,13 @@ class EdubankapiAccountServiceTest {
         @DisplayName("직접 입력한 기간(start/end)으로 거래내역을 조회한다")
         void testGetTransactions_DateRangeDirect() {
                 // 소유권 검증 mock
-                when(accountRepository.existsByIdAndUser_UserId(1L, TEST_USERNAME))
+                when(accountOwnershipCache.isOwner(1L, TEST_USERNAME))
                                 .thenReturn(true);
 
                 LocalDate start = LocalDate.now().minusDays(5);
                 LocalDate end = LocalDate.now();
 
-                when(historyRepository.findTransactionsByAccountIdAndDateRange(any(), any(), any()))
+                when(historyRepository.findPage(any(), any(), any(), any(), any(), any(), any(), any()))
                                 .thenReturn(List.of(createHistory(1L, 1000)));
 
                 List<EdubankapiTransactionHistoryDto> result = service.getTransactionList(
@@ -175,10 +182,11 @@ class EdubankapiAccountServiceTest {
                 ArgumentCaptor<LocalDateTime> startCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
                 ArgumentCaptor<LocalDateTime> endCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
 
-                verify(historyRepository).findTransactionsByAccountIdAndDateRange(
+                verify(historyRepository).findPage(
                                 eq(1L),
                                 startCaptor.capture(),
-                                endCaptor.capture());
+                                endCaptor.capture(),
+                                any(), any(), any(), any(), any());
 
                 assertEquals(start.atStartOfDay(), startCaptor.getValue());
                 assertEquals(end.atTime(23, 59, 59), endCaptor.getValue());
@@ -193,16 +201,16 @@ class EdubankapiAccountServiceTest {
         @DisplayName("기간 코드 3M이면 3개월 치 거래를 조회한다")
         void testGetTransactions_Period3M() {
                 // 소유권 검증 mock
-                when(accountRepository.existsByIdAndUser_UserId(1L, TEST_USERNAME))
+                when(accountOwnershipCache.isOwner(1L, TEST_USERNAME))
                                 .thenReturn(true);
 
-                when(historyRepository.findTransactionsByAccountIdAndDateRange(any(), any(), any()))
+                when(historyRepository.findPage(any(), any(), any(), any(), any(), any(), any(), any()))
                                 .thenReturn(List.of(createHistory(1L, 500)));
 
                 service.getTransactionList(TEST_USERNAME, 1L, "3M", null, null, "ALL");
 
                 verify(historyRepository, times(1))
-                                .findTransactionsByAccountIdAndDateRange(any(), any(), any());
+                                .findPage(any(), any(), any(), any(), any(), any(), any(), any());
         }
 
         /*
@@ -214,20 +222,22 @@ class EdubankapiAccountServiceTest {
         @DisplayName("필터가 DEPOSIT이면 입금 내역만 반환한다")
         void testGetTransactions_FilterDeposit() {
                 // 소유권 검증 mock
-                when(accountRepository.existsByIdAndUser_UserId(1L, TEST_USERNAME))
+                when(accountOwnershipCache.isOwner(1L, TEST_USERNAME))
                                 .thenReturn(true);
 
                 TransactionHistory dep = createHistory(1L, 2000); // 입금
                 TransactionHistory wit = createHistory(1L, -2000); // 출금
 
-                when(historyRepository.findTransactionsByAccountIdAndDateRange(any(), any(), any()))
-                                .thenReturn(List.of(dep, wit));
+                when(historyRepository.findPage(any(), any(), any(), any(), any(), any(), any(), any()))
+                                .thenReturn(List.of(dep));
 
                 List<EdubankapiTransactionHistoryDto> list = service.getTransactionList(
                                 TEST_USERNAME, 1L, "1M", null, null, "DEPOSIT");
 
                 assertEquals(1, list.size());
                 assertTrue(list.get(0).amount() > 0);
+                // 입금(양수)만 SQL 에서 조회
+                verify(historyRepository).findPage(any(), any(), any(), eq(1), eq(Integer.MAX_VALUE), any(), any(), any());
         }
 
         /*
@@ -239,20 +249,22 @@ class EdubankapiAccountServiceTest {
         @DisplayName("필터가 WITHDRAW이면 출금 내역만 반환한다")
         void testGetTransactions_FilterWithdraw() {
                 // 소유권 검증 mock
-                when(accountRepository.existsByIdAndUser_UserId(1L, TEST_USERNAME))
+                when(accountOwnershipCache.isOwner(1L, TEST_USERNAME))
                                 .thenReturn(true);
 
                 TransactionHistory dep = createHistory(1L, 2000);
                 TransactionHistory wit = createHistory(1L, -2000);
 
-                when(historyRepository.findTransactionsByAccountIdAndDateRange(any(), any(), any()))
-                                .thenReturn(List.of(dep, wit));
+                when(historyRepository.findPage(any(), any(), any(), any(), any(), any(), any(), any()))
+                                .thenReturn(List.of(wit));
 
                 List<EdubankapiTransactionHistoryDto> list = service.getTransactionList(
                                 TEST_USERNAME, 1L, "1M", null, null, "WITHDRAW");
 
                 assertEquals(1, list.size());
                 assertTrue(list.get(0).amount() < 0);
+                // 출금(음수)만 SQL 에서 조회
+                verify(historyRepository).findPage(any(), any(), any(), eq(Integer.MIN_VALUE), eq(-1), any(), any(), any());
         }
 
         /*
@@ -264,7 +276,7 @@ class EdubankapiAccountServiceTest {
         @DisplayName("지원하지 않는 기간 코드는 IllegalArgumentException을 던진다")
         void testGetTransactions_InvalidPeriod_Throws() {
                 // 소유권 검증 mock
-                when(accountRepository.existsByIdAndUser_UserId(1L, TEST_USERNAME))
+                when(accountOwnershipCache.isOwner(1L, TEST_USERNAME))
                                 .thenReturn(true);
 
                 assertThrows(IllegalArgumentException.class,
@@ -280,7 +292,7 @@ class EdubankapiAccountServiceTest {
         @DisplayName("거래내역은 최대 30건까지 반환한다")
         void testGetTransactions_Limit30() {
                 // 소유권 검증 mock
-                when(accountRepository.existsByIdAndUser_UserId(1L, TEST_USERNAME))
+                when(accountOwnershipCache.isOwner(1L, TEST_USERNAME))
                                 .thenReturn(true);
 
                 List<TransactionHistory> many = new ArrayList<>();
@@ -288,13 +300,66 @@ class EdubankapiAccountServiceTest {
                         many.add(createHistory((long) i, i));
                 }
 
-                when(historyRepository.findTransactionsByAccountIdAndDateRange(any(), any(), any()))
+                when(historyRepository.findPage(any(), any(), any(), any(), any(), any(), any(), any()))
                                 .thenReturn(many);
 
                 List<EdubankapiTransactionHistoryDto> result = service.getTransactionList(
                                 TEST_USERNAME, 1L, "1M", null, null, "ALL");
 
                 assertEquals(30, result.size());
+                // 다음 페이지 여부 판단용 1건 포함 31건만 조회
+                verify(historyRepository).findPage(any(), any(), any(), any(), any(), any(), any(),
+                                eq(PageRequest.of(0, 31)));
+        }
+
+        /*
+         * ----------------------------------------------------------
+         * 9-1. keyset 페이지 - nextCursor 로 이어서 조회
+         * ----------------------------------------------------------
+         */
+        @Test
+        @DisplayName("다음 페이지가 있으면 마지막 거래의 (거래일시, id) 커서를 내려주고, 그 커서로 이어서 조회한다")
+        void testGetTransactionPage_Cursor() {
+                when(accountOwnershipCache.isOwner(1L, TEST_USERNAME))
+                                .thenReturn(true);
+
+                LocalDateTime base = LocalDateTime.of(2025, 3, 15, 12, 0);
+                TransactionHistory h3 = createHistory(3L, 1000, base);
+                TransactionHistory h2 = createHistory(2L, -500, base);
+                TransactionHistory h1 = createHistory(1L, 700, base.minusMinutes(1));
+
+                when(historyRepository.findPage(any(), any(), any(), any(), any(), any(), any(), any()))
+                                .thenReturn(new ArrayList<>(List.of(h3, h2, h1)));
+
+                EdubankapiTransactionPageDto first = service.getTransactionPage(
+                                TEST_USERNAME, 1L, "1M", null, null, "ALL", null, 2);
+
+                assertEquals(2, first.transactions().size());
+                assertTrue(first.hasNext());
+                assertEquals(new TransactionCursor(base, 2L), TransactionCursor.decode(first.nextCursor()));
+
+                when(historyRepository.findPage(any(), any(), any(), any(), any(), any(), any(), any()))
+                                .thenReturn(new ArrayList<>(List.of(h1)));
+
+                EdubankapiTransactionPageDto second = service.getTransactionPage(
+                                TEST_USERNAME, 1L, "1M", null, null, "ALL", first.nextCursor(), 2);
+
+                assertEquals(1, second.transactions().size());
+                assertFalse(second.hasNext());
+                assertNull(second.nextCursor());
+                verify(historyRepository).findPage(eq(1L), any(), any(), any(), any(), eq(base), eq(2L),
+                                eq(PageRequest.of(0, 3)));
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 커서는 CommonException을 던진다")
+        void testGetTransactionPage_InvalidCursor() {
+                when(accountOwnershipCache.isOwner(1L, TEST_USERNAME))
+                                .thenReturn(true);
+
+                assertThrows(CommonException.class,
+                                () -> service.getTransactionPage(TEST_USERNAME, 1L, "1M", null, null, "ALL", "not-a-cursor", 30));
+                verify(historyRepository, never()).findPage(any(), any(), any(), any(), any(), any(), any(), any());
         }
 
         /*
@@ -306,15 +371,15 @@ class EdubankapiAccountServiceTest {
         @DisplayName("계좌가 사용자 소유가 아니면 FORBIDDEN 예외를 던진다")
         void testGetTransactions_Unauthorized_Forbidden() {
                 // 소유권 검증 실패 mock
-                when(accountRepository.existsByIdAndUser_UserId(1L, TEST_USERNAME))
+                when(accountOwnershipCache.isOwner(1L, TEST_USERNAME))
                                 .thenReturn(false);
 
                 CommonException exception = assertThrows(CommonException.class,
                                 () -> service.getTransactionList(TEST_USERNAME, 1L, "1M", null, null, "ALL"));
 
                 assertEquals("해당 계좌를 찾을 수 없습니다.", exception.getMessage());
-                verify(accountRepository, times(1)).existsByIdAndUser_UserId(1L, TEST_USERNAME);
-                verify(historyRepository, never()).findTransactionsByAccountIdAndDateRange(any(), any(), any());
+                verify(accountOwnershipCache, times(1)).isOwner(1L, TEST_USERNAME);
+                verify(historyRepository, never()).findPage(any(), any(), any(), any(), any(), any(), any(), any());
         }
 
         /*
@@ -329,8 +394,8 @@ class EdubankapiAccountServiceTest {
                                 () -> service.getTransactionList(TEST_USERNAME, null, "1M", null, null, "ALL"));
 
                 assertEquals("계좌 ID는 필수입니다.", exception.getMessage());
-                verify(accountRepository, never()).existsByIdAndUser_UserId(any(), any());
-                verify(historyRepository, never()).findTransactionsByAccountIdAndDateRange(any(), any(), any());
+                verify(accountOwnershipCache, never()).isOwner(any(), any());
+                verify(historyRepository, never()).findPage(any(), any(), any(), any(), any(), any(), any(), any());
         }
 
         /*
@@ -339,10 +404,14 @@ class EdubankapiAccountServiceTest {
          * ----------------------------------------------------------
          */
         private TransactionHistory createHistory(Long id, int amount) {
+                return createHistory(id, amount, LocalDateTime.now());
+        }
+
+        private TransactionHistory createHistory(Long id, int amount, LocalDateTime transactionDate) {
                 return TransactionHistory.builder()
                                 .id(id)
                                 .account(null)
-                                .transactionDate(LocalDateTime.now())
+                                .transactionDate(transactionDate)
                                 .amount(amount)
                                 .counterpartyName("홍길동")
                                 .displayName("메모")
@@ -0,0 +1,163 @@
+package dev.woori.wooriLearn.domain.edubankapiAccount.service;
+
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.BulkTransferRequest;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.BulkTransferResponse;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiAccountRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiTransferJdbcRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.service.EdubankapiBulkTransferService;
+import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
+import dev.woori.wooriLearn.domain.edubankapi.entity.TransactionHistory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("일괄 계좌이체 Service 테스트")
+class EdubankapiBulkTransferServiceTest {
+
+    @Mock
+    private EdubankapiAccountRepository accountRepository;
+
+    @Mock
+    private EdubankapiTransferJdbcRepository transferJdbcRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EdubankapiBulkTransferService bulkTransferService;
+
+    @BeforeEach
+    void setUp() {
+        bulkTransferService = new EdubankapiBulkTransferService(
+                accountRepository, transferJdbcRepository, entityManager, transactionManager);
+        ReflectionTestUtils.setField(bulkTransferService, "chunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("청크마다 관련 계좌를 한 번에 락으로 조회하고, 실패한 건만 제외하고 거래내역을 batch INSERT 한다")
+    @SuppressWarnings("unchecked")
+    void transfer_chunksInSortedLockOrder() {
+        EducationalAccount a = account(1L, "1000", 5_000, "가계좌");
+        EducationalAccount b = account(2L, "2000", 1_000, "나계좌");
+        EducationalAccount c = account(3L, "3000", 0, "다계좌");
+        given(accountRepository.findAllByAccountNumberInForUpdate(Set.of("1000", "2000", "3000")))
+                .willReturn(List.of(a, b, c));
+        given(accountRepository.findAllByAccountNumberInForUpdate(Set.of("2000", "3000", "9999")))
+                .willReturn(List.of(b, c));
+
+        BulkTransferRequest request = new BulkTransferRequest(List.of(
+                item("3000", "1000", 500),     // 잔액 부족 (C 잔액 0)
+                item("1000", "2000", 2_000),   // 성공
+                item("2000", "3000", 3_000),   // 성공 (앞 건 입금 후 잔액 3,000)
+                item("3000", "9999", 100)));   // 입금 계좌 없음
+
+        BulkTransferResponse response = bulkTransferService.transfer(request);
+
+        assertThat(response.requested()).isEqualTo(4);
+        assertThat(response.succeeded()).isEqualTo(2);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.results())
+                .extracting(BulkTransferResponse.ItemResult::index,
+                        BulkTransferResponse.ItemResult::status,
+                        BulkTransferResponse.ItemResult::balanceAfter)
+                .containsExactly(
+                        tuple(0, BulkTransferResponse.Status.FAILED, null),
+                        tuple(1, BulkTransferResponse.Status.SUCCEEDED, 3_000),
+                        tuple(2, BulkTransferResponse.Status.SUCCEEDED, 0),
+                        tuple(3, BulkTransferResponse.Status.FAILED, null));
+        assertThat(response.results().get(0).message()).isEqualTo("잔액이 부족합니다.");
+        assertThat(response.results().get(3).message()).isEqualTo("입금 계좌를 찾을 수 없습니다.");
+        assertThat(a.getBalance()).isEqualTo(3_000);
+        assertThat(b.getBalance()).isEqualTo(0);
+        assertThat(c.getBalance()).isEqualTo(3_000);
+
+        InOrder lockOrder = inOrder(accountRepository, entityManager);
+        lockOrder.verify(accountRepository).findAllByAccountNumberInForUpdate(Set.of("1000", "2000", "3000"));
+        lockOrder.verify(entityManager).clear();
+        lockOrder.verify(accountRepository).findAllByAccountNumberInForUpdate(Set.of("2000", "3000", "9999"));
+        lockOrder.verify(entityManager).clear();
+
+        ArgumentCaptor<List<TransactionHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transferJdbcRepository, times(2)).insertHistories(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(histories -> assertThat(histories).hasSize(2));
+        assertThat(captor.getAllValues().get(0))
+                .extracting(TransactionHistory::getAmount, TransactionHistory::getCounterpartyName)
+                .containsExactly(tuple(-2_000, "나계좌"), tuple(2_000, "가계좌"));
+    }
+
+    @Test
+    @DisplayName("같은 계좌로의 이체는 실패 처리하고, 성공 건이 없으면 거래내역을 INSERT 하지 않는다")
+    void transfer_sameAccount() {
+        given(accountRepository.findAllByAccountNumberInForUpdate(Set.of("1000")))
+                .willReturn(List.of(account(1L, "1000", 5_000, "가계좌")));
+
+        BulkTransferResponse response = bulkTransferService.transfer(
+                new BulkTransferRequest(List.of(item("1000", "1000", 1_000))));
+
+        assertThat(response.failed()).isEqualTo(1);
+        assertThat(response.results().get(0).message()).isEqualTo("같은 계좌로는 이체할 수 없습니다.");
+        verify(transferJdbcRepository, never()).insertHistories(anyList());
+    }
+
+    @Test
+    @DisplayName("청크 트랜잭션이 실패하면 그 청크의 건만 실패로 기록하고 다음 청크는 계속 처리한다")
+    void transfer_chunkFailureIsolated() {
+        EducationalAccount c = account(3L, "3000", 1_000, "다계좌");
+        EducationalAccount d = account(4L, "4000", 0, "라계좌");
+        given(accountRepository.findAllByAccountNumberInForUpdate(Set.of("1000", "2000")))
+                .willThrow(new PessimisticLockingFailureException("lock wait timeout"));
+        given(accountRepository.findAllByAccountNumberInForUpdate(Set.of("3000", "4000")))
+                .willReturn(List.of(c, d));
+
+        BulkTransferResponse response = bulkTransferService.transfer(new BulkTransferRequest(List.of(
+                item("1000", "2000", 100),
+                item("2000", "1000", 100),
+                item("3000", "4000", 100))));
+
+        assertThat(response.results())
+                .extracting(BulkTransferResponse.ItemResult::status)
+                .containsExactly(
+                        BulkTransferResponse.Status.FAILED,
+                        BulkTransferResponse.Status.FAILED,
+                        BulkTransferResponse.Status.SUCCEEDED);
+        assertThat(d.getBalance()).isEqualTo(100);
+        verify(entityManager, times(2)).clear();
+    }
+
+    private static EducationalAccount account(Long id, String accountNumber, int balance, String name) {
+        return EducationalAccount.builder()
+                .id(id)
+                .accountNumber(accountNumber)
+                .balance(balance)
+                .accountName(name)
+                .build();
+    }
+
+    private static BulkTransferRequest.Item item(String from, String to, int amount) {
+        return new BulkTransferRequest.Item(from, to, amount, "실습");
+    }
+}
@@ -1,22 +1,32 @@
 package dev.woori.wooriLearn.domain.edubankapiAccount.service;
 
 import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiTransferRequestDto;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.dto.EdubankapiTransferResponseDto;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiAccountRepository;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiTransactionHistoryRepository;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.repository.EdubankapiTransferJdbcRepository;
 import dev.woori.wooriLearn.domain.edubankapi.eduaccount.service.EdubankapiTransferService;
+import dev.woori.wooriLearn.domain.edubankapi.eduaccount.service.TransferLockMetrics;
 import dev.woori.wooriLearn.domain.edubankapi.entity.EducationalAccount;
 import dev.woori.wooriLearn.domain.edubankapi.entity.TransactionHistory;
 import dev.woori.wooriLearn.domain.user.entity.Users;
 import dev.woori.wooriLearn.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,9 +42,21 @@ class EdubankapiTransferServiceTest {
     @Mock
     private EdubankapiTransactionHistoryRepository historyRepository;
 
+    @Mock
+    private EdubankapiTransferJdbcRepository transferJdbcRepository;
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransferLockMetrics lockMetrics;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @Spy
     private PasswordEncoder encoder = new BCryptPasswordEncoder();
 
@@ -81,8 +103,8 @@ class EdubankapiTransferServiceTest {
     @Test
     @DisplayName("정상 계좌이체 시 잔액 이동 및 거래이력 두 건 저장")
     void 정상_이체() {
-        when(accountRepository.findByAccountNumber("1122334455")).thenReturn(Optional.of(from));
-        when(accountRepository.findByAccountNumber("5544332211")).thenReturn(Optional.of(to));
+        stubReads(from, to);
+        stubLocks(from, to);
 
         EdubankapiTransferRequestDto req = new EdubankapiTransferRequestDto(
                 "1122334455","5544332211",1000,"1111","생활비"
@@ -98,13 +120,15 @@ class EdubankapiTransferServiceTest {
     @Test
     @DisplayName("계좌 비밀번호 불일치 시 CommonException 발생")
     void 비밀번호_불일치() {
-        when(accountRepository.findByAccountNumber(any())).thenReturn(Optional.of(from));
+        stubReads(from, to);
 
         EdubankapiTransferRequestDto req = new EdubankapiTransferRequestDto(
                 "1122334455","5544332211",1000,"9999","생활비"
         );
 
         assertThrows(CommonException.class, () -> service.transfer("testUser", req));
+        // BCrypt 확인은 락을 잡기 전에 끝남
+        verify(accountRepository, never()).findAllByAccountNumberInForUpdate(any());
     }
 
     @Test
@@ -117,8 +141,8 @@ class EdubankapiTransferServiceTest {
                 .user(testUser)
                 .build();
 
-        when(accountRepository.findByAccountNumber("1122334455")).thenReturn(Optional.of(from));
-        when(accountRepository.findByAccountNumber("5544332211")).thenReturn(Optional.of(to));
+        stubReads(from, to);
+        stubLocks(from, to);
 
         EdubankapiTransferRequestDto req = new EdubankapiTransferRequestDto(
                 "1122334455","5544332211",1000,"1111","홍길동"
@@ -134,8 +158,8 @@ class EdubankapiTransferServiceTest {
                 "1122334455","5544332211",0,"1111","홍길동"
         );
 
-        when(accountRepository.findByAccountNumber("1122334455")).thenReturn(Optional.of(from));
-        when(accountRepository.findByAccountNumber("5544332211")).thenReturn(Optional.of(to));
+        stubReads(from, to);
+        stubLocks(from, to);
 
         assertThrows(CommonException.class, () -> service.transfer("testUser", req));
     }
@@ -147,7 +171,8 @@ class EdubankapiTransferServiceTest {
                 "1122334455","1122334455",1000,"1111","홍길동"
         );
 
-        when(accountRepository.findByAccountNumber("1122334455")).thenReturn(Optional.of(from));
+        stubReads(from, from);
+        stubLocks(from);
 
         assertThrows(CommonException.class, () -> service.transfer("testUser", req));
     }
@@ -173,8 +198,8 @@ class EdubankapiTransferServiceTest {
                 .user(testUser)
                 .build();
 
-        when(accountRepository.findByAccountNumber("9999999999")).thenReturn(Optional.of(from));
-        when(accountRepository.findByAccountNumber("1111111111")).thenReturn(Optional.of(to));
+        stubReads(from, to);
+        stubLocks(from, to);
 
         EdubankapiTransferRequestDto req = new EdubankapiTransferRequestDto(
                 "9999999999","1111111111",500,"1111","홍길동"
@@ -184,6 +209,117 @@ class EdubankapiTransferServiceTest {
 
         assertEquals(4500, from.getBalance());
         assertEquals(2500, to.getBalance());
+        // 두 계좌를 계좌번호 순으로 한 번에 락
+        verify(accountRepository).findAllByAccountNumberInForUpdate(List.of("1111111111", "9999999999"));
+    }
+
+    @Test
+    @DisplayName("비밀번호 확인 이후 비밀번호가 변경되었으면 락 구간에서 거절하고 잔액은 변경하지 않는다")
+    void 검증이후_비밀번호_변경() {
+        stubReads(from, to);
+        EducationalAccount changed = EducationalAccount.builder()
+                .id(1L)
+                .accountNumber("1122334455")
+                .balance(5000)
+                .accountPassword(encoder.encode("2222"))
+                .accountName("출금계좌")
+                .user(testUser)
+                .build();
+        stubLocks(changed, to);
+
+        EdubankapiTransferRequestDto req = new EdubankapiTransferRequestDto(
+                "1122334455","5544332211",1000,"1111","생활비"
+        );
+
+        assertThrows(CommonException.class, () -> service.transfer("testUser", req));
+        assertEquals(5000, changed.getBalance());
+        verify(historyRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("락 대기/보유 시간을 비관적 락 모드로 기록하고, 검증에 쓴 계좌 엔티티는 분리한다")
+    void 락_지표_기록() {
+        stubReads(from, to);
+        stubLocks(from, to);
+
+        service.transfer("testUser", new EdubankapiTransferRequestDto(
+                "1122334455","5544332211",1000,"1111","생활비"
+        ));
+
+        verify(entityManager).detach(from);
+        verify(entityManager).detach(to);
+        verify(lockMetrics).recordWait(eq(TransferLockMetrics.Mode.PESSIMISTIC), anyLong());
+        verify(lockMetrics).recordHold(eq(TransferLockMetrics.Mode.PESSIMISTIC), anyLong());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드: 락 없이 검증 후 차감/증가하고 거래이력 두 건을 batch 저장")
+    void 조건부_UPDATE_정상_이체() {
+        ReflectionTestUtils.setField(service, "atomicUpdate", true);
+        stubReads(from, to);
+        when(transferJdbcRepository.debit("1122334455", 1000, from.getAccountPassword())).thenReturn(true);
+        when(transferJdbcRepository.credit("5544332211", 1000)).thenReturn(true);
+        when(transferJdbcRepository.findBalance("1122334455")).thenReturn(Optional.of(4000));
+
+        EdubankapiTransferRequestDto req = new EdubankapiTransferRequestDto(
+                "1122334455","5544332211",1000,"1111","생활비"
+        );
+
+        EdubankapiTransferResponseDto response = service.transfer("testUser", req);
+
+        assertEquals(4000, response.balance());
+        assertEquals("입금계좌", response.counterpartyName());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TransactionHistory>> captor = ArgumentCaptor.forClass(List.class);
+        InOrder order = inOrder(transferJdbcRepository);
+        order.verify(transferJdbcRepository).debit("1122334455", 1000, from.getAccountPassword());
+        order.verify(transferJdbcRepository).credit("5544332211", 1000);
+        order.verify(transferJdbcRepository).insertHistories(captor.capture());
+        assertEquals(List.of(-1000, 1000), captor.getValue().stream().map(TransactionHistory::getAmount).toList());
+
+        verify(accountRepository, never()).findAllByAccountNumberInForUpdate(any());
+        verify(historyRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드: 검증 이후 잔액이 줄어 차감이 0건이면 CommonException 으로 롤백")
+    void 조건부_UPDATE_잔액경합() {
+        ReflectionTestUtils.setField(service, "atomicUpdate", true);
+        stubReads(from, to);
+        when(transferJdbcRepository.debit("1122334455", 1000, from.getAccountPassword())).thenReturn(false);
+        when(transferJdbcRepository.findPasswordHash("1122334455")).thenReturn(Optional.of(from.getAccountPassword()));
+
+        EdubankapiTransferRequestDto req = new EdubankapiTransferRequestDto(
+                "1122334455","5544332211",1000,"1111","생활비"
+        );
+
+        CommonException e = assertThrows(CommonException.class, () -> service.transfer("testUser", req));
+
+        assertEquals("잔액이 부족합니다.", e.getMessage());
+        verify(transferJdbcRepository, never()).credit(any(), anyInt());
+        verify(transferJdbcRepository, never()).insertHistories(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드: 검증 이후 비밀번호가 바뀌어 차감이 0건이면 UNAUTHORIZED 로 롤백")
+    void 조건부_UPDATE_비밀번호변경() {
+        ReflectionTestUtils.setField(service, "atomicUpdate", true);
+        stubReads(from, to);
+        when(transferJdbcRepository.debit("1122334455", 1000, from.getAccountPassword())).thenReturn(false);
+        when(transferJdbcRepository.findPasswordHash("1122334455")).thenReturn(Optional.of("changed-hash"));
+
+        EdubankapiTransferRequestDto req = new EdubankapiTransferRequestDto(
+                "1122334455","5544332211",1000,"1111","생활비"
+        );
+
+        CommonException e = assertThrows(CommonException.class, () -> service.transfer("testUser", req));
+
+        assertEquals(ErrorCode.UNAUTHORIZED, e.getErrorCode());
+        verify(transferJdbcRepository, never()).credit(any(), anyInt());
+        verify(transferJdbcRepository, never()).insertHistories(any());
+        verify(transactionManager).rollback(any());
     }
 
     @Test
@@ -206,4 +342,14 @@ class EdubankapiTransferServiceTest {
         assertThrows(IllegalArgumentException.class, () -> acc.deposit(0));
     }
 
+    private void stubReads(EducationalAccount fromAccount, EducationalAccount toAccount) {
+        when(accountRepository.findByAccountNumberForRead(fromAccount.getAccountNumber())).thenReturn(Optional.of(fromAccount));
+        when(accountRepository.findByAccountNumberForRead(toAccount.getAccountNumber())).thenReturn(Optional.of(toAccount));
+    }
+
+    // 락 조회는 계좌번호 오름차순으로 반환
+    private void stubLocks(EducationalAccount... accounts) {
+        when(accountRepository.findAllByAccountNumberInForUpdate(anyCollection())).thenReturn(
+                Stream.of(accounts).sorted(Comparator.comparing(EducationalAccount::getAccountNumber)).toList());
+    }
 }
@@ -2,6 +2,7 @@ package dev.woori.wooriLearn.domain.point;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.woori.wooriLearn.domain.account.dto.request.PointsDepositRequestDto;
+import dev.woori.wooriLearn.domain.account.dto.response.PointsBulkApproveResponseDto;
 import dev.woori.wooriLearn.domain.account.dto.response.PointsDepositResponseDto;
 import dev.woori.wooriLearn.domain.account.dto.response.PointsHistoryResponseDto;
 import dev.woori.wooriLearn.domain.account.dto.response.PointsExchangeResponseDto;
@@ -10,6 +11,7 @@ import dev.woori.wooriLearn.domain.account.entity.PointsHistoryType;
 import dev.woori.wooriLearn.domain.account.entity.PointsStatus;
 import dev.woori.wooriLearn.domain.account.service.PointsExchangeFacade;
 import dev.woori.wooriLearn.domain.account.service.PointsDepositService;
+import dev.woori.wooriLearn.domain.account.service.PointsExchangeBulkApprovalService;
 import dev.woori.wooriLearn.domain.account.service.PointsExchangeService;
 import dev.woori.wooriLearn.domain.account.service.PointsExchangeFacade;
 import dev.woori.wooriLearn.domain.account.service.PointsHistoryService;
@@ -52,6 +54,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
  * - 대상 엔드포인트
  *   1) POST /api/points/deposit        : 관리자 포인트 적립
  *   2) PUT  /admin/points/exchange/... : 환전 승인
+ *      POST /admin/points/exchange/approve/bulk : 환전 일괄 승인
  *   3) GET  /admin/points/exchange/... : 환전 대기목록 조회
  */
 @SpringBootTest
@@ -77,6 +80,9 @@ class AdminPointControllerTest {
     @MockitoBean
     PointsHistoryService pointsHistoryService;
 
+    @MockitoBean
+    PointsExchangeBulkApprovalService pointsExchangeBulkApprovalService;
+
     @BeforeEach
     void setUpSecurityContext() {
         // 테스트 시작마다 관리자 권한 인증을 컨텍스트에 주입
@@ -154,6 +160,25 @@ class AdminPointControllerTest {
                 .andExpect(jsonPath("$.data.status").value("SUCCESS"));
     }
 
+    @Test
+    @DisplayName("POST /admin/points/exchange/approve/bulk 성공 - 관리자")
+    void approveBulk_success_admin() throws Exception {
+        PointsBulkApproveResponseDto resp = PointsBulkApproveResponseDto.of(2, List.of(
+                new PointsBulkApproveResponseDto.ItemResult(1L, PointsStatus.PROCESSING, "접수"),
+                new PointsBulkApproveResponseDto.ItemResult(2L, PointsStatus.APPLY, "계좌를 찾을 수 없습니다.")
+        ));
+        given(pointsExchangeBulkApprovalService.approvePending(eq(100))).willReturn(resp);
+
+        mockMvc.perform(post("/admin/points/exchange/approve/bulk")
+                        .param("limit", "100")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.claimed").value(2))
+                .andExpect(jsonPath("$.data.queued").value(1))
+                .andExpect(jsonPath("$.data.skipped").value(1))
+                .andExpect(jsonPath("$.data.results[1].message").value("계좌를 찾을 수 없습니다."));
+    }
+
     @Test
     @DisplayName("GET /admin/points/exchange/apply 성공 - 관리자")
     void listPending_success_admin() throws Exception {
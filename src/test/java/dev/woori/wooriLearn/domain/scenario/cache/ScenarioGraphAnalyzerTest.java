@@ -0,0 +1,141 @@
+package dev.woori.wooriLearn.domain.scenario.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.woori.wooriLearn.domain.scenario.entity.Quiz;
+import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
+import dev.woori.wooriLearn.domain.scenario.model.StepType;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioStepRepository;
+import dev.woori.wooriLearn.domain.scenario.service.ScenarioStepContentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScenarioGraphAnalyzerTest {
+
+    @Mock private ScenarioStepRepository stepRepository;
+
+    private ScenarioGraphCache cache;
+    private Scenario scenario;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ScenarioGraphCache(stepRepository, new ScenarioStepContentService(new ObjectMapper()));
+        scenario = Scenario.builder().id(1L).title("s").totalNormalSteps(3).build();
+    }
+
+    @Test
+    @DisplayName("정상 그래프는 결함이 없고, 완료까지 남은 최소 이동 수 표를 계산한다")
+    void analyze_cleanGraph() {
+        // 101(1) -> 102(2, CHOICE: good 103 / bad 201) -> 103(3), 201 -> 202(badEnding, 복귀 -> 102)
+        ScenarioStep s103 = step(103L, "{}", null, 3);
+        ScenarioStep s102 = step(102L, """
+                {"choices":[{"good":true,"next":103,"text":"a"},{"good":false,"next":201,"text":"b"}]}
+                """, null, 2);
+        ScenarioStep s101 = step(101L, "{}", s102, 1);
+        ScenarioStep s202 = step(202L, "{\"meta\":{\"branch\":\"bad\",\"badEnding\":true}}", s102, null);
+        ScenarioStep s201 = step(201L, "{\"meta\":{\"branch\":\"bad\"}}", s202, null);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s101, s102, s103, s201, s202));
+
+        GraphAnalysis analysis = cache.get(1L).analysis();
+
+        assertTrue(analysis.isClean(), () -> analysis.defects().toString());
+        assertEquals(5, analysis.reachable().size());
+        assertEquals(Map.of(101L, 2, 102L, 1, 103L, 0), analysis.stepsToCompletion());
+        assertNull(analysis.stepsToCompletion(201L));
+    }
+
+    @Test
+    @DisplayName("없는 스텝 참조, 도달 불가 스텝, quiz + choices, normalIndex 누락/범위 초과를 결함으로 보고한다")
+    void analyze_reportsDefects() {
+        Scenario other = Scenario.builder().id(2L).title("o").totalNormalSteps(1).build();
+        ScenarioStep foreign = ScenarioStep.builder().id(900L).scenario(other).type(StepType.DIALOG).content("{}").build();
+        Quiz quiz = Quiz.builder().id(7L).question("q").options("[\"a\"]").answer(0).build();
+
+        ScenarioStep s2 = ScenarioStep.builder()
+                .id(2L)
+                .scenario(scenario)
+                .type(StepType.CHOICE)
+                .content("{\"choices\":[{\"good\":true,\"next\":999,\"text\":\"a\"}]}")
+                .quiz(quiz)
+                .normalIndex(5)
+                .build();
+        ScenarioStep s1 = step(1L, "{}", s2, 1);
+        ScenarioStep s3 = step(3L, "{}", foreign, null); // 진입 간선 없음 + 다른 시나리오 스텝 참조
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1, s2, s3));
+
+        GraphAnalysis analysis = cache.get(1L).analysis();
+
+        assertTrue(analysis.hasDefect(2L, GraphDefect.Type.QUIZ_WITH_CHOICES));
+        assertTrue(analysis.hasDefect(2L, GraphDefect.Type.DANGLING_CHOICE_NEXT));
+        assertTrue(analysis.hasDefect(2L, GraphDefect.Type.NORMAL_INDEX_OUT_OF_RANGE));
+        assertTrue(analysis.hasDefect(3L, GraphDefect.Type.DANGLING_NEXT));
+        assertTrue(analysis.hasDefect(3L, GraphDefect.Type.UNREACHABLE));
+        assertFalse(analysis.isReachable(3L));
+        assertTrue(types(analysis).contains(GraphDefect.Type.START_NOT_UNIQUE));
+        assertTrue(types(analysis).contains(GraphDefect.Type.NORMAL_INDEX_GAP));
+        assertTrue(types(analysis).contains(GraphDefect.Type.NO_COMPLETION_PATH));
+    }
+
+    @Test
+    @DisplayName("배드 엔딩 복귀가 아닌 순환은 CYCLE 결함으로 보고한다")
+    void analyze_reportsCycle() {
+        ScenarioStep s2 = step(2L, "{}", null, 2);
+        ScenarioStep s1 = step(1L, "{}", s2, 1);
+        ScenarioStep s3 = step(3L, "{}", s2, 3);
+        setNext(s2, s3);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1, s2, s3));
+
+        GraphAnalysis analysis = cache.get(1L).analysis();
+
+        assertTrue(types(analysis).contains(GraphDefect.Type.CYCLE));
+    }
+
+    @Test
+    @DisplayName("meta 형식 오류는 INVALID_CONTENT 로 보고하되, 응답용 payload 는 그대로 남긴다")
+    void analyze_reportsMalformedMeta() {
+        ScenarioStep s1 = step(1L, "{\"meta\":\"not-an-object\",\"text\":\"hi\"}", null, null);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1));
+
+        CompiledScenario graph = cache.get(1L);
+
+        assertTrue(types(graph.analysis()).contains(GraphDefect.Type.INVALID_CONTENT));
+        assertNull(graph.step(1L).info());
+        assertNotNull(graph.step(1L).payload());
+    }
+
+    private List<GraphDefect.Type> types(GraphAnalysis analysis) {
+        return analysis.defects().stream().map(GraphDefect::type).toList();
+    }
+
+    private ScenarioStep step(Long id, String content, ScenarioStep next, Integer normalIndex) {
+        return ScenarioStep.builder()
+                .id(id)
+                .scenario(scenario)
+                .type(StepType.DIALOG)
+                .content(content)
+                .nextStep(next)
+                .normalIndex(normalIndex)
+                .build();
+    }
+
+    private void setNext(ScenarioStep from, ScenarioStep to) {
+        try {
+            var f = ScenarioStep.class.getDeclaredField("nextStep");
+            f.setAccessible(true);
+            f.set(from, to);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package dev.woori.wooriLearn.domain.scenario.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.scenario.dto.ProgressResumeResDto;
+import dev.woori.wooriLearn.domain.scenario.dto.QuizResDto;
+import dev.woori.wooriLearn.domain.scenario.entity.Quiz;
+import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
+import dev.woori.wooriLearn.domain.scenario.model.StepType;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioStepRepository;
+import dev.woori.wooriLearn.domain.scenario.service.ScenarioStepContentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScenarioGraphCacheTest {
+
+    @Mock private ScenarioStepRepository stepRepository;
+
+    private ScenarioGraphCache cache;
+    private Scenario scenario;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ScenarioGraphCache(stepRepository, new ScenarioStepContentService(new ObjectMapper()));
+        scenario = Scenario.builder().id(1L).title("s").totalNormalSteps(3).build();
+    }
+
+    @Test
+    @DisplayName("다른 스텝이 참조하지 않는 최소 id 스텝을 시작 스텝으로 계산한다")
+    void compile_infersStartStep() {
+        ScenarioStep s3 = step(3L, "{}", null, null);
+        ScenarioStep s1 = step(1L, "{}", null, null);
+        ScenarioStep s2 = step(2L, "{}", s1, null); // 2 -> 1 -> (끝), 3 은 단독
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s3, s1, s2));
+
+        CompiledScenario graph = cache.get(1L);
+
+        assertEquals(2L, graph.startStepId());
+        assertSame(s2, graph.startStep());
+        assertEquals(3, graph.size());
+        assertSame(s3, graph.step(3L).step());
+        assertNull(graph.step(99L));
+        assertNull(graph.step(null));
+    }
+
+    @Test
+    @DisplayName("선택지 next 로만 참조되는 스텝은 시작 스텝 후보가 아니다")
+    void compile_choiceEdgesExcludedFromStart() {
+        ScenarioStep s1 = step(1L, "{}", null, null);
+        ScenarioStep s2 = step(2L, "{\"choices\":[{\"good\":true,\"next\":1,\"text\":\"t\"}]}", null, null);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1, s2));
+
+        assertEquals(2L, cache.get(1L).startStepId());
+    }
+
+    @Test
+    @DisplayName("저장된 시작 스텝이 있으면 계산하지 않고 그대로 사용하고, 이 시나리오의 스텝이 아니면 계산한다")
+    void compile_prefersStoredStartStep() {
+        scenario.updateStartStep(3L);
+        ScenarioStep s1 = step(1L, "{}", null, null);
+        ScenarioStep s3 = step(3L, "{}", null, null);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1, s3));
+
+        assertEquals(3L, cache.get(1L).startStepId());
+
+        scenario.updateStartStep(99L);
+        cache.invalidate(1L);
+        assertEquals(1L, cache.get(1L).startStepId());
+    }
+
+    @Test
+    @DisplayName("모든 스텝이 참조되는 순환 구조면 최소 id 스텝을 시작으로 본다")
+    void compile_cycleFallsBackToMinId() {
+        ScenarioStep s5 = step(5L, "{}", null, null);
+        ScenarioStep s4 = step(4L, "{}", s5, null);
+        linkCycle(s5, s4);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s5, s4));
+
+        assertEquals(4L, cache.get(1L).startStepId());
+    }
+
+    @Test
+    @DisplayName("한 번 컴파일한 그래프는 재사용하고, 무효화하면 다시 로딩한다")
+    void get_reusesUntilInvalidated() {
+        ScenarioStep s1 = step(1L, "{}", null, null);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1));
+
+        CompiledScenario first = cache.get(1L);
+        assertSame(first, cache.get(1L));
+        verify(stepRepository, times(1)).findByScenarioIdWithNextStep(1L);
+
+        cache.invalidate(1L);
+        CompiledScenario second = cache.get(1L);
+
+        assertNotSame(first, second);
+        assertTrue(second.version() > first.version());
+        verify(stepRepository, times(2)).findByScenarioIdWithNextStep(1L);
+    }
+
+    @Test
+    @DisplayName("content / choices / quiz options 를 컴파일 시 한 번만 파싱해 둔다")
+    void compile_preParsesContent() {
+        Quiz quiz = Quiz.builder().id(100L).question("q").options("[\"a\",\"b\"]").answer(1).build();
+        ScenarioStep choice = step(1L,
+                "{\"meta\":{\"branch\":\"bad\",\"badEnding\":true},\"choices\":[{\"good\":true,\"next\":2,\"text\":\"t\"}]}",
+                null, null);
+        ScenarioStep withQuiz = step(2L, "{}", null, quiz);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(choice, withQuiz));
+
+        CompiledScenario graph = cache.get(1L);
+
+        CompiledStep compiledChoice = graph.step(1L);
+        assertTrue(compiledChoice.hasChoices());
+        assertTrue(compiledChoice.badBranch());
+        assertTrue(compiledChoice.badEnding());
+        assertEquals(1, compiledChoice.choices().size());
+        assertEquals(2L, compiledChoice.choices().get(0).next());
+
+        assertSame(compiledChoice, cache.findStep(choice));
+        QuizResDto dto = cache.findQuiz(100L);
+        assertNotNull(dto);
+        assertEquals(List.of("a", "b"), dto.options());
+    }
+
+    @Test
+    @DisplayName("응답용 content 를 미리 직렬화해 두고, 응답 시 그대로 출력한다")
+    void compile_preSerializesPayload() throws Exception {
+        ScenarioStep s1 = step(1L, "{ \"text\" : \"안녕\",  \"n\": [1, 2] }", null, null);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1));
+
+        CompiledStep compiled = cache.get(1L).step(1L);
+
+        assertEquals("{\"text\":\"안녕\",\"n\":[1,2]}", compiled.payload().json());
+        assertTrue(compiled.payloadFor(s1));
+        assertFalse(compiled.payloadFor(step(1L, "{\"text\":\"changed\"}", null, null)));
+
+        var dto = new ProgressResumeResDto(1L, 1L, StepType.DIALOG, null, compiled.payload());
+        String body = new ObjectMapper().writeValueAsString(dto);
+        assertTrue(body.endsWith("\"content\":{\"text\":\"안녕\",\"n\":[1,2]}}"));
+    }
+
+    @Test
+    @DisplayName("파싱 실패한 스텝은 null 로 두고 컴파일 자체는 성공한다")
+    void compile_keepsBrokenContentForRuntimeError() {
+        ScenarioStep broken = step(1L, "{not-json", null, null);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(broken));
+
+        CompiledStep compiled = cache.get(1L).step(1L);
+
+        assertNull(compiled.info());
+        assertNull(compiled.payload());
+        assertFalse(compiled.hasChoices());
+    }
+
+    @Test
+    @DisplayName("스텝이 없으면 INTERNAL_SERVER_ERROR 예외를 던지고 캐싱하지 않는다")
+    void compile_throwsWhenEmpty() {
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of());
+
+        CommonException ex = assertThrows(CommonException.class, () -> cache.get(1L));
+        assertEquals(ErrorCode.INTERNAL_SERVER_ERROR, ex.getErrorCode());
+        assertNull(cache.findStep(step(1L, "{}", null, null)));
+    }
+
+    private ScenarioStep step(Long id, String content, ScenarioStep next, Quiz quiz) {
+        return ScenarioStep.builder()
+                .id(id)
+                .scenario(scenario)
+                .type(StepType.DIALOG)
+                .content(content)
+                .nextStep(next)
+                .quiz(quiz)
+                .build();
+    }
+
+    private void linkCycle(ScenarioStep from, ScenarioStep to) {
+        try {
+            var f = ScenarioStep.class.getDeclaredField("nextStep");
+            f.setAccessible(true);
+            f.set(from, to);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
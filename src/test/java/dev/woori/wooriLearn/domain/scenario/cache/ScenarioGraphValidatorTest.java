@@ -0,0 +1,123 @@
+package dev.woori.wooriLearn.domain.scenario.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
+import dev.woori.wooriLearn.domain.scenario.model.StepType;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioStepRepository;
+import dev.woori.wooriLearn.domain.scenario.service.ScenarioStepContentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScenarioGraphValidatorTest {
+
+    private static final String BAD_ENDING = "{\"meta\":{\"branch\":\"bad\",\"badEnding\":true}}";
+
+    @Mock private ScenarioStepRepository stepRepository;
+
+    private ScenarioGraphCache cache;
+    private Scenario scenario;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ScenarioGraphCache(stepRepository, new ScenarioStepContentService(new ObjectMapper()));
+        scenario = Scenario.builder().id(1L).title("s").totalNormalSteps(3).build();
+    }
+
+    @Test
+    @DisplayName("선택지 분기와 배드 엔딩 복귀 지점이 있어도 시작 스텝은 하나로 계산된다")
+    void resolveStartStepId_choiceAndBadEndingAnchor() {
+        // 101 -> 102(CHOICE: good 103 / bad 201), 201 -> 202(badEnding, 복귀 -> 102)
+        ScenarioStep s103 = step(103L, "{}", null);
+        ScenarioStep s102 = step(102L, """
+                {"choices":[{"good":true,"next":103,"text":"a"},{"good":false,"next":201,"text":"b"}]}
+                """, null);
+        ScenarioStep s101 = step(101L, "{}", s102);
+        ScenarioStep s202 = step(202L, BAD_ENDING, s102);
+        ScenarioStep s201 = step(201L, "{\"meta\":{\"branch\":\"bad\"}}", s202);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s101, s102, s103, s201, s202));
+
+        CompiledScenario graph = cache.get(1L);
+
+        assertEquals(List.of(101L), ScenarioGraphValidator.roots(graph.steps()));
+        assertTrue(ScenarioGraphValidator.findCycle(graph).isEmpty());
+        assertEquals(101L, ScenarioGraphValidator.resolveStartStepId(graph));
+        assertEquals(101L, graph.startStepId());
+    }
+
+    @Test
+    @DisplayName("배드 엔딩이 시작 스텝으로 복귀해도 시작 스텝이 바뀌지 않는다")
+    void roots_ignoreBadEndingReturnEdge() {
+        ScenarioStep s1 = step(1L, "{}", null);
+        ScenarioStep s2 = step(2L, BAD_ENDING, s1);
+        setNext(s1, s2);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1, s2));
+
+        CompiledScenario graph = cache.get(1L);
+
+        assertEquals(1L, graph.startStepId());
+        assertEquals(1L, ScenarioGraphValidator.resolveStartStepId(graph));
+    }
+
+    @Test
+    @DisplayName("시작 후보가 여러 개면 CONFLICT 예외를 던진다")
+    void resolveStartStepId_multipleRoots() {
+        ScenarioStep s1 = step(1L, "{}", null);
+        ScenarioStep s2 = step(2L, "{}", null);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1, s2));
+
+        CommonException ex = assertThrows(CommonException.class,
+                () -> ScenarioGraphValidator.resolveStartStepId(cache.get(1L)));
+        assertEquals(ErrorCode.CONFLICT, ex.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("순환이 있으면 순환 경로를 찾고 CONFLICT 예외를 던진다")
+    void resolveStartStepId_cycle() {
+        // 3 -> 4 -> 5 -> 4
+        ScenarioStep s5 = step(5L, "{}", null);
+        ScenarioStep s4 = step(4L, "{}", s5);
+        ScenarioStep s3 = step(3L, "{}", s4);
+        setNext(s5, s4);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s3, s4, s5));
+
+        CompiledScenario graph = cache.get(1L);
+
+        assertEquals(List.of(4L, 5L, 4L), ScenarioGraphValidator.findCycle(graph));
+        CommonException ex = assertThrows(CommonException.class,
+                () -> ScenarioGraphValidator.resolveStartStepId(graph));
+        assertEquals(ErrorCode.CONFLICT, ex.getErrorCode());
+    }
+
+    private ScenarioStep step(Long id, String content, ScenarioStep next) {
+        return ScenarioStep.builder()
+                .id(id)
+                .scenario(scenario)
+                .type(StepType.DIALOG)
+                .content(content)
+                .nextStep(next)
+                .build();
+    }
+
+    private void setNext(ScenarioStep from, ScenarioStep to) {
+        try {
+            var f = ScenarioStep.class.getDeclaredField("nextStep");
+            f.setAccessible(true);
+            f.set(from, to);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package dev.woori.wooriLearn.domain.scenario.service;
+
+import dev.woori.wooriLearn.domain.auth.entity.AuthUsers;
+import dev.woori.wooriLearn.domain.auth.entity.Role;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioCountCache;
+import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioRepository;
+import dev.woori.wooriLearn.domain.user.entity.Users;
+import dev.woori.wooriLearn.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 시나리오 완료 보상 동시성 테스트
+ * - 같은 사용자/시나리오 조합을 여러 스레드가 동시에 완료 처리해도 보상은 정확히 1회만 지급되는지 검증
+ * - 여러 사용자가 동시에 전체 시나리오를 완료할 때 완주 보상도 사용자당 1회만 지급되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ScenarioCompletionRewardConcurrencyTest {
+
+    private static final int USERS = 4;
+    private static final int SCENARIOS = 3;
+    private static final int DUPLICATES_PER_PAIR = 8;
+
+    @Autowired ScenarioCompletionRewardService rewardService;
+    @Autowired UserRepository userRepository;
+    @Autowired ScenarioRepository scenarioRepository;
+    @Autowired ScenarioCountCache scenarioCountCache;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> createdScenarioIds = new ArrayList<>();
+    private final List<Long> scenarioIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < SCENARIOS; i++) {
+            createdScenarioIds.add(scenarioRepository.save(
+                    Scenario.builder().title("동시성" + i).totalNormalSteps(1).build()).getId());
+        }
+        for (int i = 0; i < USERS; i++) {
+            String loginId = "cc-" + UUID.randomUUID().toString().substring(0, 8);
+            Users user = userRepository.save(Users.builder()
+                    .authUser(AuthUsers.builder().userId(loginId).password("pw").role(Role.ROLE_USER).build())
+                    .userId(loginId)
+                    .nickname("nick" + i)
+                    .build());
+            userIds.add(user.getId());
+        }
+        // 다른 테스트가 남긴 시나리오가 있어도 전체 완주 조건이 맞도록 DB 기준으로 전체 목록을 사용
+        scenarioRepository.findAll().forEach(s -> scenarioIds.add(s.getId()));
+        scenarioCountCache.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long userId : userIds) {
+            Long authUserId = jdbcTemplate.queryForObject(
+                    "SELECT auth_user_id FROM users WHERE id = ?", Long.class, userId);
+            jdbcTemplate.update("DELETE FROM points_history WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM scenario_all_completed_reward WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM scenario_completed WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+            jdbcTemplate.update("DELETE FROM auth_users WHERE id = ?", authUserId);
+        }
+        createdScenarioIds.forEach(scenarioRepository::deleteById);
+        scenarioCountCache.invalidate();
+    }
+
+    @Test
+    @DisplayName("동시 완료 요청이 몰려도 개별 보상과 완주 보상은 사용자당 정확히 1회만 지급된다")
+    void concurrentCompletions_rewardExactlyOnce() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger firstCompletions = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (Long userId : userIds) {
+            for (Long scenarioId : scenarioIds) {
+                for (int i = 0; i < DUPLICATES_PER_PAIR; i++) {
+                    futures.add(pool.submit(() -> {
+                        startGate.await();
+                        if (rewardService.completeAndReward(userId, scenarioId)) {
+                            firstCompletions.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+            }
+        }
+        startGate.countDown();
+        for (Future<?> f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        int total = scenarioIds.size();
+        assertEquals(USERS * total, firstCompletions.get());
+
+        int expectedPoints = total * ScenarioCompletionRewardService.SCENARIO_COMPLETION_REWARD_POINTS
+                + ScenarioCompletionRewardService.ALL_SCENARIOS_COMPLETION_REWARD_POINTS;
+        for (Long userId : userIds) {
+            assertEquals(expectedPoints, jdbcTemplate.queryForObject(
+                    "SELECT points FROM users WHERE id = ?", Integer.class, userId));
+            assertEquals(total + 1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM points_history WHERE user_id = ?", Integer.class, userId));
+            assertEquals(total, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM scenario_completed WHERE user_id = ?", Integer.class, userId));
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM scenario_all_completed_reward WHERE user_id = ?", Integer.class, userId));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package dev.woori.wooriLearn.domain.scenario.service;
+
+import dev.woori.wooriLearn.domain.account.service.PointsDepositService;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioCountCache;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioAllCompletedRewardRepository;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioCompletedRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScenarioCompletionRewardServiceTest {
+
+    @Mock private ScenarioCompletedRepository completedRepository;
+    @Mock private ScenarioAllCompletedRewardRepository allCompletedRewardRepository;
+    @Mock private PointsDepositService pointsDepositService;
+    @Mock private ScenarioCountCache scenarioCountCache;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private ScenarioCompletionRewardService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ScenarioCompletionRewardService(
+                completedRepository,
+                allCompletedRewardRepository,
+                pointsDepositService,
+                scenarioCountCache,
+                transactionManager
+        );
+    }
+
+    @Test
+    @DisplayName("이미 완료 이력이 있으면 보상을 지급하지 않는다")
+    void completeAndReward_duplicateSkipsReward() {
+        when(completedRepository.insertIgnore(7L, 1L)).thenReturn(0);
+
+        assertFalse(service.completeAndReward(7L, 1L));
+
+        verifyNoInteractions(pointsDepositService, scenarioCountCache, allCompletedRewardRepository);
+    }
+
+    @Test
+    @DisplayName("최초 완료면 개별 보상만 지급하고, 전체 미완주면 완주 보상은 지급하지 않는다")
+    void completeAndReward_firstCompletionRewardsOnce() {
+        when(completedRepository.insertIgnore(7L, 1L)).thenReturn(1);
+        when(scenarioCountCache.get()).thenReturn(3L);
+        when(completedRepository.countByUserId(7L)).thenReturn(1L);
+
+        assertTrue(service.completeAndReward(7L, 1L));
+
+        verify(pointsDepositService).creditPoints(7L, ScenarioCompletionRewardService.SCENARIO_COMPLETION_REWARD_POINTS);
+        verify(allCompletedRewardRepository, never()).insertIgnore(anyLong(), anyLong());
+        verifyNoMoreInteractions(pointsDepositService);
+    }
+
+    @Test
+    @DisplayName("마지막 시나리오를 완료하면 완주 보상을 함께 지급한다")
+    void completeAndReward_lastScenarioGrantsBonus() {
+        when(completedRepository.insertIgnore(7L, 3L)).thenReturn(1);
+        when(scenarioCountCache.get()).thenReturn(3L);
+        when(completedRepository.countByUserId(7L)).thenReturn(3L);
+        when(allCompletedRewardRepository.insertIgnore(7L, 3L)).thenReturn(1);
+
+        assertTrue(service.completeAndReward(7L, 3L));
+
+        verify(pointsDepositService).creditPoints(7L, ScenarioCompletionRewardService.SCENARIO_COMPLETION_REWARD_POINTS);
+        verify(pointsDepositService).creditPoints(7L, ScenarioCompletionRewardService.ALL_SCENARIOS_COMPLETION_REWARD_POINTS);
+    }
+
+    @Test
+    @DisplayName("완주 보상 이력이 이미 있으면 다시 지급하지 않는다")
+    void grantAllCompletedBonus_skipsWhenAlreadyRewarded() {
+        when(scenarioCountCache.get()).thenReturn(3L);
+        when(completedRepository.countByUserId(7L)).thenReturn(3L);
+        when(allCompletedRewardRepository.insertIgnore(7L, 3L)).thenReturn(0);
+
+        assertFalse(service.grantAllCompletedBonusIfEligible(7L));
+
+        verify(pointsDepositService, never()).creditPoints(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("등록된 시나리오가 없으면 완주 보상 판단을 하지 않는다")
+    void grantAllCompletedBonus_noScenarios() {
+        when(scenarioCountCache.get()).thenReturn(0L);
+
+        assertFalse(service.grantAllCompletedBonusIfEligible(7L));
+
+        verifyNoInteractions(completedRepository, allCompletedRewardRepository, pointsDepositService);
+    }
+}
@@ -1,9 +1,11 @@
 package dev.woori.wooriLearn.domain.scenario.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.woori.wooriLearn.config.exception.CommonException;
 import dev.woori.wooriLearn.config.exception.ErrorCode;
-import dev.woori.wooriLearn.domain.scenario.dto.ScenarioDocDto;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioDocSnapshot;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioGraphCache;
 import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
 import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
 import dev.woori.wooriLearn.domain.scenario.model.StepType;
@@ -17,8 +19,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +36,7 @@ class ScenarioDocServiceTest {
     @Mock
     private ScenarioStepRepository stepRepository;
     private ObjectMapper objectMapper;
+    private ScenarioGraphCache graphCache;
 
     @InjectMocks
     private ScenarioDocService service;
@@ -38,7 +44,8 @@ class ScenarioDocServiceTest {
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        service = new ScenarioDocService(scenarioRepository, stepRepository, objectMapper);
+        graphCache = new ScenarioGraphCache(stepRepository, new ScenarioStepContentService(objectMapper));
+        service = new ScenarioDocService(scenarioRepository, objectMapper, graphCache);
     }
 
     @Test
@@ -97,21 +104,155 @@ class ScenarioDocServiceTest {
 
         when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
         when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1, s2));
-        // 시작 스텝 계산 메서드가 s1을 반환하도록
-        when(stepRepository.findStartStepOrFail(1L)).thenReturn(s1);
 
         // when
-        ScenarioDocDto dto = service.getScenarioDoc(1L);
+        JsonNode root = readBody(service.getScenarioDoc(1L).body());
+        JsonNode dto = root.get("data");
+
+        // then: 응답 래퍼(BaseResponse) 형태 유지
+        assertEquals(200, root.get("code").asInt());
 
         // then: 시나리오/제목/시작스텝/스텝 수 검증
-        assertEquals(1L, dto.scenarioId());
-        assertEquals("title", dto.title());
-        assertEquals(101L, dto.startStepId());
-        assertEquals(2, dto.steps().size());
-
-        // then: 첫 스텝의 next 및 content(JSON 파싱 결과) 검증
-        assertEquals(102L, dto.steps().get(0).next());
-        assertEquals("hello", dto.steps().get(0).content().get("text").asText());
+        assertEquals(1L, dto.get("scenarioId").asLong());
+        assertEquals("title", dto.get("title").asText());
+        assertEquals(101L, dto.get("startStepId").asLong());
+        assertEquals(2, dto.get("steps").size());
+
+        // then: 첫 스텝의 next 및 content(JSON) 검증
+        JsonNode first = dto.get("steps").get(0);
+        assertEquals(102L, first.get("next").asLong());
+        assertEquals("DIALOG", first.get("type").asText());
+        assertTrue(first.get("quizId").isNull());
+        assertEquals("hello", first.get("content").get("text").asText());
+        assertTrue(dto.get("steps").get(1).get("next").isNull());
+    }
+
+    @Test
+    @DisplayName("저장된 시작 스텝이 있으면 진행 API 와 같은 그래프 시작 스텝을 사용한다")
+    void getScenarioDoc_usesMaterializedStartStep() {
+        Scenario scenario = Scenario.builder()
+                .id(1L)
+                .title("title")
+                .startStepId(102L)
+                .build();
+        ScenarioStep s1 = ScenarioStep.builder()
+                .id(101L)
+                .scenario(scenario)
+                .type(StepType.DIALOG)
+                .content("{}")
+                .build();
+        ScenarioStep s2 = ScenarioStep.builder()
+                .id(102L)
+                .scenario(scenario)
+                .type(StepType.DIALOG)
+                .content("{}")
+                .build();
+
+        when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1, s2));
+
+        JsonNode dto = readBody(service.getScenarioDoc(1L).body()).get("data");
+
+        assertEquals(102L, dto.get("startStepId").asLong());
+        assertEquals(102L, graphCache.get(1L).startStepId());
+    }
+
+    @Test
+    @DisplayName("같은 그래프 버전이면 DB 조회 없이 렌더링된 문서를 재사용하고, 무효화 후에는 다시 렌더링한다")
+    void getScenarioDoc_reusesSnapshotPerGraphVersion() {
+        Scenario scenario = Scenario.builder().id(1L).title("title").startStepId(101L).build();
+        ScenarioStep s1 = ScenarioStep.builder()
+                .id(101L)
+                .scenario(scenario)
+                .type(StepType.DIALOG)
+                .content("{\"text\":\"hello\"}")
+                .build();
+
+        when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1));
+
+        ScenarioDocSnapshot first = service.getScenarioDoc(1L);
+        ScenarioDocSnapshot second = service.getScenarioDoc(1L);
+
+        assertSame(first, second);
+        verify(scenarioRepository, times(1)).findById(1L);
+        verify(stepRepository, times(1)).findByScenarioIdWithNextStep(1L);
+
+        graphCache.invalidate(1L);
+        ScenarioDocSnapshot third = service.getScenarioDoc(1L);
+
+        assertNotSame(first, third);
+        assertTrue(third.graphVersion() > first.graphVersion());
+        // 내용이 같으면 ETag 도 같음 (content hash)
+        assertEquals(first.eTag(), third.eTag());
+        verify(scenarioRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("시작 스텝을 다시 저장하면 그래프와 함께 문서도 새 시작 스텝 / 제목으로 다시 렌더링된다")
+    void getScenarioDoc_rerendersAfterStartStepRefresh() {
+        Scenario scenario = Scenario.builder().id(1L).title("title").totalNormalSteps(1).build();
+        ScenarioStep s1 = ScenarioStep.builder()
+                .id(101L)
+                .scenario(scenario)
+                .type(StepType.DIALOG)
+                .content("{}")
+                .build();
+        ScenarioStep s2 = ScenarioStep.builder()
+                .id(102L)
+                .scenario(scenario)
+                .type(StepType.DIALOG)
+                .content("{}")
+                .build();
+
+        when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1, s2));
+
+        ScenarioDocSnapshot first = service.getScenarioDoc(1L);
+        assertEquals(101L, readBody(first.body()).get("data").get("startStepId").asLong());
+
+        Scenario renamed = Scenario.builder().id(1L).title("renamed").startStepId(102L).build();
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(
+                ScenarioStep.builder().id(101L).scenario(renamed).type(StepType.DIALOG).content("{}").build(),
+                ScenarioStep.builder().id(102L).scenario(renamed).type(StepType.DIALOG).content("{}").build()));
+        graphCache.invalidate(1L);
+
+        ScenarioDocSnapshot second = service.getScenarioDoc(1L);
+        JsonNode dto = readBody(second.body()).get("data");
+
+        assertEquals(102L, dto.get("startStepId").asLong());
+        assertEquals("renamed", dto.get("title").asText());
+        assertNotEquals(first.eTag(), second.eTag());
+    }
+
+    @Test
+    @DisplayName("gzip 본문은 원본과 같고, ETag 는 If-None-Match 의 weak/목록/* 형식과 비교된다")
+    void getScenarioDoc_gzipAndETag() throws IOException {
+        Scenario scenario = Scenario.builder().id(1L).title("title").startStepId(101L).build();
+        ScenarioStep s1 = ScenarioStep.builder()
+                .id(101L)
+                .scenario(scenario)
+                .type(StepType.DIALOG)
+                .content("{\"text\":\"hello\"}")
+                .build();
+
+        when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1));
+
+        ScenarioDocSnapshot doc = service.getScenarioDoc(1L);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(doc.gzipBody()))) {
+            assertArrayEquals(doc.body(), in.readAllBytes());
+        }
+
+        String opaque = doc.eTag().substring(2); // W/ 제거
+        assertTrue(doc.eTag().startsWith("W/\""));
+        assertTrue(doc.matches(doc.eTag()));
+        assertTrue(doc.matches(opaque));
+        assertTrue(doc.matches("\"other\", " + doc.eTag()));
+        assertTrue(doc.matches("*"));
+        assertFalse(doc.matches("W/\"other\""));
+        assertFalse(doc.matches(null));
     }
 
     @Test
@@ -133,7 +274,6 @@ class ScenarioDocServiceTest {
 
         when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
         when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1));
-        when(stepRepository.findStartStepOrFail(1L)).thenReturn(s1);
 
         // when
         CommonException ex = assertThrows(CommonException.class, () -> service.getScenarioDoc(1L));
@@ -141,5 +281,12 @@ class ScenarioDocServiceTest {
         // then
         assertEquals(ErrorCode.INTERNAL_SERVER_ERROR, ex.getErrorCode());
     }
-}
 
+    private JsonNode readBody(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new AssertionError("문서 본문이 올바른 JSON 이 아닙니다.", e);
+        }
+    }
+}
@@ -2,10 +2,11 @@ package dev.woori.wooriLearn.domain.scenario.service;
 
 import dev.woori.wooriLearn.config.exception.CommonException;
 import dev.woori.wooriLearn.config.exception.ErrorCode;
-import dev.woori.wooriLearn.domain.account.dto.request.PointsDepositRequestDto;
-import dev.woori.wooriLearn.domain.account.service.PointsDepositService;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioGraphCache;
 import dev.woori.wooriLearn.domain.scenario.content.StepMeta;
+import dev.woori.wooriLearn.domain.scenario.dto.AdvanceResDto;
 import dev.woori.wooriLearn.domain.scenario.entity.*;
+import dev.woori.wooriLearn.domain.scenario.model.AdvanceStatus;
 import dev.woori.wooriLearn.domain.scenario.repository.ScenarioCompletedRepository;
 import dev.woori.wooriLearn.domain.scenario.repository.ScenarioProgressRepository;
 import dev.woori.wooriLearn.domain.scenario.repository.ScenarioRepository;
@@ -13,12 +14,9 @@ import dev.woori.wooriLearn.domain.scenario.repository.ScenarioStepRepository;
 import dev.woori.wooriLearn.domain.scenario.service.processor.ContentInfo;
 import dev.woori.wooriLearn.domain.scenario.service.processor.StepProcessorResolver;
 import dev.woori.wooriLearn.domain.user.entity.Users;
-import dev.woori.wooriLearn.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -32,17 +30,16 @@ import static org.mockito.Mockito.*;
 
 class ScenarioProgressServiceHelpersTest {
 
-    @InjectMocks
     private ScenarioProgressService service;
 
-    @Mock private UserRepository userRepository;
     @Mock private ScenarioRepository scenarioRepository;
     @Mock private ScenarioStepRepository stepRepository;
     @Mock private ScenarioProgressRepository progressRepository;
     @Mock private ScenarioCompletedRepository completedRepository;
-    @Mock private PointsDepositService pointsDepositService;
     @Mock private StepProcessorResolver stepProcessorResolver;
     @Mock private ScenarioStepContentService contentService;
+    @Mock private ScenarioProgressWriteBuffer writeBuffer;
+    @Mock private ScenarioCompletionRewardService completionRewardService;
 
     private Scenario scenario;
     private ScenarioStep step;
@@ -52,6 +49,16 @@ class ScenarioProgressServiceHelpersTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        service = new ScenarioProgressService(
+                scenarioRepository,
+                progressRepository,
+                completedRepository,
+                completionRewardService,
+                stepProcessorResolver,
+                contentService,
+                new ScenarioGraphCache(stepRepository, contentService),
+                writeBuffer
+        );
         scenario = Scenario.builder().id(1L).title("s").totalNormalSteps(4).build();
         step = ScenarioStep.builder()
                 .id(10L)
@@ -145,6 +152,34 @@ class ScenarioProgressServiceHelpersTest {
         verify(progressRepository).save(progress);
     }
 
+    @Test
+    @DisplayName("write-behind 활성화 시 진행률 동결 이동은 즉시 저장하지 않고 버퍼에 기록한다")
+    void updateProgressAndSave_writeBehindDefersFrozenMove() {
+        when(writeBuffer.isEnabled()).thenReturn(true);
+        ScenarioStep bad = ScenarioStep.builder().id(30L).scenario(scenario).type(step.getType()).content("{}").build();
+
+        double rate = service.updateProgressAndSave(progress, bad, scenario, true);
+
+        assertEquals(25.0, rate);
+        assertSame(step, progress.getStep()); // 관리 엔티티는 건드리지 않음
+        verify(writeBuffer).record(user.getId(), scenario.getId(), progress.getId(), 30L);
+        verify(progressRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("write-behind 활성화 시에도 진행률 증가는 즉시 저장하고 대기 중인 이동은 버린다")
+    void updateProgressAndSave_writeBehindSavesRateIncreaseSynchronously() {
+        when(writeBuffer.isEnabled()).thenReturn(true);
+        ScenarioStep s = ScenarioStep.builder().id(11L).scenario(scenario).type(step.getType()).content("{}").normalIndex(3).build();
+
+        double rate = service.updateProgressAndSave(progress, s, scenario, false);
+
+        assertEquals(75.0, rate);
+        verify(writeBuffer, never()).record(any(), any(), any(), any());
+        verify(writeBuffer).discard(user.getId(), scenario.getId());
+        verify(progressRepository).save(progress);
+    }
+
     @Test
     @DisplayName("완료 이력을 처음 저장하면 true를 반환한다")
     void ensureCompletedOnce_returnsTrueOnFirstInsert() {
@@ -159,15 +194,6 @@ class ScenarioProgressServiceHelpersTest {
         assertFalse(service.ensureCompletedOnce(user, scenario));
     }
 
-    @Test
-    @DisplayName("insertIgnore 결과에 따라 중복 여부를 판단한다")
-    void ensureCompletedOnceInsertIgnore_usesRepositoryInsertIgnore() {
-        when(completedRepository.insertIgnore(7L, 1L)).thenReturn(1);
-        assertTrue(service.ensureCompletedOnceInsertIgnore(user, scenario));
-        when(completedRepository.insertIgnore(7L, 1L)).thenReturn(0);
-        assertFalse(service.ensureCompletedOnceInsertIgnore(user, scenario));
-    }
-
     @Test
     @DisplayName("퀴즈와 선택지가 동시에 있으면 CONFLICT 예외를 던진다")
     void loadStepRuntime_conflictWhenQuizAndChoices() {
@@ -186,7 +212,6 @@ class ScenarioProgressServiceHelpersTest {
                 .build();
         when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
         when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(start, withQuizAndChoice));
-        when(stepRepository.findStartStepOrFail(1L)).thenReturn(start);
         when(progressRepository.findByUserAndScenario(user, scenario)).thenReturn(Optional.of(progress));
         when(contentService.parseContentInfo(withQuizAndChoice))
                 .thenReturn(new ContentInfo(Optional.of(new StepMeta(null, null)), true));
@@ -197,8 +222,8 @@ class ScenarioProgressServiceHelpersTest {
     }
 
     @Test
-    @DisplayName("시나리오 완료 시 보상을 1회만 지급하고 진행률을 리셋한다")
-    void handleScenarioCompletion_rewardsOnceAndResetsProgress() {
+    @DisplayName("시나리오 완료 시 보상 처리를 위임하고 시작 스텝으로 리셋한다")
+    void handleScenarioCompletion_delegatesRewardAndResetsProgress() {
         ScenarioStep start = ScenarioStep.builder()
                 .id(9L)
                 .scenario(scenario)
@@ -226,16 +251,14 @@ class ScenarioProgressServiceHelpersTest {
                 start.getId(),
                 false
         );
-        when(userRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.of(user));
-        when(completedRepository.insertIgnore(user.getId(), scenario.getId())).thenReturn(1);
-        when(scenarioRepository.count()).thenReturn(1L);
-        when(completedRepository.countByUser(user)).thenReturn(1L);
+        when(progressRepository.save(any())).thenReturn(prg);
 
-        service.handleScenarioCompletion(ctx);
+        AdvanceResDto res = service.handleScenarioCompletion(ctx);
 
-        ArgumentCaptor<PointsDepositRequestDto> captor = ArgumentCaptor.forClass(PointsDepositRequestDto.class);
-        verify(pointsDepositService, times(2)).depositPoints(eq("u"), captor.capture());
-        // 첫 번째 1000, 두 번째 10000
-        assertEquals(10000, captor.getAllValues().get(1).amount());
+        assertEquals(AdvanceStatus.COMPLETED, res.status());
+        verify(completionRewardService).completeAndReward(user.getId(), scenario.getId());
+        assertSame(start, prg.getStep());
+        assertEquals(100.0, prg.getProgressRate());
+        verify(progressRepository).save(prg);
     }
 }
@@ -2,8 +2,10 @@ package dev.woori.wooriLearn.domain.scenario.service;
 
 import dev.woori.wooriLearn.config.exception.CommonException;
 import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.scenario.dto.AdvanceReqDto;
 import dev.woori.wooriLearn.domain.scenario.dto.AdvanceResDto;
-import dev.woori.wooriLearn.domain.account.service.PointsDepositService;
+import dev.woori.wooriLearn.domain.scenario.dto.BatchAdvanceResDto;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioGraphCache;
 import dev.woori.wooriLearn.domain.scenario.dto.ProgressResumeResDto;
 import dev.woori.wooriLearn.domain.scenario.dto.ProgressSaveResDto;
 import dev.woori.wooriLearn.domain.scenario.entity.Quiz;
@@ -18,7 +20,6 @@ import dev.woori.wooriLearn.domain.scenario.repository.ScenarioRepository;
 import dev.woori.wooriLearn.domain.scenario.repository.ScenarioStepRepository;
 import dev.woori.wooriLearn.domain.scenario.service.processor.*;
 import dev.woori.wooriLearn.domain.user.entity.Users;
-import dev.woori.wooriLearn.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,8 +42,8 @@ class ScenarioProgressServiceTest {
     @Mock private ScenarioStepRepository stepRepository;
     @Mock private ScenarioProgressRepository progressRepository;
     @Mock private ScenarioCompletedRepository completedRepository;
-    @Mock private UserRepository userRepository;
-    @Mock private PointsDepositService pointsDepositService;
+    @Mock private ScenarioProgressWriteBuffer writeBuffer;
+    @Mock private ScenarioCompletionRewardService completionRewardService;
 
     private ScenarioProgressService service;
 
@@ -66,14 +67,14 @@ class ScenarioProgressServiceTest {
         );
 
         service = new ScenarioProgressService(
-                userRepository,
                 scenarioRepository,
-                stepRepository,
                 progressRepository,
                 completedRepository,
-                pointsDepositService,
+                completionRewardService,
                 stepProcessorResolver,
-                contentService
+                contentService,
+                new ScenarioGraphCache(stepRepository, contentService),
+                writeBuffer
         );
         user = Users.builder().id(10L).userId("user").build();
         scenario = Scenario.builder()
@@ -84,7 +85,7 @@ class ScenarioProgressServiceTest {
     }
 
     @Test
-    @DisplayName("resume: 진행기록 없으면 inferStartStepId로 계산한 시작 스텝 반환")
+    @DisplayName("resume: 진행기록 없으면 컴파일된 그래프의 시작 스텝 반환")
     void resume_noProgress_infersStart() {
         // main chain: 101(start) -> 102
         ScenarioStep s102 = step(102L, StepType.DIALOG, "{\"b\":2}");
@@ -95,13 +96,14 @@ class ScenarioProgressServiceTest {
 
         when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
         when(progressRepository.findByUserAndScenario(user, scenario)).thenReturn(Optional.empty());
-        when(stepRepository.findStartStepOrFail(1L)).thenReturn(s101);
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s101, s102));
 
         ProgressResumeResDto res = service.resume(user, 1L);
 
         assertEquals(101L, res.nowStepId());
         assertEquals(StepType.DIALOG, res.type());
         assertNotNull(res.content());
+        assertEquals("{\"a\":1}", res.content().json());
     }
 
     @Test
@@ -114,7 +116,6 @@ class ScenarioProgressServiceTest {
 
         when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
         when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s101, s102));
-        when(stepRepository.findStartStepOrFail(1L)).thenReturn(s101);
         when(progressRepository.findByUserAndScenario(user, scenario)).thenReturn(Optional.empty());
 
         AdvanceResDto res = service.advance(user, 1L, 101L, null);
@@ -137,7 +138,6 @@ class ScenarioProgressServiceTest {
         when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
         // byId 로딩 필요
         when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s101));
-        when(stepRepository.findStartStepOrFail(1L)).thenReturn(s101);
         when(progressRepository.findByUserAndScenario(user, scenario)).thenReturn(Optional.empty());
 
         AdvanceResDto res = service.advance(user, 1L, 101L, null);
@@ -159,7 +159,6 @@ class ScenarioProgressServiceTest {
 
         when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
         when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s101));
-        when(stepRepository.findStartStepOrFail(1L)).thenReturn(s101);
 
         AdvanceResDto res = service.advance(user, 1L, 101L, 0);
 
@@ -177,17 +176,14 @@ class ScenarioProgressServiceTest {
 
         when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
         when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(lastAndStart));
-        when(stepRepository.findStartStepOrFail(1L)).thenReturn(lastAndStart);
         when(progressRepository.findByUserAndScenario(user, scenario)).thenReturn(Optional.empty());
-        when(userRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(user));
-        when(completedRepository.insertIgnore(10L, 1L)).thenReturn(1);
 
         AdvanceResDto res = service.advance(user, 1L, 199L, null);
 
         assertEquals(AdvanceStatus.COMPLETED, res.status());
         // 저장은 됨, 삭제는 안 됨
         verify(progressRepository, atLeastOnce()).save(any(ScenarioProgress.class));
-        verify(completedRepository).insertIgnore(10L, 1L);
+        verify(completionRewardService).completeAndReward(10L, 1L);
     }
 
     // ---- 진행률/분기 추가 테스트 ----
@@ -298,7 +294,6 @@ class ScenarioProgressServiceTest {
 
         when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
         when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s101, s104, s201));
-        when(stepRepository.findStartStepOrFail(1L)).thenReturn(s101);
 
         // 기존 진행률 50%
         when(progressRepository.findByUserAndScenario(user, scenario))
@@ -333,7 +328,6 @@ class ScenarioProgressServiceTest {
 
         when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
         when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s101, s102, s104, s105));
-        when(stepRepository.findStartStepOrFail(1L)).thenReturn(s101);
 
         // 직전 진행률 50%
         when(progressRepository.findByUserAndScenario(user, scenario))
@@ -350,6 +344,73 @@ class ScenarioProgressServiceTest {
         assertEquals(100.0, cap.getValue().getProgressRate(), 0.0001);
     }
 
+    @Test
+    @DisplayName("advanceBatch: 연속 이동을 한 번의 로딩으로 처리하고 퀴즈 게이트에서 멈춤")
+    void advanceBatch_stopsAtQuizGate() {
+        // main chain: 101 -> 102 -> 103(quiz) -> 104
+        Quiz quiz = Quiz.builder()
+                .id(779L).question("Q?").options("[\"A\",\"B\"]").answer(1)
+                .build();
+        ScenarioStep s104 = step(104L, StepType.DIALOG, "{\"d\":4}");
+        ScenarioStep s103 = step(103L, StepType.DIALOG, "{\"c\":3}");
+        ScenarioStep s102 = step(102L, StepType.DIALOG, "{\"b\":2}");
+        ScenarioStep s101 = step(101L, StepType.DIALOG, "{\"a\":1}");
+        linkNext(s101, s102);
+        linkNext(s102, s103);
+        linkNext(s103, s104);
+        setQuiz(s103, quiz);
+
+        when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s101, s102, s103, s104));
+        when(progressRepository.findByUserAndScenario(user, scenario)).thenReturn(Optional.empty());
+
+        BatchAdvanceResDto res = service.advanceBatch(user, 1L, List.of(
+                new AdvanceReqDto(101L, null),
+                new AdvanceReqDto(102L, null),
+                new AdvanceReqDto(103L, null),
+                new AdvanceReqDto(104L, null)
+        ));
+
+        assertEquals(3, res.results().size());
+        assertEquals(AdvanceStatus.ADVANCED, res.results().get(0).status());
+        assertEquals(102L, res.results().get(0).nextStepId());
+        assertEquals(AdvanceStatus.ADVANCED, res.results().get(1).status());
+        assertEquals(AdvanceStatus.QUIZ_REQUIRED, res.results().get(2).status());
+        assertEquals(AdvanceStatus.QUIZ_REQUIRED, res.last().status());
+        assertEquals(779L, res.last().quiz().id());
+        // 시나리오/그래프/진행 엔티티는 한 번만 로딩
+        verify(scenarioRepository, times(1)).findById(1L);
+        verify(stepRepository, times(1)).findByScenarioIdWithNextStep(1L);
+        verify(progressRepository, times(1)).findByUserAndScenario(user, scenario);
+    }
+
+    @Test
+    @DisplayName("advanceBatch: 직전 결과와 이어지지 않는 이동이 있으면 INVALID_REQUEST")
+    void advanceBatch_discontinuousMove() {
+        ScenarioStep s102 = step(102L, StepType.DIALOG, "{\"b\":2}");
+        ScenarioStep s101 = step(101L, StepType.DIALOG, "{\"a\":1}");
+        linkNext(s101, s102);
+
+        when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s101, s102));
+        when(progressRepository.findByUserAndScenario(user, scenario)).thenReturn(Optional.empty());
+
+        CommonException ex = assertThrows(CommonException.class, () -> service.advanceBatch(user, 1L, List.of(
+                new AdvanceReqDto(101L, null),
+                new AdvanceReqDto(101L, null)
+        )));
+        assertEquals(ErrorCode.INVALID_REQUEST, ex.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("advanceBatch: 빈 이동 목록은 INVALID_REQUEST")
+    void advanceBatch_emptyMoves() {
+        CommonException ex = assertThrows(CommonException.class,
+                () -> service.advanceBatch(user, 1L, List.of()));
+        assertEquals(ErrorCode.INVALID_REQUEST, ex.getErrorCode());
+        verifyNoInteractions(scenarioRepository, progressRepository);
+    }
+
     @Test
     @DisplayName("resume: 시나리오 없음 → ENTITY_NOT_FOUND")
     void resume_notFoundScenario() {
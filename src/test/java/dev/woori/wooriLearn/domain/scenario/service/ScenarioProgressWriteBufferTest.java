@@ -0,0 +1,200 @@
+package dev.woori.wooriLearn.domain.scenario.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScenarioProgressWriteBufferTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    private ScenarioProgressWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ScenarioProgressWriteBuffer(jdbcTemplate);
+        ReflectionTestUtils.setField(buffer, "enabled", true);
+        ReflectionTestUtils.setField(buffer, "flushIntervalMs", 60_000L);
+        ReflectionTestUtils.setField(buffer, "batchSize", 100);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태면 start 해도 버퍼를 사용하지 않는다")
+    void disabled_notRunning() {
+        ReflectionTestUtils.setField(buffer, "enabled", false);
+        buffer.start();
+        assertFalse(buffer.isEnabled());
+        assertFalse(buffer.isRunning());
+    }
+
+    @Test
+    @DisplayName("같은 사용자/시나리오의 연속 이동은 마지막 위치만 한 번 반영한다")
+    @SuppressWarnings("unchecked")
+    void record_coalescesAndFlushesInBatch() {
+        buffer.start();
+        buffer.record(1L, 10L, 100L, 1001L);
+        buffer.record(1L, 10L, 100L, 1002L);
+        buffer.record(2L, 10L, 200L, 2001L);
+
+        assertEquals(Optional.of(1002L), buffer.pendingStepId(1L, 10L));
+        assertEquals(2, buffer.pendingCount());
+
+        int flushed = buffer.flush();
+
+        assertEquals(2, flushed);
+        assertEquals(0, buffer.pendingCount());
+        ArgumentCaptor<Collection<Map.Entry<?, ?>>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), eq(100), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(2, rows.getValue().size());
+        buffer.stop();
+    }
+
+    @Test
+    @DisplayName("즉시 저장으로 버려진 이동은 반영하지 않는다")
+    void discard_removesPendingMove() {
+        buffer.start();
+        buffer.record(1L, 10L, 100L, 1001L);
+        buffer.discard(1L, 10L);
+
+        assertEquals(0, buffer.flush());
+        verifyNoInteractions(jdbcTemplate);
+        buffer.stop();
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 이동을 다시 버퍼에 넣는다")
+    @SuppressWarnings("unchecked")
+    void flush_requeuesOnFailure() {
+        buffer.start();
+        buffer.record(1L, 10L, 100L, 1001L);
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(new int[][]{{1}});
+
+        assertEquals(0, buffer.flush());
+        assertEquals(Optional.of(1001L), buffer.pendingStepId(1L, 10L));
+
+        assertEquals(1, buffer.flush());
+        buffer.stop();
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 이동을 모두 반영한다")
+    @SuppressWarnings("unchecked")
+    void stop_drainsPendingMoves() {
+        buffer.start();
+        buffer.record(1L, 10L, 100L, 1001L);
+        buffer.record(2L, 10L, 200L, 2001L);
+
+        buffer.stop();
+
+        assertEquals(0, buffer.pendingCount());
+        assertFalse(buffer.isEnabled());
+        verify(jdbcTemplate).batchUpdate(anyString(), anyCollection(), eq(100), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("종료 이후 들어온 기록은 즉시 반영한다")
+    void record_afterStopFlushesImmediately() {
+        buffer.start();
+        buffer.stop();
+
+        buffer.record(1L, 10L, 100L, 1001L);
+
+        assertEquals(0, buffer.pendingCount());
+        verify(jdbcTemplate).batchUpdate(anyString(), anyCollection(), eq(100), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 기록한 이동은 커밋된 뒤에 버퍼에 들어간다")
+    void record_inTransaction_enqueuedAfterCommit() {
+        buffer.start();
+
+        new TransactionTemplate(new NoOpTransactionManager()).executeWithoutResult(status -> {
+            buffer.record(1L, 10L, 100L, 1001L);
+            // 같은 트랜잭션의 resume 은 자기 이동을 봄
+            assertEquals(Optional.of(1001L), buffer.pendingStepId(1L, 10L));
+            assertEquals(0, buffer.pendingCount());
+        });
+
+        assertEquals(1, buffer.pendingCount());
+        assertEquals(Optional.of(1001L), buffer.pendingStepId(1L, 10L));
+        buffer.stop();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 그 안에서 기록한 이동은 반영하지 않는다")
+    void record_inTransaction_discardedOnRollback() {
+        buffer.start();
+
+        assertThrows(IllegalStateException.class, () ->
+                new TransactionTemplate(new NoOpTransactionManager()).executeWithoutResult(status -> {
+                    buffer.record(1L, 10L, 100L, 1001L);
+                    // 일괄 진행의 다음 이동이 실패해 전체 롤백
+                    throw new IllegalStateException("전체 롤백");
+                }));
+
+        assertEquals(0, buffer.pendingCount());
+        assertEquals(Optional.empty(), buffer.pendingStepId(1L, 10L));
+        assertEquals(0, buffer.flush());
+        buffer.stop();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션에서 즉시 저장이 일어나면 앞서 기록한 이동은 커밋 후에도 반영하지 않는다")
+    void discard_inTransaction_dropsUncommittedMove() {
+        buffer.start();
+
+        new TransactionTemplate(new NoOpTransactionManager()).executeWithoutResult(status -> {
+            buffer.record(1L, 10L, 100L, 1001L);
+            buffer.discard(1L, 10L);
+        });
+
+        assertEquals(0, buffer.pendingCount());
+        buffer.stop();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    /** 트랜잭션 동기화만 동작하는 테스트용 트랜잭션 매니저 */
+    static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
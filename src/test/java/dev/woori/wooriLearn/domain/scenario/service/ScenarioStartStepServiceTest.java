@@ -0,0 +1,84 @@
+package dev.woori.wooriLearn.domain.scenario.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.scenario.cache.ScenarioGraphCache;
+import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
+import dev.woori.wooriLearn.domain.scenario.model.StepType;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioRepository;
+import dev.woori.wooriLearn.domain.scenario.repository.ScenarioStepRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScenarioStartStepServiceTest {
+
+    @Mock private ScenarioRepository scenarioRepository;
+    @Mock private ScenarioStepRepository stepRepository;
+
+    private ScenarioStartStepService service;
+    private Scenario scenario;
+
+    @BeforeEach
+    void setUp() {
+        ScenarioGraphCache graphCache =
+                new ScenarioGraphCache(stepRepository, new ScenarioStepContentService(new ObjectMapper()));
+        service = new ScenarioStartStepService(scenarioRepository, graphCache);
+        scenario = Scenario.builder().id(1L).title("s").totalNormalSteps(2).build();
+    }
+
+    @Test
+    @DisplayName("그래프를 검증하고 시작 스텝을 시나리오에 저장한다")
+    void refresh_storesStartStep() {
+        ScenarioStep s2 = step(2L, null);
+        ScenarioStep s1 = step(1L, s2);
+        when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(s1, s2));
+
+        assertEquals(1L, service.refresh(1L));
+        assertEquals(1L, scenario.getStartStepId());
+    }
+
+    @Test
+    @DisplayName("검증에 실패하면 시작 스텝을 저장하지 않는다")
+    void refresh_rejectsInvalidGraph() {
+        when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
+        when(stepRepository.findByScenarioIdWithNextStep(1L)).thenReturn(List.of(step(1L, null), step(2L, null)));
+
+        CommonException ex = assertThrows(CommonException.class, () -> service.refresh(1L));
+        assertEquals(ErrorCode.CONFLICT, ex.getErrorCode());
+        assertNull(scenario.getStartStepId());
+    }
+
+    @Test
+    @DisplayName("시나리오가 없으면 ENTITY_NOT_FOUND")
+    void refresh_notFound() {
+        when(scenarioRepository.findById(9L)).thenReturn(Optional.empty());
+
+        CommonException ex = assertThrows(CommonException.class, () -> service.refresh(9L));
+        assertEquals(ErrorCode.ENTITY_NOT_FOUND, ex.getErrorCode());
+        verifyNoInteractions(stepRepository);
+    }
+
+    private ScenarioStep step(Long id, ScenarioStep next) {
+        return ScenarioStep.builder()
+                .id(id)
+                .scenario(scenario)
+                .type(StepType.DIALOG)
+                .content("{}")
+                .nextStep(next)
+                .build();
+    }
+}
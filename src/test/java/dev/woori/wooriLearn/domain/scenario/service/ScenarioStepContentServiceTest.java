@@ -0,0 +1,116 @@
+package dev.woori.wooriLearn.domain.scenario.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.woori.wooriLearn.config.exception.CommonException;
+import dev.woori.wooriLearn.config.exception.ErrorCode;
+import dev.woori.wooriLearn.domain.scenario.content.ParsedStepContent;
+import dev.woori.wooriLearn.domain.scenario.entity.Scenario;
+import dev.woori.wooriLearn.domain.scenario.entity.ScenarioStep;
+import dev.woori.wooriLearn.domain.scenario.model.ChoiceInfo;
+import dev.woori.wooriLearn.domain.scenario.model.StepType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioStepContentServiceTest {
+
+    private ScenarioStepContentService service;
+    private Scenario scenario;
+
+    @BeforeEach
+    void setUp() {
+        service = new ScenarioStepContentService(new ObjectMapper());
+        scenario = Scenario.builder().id(1L).title("s").build();
+    }
+
+    @Test
+    @DisplayName("parse: 한 번의 파싱으로 meta, choices, 배드 브랜치 여부, payload 를 채운다")
+    void parse_choiceStep() {
+        ScenarioStep step = step(StepType.CHOICE, """
+                {"meta": {"branch": "bad"},
+                 "choices": [{"good": true, "next": 2, "text": "a"}, {"good": false, "next": 3, "text": "b"}]}
+                """);
+
+        ParsedStepContent content = service.parse(step);
+
+        assertEquals(2, content.choices().size());
+        assertEquals("bad", content.meta().branch());
+        assertTrue(content.badBranch());
+        assertFalse(content.badEnding());
+        assertTrue(content.hasChoices());
+        assertEquals(3L, content.choices().get(1).next());
+        assertFalse(content.payload().json().contains(" "));
+        assertTrue(content.isSourceOf(step));
+    }
+
+    @Test
+    @DisplayName("parse: choices 는 StepType 과 무관하게 감지한다")
+    void parse_choicesIndependentOfStepType() {
+        ParsedStepContent dialog = service.parse(step(StepType.DIALOG, "{\"text\":\"hi\",\"character\":\"teller\"}"));
+        ParsedStepContent dialogWithChoices = service.parse(step(StepType.DIALOG,
+                "{\"choices\":[{\"good\":true,\"next\":2,\"text\":\"a\"}]}"));
+
+        assertNull(dialog.meta());
+        assertFalse(dialog.hasChoices());
+        assertTrue(dialogWithChoices.hasChoices());
+        assertEquals(1, dialogWithChoices.choices().size());
+    }
+
+    @Test
+    @DisplayName("choices 형식이 잘못되면 ContentInfo 는 만들 수 있고, 선택 처리 시에만 INTERNAL_SERVER_ERROR")
+    void parse_malformedChoices() {
+        ScenarioStep step = step(StepType.CHOICE, "{\"choices\":[\"not-an-option\"]}");
+
+        assertTrue(service.parseContentInfo(step).hasChoices());
+        assertNull(service.parse(step).choices());
+        CommonException ex = assertThrows(CommonException.class, () -> service.parseChoice(step, 0));
+        assertEquals(ErrorCode.INTERNAL_SERVER_ERROR, ex.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("parseChoice / mapStep 은 같은 파싱 결과의 필드를 읽는다")
+    void parseChoice_and_mapStep() {
+        ScenarioStep step = step(StepType.CHOICE,
+                "{\"choices\":[{\"good\":false,\"next\":7,\"text\":\"a\"}],\"text\":\"q\"}");
+
+        ChoiceInfo choice = service.parseChoice(step, 0);
+
+        assertFalse(choice.good());
+        assertEquals(7L, choice.nextStepId());
+        assertEquals("{\"choices\":[{\"good\":false,\"next\":7,\"text\":\"a\"}],\"text\":\"q\"}",
+                service.mapStep(step).content().json());
+    }
+
+    @Test
+    @DisplayName("meta 형식이 잘못되어도 응답용 매핑은 성공하고, 진행 엔진용 ContentInfo 에서만 INTERNAL_SERVER_ERROR")
+    void parse_malformedMeta() {
+        ScenarioStep step = step(StepType.DIALOG, "{\"meta\":\"not-an-object\",\"text\":\"hi\"}");
+
+        ParsedStepContent content = service.parse(step);
+
+        assertNull(content.meta());
+        assertTrue(content.metaInvalid());
+        assertEquals("{\"meta\":\"not-an-object\",\"text\":\"hi\"}", service.mapStep(step).content().json());
+        CommonException ex = assertThrows(CommonException.class, () -> service.parseContentInfo(step));
+        assertEquals(ErrorCode.INTERNAL_SERVER_ERROR, ex.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("JSON 자체가 잘못되면 INTERNAL_SERVER_ERROR")
+    void parse_invalidJson() {
+        CommonException ex = assertThrows(CommonException.class,
+                () -> service.parse(step(StepType.DIALOG, "{invalid")));
+        assertEquals(ErrorCode.INTERNAL_SERVER_ERROR, ex.getErrorCode());
+    }
+
+    private ScenarioStep step(StepType type, String content) {
+        return ScenarioStep.builder()
+                .id(1L)
+                .scenario(scenario)
+                .type(type)
+                .content(content)
+                .build();
+    }
+}
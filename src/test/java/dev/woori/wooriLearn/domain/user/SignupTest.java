@@ -4,9 +4,11 @@ import dev.woori.wooriLearn.config.exception.CommonException;
 import dev.woori.wooriLearn.config.exception.ErrorCode;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistory;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistoryType;
+import dev.woori.wooriLearn.domain.account.entity.PointsLedgerReason;
 import dev.woori.wooriLearn.domain.account.entity.PointsStatus;
 import dev.woori.wooriLearn.domain.account.repository.AccountRepository;
 import dev.woori.wooriLearn.domain.account.repository.PointsHistoryRepository;
+import dev.woori.wooriLearn.domain.account.service.PointsLedger;
 import dev.woori.wooriLearn.domain.auth.entity.AuthUsers;
 import dev.woori.wooriLearn.domain.auth.entity.Role;
 import dev.woori.wooriLearn.domain.auth.port.AuthUserPort;
@@ -33,6 +35,7 @@ public class SignupTest {
     private PointsHistoryRepository pointsHistoryRepository;
     private EdubankapiAccountRepository eduAccountRepository;
     private AccountRepository accountRepository;
+    private PointsLedger pointsLedger;
 
     @BeforeEach
     void setUp() {
@@ -42,8 +45,9 @@ public class SignupTest {
         pointsHistoryRepository = mock(PointsHistoryRepository.class);
         eduAccountRepository = mock(EdubankapiAccountRepository.class);
         accountRepository = mock(AccountRepository.class);
+        pointsLedger = mock(PointsLedger.class);
         userService = new UserService(userRepository, authUserRepository, passwordEncoder,
-                pointsHistoryRepository, eduAccountRepository, accountRepository);
+                pointsHistoryRepository, eduAccountRepository, accountRepository, pointsLedger);
     }
 
     @Test
@@ -77,7 +81,9 @@ public class SignupTest {
         assertThat(savedUser.getAuthUser()).isEqualTo(savedAuth);
         assertThat(savedUser.getUserId()).isEqualTo("user1");
         assertThat(savedUser.getNickname()).isEqualTo("nickname");
-        assertThat(savedUser.getPoints()).isEqualTo(5000);
+        // 0 포인트로 생성하고 가입 포인트는 원장을 거쳐 지급
+        assertThat(savedUser.getPoints()).isZero();
+        verify(pointsLedger).credit(savedUser.getId(), 5000, PointsLedgerReason.SIGNUP);
 
         assertThat(savedHistory.getUser()).isEqualTo(savedUser);
         assertThat(savedHistory.getAmount()).isEqualTo(5000);
@@ -99,6 +105,7 @@ public class SignupTest {
 
         verify(authUserRepository, never()).save(any());
         verify(userRepository, never()).save(any());
+        verifyNoInteractions(pointsLedger);
     }
 
     @Test
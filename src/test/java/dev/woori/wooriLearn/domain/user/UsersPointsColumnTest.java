@@ -0,0 +1,70 @@
+package dev.woori.wooriLearn.domain.user;
+
+import dev.woori.wooriLearn.domain.auth.entity.AuthUsers;
+import dev.woori.wooriLearn.domain.auth.entity.Role;
+import dev.woori.wooriLearn.domain.user.entity.Users;
+import dev.woori.wooriLearn.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * users.points / points_ledger_opened 는 PointsLedger 의 조건부 UPDATE 로만 바뀌어야 함
+ * - 엔티티를 읽은 뒤 원장이 잔액을 바꿔도, 닉네임 변경 flush 가 읽어 둔 값으로 덮어쓰지 않는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UsersPointsColumnTest {
+
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        String loginId = "pc-" + UUID.randomUUID().toString().substring(0, 8);
+        userId = userRepository.save(Users.builder()
+                .authUser(AuthUsers.builder().userId(loginId).password("pw").role(Role.ROLE_USER).build())
+                .userId(loginId)
+                .nickname("before")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Long authUserId = jdbcTemplate.queryForObject(
+                "SELECT auth_user_id FROM users WHERE id = ?", Long.class, userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        jdbcTemplate.update("DELETE FROM auth_users WHERE id = ?", authUserId);
+    }
+
+    @Test
+    @DisplayName("닉네임 변경 flush 는 그 사이 원장이 바꾼 잔액과 원장 시작 여부를 덮어쓰지 않는다")
+    void updateNickname_keepsLedgerColumns() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Users user = userRepository.findById(userId).orElseThrow();
+            // 엔티티를 읽은 뒤 원장 경로(조건부 UPDATE)가 잔액을 바꾼 상황
+            jdbcTemplate.update("UPDATE users SET points = 700, points_ledger_opened = TRUE WHERE id = ?", userId);
+            user.updateNickname("after");
+        });
+
+        assertThat(jdbcTemplate.queryForObject("SELECT nickname FROM users WHERE id = ?", String.class, userId))
+                .isEqualTo("after");
+        assertThat(jdbcTemplate.queryForObject("SELECT points FROM users WHERE id = ?", Integer.class, userId))
+                .isEqualTo(700);
+        assertThat(jdbcTemplate.queryForObject("SELECT points_ledger_opened FROM users WHERE id = ?", Boolean.class, userId))
+                .isTrue();
+    }
+}
@@ -5,9 +5,11 @@ import dev.woori.wooriLearn.config.exception.ErrorCode;
 import dev.woori.wooriLearn.domain.account.entity.Account;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistory;
 import dev.woori.wooriLearn.domain.account.entity.PointsHistoryType;
+import dev.woori.wooriLearn.domain.account.entity.PointsLedgerReason;
 import dev.woori.wooriLearn.domain.account.entity.PointsStatus;
 import dev.woori.wooriLearn.domain.account.repository.AccountRepository;
 import dev.woori.wooriLearn.domain.account.repository.PointsHistoryRepository;
+import dev.woori.wooriLearn.domain.account.service.PointsLedger;
 import dev.woori.wooriLearn.domain.auth.entity.AuthUsers;
 import dev.woori.wooriLearn.domain.auth.entity.Role;
 import dev.woori.wooriLearn.domain.auth.port.AuthUserPort;
@@ -47,6 +49,7 @@ class UserServiceTest {
     @Mock private PointsHistoryRepository pointsHistoryRepository;
     @Mock private EdubankapiAccountRepository eduAccountRepository;
     @Mock private AccountRepository accountRepository;
+    @Mock private PointsLedger pointsLedger;
 
     private SignupReqDto signupReq;
 
@@ -99,6 +102,7 @@ class UserServiceTest {
         verify(pointsHistoryRepository).save(pointsCaptor.capture());
         assertEquals(PointsHistoryType.DEPOSIT, pointsCaptor.getValue().getType());
         assertEquals(PointsStatus.SUCCESS, pointsCaptor.getValue().getStatus());
+        verify(pointsLedger).credit(any(), eq(5000), eq(PointsLedgerReason.SIGNUP));
 
         verify(eduAccountRepository, times(2)).save(any(EducationalAccount.class));
     }